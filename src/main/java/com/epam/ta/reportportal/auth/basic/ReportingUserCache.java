@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.auth.basic;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.events.cache.EvictableCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.ta.reportportal.commons.EntityUtils.normalizeId;
+
+/**
+ * Bounded TTL cache of {@link ReportPortalUser} with project details used by the reporting message consumers,
+ * so user and project resolution doesn't hit the database for every consumed message.
+ * Entries are invalidated with {@link com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent}
+ * whenever user, project roles or project settings are changed.
+ */
+@Service
+public class ReportingUserCache implements EvictableCache {
+
+	public static final String NAME = "reportingUsers";
+
+	private final DatabaseUserDetailsService userDetailsService;
+
+	private final Cache<String, ReportPortalUser> users;
+
+	@Autowired
+	public ReportingUserCache(DatabaseUserDetailsService userDetailsService,
+			@Value("${rp.amqp.user-cache.size:1000}") long maximumSize, @Value("${rp.amqp.user-cache.ttl:60}") long ttlSeconds) {
+		this.userDetailsService = userDetailsService;
+		this.users = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build();
+	}
+
+	/**
+	 * Returns cached user or loads it with {@link DatabaseUserDetailsService}
+	 *
+	 * @param username Username
+	 * @return {@link ReportPortalUser}
+	 */
+	public ReportPortalUser getUser(String username) {
+		String key = normalizeId(username);
+		ReportPortalUser user = users.getIfPresent(key);
+		if (user == null) {
+			user = (ReportPortalUser) userDetailsService.loadUserByUsername(key);
+			users.put(key, user);
+		}
+		return user;
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public void evict(Set<String> keys) {
+		keys.forEach(key -> users.invalidate(normalizeId(key)));
+	}
+
+	@Override
+	public void evictAll() {
+		users.invalidateAll();
+	}
+}
@@ -153,7 +153,7 @@ public class ActivityHandlerImpl implements ActivityHandler {
 	 * @param itemId       {@link Activity#objectId}
 	 * @return {@link Filter} with {@link Activity.ActivityEntityType#PATTERN}, {@link ActivityAction#PATTERN_MATCHED} search conditions
 	 */
-	private Filter buildPatternMatchedActivityFilter(FilterTarget filterTarget, Long itemId) {
+	static Filter buildPatternMatchedActivityFilter(FilterTarget filterTarget, Long itemId) {
 		return Filter.builder()
 				.withTarget(filterTarget.getClazz())
 				.withCondition(FilterCondition.builder().eq(CRITERIA_OBJECT_ID, String.valueOf(itemId)).build())
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.admin.dlq;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.Set;
+
+/**
+ * Selects messages of the reporting dead letter queue. Empty criteria match any message.
+ */
+public class DeadLetterFilter {
+
+	private Set<String> launchUuids;
+
+	private Set<String> requestTypes;
+
+	private Set<String> errorTypes;
+
+	private Integer limit;
+
+	public boolean matches(DeadLetterResource deadLetter) {
+		return matches(launchUuids, deadLetter.getLaunchUuid()) && matches(requestTypes, deadLetter.getRequestType()) && matches(errorTypes,
+				deadLetter.getErrorType()
+		);
+	}
+
+	private static boolean matches(Set<String> expected, String actual) {
+		return CollectionUtils.isEmpty(expected) || expected.contains(actual);
+	}
+
+	public Set<String> getLaunchUuids() {
+		return launchUuids;
+	}
+
+	public void setLaunchUuids(Set<String> launchUuids) {
+		this.launchUuids = launchUuids;
+	}
+
+	public Set<String> getRequestTypes() {
+		return requestTypes;
+	}
+
+	public void setRequestTypes(Set<String> requestTypes) {
+		this.requestTypes = requestTypes;
+	}
+
+	public Set<String> getErrorTypes() {
+		return errorTypes;
+	}
+
+	public void setErrorTypes(Set<String> errorTypes) {
+		this.errorTypes = errorTypes;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+
+	public void setLimit(Integer limit) {
+		this.limit = limit;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.admin.dlq;
+
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+
+import java.util.List;
+
+/**
+ * Inspection and recovery of the reporting messages dropped to the dead letter queue after the retry limit
+ */
+public interface DeadLetterQueueHandler {
+
+	/**
+	 * Reads messages of the dead letter queue without removing them
+	 *
+	 * @param filter {@link DeadLetterFilter}
+	 * @return Matched messages in the queue order
+	 */
+	List<DeadLetterResource> getDeadLetters(DeadLetterFilter filter);
+
+	/**
+	 * Counts messages of the dead letter queue by launch, request type and error type
+	 *
+	 * @return {@link DeadLetterSummaryResource}
+	 */
+	DeadLetterSummaryResource getSummary();
+
+	/**
+	 * Starts sending matched messages back to their reporting queues keeping the order of the messages of every launch.
+	 * Only one replay runs at a time, purge is rejected while it runs.
+	 *
+	 * @param filter {@link DeadLetterFilter}
+	 * @return Operation results
+	 */
+	OperationCompletionRS replay(DeadLetterFilter filter);
+
+	/**
+	 * Removes matched messages from the dead letter queue
+	 *
+	 * @param filter {@link DeadLetterFilter}
+	 * @return Operation results
+	 */
+	OperationCompletionRS purge(DeadLetterFilter filter);
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.admin.dlq;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.configs.rabbit.DeserializablePair;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.util.ReportingQueueService;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.rabbit.MessageHeaders;
+import com.epam.ta.reportportal.ws.rabbit.RequestType;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.*;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Works with the dead letter queue through a single channel: messages are fetched one by one without acknowledgement,
+ * processed messages are acknowledged and all the others are returned back to the queue at the end of the scan,
+ * so the broker keeps their original order.
+ */
+@Service
+public class DeadLetterQueueHandlerImpl implements DeadLetterQueueHandler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DeadLetterQueueHandlerImpl.class);
+
+	private static final String UNKNOWN = "UNKNOWN";
+
+	private static final int DEFAULT_LIST_LIMIT = 100;
+
+	private static final Pattern REPORTING_QUEUE_PATTERN = Pattern.compile(Pattern.quote(QUEUE_PREFIX + ".") + "(\\d+)");
+
+	private final RabbitTemplate rabbitTemplate;
+
+	private final MessageConverter messageConverter;
+
+	private final ReportingQueueService reportingQueueService;
+
+	private final TaskExecutor replayExecutor;
+
+	private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+
+	/**
+	 * The throttled replay runs for minutes, so it doesn't hold the monitor of the handler:
+	 * reads go ahead during the replay and don't see the messages it holds at the moment, purge fails fast
+	 */
+	private final AtomicBoolean replaying = new AtomicBoolean();
+
+	/**
+	 * Max amount of messages read from the queue by a single operation
+	 */
+	private final int scanLimit;
+
+	/**
+	 * Amount of messages replayed before the pause
+	 */
+	private final int replayBatchSize;
+
+	/**
+	 * Pause in millis between replayed batches, keeps consumers of the reporting queues from being flooded
+	 */
+	private final long replayBatchPause;
+
+	@Autowired
+	public DeadLetterQueueHandlerImpl(@Qualifier("rabbitTemplate") RabbitTemplate rabbitTemplate, MessageConverter messageConverter,
+			ReportingQueueService reportingQueueService, @Qualifier("deadLetterReplayExecutor") TaskExecutor replayExecutor,
+			@Value("${rp.amqp.dlq.scan-limit:10000}") int scanLimit,
+			@Value("${rp.amqp.dlq.replay.batch-size:100}") int replayBatchSize,
+			@Value("${rp.amqp.dlq.replay.batch-pause:1000}") long replayBatchPause) {
+		this.rabbitTemplate = rabbitTemplate;
+		this.messageConverter = messageConverter;
+		this.reportingQueueService = reportingQueueService;
+		this.replayExecutor = replayExecutor;
+		this.scanLimit = scanLimit;
+		this.replayBatchSize = Math.max(1, replayBatchSize);
+		this.replayBatchPause = replayBatchPause;
+	}
+
+	@Override
+	public synchronized List<DeadLetterResource> getDeadLetters(DeadLetterFilter filter) {
+		final int limit = ofNullable(filter.getLimit()).orElse(DEFAULT_LIST_LIMIT);
+		final List<DeadLetterResource> deadLetters = new ArrayList<>();
+		scan((channel, deadLetter) -> {
+			if (filter.matches(deadLetter.resource)) {
+				deadLetters.add(deadLetter.resource);
+			}
+			return deadLetters.size() < limit;
+		});
+		return deadLetters;
+	}
+
+	@Override
+	public synchronized DeadLetterSummaryResource getSummary() {
+		final DeadLetterSummaryResource summary = new DeadLetterSummaryResource();
+		scan((channel, deadLetter) -> {
+			summary.add(deadLetter.resource);
+			return true;
+		});
+		summary.setTruncated(summary.getTotal() >= scanLimit);
+		return summary;
+	}
+
+	/**
+	 * The replay is throttled by {@link #replayBatchPause}, so it runs on the {@link #replayExecutor}
+	 * and the request returns right after it is started
+	 */
+	@Override
+	public OperationCompletionRS replay(DeadLetterFilter filter) {
+		if (!replaying.compareAndSet(false, true)) {
+			throw replayInProgress();
+		}
+		try {
+			replayExecutor.execute(() -> {
+				try {
+					doReplay(filter);
+				} catch (Exception e) {
+					LOGGER.error("Replay of the dead letter queue failed", e);
+				} finally {
+					replaying.set(false);
+				}
+			});
+		} catch (TaskRejectedException e) {
+			replaying.set(false);
+			throw replayInProgress();
+		}
+		return new OperationCompletionRS("Replay of the dead letter queue has been started");
+	}
+
+	/**
+	 * Messages are published to the reporting exchange through the same channel in the order they are read from the queue.
+	 * Once a message of a launch stays in the queue (not matched or not routable) the later messages of that launch stay too.
+	 */
+	private void doReplay(DeadLetterFilter filter) {
+		final int limit = ofNullable(filter.getLimit()).orElse(scanLimit);
+		final Set<String> retainedLaunches = new HashSet<>();
+		final int[] replayed = { 0 };
+		scan((channel, deadLetter) -> {
+			final String launchUuid = deadLetter.resource.getLaunchUuid();
+			if (launchUuid != null && retainedLaunches.contains(launchUuid)) {
+				return true;
+			}
+			final Optional<String> routingKey = filter.matches(deadLetter.resource) ? getRoutingKey(deadLetter) : Optional.empty();
+			if (!routingKey.isPresent()) {
+				ofNullable(launchUuid).ifPresent(retainedLaunches::add);
+				return true;
+			}
+
+			final MessageProperties properties = deadLetter.message.getMessageProperties();
+			properties.getHeaders().remove(MessageHeaders.XD_HEADER);
+			properties.getHeaders().remove(MessageHeaders.DEAD_LETTER_ERROR);
+			channel.basicPublish(EXCHANGE_REPORTING,
+					routingKey.get(),
+					propertiesConverter.fromMessageProperties(properties, StandardCharsets.UTF_8.name()),
+					deadLetter.message.getBody()
+			);
+			channel.basicAck(deadLetter.deliveryTag, false);
+
+			if (++replayed[0] % replayBatchSize == 0) {
+				pause();
+			}
+			return replayed[0] < limit;
+		});
+		LOGGER.info("{} messages replayed from the dead letter queue", replayed[0]);
+	}
+
+	@Override
+	public synchronized OperationCompletionRS purge(DeadLetterFilter filter) {
+		if (replaying.get()) {
+			throw replayInProgress();
+		}
+		final int limit = ofNullable(filter.getLimit()).orElse(scanLimit);
+		final int[] purged = { 0 };
+		scan((channel, deadLetter) -> {
+			if (filter.matches(deadLetter.resource)) {
+				channel.basicAck(deadLetter.deliveryTag, false);
+				purged[0]++;
+			}
+			return purged[0] < limit;
+		});
+		LOGGER.info("{} messages purged from the dead letter queue", purged[0]);
+		return new OperationCompletionRS(purged[0] + " messages have been removed from the dead letter queue");
+	}
+
+	private static ReportPortalException replayInProgress() {
+		return new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Replay of the dead letter queue is already in progress");
+	}
+
+	/**
+	 * Reads up to {@link #scanLimit} messages and returns not acknowledged ones back to the queue
+	 */
+	private void scan(DeadLetterVisitor visitor) {
+		rabbitTemplate.execute(channel -> {
+			long lastDeliveryTag = -1;
+			try {
+				for (int i = 0; i < scanLimit; i++) {
+					final GetResponse response = channel.basicGet(QUEUE_DLQ, false);
+					if (response == null) {
+						break;
+					}
+					lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+					final Message message = new Message(response.getBody(),
+							propertiesConverter.toMessageProperties(response.getProps(),
+									response.getEnvelope(),
+									StandardCharsets.UTF_8.name()
+							)
+					);
+					if (!visitor.visit(channel, new DeadLetter(message, lastDeliveryTag, toResource(message)))) {
+						break;
+					}
+				}
+			} finally {
+				if (lastDeliveryTag >= 0) {
+					channel.basicNack(lastDeliveryTag, true, true);
+				}
+			}
+			return null;
+		});
+	}
+
+	private DeadLetterResource toResource(Message message) {
+		final Map<String, Object> headers = message.getMessageProperties().getHeaders();
+		final DeadLetterResource resource = new DeadLetterResource();
+		resource.setRequestType(Objects.toString(headers.get(MessageHeaders.REQUEST_TYPE), UNKNOWN));
+		resource.setErrorType(Objects.toString(headers.get(MessageHeaders.DEAD_LETTER_ERROR), UNKNOWN));
+		resource.setLaunchUuid(getLaunchUuid(message, resource.getRequestType()));
+		resource.setProjectName((String) headers.get(MessageHeaders.PROJECT_NAME));
+		ofNullable(headers.get(MessageHeaders.PROJECT_ID)).map(it -> ((Number) it).longValue()).ifPresent(resource::setProjectId);
+		getDeath(message).map(death -> (Long) death.get("count")).ifPresent(resource::setRetries);
+		getOriginalQueue(message).ifPresent(resource::setTargetQueue);
+		return resource;
+	}
+
+	private String getLaunchUuid(Message message, String requestType) {
+		try {
+			switch (RequestType.valueOf(requestType)) {
+				case START_LAUNCH:
+					return ((StartLaunchRQ) messageConverter.fromMessage(message)).getUuid();
+				case FINISH_LAUNCH:
+					return (String) message.getMessageProperties().getHeaders().get(MessageHeaders.LAUNCH_ID);
+				case START_TEST:
+					return ((StartTestItemRQ) messageConverter.fromMessage(message)).getLaunchUuid();
+				case FINISH_TEST:
+					return ((FinishTestItemRQ) messageConverter.fromMessage(message)).getLaunchUuid();
+				case LOG:
+					return ((DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>) ((Jackson2JsonMessageConverter) messageConverter).fromMessage(message,
+							new ParameterizedTypeReference<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>>() {
+							}
+					)).getLeft().getLaunchUuid();
+				default:
+					return null;
+			}
+		} catch (Exception e) {
+			LOGGER.debug("Launch of the dead letter cannot be resolved : {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * The reporting queue the message has been consumed from, the launch messages are always routed to the same queue.
+	 * Messages without the death history are routed by the launch.
+	 */
+	private Optional<String> getRoutingKey(DeadLetter deadLetter) {
+		final Optional<String> originalKey = ofNullable(deadLetter.resource.getTargetQueue()).map(REPORTING_QUEUE_PATTERN::matcher)
+				.filter(Matcher::matches)
+				.map(matcher -> matcher.group(1));
+		if (originalKey.isPresent()) {
+			return originalKey;
+		}
+		return ofNullable(deadLetter.resource.getLaunchUuid()).map(launchUuid -> reportingQueueService.getReportingQueueKey(launchUuid,
+				deadLetter.resource.getProjectId()
+		));
+	}
+
+	private Optional<String> getOriginalQueue(Message message) {
+		return getDeaths(message).stream()
+				.map(death -> Objects.toString(death.get("queue"), ""))
+				.filter(queue -> REPORTING_QUEUE_PATTERN.matcher(queue).matches())
+				.findFirst();
+	}
+
+	private Optional<Map<String, ?>> getDeath(Message message) {
+		return getDeaths(message).stream().findFirst();
+	}
+
+	private List<Map<String, ?>> getDeaths(Message message) {
+		return ofNullable((List<Map<String, ?>>) message.getMessageProperties().getHeaders().get(MessageHeaders.XD_HEADER)).orElse(
+				Collections.emptyList());
+	}
+
+	private void pause() {
+		try {
+			TimeUnit.MILLISECONDS.sleep(replayBatchPause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@FunctionalInterface
+	private interface DeadLetterVisitor {
+
+		/**
+		 * @return false to stop the scan
+		 */
+		boolean visit(Channel channel, DeadLetter deadLetter) throws IOException;
+	}
+
+	private static class DeadLetter {
+
+		private final Message message;
+
+		private final long deliveryTag;
+
+		private final DeadLetterResource resource;
+
+		private DeadLetter(Message message, long deliveryTag, DeadLetterResource resource) {
+			this.message = message;
+			this.deliveryTag = deliveryTag;
+			this.resource = resource;
+		}
+	}
+}
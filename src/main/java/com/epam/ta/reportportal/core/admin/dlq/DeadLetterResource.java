@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.admin.dlq;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Reporting message stuck in the dead letter queue
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeadLetterResource {
+
+	private String requestType;
+
+	private String launchUuid;
+
+	private String projectName;
+
+	private Long projectId;
+
+	private String errorType;
+
+	/**
+	 * Name of the reporting queue the message is replayed to
+	 */
+	private String targetQueue;
+
+	private Long retries;
+
+	public String getRequestType() {
+		return requestType;
+	}
+
+	public void setRequestType(String requestType) {
+		this.requestType = requestType;
+	}
+
+	public String getLaunchUuid() {
+		return launchUuid;
+	}
+
+	public void setLaunchUuid(String launchUuid) {
+		this.launchUuid = launchUuid;
+	}
+
+	public String getProjectName() {
+		return projectName;
+	}
+
+	public void setProjectName(String projectName) {
+		this.projectName = projectName;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public String getErrorType() {
+		return errorType;
+	}
+
+	public void setErrorType(String errorType) {
+		this.errorType = errorType;
+	}
+
+	public String getTargetQueue() {
+		return targetQueue;
+	}
+
+	public void setTargetQueue(String targetQueue) {
+		this.targetQueue = targetQueue;
+	}
+
+	public Long getRetries() {
+		return retries;
+	}
+
+	public void setRetries(Long retries) {
+		this.retries = retries;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.admin.dlq;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Amount of the dead letters grouped by launch, request type and error type
+ */
+public class DeadLetterSummaryResource {
+
+	private long total;
+
+	/**
+	 * True if the queue contains more messages than a single scan is allowed to read
+	 */
+	private boolean truncated;
+
+	private final Map<String, Long> launches = new TreeMap<>();
+
+	private final Map<String, Long> requestTypes = new TreeMap<>();
+
+	private final Map<String, Long> errorTypes = new TreeMap<>();
+
+	void add(DeadLetterResource deadLetter) {
+		total++;
+		launches.merge(String.valueOf(deadLetter.getLaunchUuid()), 1L, Long::sum);
+		requestTypes.merge(deadLetter.getRequestType(), 1L, Long::sum);
+		errorTypes.merge(deadLetter.getErrorType(), 1L, Long::sum);
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	void setTruncated(boolean truncated) {
+		this.truncated = truncated;
+	}
+
+	public Map<String, Long> getLaunches() {
+		return launches;
+	}
+
+	public Map<String, Long> getRequestTypes() {
+		return requestTypes;
+	}
+
+	public Map<String, Long> getErrorTypes() {
+		return errorTypes;
+	}
+}
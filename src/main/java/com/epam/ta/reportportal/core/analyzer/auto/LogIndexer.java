@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.ws.model.analyzer.IndexLaunch;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -45,6 +46,27 @@ public interface LogIndexer {
 
 	Long indexItemsLogs(Long projectId, Long launchId, List<Long> itemIds, AnalyzerConfig analyzerConfig);
 
+	/**
+	 * Same as {@link #indexItemsLogs(Long, Long, List, AnalyzerConfig)} but executed by the indexer executor
+	 *
+	 * @param projectId      - project id
+	 * @param launchId       - ID of the launch
+	 * @param itemIds        - IDs of the test items
+	 * @param analyzerConfig - analyzer config
+	 * @return The count of indexed logs
+	 */
+	CompletableFuture<Long> indexItemsLogsAsync(Long projectId, Long launchId, List<Long> itemIds, AnalyzerConfig analyzerConfig);
+
+	/**
+	 * Index logs of the given test items of several launches of the project with a single request to the analyzer
+	 *
+	 * @param projectId       - project id
+	 * @param itemIdsByLaunch - IDs of the test items grouped by ID of the launch
+	 * @param analyzerConfig  - analyzer config
+	 * @return The count of indexed logs
+	 */
+	Long indexItemsLogs(Long projectId, Map<Long, List<Long>> itemIdsByLaunch, AnalyzerConfig analyzerConfig);
+
 	CompletableFuture<Long> indexPreparedLogs(Long projectId, IndexLaunch indexLaunch);
 
 	/**
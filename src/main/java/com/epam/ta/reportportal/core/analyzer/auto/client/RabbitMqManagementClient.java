@@ -27,4 +27,11 @@ public interface RabbitMqManagementClient {
 
 	List<ExchangeInfo> getAnalyzerExchangesInfo();
 
+	/**
+	 * Reloads analyzer exchanges bypassing any cached state
+	 *
+	 * @return Actual analyzer exchanges
+	 */
+	List<ExchangeInfo> refresh();
+
 }
@@ -25,21 +25,32 @@ import com.epam.ta.reportportal.ws.model.analyzer.IndexLaunch;
 import com.epam.ta.reportportal.ws.model.analyzer.SearchRq;
 import com.epam.ta.reportportal.ws.model.analyzer.SearchRs;
 import com.rabbitmq.http.client.domain.ExchangeInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.*;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 @Service
 public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(AnalyzerServiceClientImpl.class);
+
 	private static final String ANALYZE_ROUTE = "analyze";
 	private static final String SEARCH_ROUTE = "search";
 
@@ -47,11 +58,27 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 
 	private final RabbitTemplate rabbitTemplate;
 
+	private final RabbitTemplate fanOutRabbitTemplate;
+
+	private final TaskExecutor analyzerFanOutExecutor;
+
+	private final boolean parallel;
+
+	private final long deadline;
+
 	@Autowired
 	public AnalyzerServiceClientImpl(RabbitMqManagementClient rabbitMqManagementClient,
-			@Qualifier("analyzerRabbitTemplate") RabbitTemplate rabbitTemplate) {
+			@Qualifier("analyzerRabbitTemplate") RabbitTemplate rabbitTemplate,
+			@Qualifier("analyzerFanOutRabbitTemplate") RabbitTemplate fanOutRabbitTemplate,
+			@Qualifier("analyzerFanOutExecutor") TaskExecutor analyzerFanOutExecutor,
+			@Value("${rp.environment.variable.analyzer.fan-out.parallel:false}") boolean parallel,
+			@Value("${rp.environment.variable.analyzer.fan-out.deadline:60000}") long deadline) {
 		this.rabbitMqManagementClient = rabbitMqManagementClient;
 		this.rabbitTemplate = rabbitTemplate;
+		this.fanOutRabbitTemplate = fanOutRabbitTemplate;
+		this.analyzerFanOutExecutor = analyzerFanOutExecutor;
+		this.parallel = parallel;
+		this.deadline = deadline;
 	}
 
 	@Override
@@ -62,11 +89,66 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 	@Override
 	public Map<String, List<AnalyzedItemRs>> analyze(IndexLaunch rq) {
 		List<ExchangeInfo> analyzerExchanges = rabbitMqManagementClient.getAnalyzerExchangesInfo();
+		if (parallel && analyzerExchanges.size() > 1) {
+			return analyzeInParallel(rq, analyzerExchanges);
+		}
 		Map<String, List<AnalyzedItemRs>> resultMap = new HashMap<>(analyzerExchanges.size());
 		analyzerExchanges.forEach(exchange -> analyze(rq, resultMap, exchange));
 		return resultMap;
 	}
 
+	/**
+	 * Sends the whole request to all the analyzers at once and waits for each of them not longer than the deadline
+	 * counted from the start of the fan-out. Results are merged in the analyzers priority order:
+	 * an item analyzed by an analyzer with higher priority is skipped in the results of the others,
+	 * the same as in the sequential mode where it is removed from the request for the next analyzer.
+	 * The request itself isn't modified, because late analyzers could still be serializing it.
+	 * Requests are sent with the fan-out template, whose reply timeout is bounded by the deadline,
+	 * because cancelling the future doesn't interrupt a thread waiting for the reply.
+	 *
+	 * @param rq                Request
+	 * @param analyzerExchanges Analyzer exchanges sorted by priority
+	 * @return Analyzer name - analyzed items
+	 */
+	private Map<String, List<AnalyzedItemRs>> analyzeInParallel(IndexLaunch rq, List<ExchangeInfo> analyzerExchanges) {
+		long start = System.currentTimeMillis();
+		List<CompletableFuture<List<AnalyzedItemRs>>> results = analyzerExchanges.stream()
+				.map(exchange -> CompletableFuture.supplyAsync(() -> sendAnalyze(fanOutRabbitTemplate, rq, exchange), analyzerFanOutExecutor))
+				.collect(toList());
+
+		Map<String, List<AnalyzedItemRs>> resultMap = new HashMap<>(analyzerExchanges.size());
+		Set<Long> analyzedItemIds = new HashSet<>();
+		for (int i = 0; i < analyzerExchanges.size(); i++) {
+			ExchangeInfo exchange = analyzerExchanges.get(i);
+			List<AnalyzedItemRs> result = awaitResult(exchange, results.get(i), start);
+			if (!CollectionUtils.isEmpty(result)) {
+				List<AnalyzedItemRs> notAnalyzedBefore = result.stream()
+						.filter(it -> !analyzedItemIds.contains(it.getItemId()))
+						.collect(toList());
+				if (!notAnalyzedBefore.isEmpty()) {
+					resultMap.put(getAnalyzerName(exchange), notAnalyzedBefore);
+					notAnalyzedBefore.forEach(it -> analyzedItemIds.add(it.getItemId()));
+				}
+			}
+		}
+		return resultMap;
+	}
+
+	private List<AnalyzedItemRs> awaitResult(ExchangeInfo exchange, CompletableFuture<List<AnalyzedItemRs>> result, long start) {
+		try {
+			return result.get(Math.max(0, deadline - (System.currentTimeMillis() - start)), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			result.cancel(true);
+			LOGGER.warn("Analyzer '{}' hasn't responded in {} ms, its results are skipped", getAnalyzerName(exchange), deadline);
+		} catch (ExecutionException e) {
+			LOGGER.error("Analyzer '{}' failed : {}", getAnalyzerName(exchange), e.getCause().getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			result.cancel(true);
+		}
+		return Collections.emptyList();
+	}
+
 	@Override
 	public List<SearchRs> searchLogs(SearchRq rq) {
 		List<ExchangeInfo> analyzerExchanges = rabbitMqManagementClient.getAnalyzerExchangesInfo()
@@ -92,16 +174,24 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 	}
 
 	private void analyze(IndexLaunch rq, Map<String, List<AnalyzedItemRs>> resultMap, ExchangeInfo exchangeInfo) {
-		List<AnalyzedItemRs> result = rabbitTemplate.convertSendAndReceiveAsType(exchangeInfo.getName(),
+		List<AnalyzedItemRs> result = sendAnalyze(rabbitTemplate, rq, exchangeInfo);
+		if (!CollectionUtils.isEmpty(result)) {
+			resultMap.put(getAnalyzerName(exchangeInfo), result);
+			removeAnalyzedFromRq(rq, result);
+		}
+	}
+
+	private List<AnalyzedItemRs> sendAnalyze(RabbitTemplate template, IndexLaunch rq, ExchangeInfo exchangeInfo) {
+		return template.convertSendAndReceiveAsType(exchangeInfo.getName(),
 				ANALYZE_ROUTE,
 				Collections.singletonList(rq),
 				new ParameterizedTypeReference<List<AnalyzedItemRs>>() {
 				}
 		);
-		if (!CollectionUtils.isEmpty(result)) {
-			resultMap.put((String) exchangeInfo.getArguments().getOrDefault(ANALYZER_KEY, exchangeInfo.getName()), result);
-			removeAnalyzedFromRq(rq, result);
-		}
+	}
+
+	private String getAnalyzerName(ExchangeInfo exchangeInfo) {
+		return (String) exchangeInfo.getArguments().getOrDefault(ANALYZER_KEY, exchangeInfo.getName());
 	}
 
 	/**
@@ -111,7 +201,7 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 	 * @param analyzed List of analyzer items
 	 */
 	private void removeAnalyzedFromRq(IndexLaunch rq, List<AnalyzedItemRs> analyzed) {
-		List<Long> analyzedItemIds = analyzed.stream().map(AnalyzedItemRs::getItemId).collect(toList());
+		Set<Long> analyzedItemIds = analyzed.stream().map(AnalyzedItemRs::getItemId).collect(toSet());
 		rq.getTestItems().removeIf(it -> analyzedItemIds.contains(it.getTestItemId()));
 	}
 
@@ -13,7 +13,6 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package com.epam.ta.reportportal.core.analyzer.auto.client.impl;
 
 import com.epam.ta.reportportal.core.analyzer.auto.client.RabbitMqManagementClient;
@@ -22,8 +21,15 @@ import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.rabbitmq.http.client.Client;
 import com.rabbitmq.http.client.domain.ExchangeInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
 
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.ANALYZER_KEY;
@@ -31,29 +37,121 @@ import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUt
 import static java.util.Comparator.comparingInt;
 
 /**
+ * Analyzer exchanges are loaded from the management API once and then refreshed in background.
+ * Readers always get the last loaded list without waiting for the management API: a list older than the refresh interval
+ * is returned as is while it is being reloaded, and a failed reload keeps the previous list.
+ * Only the very first load is synchronous. An empty list is revalidated on every read, so a newly registered analyzer
+ * is picked up without waiting for the next scheduled refresh.
+ * Background refreshes run on the provided {@link TaskScheduler}, so the blocking management API calls don't occupy the common pool.
+ *
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
  */
 public class RabbitMqManagementClientTemplate implements RabbitMqManagementClient {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(RabbitMqManagementClientTemplate.class);
+
+	/**
+	 * Min age of an empty list to be revalidated, so the management API isn't flooded while there are no analyzers
+	 */
+	private static final long EMPTY_REVALIDATION_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
 	private final Client rabbitClient;
 
-	public RabbitMqManagementClientTemplate(Client rabbitClient) {
+	private final TaskScheduler taskScheduler;
+
+	private final long refreshInterval;
+
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	private volatile Exchanges exchanges;
+
+	/**
+	 * @param rabbitClient    Management API {@link Client}
+	 * @param taskScheduler   {@link TaskScheduler} the background refreshes run on
+	 * @param refreshInterval Max age of the loaded exchanges in milliseconds, non-positive value disables caching
+	 *                        and the scheduled refresh
+	 */
+	public RabbitMqManagementClientTemplate(Client rabbitClient, TaskScheduler taskScheduler, long refreshInterval) {
 		this.rabbitClient = rabbitClient;
+		this.taskScheduler = taskScheduler;
+		this.refreshInterval = refreshInterval;
 		try {
 			rabbitClient.createVhost(ANALYZER_KEY);
 		} catch (JsonProcessingException e) {
 			throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, "Unable to create RabbitMq virtual host");
 		}
+		if (refreshInterval > 0) {
+			taskScheduler.scheduleWithFixedDelay(this::scheduledRefresh,
+					new Date(System.currentTimeMillis() + refreshInterval),
+					refreshInterval
+			);
+		}
+	}
+
+	@Override
+	public List<ExchangeInfo> getAnalyzerExchangesInfo() {
+		Exchanges current = exchanges;
+		if (current == null || refreshInterval <= 0) {
+			return refresh();
+		}
+		long age = System.currentTimeMillis() - current.loadedAt;
+		if (age > refreshInterval || (current.list.isEmpty() && age > EMPTY_REVALIDATION_INTERVAL)) {
+			refreshAsync();
+		}
+		return current.list;
+	}
+
+	@Override
+	public List<ExchangeInfo> refresh() {
+		List<ExchangeInfo> client = rabbitClient.getExchanges(ANALYZER_KEY);
+		if (client == null) {
+			throw new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, ANALYZER_KEY);
+		}
+		List<ExchangeInfo> analyzerExchanges = Collections.unmodifiableList(client.stream()
+				.filter(it -> it.getArguments().get(ANALYZER_KEY) != null)
+				.sorted(comparingInt(EXCHANGE_PRIORITY))
+				.collect(Collectors.toList()));
+		exchanges = new Exchanges(analyzerExchanges, System.currentTimeMillis());
+		return analyzerExchanges;
+	}
+
+	public void scheduledRefresh() {
+		try {
+			refresh();
+		} catch (Exception e) {
+			LOGGER.warn("Analyzer exchanges cannot be refreshed, previously loaded exchanges are used : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Starts refresh in background unless it is already running
+	 */
+	private void refreshAsync() {
+		if (refreshing.compareAndSet(false, true)) {
+			try {
+				taskScheduler.schedule(() -> {
+					try {
+						scheduledRefresh();
+					} finally {
+						refreshing.set(false);
+					}
+				}, new Date());
+			} catch (RuntimeException e) {
+				refreshing.set(false);
+				LOGGER.warn("Analyzer exchanges refresh cannot be started : {}", e.getMessage());
+			}
+		}
 	}
 
-    public List<ExchangeInfo> getAnalyzerExchangesInfo() {
-        List<ExchangeInfo> client = rabbitClient.getExchanges(ANALYZER_KEY);
-        if (client == null) {
-            throw new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, ANALYZER_KEY);
-        }
-        return client.stream()
-                .filter(it -> it.getArguments().get(ANALYZER_KEY) != null)
-                .sorted(comparingInt(EXCHANGE_PRIORITY))
-                .collect(Collectors.toList());
-    }
+	private static class Exchanges {
+
+		private final List<ExchangeInfo> list;
+
+		private final long loadedAt;
+
+		private Exchanges(List<ExchangeInfo> list, long loadedAt) {
+			this.list = list;
+			this.loadedAt = loadedAt;
+		}
+	}
 }
@@ -21,6 +21,8 @@ import com.epam.ta.reportportal.core.analyzer.auto.AnalyzerServiceAsync;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -34,14 +36,18 @@ public class AnalyzerServiceAsyncImpl implements AnalyzerServiceAsync {
 
 	private final AnalyzerService analyzerService;
 
+	private final TaskExecutor autoAnalyzeTaskExecutor;
+
 	@Autowired
-	public AnalyzerServiceAsyncImpl(AnalyzerService analyzerService) {
+	public AnalyzerServiceAsyncImpl(AnalyzerService analyzerService,
+			@Qualifier("autoAnalyzeTaskExecutor") TaskExecutor autoAnalyzeTaskExecutor) {
 		this.analyzerService = analyzerService;
+		this.autoAnalyzeTaskExecutor = autoAnalyzeTaskExecutor;
 	}
 
 	@Override
 	public CompletableFuture<Void> analyze(Launch launch, List<Long> itemIds, AnalyzerConfig analyzerConfig) {
-		return CompletableFuture.runAsync(() -> analyzerService.runAnalyzers(launch, itemIds, analyzerConfig));
+		return CompletableFuture.runAsync(() -> analyzerService.runAnalyzers(launch, itemIds, analyzerConfig), autoAnalyzeTaskExecutor);
 	}
 
 	@Override
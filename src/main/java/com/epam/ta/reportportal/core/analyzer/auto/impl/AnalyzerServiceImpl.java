@@ -21,7 +21,9 @@ import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ItemIssueTypeDefinedEvent;
 import com.epam.ta.reportportal.core.events.activity.LinkTicketEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.activity.ActivityAction;
@@ -30,6 +32,7 @@ import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.item.issue.IssueEntity;
 import com.epam.ta.reportportal.entity.item.issue.IssueType;
 import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.converter.builders.IssueEntityBuilder;
 import com.epam.ta.reportportal.ws.model.ErrorType;
@@ -39,24 +42,31 @@ import com.epam.ta.reportportal.ws.model.analyzer.IndexLaunch;
 import com.epam.ta.reportportal.ws.model.analyzer.IndexTestItem;
 import com.epam.ta.reportportal.ws.model.analyzer.RelevantItemInfo;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.commons.collections.MapUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
+import static com.epam.ta.reportportal.core.item.identity.IdentityUtil.findClosestRequestedId;
 import static com.epam.ta.reportportal.ws.converter.converters.TestItemConverter.TO_ACTIVITY_RESOURCE;
 import static com.google.common.base.Strings.emptyToNull;
 import static com.google.common.base.Strings.nullToEmpty;
-import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
@@ -85,15 +95,25 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 
 	private final MessageBus messageBus;
 
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Max amount of items prepared and sent to the analyzers at once
+	 */
+	private final int itemsChunkSize;
+
 	@Autowired
 	public AnalyzerServiceImpl(AnalyzerStatusCache analyzerStatusCache, AnalyzerServiceClient analyzerServicesClient,
-			LogRepository logRepository, IssueTypeHandler issueTypeHandler, TestItemRepository testItemRepository, MessageBus messageBus) {
+			LogRepository logRepository, IssueTypeHandler issueTypeHandler, TestItemRepository testItemRepository, MessageBus messageBus,
+			ApplicationEventPublisher eventPublisher, @Value("${rp.environment.variable.analyzer.items-chunk-size:100}") int itemsChunkSize) {
 		this.analyzerStatusCache = analyzerStatusCache;
 		this.analyzerServicesClient = analyzerServicesClient;
 		this.logRepository = logRepository;
 		this.issueTypeHandler = issueTypeHandler;
 		this.testItemRepository = testItemRepository;
 		this.messageBus = messageBus;
+		this.eventPublisher = eventPublisher;
+		this.itemsChunkSize = itemsChunkSize;
 	}
 
 	@Override
@@ -103,15 +123,21 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 
 	@Override
 	public void runAnalyzers(Launch launch, List<Long> testItemIds, AnalyzerConfig analyzerConfig) {
+		if (!analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, launch.getId(), launch.getProjectId())) {
+			LOGGER.info("Launch with id '{}' is already being analyzed", launch.getId());
+			return;
+		}
 		try {
-			analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, launch.getId(), launch.getProjectId());
-			List<TestItem> toAnalyze = testItemRepository.findAllById(testItemIds);
-			Optional<IndexLaunch> rqLaunch = prepareLaunch(launch, analyzerConfig, toAnalyze);
-			rqLaunch.ifPresent(rq -> analyzeLaunch(launch, toAnalyze, rq));
+			Lists.partition(testItemIds, itemsChunkSize).forEach(itemIds -> {
+				List<TestItem> toAnalyze = testItemRepository.findAllById(itemIds);
+				Optional<IndexLaunch> rqLaunch = prepareLaunch(launch, analyzerConfig, toAnalyze);
+				rqLaunch.ifPresent(rq -> analyzeLaunch(launch, toAnalyze, rq));
+			});
 		} catch (Exception e) {
 			LOGGER.error(e.getMessage(), e);
 		} finally {
 			analyzerStatusCache.analyzeFinished(AUTO_ANALYZER_KEY, launch.getId());
+			eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(WidgetContentCache.NAME, Collections.singleton(launch.getProjectId())));
 		}
 	}
 
@@ -127,7 +153,7 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 		if (launch == null) {
 			return Optional.empty();
 		}
-		List<IndexTestItem> indexTestItems = prepareItems(toAnalyze);
+		List<IndexTestItem> indexTestItems = prepareItems(launch.getId(), toAnalyze);
 		if (!indexTestItems.isEmpty()) {
 			IndexLaunch rqLaunch = new IndexLaunch();
 			rqLaunch.setLaunchId(launch.getId());
@@ -142,23 +168,45 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 
 	/**
 	 * Filter items with logs greater than {@link LogLevel#ERROR} level
-	 * and convert them to {@link IndexTestItem} analyzer model
+	 * and convert them to {@link IndexTestItem} analyzer model.
+	 * Logs of all the items are loaded with a single query.
 	 *
+	 * @param launchId  Id of the launch of the items
 	 * @param testItems Test items for preparing
 	 * @return Prepared items for analyzer
 	 */
-	private List<IndexTestItem> prepareItems(List<TestItem> testItems) {
+	private List<IndexTestItem> prepareItems(Long launchId, List<TestItem> testItems) {
+		if (testItems.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Map<Long, List<Log>> logsByItemId = groupByItemId(testItems,
+				logRepository.findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(launchId,
+						testItems.stream().map(TestItem::getItemId).collect(toList()),
+						LogLevel.ERROR.toInt()
+				)
+		);
 		return testItems.stream()
-				.map(it -> AnalyzerUtils.fromTestItem(it,
-						logRepository.findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(it.getLaunchId(),
-								singletonList(it.getItemId()),
-								LogLevel.ERROR.toInt()
-						)
-				))
+				.map(it -> AnalyzerUtils.fromTestItem(it, logsByItemId.getOrDefault(it.getItemId(), Collections.emptyList())))
 				.filter(it -> !isEmpty(it.getLogs()))
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Assigns every log to the item it was requested for: the item of the log itself
+	 * or its closest ancestor among the provided items, if the log belongs to a nested step.
+	 *
+	 * @param testItems Test items the logs were requested for
+	 * @param logs      Logs under the test items
+	 * @return Item id - logs of the item
+	 */
+	private Map<Long, List<Log>> groupByItemId(List<TestItem> testItems, List<Log> logs) {
+		Set<Long> itemIds = testItems.stream().map(TestItem::getItemId).collect(Collectors.toSet());
+		Map<Long, List<Log>> logsByItemId = new HashMap<>(testItems.size());
+		logs.forEach(log -> ofNullable(log.getTestItem()).flatMap(logItem -> findClosestRequestedId(logItem, itemIds))
+				.ifPresent(itemId -> logsByItemId.computeIfAbsent(itemId, id -> Lists.newArrayList()).add(log)));
+		return logsByItemId;
+	}
+
 	/**
 	 * Run analyzing for a concrete launch
 	 *
@@ -170,7 +218,8 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 		LOGGER.info("Start analysis for launch with id '{}'", rq.getLaunchId());
 		Map<String, List<AnalyzedItemRs>> analyzedMap = analyzerServicesClient.analyze(rq);
 		if (!MapUtils.isEmpty(analyzedMap)) {
-			analyzedMap.forEach((key, value) -> updateTestItems(key, value, toAnalyze, launch.getProjectId()));
+			Map<Long, TestItem> itemsById = toAnalyze.stream().collect(Collectors.toMap(TestItem::getItemId, Function.identity()));
+			analyzedMap.forEach((key, value) -> updateTestItems(key, value, itemsById, launch.getProjectId()));
 		}
 	}
 
@@ -178,12 +227,12 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 	 * Update issue types for analyzed items and posted events for updated
 	 *
 	 * @param rs        Results of analyzing
-	 * @param testItems items to be updated
+	 * @param testItems Item id - item to be updated
 	 * @return List of updated items
 	 */
-	private List<TestItem> updateTestItems(String analyzerInstance, List<AnalyzedItemRs> rs, List<TestItem> testItems, Long projectId) {
+	private List<TestItem> updateTestItems(String analyzerInstance, List<AnalyzedItemRs> rs, Map<Long, TestItem> testItems, Long projectId) {
 		return rs.stream().map(analyzed -> {
-			Optional<TestItem> toUpdate = testItems.stream().filter(item -> item.getItemId().equals(analyzed.getItemId())).findAny();
+			Optional<TestItem> toUpdate = ofNullable(testItems.get(analyzed.getItemId()));
 			toUpdate.ifPresent(testItem -> {
 				LOGGER.debug("Analysis has found a match: {}", analyzed);
 
@@ -19,24 +19,36 @@ package com.epam.ta.reportportal.core.analyzer.auto.impl;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.util.Optional.ofNullable;
 
 /**
- * Contains caches for analyzing and indexing status
+ * Contains caches for analyzing and indexing status.
+ * Only one analysis of the launch by the same analyzer can be started at a time. In distributed mode the analysis
+ * is claimed through the {@link AnalyzerStatusStore} shared by all the instances and the local caches are kept
+ * in sync with it by schedule, so the status reads never go to the database.
  *
  * @author Pavel Bortnik
  */
 @Service
 public class AnalyzerStatusCache {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(AnalyzerStatusCache.class);
+
 	public static final String AUTO_ANALYZER_KEY = "autoAnalyzer";
 	public static final String PATTERN_ANALYZER_KEY = "patternAnalyzer";
 
@@ -49,6 +61,16 @@ public class AnalyzerStatusCache {
 	 */
 	private Map<String, Cache<Long, Long>> analyzeStatus;
 
+	/**
+	 * analyzerKey - ids of the launches analyzed by this instance
+	 */
+	private final Map<String, Set<Long>> startedLocally = new ConcurrentHashMap<>();
+
+	private AnalyzerStatusStore analyzerStatusStore;
+
+	@Value("${rp.environment.variable.analyzer.status.distributed:false}")
+	private boolean distributed;
+
 	public AnalyzerStatusCache() {
 		Cache<Long, Long> autoAnalysisStatusCache = CacheBuilder.newBuilder()
 				.maximumSize(MAXIMUM_SIZE)
@@ -67,12 +89,32 @@ public class AnalyzerStatusCache {
 		this.analyzeStatus = analyzeStatus;
 	}
 
+	@Autowired
+	public void setAnalyzerStatusStore(AnalyzerStatusStore analyzerStatusStore) {
+		this.analyzerStatusStore = analyzerStatusStore;
+	}
+
+	public void setDistributed(boolean distributed) {
+		this.distributed = distributed;
+	}
+
+	/**
+	 * @param analyzerKey Analyzer key
+	 * @param launchId    Launch id
+	 * @param projectId   Project id
+	 * @return true if the analysis is started, false if the analyzer is unknown
+	 * or the launch is already being analyzed by the analyzer
+	 */
 	public boolean analyzeStarted(String analyzerKey, Long launchId, Long projectId) {
 		Cache<Long, Long> analysisCache = analyzeStatus.get(analyzerKey);
-		if (analysisCache == null) {
+		if (analysisCache == null || analysisCache.asMap().putIfAbsent(launchId, projectId) != null) {
+			return false;
+		}
+		if (isDistributed() && !analyzerStatusStore.tryStart(analyzerKey, launchId, projectId, TimeUnit.MINUTES.toMillis(CACHE_ITEM_LIVE))) {
+			analysisCache.invalidate(launchId);
 			return false;
 		}
-		analysisCache.put(launchId, projectId);
+		startedLocally.computeIfAbsent(analyzerKey, k -> ConcurrentHashMap.newKeySet()).add(launchId);
 		return true;
 	}
 
@@ -82,9 +124,38 @@ public class AnalyzerStatusCache {
 			return false;
 		}
 		analysisCache.invalidate(launchId);
+		ofNullable(startedLocally.get(analyzerKey)).ifPresent(launches -> launches.remove(launchId));
+		if (isDistributed()) {
+			analyzerStatusStore.finish(analyzerKey, launchId);
+		}
 		return true;
 	}
 
+	/**
+	 * Replaces statuses of the analyses started by other instances with the ones from {@link AnalyzerStatusStore}
+	 */
+	@Scheduled(fixedDelayString = "${rp.environment.variable.analyzer.status.refresh-interval:5000}")
+	public void refresh() {
+		if (!isDistributed()) {
+			return;
+		}
+		try {
+			Map<String, Map<Long, Long>> active = analyzerStatusStore.findActive();
+			analyzeStatus.forEach((analyzerKey, cache) -> {
+				Map<Long, Long> activeLaunches = active.getOrDefault(analyzerKey, Collections.emptyMap());
+				Set<Long> localLaunches = startedLocally.getOrDefault(analyzerKey, Collections.emptySet());
+				cache.asMap().keySet().removeIf(launchId -> !activeLaunches.containsKey(launchId) && !localLaunches.contains(launchId));
+				activeLaunches.forEach(cache.asMap()::putIfAbsent);
+			});
+		} catch (Exception e) {
+			LOGGER.error("Analyzer statuses cannot be refreshed: {}", e.getMessage());
+		}
+	}
+
+	private boolean isDistributed() {
+		return distributed && analyzerStatusStore != null;
+	}
+
 	public Optional<Cache<Long, Long>> getAnalyzeStatus(String analyzerKey) {
 		return ofNullable(analyzeStatus.get(analyzerKey));
 	}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cluster-wide registry of the running analyses kept in the server settings table.
+ * Every running analysis is a row with key 'analyzer.status.{analyzerKey}.{launchId}'
+ * and value '{projectId}:{expiresAt}:{owner}', so a launch can be claimed for analysis
+ * by a single instance at a time with one atomic upsert.
+ */
+@Component
+public class AnalyzerStatusStore {
+
+	/**
+	 * Doesn't start with 'server' to keep statuses out of the server settings API
+	 */
+	static final String KEY_PREFIX = "analyzer.status.";
+
+	private static final String CLAIM = "INSERT INTO server_settings (key, value) VALUES (?, ?) ON CONFLICT (key) DO UPDATE SET value = excluded.value "
+			+ "WHERE CAST(split_part(server_settings.value, ':', 2) AS BIGINT) < ?";
+	private static final String RELEASE = "DELETE FROM server_settings WHERE key = ? AND split_part(value, ':', 3) = ?";
+	private static final String SELECT_ACTIVE = "SELECT key, value FROM server_settings WHERE key LIKE '" + KEY_PREFIX
+			+ "%' AND CAST(split_part(value, ':', 2) AS BIGINT) >= ?";
+	private static final String DELETE_EXPIRED = "DELETE FROM server_settings WHERE key LIKE '" + KEY_PREFIX
+			+ "%' AND CAST(split_part(value, ':', 2) AS BIGINT) < ?";
+
+	/**
+	 * Identifies analyses started by this instance
+	 */
+	private final String owner = UUID.randomUUID().toString();
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public AnalyzerStatusStore(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param analyzerKey Analyzer key
+	 * @param launchId    Launch id
+	 * @param projectId   Project id
+	 * @param ttl         Time in millis after that the analysis is considered to be finished
+	 * @return true if the launch isn't being analyzed by the analyzer on any instance and is claimed by this one
+	 */
+	public boolean tryStart(String analyzerKey, Long launchId, Long projectId, long ttl) {
+		long now = System.currentTimeMillis();
+		return jdbcTemplate.update(CLAIM, key(analyzerKey, launchId), projectId + ":" + (now + ttl) + ":" + owner, now) > 0;
+	}
+
+	/**
+	 * Removes the analysis only if it was started by this instance
+	 *
+	 * @param analyzerKey Analyzer key
+	 * @param launchId    Launch id
+	 */
+	public void finish(String analyzerKey, Long launchId) {
+		jdbcTemplate.update(RELEASE, key(analyzerKey, launchId), owner);
+	}
+
+	/**
+	 * Loads all not expired analyses with a single query and removes the expired ones
+	 *
+	 * @return analyzerKey - (launchId - projectId)
+	 */
+	public Map<String, Map<Long, Long>> findActive() {
+		long now = System.currentTimeMillis();
+		jdbcTemplate.update(DELETE_EXPIRED, now);
+		Map<String, Map<Long, Long>> active = new HashMap<>();
+		jdbcTemplate.query(SELECT_ACTIVE, new Object[] { now }, rs -> {
+			String key = rs.getString("key");
+			int delimiter = key.lastIndexOf('.');
+			String analyzerKey = key.substring(KEY_PREFIX.length(), delimiter);
+			Long launchId = Long.valueOf(key.substring(delimiter + 1));
+			Long projectId = Long.valueOf(rs.getString("value").split(":")[0]);
+			active.computeIfAbsent(analyzerKey, k -> new HashMap<>()).put(launchId, projectId);
+		});
+		return active;
+	}
+
+	private static String key(String analyzerKey, Long launchId) {
+		return KEY_PREFIX + analyzerKey + "." + launchId;
+	}
+}
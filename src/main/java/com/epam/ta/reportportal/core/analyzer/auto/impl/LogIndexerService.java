@@ -30,11 +30,16 @@ import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -56,14 +61,22 @@ public class LogIndexerService implements LogIndexer {
 
 	private final IndexerStatusCache indexerStatusCache;
 
+	private final TaskExecutor logIndexerTaskExecutor;
+
+	private final TransactionTemplate readOnlyTransactionTemplate;
+
 	@Autowired
 	public LogIndexerService(LaunchRepository launchRepository, TestItemRepository testItemRepository,
-			IndexerServiceClient indexerServiceClient, LaunchPreparerService launchPreparerService, IndexerStatusCache indexerStatusCache) {
+			IndexerServiceClient indexerServiceClient, LaunchPreparerService launchPreparerService, IndexerStatusCache indexerStatusCache,
+			@Qualifier("logIndexerTaskExecutor") TaskExecutor logIndexerTaskExecutor, PlatformTransactionManager transactionManager) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.indexerServiceClient = indexerServiceClient;
 		this.launchPreparerService = launchPreparerService;
 		this.indexerStatusCache = indexerStatusCache;
+		this.logIndexerTaskExecutor = logIndexerTaskExecutor;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
 	}
 
 	@Override
@@ -83,7 +96,7 @@ public class LogIndexerService implements LogIndexer {
 			} finally {
 				indexerStatusCache.indexingFinished(projectId);
 			}
-		});
+		}, logIndexerTaskExecutor);
 	}
 
 	@Override
@@ -110,7 +123,7 @@ public class LogIndexerService implements LogIndexer {
 			} finally {
 				indexerStatusCache.indexingFinished(projectId);
 			}
-		});
+		}, logIndexerTaskExecutor);
 	}
 
 	@Override
@@ -131,6 +144,42 @@ public class LogIndexerService implements LogIndexer {
 		}
 	}
 
+	/**
+	 * Self-invocation bypasses the transactional proxy, so the items are prepared in an explicit read-only transaction
+	 * to keep their lazy associations loadable on the executor thread.
+	 */
+	@Override
+	public CompletableFuture<Long> indexItemsLogsAsync(Long projectId, Long launchId, List<Long> itemIds, AnalyzerConfig analyzerConfig) {
+		return CompletableFuture.supplyAsync(() -> readOnlyTransactionTemplate.execute(status -> indexItemsLogs(projectId,
+				launchId,
+				itemIds,
+				analyzerConfig
+		)), logIndexerTaskExecutor);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Long indexItemsLogs(Long projectId, Map<Long, List<Long>> itemIdsByLaunch, AnalyzerConfig analyzerConfig) {
+		try {
+			indexerStatusCache.indexingStarted(projectId);
+			List<IndexLaunch> indexLaunches = launchRepository.findAllById(itemIdsByLaunch.keySet())
+					.stream()
+					.map(launch -> launchPreparerService.prepare(launch,
+							testItemRepository.findAllById(itemIdsByLaunch.get(launch.getId())),
+							analyzerConfig
+					))
+					.filter(Optional::isPresent)
+					.map(Optional::get)
+					.collect(Collectors.toList());
+			return indexLaunches.isEmpty() ? 0L : indexerServiceClient.index(indexLaunches);
+		} catch (Exception e) {
+			LOGGER.error(e.getMessage(), e);
+			throw new ReportPortalException(e.getMessage());
+		} finally {
+			indexerStatusCache.indexingFinished(projectId);
+		}
+	}
+
 	@Override
 	public CompletableFuture<Long> indexPreparedLogs(Long projectId, IndexLaunch indexLaunch) {
 		return CompletableFuture.supplyAsync(() -> {
@@ -143,7 +192,7 @@ public class LogIndexerService implements LogIndexer {
 			} finally {
 				indexerStatusCache.indexingFinished(projectId);
 			}
-		});
+		}, logIndexerTaskExecutor);
 	}
 
 	@Override
@@ -155,7 +204,7 @@ public class LogIndexerService implements LogIndexer {
 	public CompletableFuture<Long> cleanIndex(Long index, List<Long> ids) {
 		return CollectionUtils.isEmpty(ids) ?
 				CompletableFuture.completedFuture(0L) :
-				CompletableFuture.supplyAsync(() -> indexerServiceClient.cleanIndex(index, ids));
+				CompletableFuture.supplyAsync(() -> indexerServiceClient.cleanIndex(index, ids), logIndexerTaskExecutor);
 	}
 
 	/**
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Collects ids of the finished test items per launch and indexes their logs in batches instead of a request per item.
+ * Launch batch is flushed when it reaches the batch size, all the batches are flushed by schedule and on shutdown.
+ * The scheduled flush only drains the buffer and hands the indexing to the log indexer executor,
+ * so the shared scheduler thread isn't blocked by the analyzer requests.
+ * If the total amount of pending items exceeds the limit all the batches are flushed by the caller thread,
+ * so the memory is bounded and the producers are slowed down to the indexing speed.
+ */
+@Component
+public class ItemIndexingBuffer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ItemIndexingBuffer.class);
+
+	private final ProjectRepository projectRepository;
+
+	private final LogIndexer logIndexer;
+
+	private final TaskExecutor logIndexerTaskExecutor;
+
+	private final int batchSize;
+
+	private final int maxPendingItems;
+
+	/**
+	 * launchId - pending batch of the launch
+	 */
+	private final Map<Long, LaunchBatch> batches = new ConcurrentHashMap<>();
+
+	private final AtomicInteger pendingItems = new AtomicInteger();
+
+	@Autowired
+	public ItemIndexingBuffer(ProjectRepository projectRepository, LogIndexer logIndexer,
+			@Qualifier("logIndexerTaskExecutor") TaskExecutor logIndexerTaskExecutor,
+			@Value("${rp.environment.variable.item-indexing.batch-size:100}") int batchSize,
+			@Value("${rp.environment.variable.item-indexing.max-pending:10000}") int maxPendingItems) {
+		checkArgument(batchSize > 0, "Indexing batch size should be positive");
+		checkArgument(maxPendingItems >= batchSize, "Max pending items should not be less than indexing batch size");
+		this.projectRepository = projectRepository;
+		this.logIndexer = logIndexer;
+		this.logIndexerTaskExecutor = logIndexerTaskExecutor;
+		this.batchSize = batchSize;
+		this.maxPendingItems = maxPendingItems;
+	}
+
+	/**
+	 * Adds finished item to the batch of its launch
+	 *
+	 * @param projectId Project id
+	 * @param launchId  Launch id
+	 * @param itemId    Finished item id
+	 */
+	public void add(Long projectId, Long launchId, Long itemId) {
+		LaunchBatch[] fullBatch = new LaunchBatch[1];
+		batches.compute(launchId, (id, batch) -> {
+			LaunchBatch launchBatch = batch == null ? new LaunchBatch(projectId, id) : batch;
+			if (launchBatch.itemIds.add(itemId)) {
+				pendingItems.incrementAndGet();
+			}
+			if (launchBatch.itemIds.size() >= batchSize) {
+				fullBatch[0] = launchBatch;
+				return null;
+			}
+			return launchBatch;
+		});
+
+		if (fullBatch[0] != null) {
+			groupByProject(Collections.singletonList(fullBatch[0])).forEach(this::index);
+		} else if (pendingItems.get() > maxPendingItems) {
+			flushAll();
+		}
+	}
+
+	/**
+	 * Indexes all the pending batches by the caller thread
+	 */
+	public void flushAll() {
+		groupByProject(drainAll()).forEach(this::index);
+	}
+
+	/**
+	 * Drains all the pending batches and indexes them by the log indexer executor
+	 */
+	@Scheduled(fixedDelayString = "${rp.environment.variable.item-indexing.flush-interval:5000}")
+	public void flushBySchedule() {
+		groupByProject(drainAll()).forEach((projectId, projectBatches) -> logIndexerTaskExecutor.execute(() -> index(projectId,
+				projectBatches
+		)));
+	}
+
+	@PreDestroy
+	public void onShutdown() {
+		flushAll();
+	}
+
+	public int getPendingItems() {
+		return pendingItems.get();
+	}
+
+	private List<LaunchBatch> drainAll() {
+		List<LaunchBatch> drained = new ArrayList<>(batches.size());
+		batches.keySet().forEach(launchId -> {
+			LaunchBatch batch = batches.remove(launchId);
+			if (batch != null) {
+				drained.add(batch);
+			}
+		});
+		return drained;
+	}
+
+	private Map<Long, List<LaunchBatch>> groupByProject(List<LaunchBatch> drained) {
+		pendingItems.addAndGet(-drained.stream().mapToInt(batch -> batch.itemIds.size()).sum());
+		return drained.stream().collect(Collectors.groupingBy(batch -> batch.projectId));
+	}
+
+	private void index(Long projectId, List<LaunchBatch> projectBatches) {
+		Map<Long, List<Long>> itemIdsByLaunch = new HashMap<>(projectBatches.size());
+		projectBatches.forEach(batch -> itemIdsByLaunch.put(batch.launchId, new ArrayList<>(batch.itemIds)));
+		try {
+			projectRepository.findById(projectId)
+					.ifPresent(project -> logIndexer.indexItemsLogs(projectId,
+							itemIdsByLaunch,
+							AnalyzerUtils.getAnalyzerConfig(project)
+					));
+		} catch (Exception e) {
+			LOGGER.error("Logs of {} launches of the project with id = {} cannot be indexed : {}",
+					itemIdsByLaunch.size(),
+					projectId,
+					e.getMessage()
+			);
+		}
+	}
+
+	private static class LaunchBatch {
+
+		private final Long projectId;
+
+		private final Long launchId;
+
+		private final Set<Long> itemIds = new LinkedHashSet<>();
+
+		private LaunchBatch(Long projectId, Long launchId) {
+			this.projectId = projectId;
+			this.launchId = launchId;
+		}
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
+import com.epam.ta.reportportal.core.analyzer.auto.client.IndexerServiceClient;
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
+import com.epam.ta.reportportal.core.analyzer.auto.impl.LaunchPreparerService;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.analyzer.IndexLaunch;
+import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Reindexes all the logs of the project without loading the whole project into memory.
+ * Launches are walked with keyset pagination by id and sent to the analyzer in batches, after every batch
+ * the {@link ReindexCheckpoint} is stored, so a reindex interrupted by restart of the instance is continued
+ * from the last batch by {@link #resumeAbandoned()} of any instance instead of starting from scratch.
+ * Launches of the batch are prepared in a read-only transaction, the analyzer is called outside of it.
+ * Amount of the reindexes running on the instance at the same time is limited.
+ */
+@Service
+public class ProjectReindexer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectReindexer.class);
+
+	private static final String NEXT_LAUNCHES = "SELECT id FROM launch WHERE project_id = ? AND id > ? ORDER BY id LIMIT ?";
+	private static final String COUNT_LAUNCHES = "SELECT count(*) FROM launch WHERE project_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ProjectRepository projectRepository;
+
+	private final LaunchRepository launchRepository;
+
+	private final TestItemRepository testItemRepository;
+
+	private final LaunchPreparerService launchPreparerService;
+
+	private final IndexerServiceClient indexerServiceClient;
+
+	private final AnalyzerServiceClient analyzerServiceClient;
+
+	private final IndexerStatusCache indexerStatusCache;
+
+	private final ReindexCheckpointStore checkpointStore;
+
+	private final TaskExecutor logIndexerTaskExecutor;
+
+	private final TransactionTemplate readOnlyTransactionTemplate;
+
+	private final int batchSize;
+
+	/**
+	 * Should be longer than the analyzer reply timeout, otherwise a reindex waiting for the analyzer reply can be resumed
+	 * by another instance
+	 */
+	private final long staleTimeout;
+
+	private final Semaphore permits;
+
+	/**
+	 * projectId - checkpoint of the reindex running on this instance
+	 */
+	private final Map<Long, ReindexCheckpoint> running = new ConcurrentHashMap<>();
+
+	@Autowired
+	public ProjectReindexer(JdbcTemplate jdbcTemplate, ProjectRepository projectRepository, LaunchRepository launchRepository,
+			TestItemRepository testItemRepository, LaunchPreparerService launchPreparerService, IndexerServiceClient indexerServiceClient,
+			AnalyzerServiceClient analyzerServiceClient, IndexerStatusCache indexerStatusCache, ReindexCheckpointStore checkpointStore,
+			@Qualifier("logIndexerTaskExecutor") TaskExecutor logIndexerTaskExecutor, PlatformTransactionManager transactionManager,
+			@Value("${rp.environment.variable.analyzer.reindex.batch-size:10}") int batchSize,
+			@Value("${rp.environment.variable.analyzer.reindex.stale-timeout:900000}") long staleTimeout,
+			@Value("${rp.environment.variable.analyzer.reindex.max-concurrent:2}") int maxConcurrent) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.projectRepository = projectRepository;
+		this.launchRepository = launchRepository;
+		this.testItemRepository = testItemRepository;
+		this.launchPreparerService = launchPreparerService;
+		this.indexerServiceClient = indexerServiceClient;
+		this.analyzerServiceClient = analyzerServiceClient;
+		this.indexerStatusCache = indexerStatusCache;
+		this.checkpointStore = checkpointStore;
+		this.logIndexerTaskExecutor = logIndexerTaskExecutor;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+		this.batchSize = batchSize;
+		this.staleTimeout = staleTimeout;
+		this.permits = new Semaphore(maxConcurrent);
+	}
+
+	/**
+	 * Starts reindex of all the launches of the project from the beginning
+	 *
+	 * @param projectId      Project id
+	 * @param analyzerConfig Analyzer config of the project
+	 * @return Future with the total amount of indexed logs
+	 */
+	public CompletableFuture<Long> reindex(Long projectId, AnalyzerConfig analyzerConfig) {
+		if (!permits.tryAcquire()) {
+			throw new ReportPortalException(ErrorType.FORBIDDEN_OPERATION,
+					"Too many projects are being reindexed at the moment, please try again later."
+			);
+		}
+		ReindexCheckpoint checkpoint;
+		try {
+			checkpoint = new ReindexCheckpoint(projectId,
+					ofNullable(jdbcTemplate.queryForObject(COUNT_LAUNCHES, Long.class, projectId)).orElse(0L)
+			);
+			checkpointStore.save(checkpoint);
+		} catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+		return submit(checkpoint, analyzerConfig);
+	}
+
+	/**
+	 * Continues the reindexes which checkpoints weren't updated longer than the stale timeout,
+	 * so they aren't processed by any instance anymore
+	 */
+	@Scheduled(fixedDelayString = "${rp.environment.variable.analyzer.reindex.resume-interval:60000}")
+	public void resumeAbandoned() {
+		long staleBefore = System.currentTimeMillis() - staleTimeout;
+		checkpointStore.findAll()
+				.stream()
+				.filter(it -> it.getUpdatedAt() < staleBefore && !running.containsKey(it.getProjectId()))
+				.sorted(Comparator.comparingLong(ReindexCheckpoint::getUpdatedAt))
+				.forEach(this::resume);
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @return Progress of the reindex running on this instance or the last stored checkpoint of the project
+	 */
+	public ReindexProgress getProgress(Long projectId) {
+		return Optional.ofNullable(running.get(projectId))
+				.map(it -> ReindexProgress.of(it, true))
+				.orElseGet(() -> checkpointStore.find(projectId)
+						.map(it -> ReindexProgress.of(it, it.getUpdatedAt() >= System.currentTimeMillis() - staleTimeout))
+						.orElseGet(ReindexProgress::notRunning));
+	}
+
+	private void resume(ReindexCheckpoint checkpoint) {
+		if (!analyzerServiceClient.hasClients() || !permits.tryAcquire()) {
+			return;
+		}
+		long expectedUpdatedAt = checkpoint.getUpdatedAt();
+		checkpoint.setUpdatedAt(System.currentTimeMillis());
+		if (!checkpointStore.claim(checkpoint, expectedUpdatedAt)) {
+			permits.release();
+			return;
+		}
+		Optional<AnalyzerConfig> analyzerConfig = projectRepository.findById(checkpoint.getProjectId()).map(AnalyzerUtils::getAnalyzerConfig);
+		if (!analyzerConfig.isPresent()) {
+			checkpointStore.delete(checkpoint.getProjectId());
+			permits.release();
+			return;
+		}
+		LOGGER.info("Resume reindex of the project '{}' after launch with id '{}'", checkpoint.getProjectId(), checkpoint.getLastLaunchId());
+		submit(checkpoint, analyzerConfig.get());
+	}
+
+	private CompletableFuture<Long> submit(ReindexCheckpoint checkpoint, AnalyzerConfig analyzerConfig) {
+		running.put(checkpoint.getProjectId(), checkpoint);
+		try {
+			return CompletableFuture.supplyAsync(() -> process(checkpoint, analyzerConfig), logIndexerTaskExecutor);
+		} catch (RuntimeException e) {
+			running.remove(checkpoint.getProjectId());
+			permits.release();
+			throw e;
+		}
+	}
+
+	private Long process(ReindexCheckpoint checkpoint, AnalyzerConfig analyzerConfig) {
+		Long projectId = checkpoint.getProjectId();
+		try {
+			List<Long> launchIds;
+			do {
+				indexerStatusCache.indexingStarted(projectId);
+				launchIds = jdbcTemplate.queryForList(NEXT_LAUNCHES, Long.class, projectId, checkpoint.getLastLaunchId(), batchSize);
+				if (!launchIds.isEmpty()) {
+					List<Long> batchIds = launchIds;
+					List<IndexLaunch> indexLaunches = readOnlyTransactionTemplate.execute(status -> prepareLaunches(launchRepository.findAllById(
+							batchIds), analyzerConfig));
+					long indexed = indexLaunches.isEmpty() ? 0L : ofNullable(indexerServiceClient.index(indexLaunches)).orElse(0L);
+					long expectedUpdatedAt = checkpoint.getUpdatedAt();
+					checkpoint.advance(launchIds.get(launchIds.size() - 1), launchIds.size(), indexed);
+					if (!checkpointStore.claim(checkpoint, expectedUpdatedAt)) {
+						LOGGER.warn("Reindex of the project '{}' was taken over by another instance, stopped after launch with id '{}'",
+								projectId,
+								checkpoint.getLastLaunchId()
+						);
+						return checkpoint.getIndexedLogs();
+					}
+				}
+			} while (launchIds.size() == batchSize);
+			checkpointStore.delete(projectId);
+			LOGGER.info("Reindex of the project '{}' finished. Indexed {} logs of {} launches",
+					projectId,
+					checkpoint.getIndexedLogs(),
+					checkpoint.getProcessedLaunches()
+			);
+			return checkpoint.getIndexedLogs();
+		} catch (Exception e) {
+			LOGGER.error("Reindex of the project '{}' interrupted after launch with id '{}': {}",
+					projectId,
+					checkpoint.getLastLaunchId(),
+					e.getMessage(),
+					e
+			);
+			throw new ReportPortalException(e.getMessage());
+		} finally {
+			running.remove(projectId);
+			indexerStatusCache.indexingFinished(projectId);
+			permits.release();
+		}
+	}
+
+	private List<IndexLaunch> prepareLaunches(List<Launch> launches, AnalyzerConfig analyzerConfig) {
+		return launches.stream()
+				.filter(it -> testItemRepository.hasItemsWithIssueByLaunch(it.getId()))
+				.map(it -> launchPreparerService.prepare(it, testItemRepository.findTestItemsByLaunchId(it.getId()), analyzerConfig))
+				.filter(Optional::isPresent)
+				.map(Optional::get)
+				.collect(Collectors.toList());
+	}
+}
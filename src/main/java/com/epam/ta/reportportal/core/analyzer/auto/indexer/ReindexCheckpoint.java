@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import java.io.Serializable;
+
+/**
+ * Persisted state of the project reindex. Launches are walked in the order of their ids,
+ * so everything up to {@link #lastLaunchId} is already sent to the analyzer.
+ */
+public class ReindexCheckpoint implements Serializable {
+
+	private Long projectId;
+
+	private long lastLaunchId;
+
+	private long processedLaunches;
+
+	private long totalLaunches;
+
+	private long indexedLogs;
+
+	private long startedAt;
+
+	private long updatedAt;
+
+	public ReindexCheckpoint() {
+	}
+
+	public ReindexCheckpoint(Long projectId, long totalLaunches) {
+		this.projectId = projectId;
+		this.totalLaunches = totalLaunches;
+		this.startedAt = System.currentTimeMillis();
+		this.updatedAt = startedAt;
+	}
+
+	/**
+	 * Moves the checkpoint after the successfully indexed batch of launches
+	 *
+	 * @param lastLaunchId   The biggest launch id of the batch
+	 * @param launchesInBatch Amount of launches in the batch
+	 * @param indexedInBatch  Amount of logs indexed by the analyzer
+	 */
+	public void advance(long lastLaunchId, int launchesInBatch, long indexedInBatch) {
+		this.lastLaunchId = lastLaunchId;
+		this.processedLaunches += launchesInBatch;
+		this.indexedLogs += indexedInBatch;
+		this.updatedAt = System.currentTimeMillis();
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public long getLastLaunchId() {
+		return lastLaunchId;
+	}
+
+	public void setLastLaunchId(long lastLaunchId) {
+		this.lastLaunchId = lastLaunchId;
+	}
+
+	public long getProcessedLaunches() {
+		return processedLaunches;
+	}
+
+	public void setProcessedLaunches(long processedLaunches) {
+		this.processedLaunches = processedLaunches;
+	}
+
+	public long getTotalLaunches() {
+		return totalLaunches;
+	}
+
+	public void setTotalLaunches(long totalLaunches) {
+		this.totalLaunches = totalLaunches;
+	}
+
+	public long getIndexedLogs() {
+		return indexedLogs;
+	}
+
+	public void setIndexedLogs(long indexedLogs) {
+		this.indexedLogs = indexedLogs;
+	}
+
+	public long getStartedAt() {
+		return startedAt;
+	}
+
+	public void setStartedAt(long startedAt) {
+		this.startedAt = startedAt;
+	}
+
+	public long getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(long updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+}
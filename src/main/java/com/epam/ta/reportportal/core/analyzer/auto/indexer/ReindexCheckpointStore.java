@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@link ReindexCheckpoint} of every unfinished project reindex in the server settings table as json,
+ * so the reindex survives restart of the instance and can be continued by any other one.
+ */
+@Component
+public class ReindexCheckpointStore {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReindexCheckpointStore.class);
+
+	/**
+	 * Doesn't start with 'server' to keep checkpoints out of the server settings API
+	 */
+	static final String KEY_PREFIX = "analyzer.reindex.checkpoint.";
+
+	private static final String SELECT_ONE = "SELECT value FROM server_settings WHERE key = ?";
+	private static final String SELECT_ALL = "SELECT value FROM server_settings WHERE key LIKE '" + KEY_PREFIX + "%'";
+	private static final String UPSERT = "INSERT INTO server_settings (key, value) VALUES (?, ?) ON CONFLICT (key) DO UPDATE SET value = excluded.value";
+	private static final String CLAIM = "UPDATE server_settings SET value = ? WHERE key = ? AND CAST(value AS JSONB) ->> 'updatedAt' = ?";
+	private static final String DELETE = "DELETE FROM server_settings WHERE key = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	@Autowired
+	public ReindexCheckpointStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	public Optional<ReindexCheckpoint> find(Long projectId) {
+		return jdbcTemplate.queryForList(SELECT_ONE, String.class, key(projectId)).stream().findFirst().map(this::read);
+	}
+
+	public List<ReindexCheckpoint> findAll() {
+		return jdbcTemplate.queryForList(SELECT_ALL, String.class).stream().map(this::read).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	public void save(ReindexCheckpoint checkpoint) {
+		jdbcTemplate.update(UPSERT, key(checkpoint.getProjectId()), write(checkpoint));
+	}
+
+	/**
+	 * Atomically replaces the stored checkpoint if it wasn't updated since it was read.
+	 * Used both to take over an abandoned reindex and to save progress of the running one,
+	 * so an instance whose checkpoint was taken over notices it on the next batch.
+	 *
+	 * @param checkpoint        Checkpoint to store
+	 * @param expectedUpdatedAt Update time of the checkpoint at the moment it was read
+	 * @return true if the checkpoint is claimed by the caller
+	 */
+	public boolean claim(ReindexCheckpoint checkpoint, long expectedUpdatedAt) {
+		return jdbcTemplate.update(CLAIM, write(checkpoint), key(checkpoint.getProjectId()), String.valueOf(expectedUpdatedAt)) > 0;
+	}
+
+	public void delete(Long projectId) {
+		jdbcTemplate.update(DELETE, key(projectId));
+	}
+
+	private static String key(Long projectId) {
+		return KEY_PREFIX + projectId;
+	}
+
+	private String write(ReindexCheckpoint checkpoint) {
+		try {
+			return objectMapper.writeValueAsString(checkpoint);
+		} catch (JsonProcessingException e) {
+			throw new ReportPortalException("Error during reindex checkpoint serialization", e);
+		}
+	}
+
+	private ReindexCheckpoint read(String value) {
+		try {
+			return objectMapper.readValue(value, ReindexCheckpoint.class);
+		} catch (IOException e) {
+			LOGGER.error("Reindex checkpoint '{}' cannot be read: {}", value, e.getMessage());
+			return null;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Date;
+
+/**
+ * Progress of the project reindex exposed through the API
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReindexProgress {
+
+	private boolean running;
+
+	private Long processedLaunches;
+
+	private Long totalLaunches;
+
+	private Long indexedLogs;
+
+	private Double logsPerSecond;
+
+	private Date startedAt;
+
+	private Date updatedAt;
+
+	public static ReindexProgress notRunning() {
+		return new ReindexProgress();
+	}
+
+	public static ReindexProgress of(ReindexCheckpoint checkpoint, boolean running) {
+		ReindexProgress progress = new ReindexProgress();
+		progress.running = running;
+		progress.processedLaunches = checkpoint.getProcessedLaunches();
+		progress.totalLaunches = checkpoint.getTotalLaunches();
+		progress.indexedLogs = checkpoint.getIndexedLogs();
+		long elapsed = checkpoint.getUpdatedAt() - checkpoint.getStartedAt();
+		progress.logsPerSecond = elapsed > 0 ? checkpoint.getIndexedLogs() * 1000.0 / elapsed : 0.0;
+		progress.startedAt = new Date(checkpoint.getStartedAt());
+		progress.updatedAt = new Date(checkpoint.getUpdatedAt());
+		return progress;
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	public Long getProcessedLaunches() {
+		return processedLaunches;
+	}
+
+	public Long getTotalLaunches() {
+		return totalLaunches;
+	}
+
+	public Long getIndexedLogs() {
+		return indexedLogs;
+	}
+
+	public Double getLogsPerSecond() {
+		return logsPerSecond;
+	}
+
+	public Date getStartedAt() {
+		return startedAt;
+	}
+
+	public Date getUpdatedAt() {
+		return updatedAt;
+	}
+}
@@ -40,4 +40,12 @@ public interface PatternAnalyzer {
 	 * @param analyzeModes {@link AnalyzeItemsMode} to modify {@link com.epam.ta.reportportal.entity.item.TestItem} query conditions
 	 */
 	void analyzeTestItems(Launch launch, Set<AnalyzeItemsMode> analyzeModes);
+
+	/**
+	 * Stops the running pattern analysis of the {@link com.epam.ta.reportportal.entity.launch.Launch} on the current instance.
+	 * Already attached templates are kept, the rest of the items isn't processed.
+	 *
+	 * @param launchId {@link com.epam.ta.reportportal.entity.launch.Launch#id}
+	 */
+	void cancel(Long launchId);
 }
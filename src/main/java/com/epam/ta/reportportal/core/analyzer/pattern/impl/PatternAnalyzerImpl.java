@@ -24,10 +24,13 @@ import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeItemsMode;
 import com.epam.ta.reportportal.core.analyzer.pattern.PatternAnalyzer;
+import com.epam.ta.reportportal.core.analyzer.pattern.matcher.CompiledPatternTemplates;
+import com.epam.ta.reportportal.core.analyzer.pattern.matcher.LogPatternMatcher;
 import com.epam.ta.reportportal.core.analyzer.pattern.selector.PatternAnalysisSelector;
 import com.epam.ta.reportportal.core.analyzer.pattern.selector.condition.PatternConditionProviderChain;
 import com.epam.ta.reportportal.core.events.MessageBus;
-import com.epam.ta.reportportal.core.events.activity.PatternMatchedEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.PatternTemplateRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.TestItem;
@@ -36,26 +39,35 @@ import com.epam.ta.reportportal.entity.pattern.PatternTemplate;
 import com.epam.ta.reportportal.entity.pattern.PatternTemplateTestItemPojo;
 import com.epam.ta.reportportal.entity.pattern.PatternTemplateType;
 import com.epam.ta.reportportal.exception.ReportPortalException;
-import com.epam.ta.reportportal.ws.converter.converters.PatternTemplateConverter;
 import com.epam.ta.reportportal.ws.model.ErrorType;
-import com.epam.ta.reportportal.ws.model.activity.PatternTemplateActivityResource;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
-import static com.epam.ta.reportportal.commons.Predicates.not;
+import static com.epam.ta.reportportal.commons.Predicates.equalTo;
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
 import static com.epam.ta.reportportal.commons.querygen.constant.TestItemCriteriaConstant.CRITERIA_PATTERN_TEMPLATE_NAME;
 import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.PATTERN_ANALYZER_KEY;
+import static java.util.Optional.ofNullable;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -79,12 +91,40 @@ public class PatternAnalyzerImpl implements PatternAnalyzer {
 
 	private final MessageBus messageBus;
 
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final LogPatternMatcher logPatternMatcher;
+
+	/**
+	 * Match all the templates against the logs loaded once per batch of items instead of a database query per template
+	 */
+	private final boolean inMemory;
+
+	/**
+	 * Max amount of per-item activities published for a template during one analysis of the launch
+	 */
+	private final int activityItemDetailsLimit;
+
+	/**
+	 * Max amount of templates of the same launch analyzed concurrently
+	 */
+	private final int parallelTemplates;
+
+	/**
+	 * launchId - cancellation flag of the running analysis
+	 */
+	private final Map<Long, AtomicBoolean> runningAnalyses = new ConcurrentHashMap<>();
+
 	@Autowired
 	public PatternAnalyzerImpl(@Value("${rp.environment.variable.pattern-analysis.batch-size}") Integer batchSize,
 			TestItemRepository testItemRepository, PatternTemplateRepository patternTemplateRepository,
 			@Qualifier("patternAnalysisSelectorMapping") Map<PatternTemplateType, PatternAnalysisSelector> patternAnalysisSelectorMapping,
 			TaskExecutor patternAnalysisTaskExecutor, PatternConditionProviderChain patternConditionProviderChain,
-			AnalyzerStatusCache analyzerStatusCache, MessageBus messageBus) {
+			AnalyzerStatusCache analyzerStatusCache, MessageBus messageBus, ApplicationEventPublisher eventPublisher,
+			LogPatternMatcher logPatternMatcher,
+			@Value("${rp.environment.variable.pattern-analysis.in-memory:false}") boolean inMemory,
+			@Value("${rp.environment.variable.pattern-analysis.activity.item-details:100}") int activityItemDetailsLimit,
+			@Value("${rp.environment.variable.pattern-analysis.parallel-templates:4}") int parallelTemplates) {
 		this.batchSize = batchSize;
 		this.testItemRepository = testItemRepository;
 		this.patternTemplateRepository = patternTemplateRepository;
@@ -93,26 +133,90 @@ public class PatternAnalyzerImpl implements PatternAnalyzer {
 		this.patternConditionProviderChain = patternConditionProviderChain;
 		this.analyzerStatusCache = analyzerStatusCache;
 		this.messageBus = messageBus;
+		this.eventPublisher = eventPublisher;
+		this.logPatternMatcher = logPatternMatcher;
+		this.inMemory = inMemory;
+		this.activityItemDetailsLimit = activityItemDetailsLimit;
+		this.parallelTemplates = Math.max(1, parallelTemplates);
 	}
 
 	@Override
 	public void analyzeTestItems(Launch launch, Set<AnalyzeItemsMode> analyzeModes) {
-		BusinessRule.expect(analyzerStatusCache.getStartedAnalyzers(launch.getId()), not(started -> started.contains(PATTERN_ANALYZER_KEY)))
+		BusinessRule.expect(analyzerStatusCache.analyzeStarted(PATTERN_ANALYZER_KEY, launch.getId(), launch.getProjectId()), equalTo(true))
 				.verify(ErrorType.PATTERN_ANALYSIS_ERROR, "Pattern analysis is still in progress.");
 
-		analyzerStatusCache.analyzeStarted(PATTERN_ANALYZER_KEY, launch.getId(), launch.getProjectId());
+		final AtomicBoolean canceled = new AtomicBoolean();
+		runningAnalyses.put(launch.getId(), canceled);
 		patternAnalysisTaskExecutor.execute(() -> {
+			final PatternMatchActivityCollector activityCollector = new PatternMatchActivityCollector(launch.getId(),
+					activityItemDetailsLimit,
+					messageBus
+			);
+			final CompletableFuture<Void> analysis;
 			try {
-				final ConvertibleCondition itemCondition = getItemCondition(analyzeModes);
-				patternTemplateRepository.findAllByProjectIdAndEnabled(launch.getProjectId(), true)
-						.forEach(patternTemplate -> analyze(launch, itemCondition, patternTemplate));
+				analysis = startAnalysis(launch, getItemCondition(analyzeModes), canceled, activityCollector);
 			} catch (Exception e) {
 				LOGGER.error(e.getMessage(), e);
-			} finally {
-				analyzerStatusCache.analyzeFinished(PATTERN_ANALYZER_KEY, launch.getId());
+				finishAnalysis(launch, canceled, activityCollector);
+				return;
 			}
+			analysis.whenComplete((result, e) -> {
+				if (e != null) {
+					LOGGER.error(e.getMessage(), e);
+				}
+				finishAnalysis(launch, canceled, activityCollector);
+			});
+		});
+
+	}
+
+	@Override
+	public void cancel(Long launchId) {
+		ofNullable(runningAnalyses.get(launchId)).ifPresent(canceled -> {
+			canceled.set(true);
+			LOGGER.info("Pattern analysis of the launch with id = {} has been canceled", launchId);
 		});
+	}
+
+	/**
+	 * Templates are taken from the shared queue by up to {@link #parallelTemplates} workers, so a single launch never occupies
+	 * more threads of the pool. Workers don't wait for each other, the analysis is finished by the completion of the last one.
+	 */
+	private CompletableFuture<Void> startAnalysis(Launch launch, ConvertibleCondition itemCondition, AtomicBoolean canceled,
+			PatternMatchActivityCollector activityCollector) {
+		final List<PatternTemplate> patternTemplates = patternTemplateRepository.findAllByProjectIdAndEnabled(launch.getProjectId(), true);
+		final List<CompletableFuture<Void>> workers = Lists.newArrayList();
+
+		final Queue<PatternTemplate> templatesQueue;
+		if (inMemory) {
+			final CompiledPatternTemplates compiledTemplates = CompiledPatternTemplates.compile(patternTemplates);
+			templatesQueue = new ConcurrentLinkedQueue<>(compiledTemplates.getNotCompiled());
+			if (!compiledTemplates.isEmpty()) {
+				workers.add(CompletableFuture.runAsync(() -> analyzeInMemory(launch, itemCondition, compiledTemplates, canceled, activityCollector),
+						patternAnalysisTaskExecutor
+				));
+			}
+		} else {
+			templatesQueue = new ConcurrentLinkedQueue<>(patternTemplates);
+		}
+
+		final int templateWorkers = Math.min(Math.max(1, parallelTemplates - workers.size()), templatesQueue.size());
+		for (int i = 0; i < templateWorkers; i++) {
+			workers.add(CompletableFuture.runAsync(() -> analyzeQueued(launch, itemCondition, templatesQueue, canceled, activityCollector),
+					patternAnalysisTaskExecutor
+			));
+		}
+		return CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]));
+	}
 
+	private void finishAnalysis(Launch launch, AtomicBoolean canceled, PatternMatchActivityCollector activityCollector) {
+		try {
+			activityCollector.publishSummaries();
+		} finally {
+			runningAnalyses.remove(launch.getId(), canceled);
+			analyzerStatusCache.analyzeFinished(PATTERN_ANALYZER_KEY, launch.getId());
+			eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(WidgetContentCache.NAME, Collections.singleton(launch.getProjectId())));
+		}
 	}
 
 	private ConvertibleCondition getItemCondition(Set<AnalyzeItemsMode> analyzeModes) {
@@ -120,24 +224,62 @@ public class PatternAnalyzerImpl implements PatternAnalyzer {
 				.orElseThrow(() -> new ReportPortalException(ErrorType.PATTERN_ANALYSIS_ERROR, "Unable to resolve item search condition"));
 	}
 
-	private void analyze(Launch launch, ConvertibleCondition itemCondition, PatternTemplate patternTemplate) {
-		final Filter filter = createItemFilter(itemCondition, patternTemplate.getName());
-		int offset = 0;
-		List<Long> itemIds = testItemRepository.selectIdsByFilter(launch.getId(), filter, batchSize, offset);
-		while (CollectionUtils.isNotEmpty(itemIds)) {
-			final List<Long> matchedIds = attachToPatternTemplate(launch, patternTemplate, itemIds);
-			offset += itemIds.size() - matchedIds.size();
-			itemIds = testItemRepository.selectIdsByFilter(launch.getId(), filter, batchSize, offset);
+	private void analyzeQueued(Launch launch, ConvertibleCondition itemCondition, Queue<PatternTemplate> templatesQueue,
+			AtomicBoolean canceled, PatternMatchActivityCollector activityCollector) {
+		PatternTemplate patternTemplate;
+		while (!canceled.get() && (patternTemplate = templatesQueue.poll()) != null) {
+			try {
+				analyze(launch, itemCondition, patternTemplate, canceled, activityCollector);
+			} catch (Exception e) {
+				LOGGER.error("Pattern template with id = {} cannot be analyzed : {}", patternTemplate.getId(), e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Walks the candidate items by id, every next batch starts after the last id of the previous one
+	 */
+	private void analyze(Launch launch, ConvertibleCondition itemCondition, PatternTemplate patternTemplate, AtomicBoolean canceled,
+			PatternMatchActivityCollector activityCollector) {
+		List<Long> itemIds = selectItemIds(launch, createItemFilter(itemCondition, patternTemplate.getName(), 0L));
+		while (CollectionUtils.isNotEmpty(itemIds) && !canceled.get()) {
+			attachToPatternTemplate(launch, patternTemplate, itemIds, activityCollector);
+			itemIds = selectItemIds(launch, createItemFilter(itemCondition, patternTemplate.getName(), Iterables.getLast(itemIds)));
+		}
+	}
+
+	/**
+	 * Walks the items of the launch once, every batch of items is matched against all the compiled templates in memory.
+	 */
+	private void analyzeInMemory(Launch launch, ConvertibleCondition itemCondition, CompiledPatternTemplates compiledTemplates,
+			AtomicBoolean canceled, PatternMatchActivityCollector activityCollector) {
+		List<Long> itemIds = selectItemIds(launch, createItemFilter(itemCondition, 0L));
+		while (CollectionUtils.isNotEmpty(itemIds) && !canceled.get()) {
+			logPatternMatcher.match(launch.getId(), itemIds, compiledTemplates)
+					.forEach((templateId, matchedIds) -> attach(compiledTemplates.getTemplates().get(templateId), matchedIds, activityCollector));
+			itemIds = selectItemIds(launch, createItemFilter(itemCondition, Iterables.getLast(itemIds)));
 		}
+	}
 
+	/**
+	 * Ids are returned in ascending order, so the offset is always 0 and the page is defined by the id condition of the filter
+	 */
+	private List<Long> selectItemIds(Launch launch, Filter filter) {
+		return testItemRepository.selectIdsByFilter(launch.getId(), filter, batchSize, 0);
 	}
 
-	private List<Long> attachToPatternTemplate(Launch launch, PatternTemplate patternTemplate, List<Long> itemIds) {
+	private void attachToPatternTemplate(Launch launch, PatternTemplate patternTemplate, List<Long> itemIds,
+			PatternMatchActivityCollector activityCollector) {
 		final List<Long> matchedIds = filterItems(launch, patternTemplate, itemIds);
+		attach(patternTemplate, matchedIds, activityCollector);
+	}
+
+	private void attach(PatternTemplate patternTemplate, List<Long> matchedIds, PatternMatchActivityCollector activityCollector) {
 		final List<PatternTemplateTestItemPojo> patternTemplateTestItems = convertToPojo(patternTemplate, matchedIds);
-		patternTemplateRepository.saveInBatch(patternTemplateTestItems);
-		publishEvents(patternTemplate, patternTemplateTestItems);
-		return matchedIds;
+		if (!patternTemplateTestItems.isEmpty()) {
+			patternTemplateRepository.saveInBatch(patternTemplateTestItems);
+		}
+		activityCollector.collect(patternTemplate, patternTemplateTestItems);
 	}
 
 	private List<Long> filterItems(Launch launch, PatternTemplate patternTemplate, List<Long> itemIds) {
@@ -145,7 +287,19 @@ public class PatternAnalyzerImpl implements PatternAnalyzer {
 		return patternAnalysisSelector.selectItemsByPattern(launch.getId(), itemIds, patternTemplate.getValue());
 	}
 
-	private Filter createItemFilter(ConvertibleCondition commonItemCondition, String patternTemplateName) {
+	private Filter createItemFilter(ConvertibleCondition commonItemCondition, Long lastItemId) {
+		return Filter.builder()
+				.withTarget(TestItem.class)
+				.withCondition(commonItemCondition)
+				.withCondition(FilterCondition.builder()
+						.withCondition(Condition.GREATER_THAN)
+						.withSearchCriteria(CRITERIA_ID)
+						.withValue(String.valueOf(lastItemId))
+						.build())
+				.build();
+	}
+
+	private Filter createItemFilter(ConvertibleCondition commonItemCondition, String patternTemplateName, Long lastItemId) {
 		return Filter.builder()
 				.withTarget(TestItem.class)
 				.withCondition(commonItemCondition)
@@ -155,6 +309,11 @@ public class PatternAnalyzerImpl implements PatternAnalyzer {
 						.withSearchCriteria(CRITERIA_PATTERN_TEMPLATE_NAME)
 						.withValue(patternTemplateName)
 						.build())
+				.withCondition(FilterCondition.builder()
+						.withCondition(Condition.GREATER_THAN)
+						.withSearchCriteria(CRITERIA_ID)
+						.withValue(String.valueOf(lastItemId))
+						.build())
 				.build();
 	}
 
@@ -164,16 +323,4 @@ public class PatternAnalyzerImpl implements PatternAnalyzer {
 				.collect(Collectors.toList());
 	}
 
-	private void publishEvents(PatternTemplate patternTemplate, List<PatternTemplateTestItemPojo> patternTemplateTestItems) {
-		final PatternTemplateActivityResource patternTemplateActivityResource = PatternTemplateConverter.TO_ACTIVITY_RESOURCE.apply(
-				patternTemplate);
-		patternTemplateTestItems.forEach(patternItem -> {
-			PatternMatchedEvent patternMatchedEvent = new PatternMatchedEvent(patternItem.getPatternTemplateId(),
-					patternItem.getTestItemId(),
-					patternTemplateActivityResource
-			);
-			messageBus.publishActivity(patternMatchedEvent);
-		});
-	}
-
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.impl;
+
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.activity.PatternMatchedEvent;
+import com.epam.ta.reportportal.core.events.activity.PatternMatchedSummaryEvent;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplate;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplateTestItemPojo;
+import com.epam.ta.reportportal.ws.converter.converters.PatternTemplateConverter;
+import com.epam.ta.reportportal.ws.model.activity.PatternTemplateActivityResource;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates activities of a single pattern analysis of the launch.
+ * Only the first matches of every template are published as per-item activities, all the matches of the template
+ * are reported with a single summary activity at the end, so the amount of activities doesn't depend on the launch size.
+ * Keeps a counter per template only. Thread-safe, templates of the launch may be analyzed concurrently.
+ */
+class PatternMatchActivityCollector {
+
+	private final Long launchId;
+
+	private final int itemDetailsLimit;
+
+	private final MessageBus messageBus;
+
+	/**
+	 * templateId - matches of the template
+	 */
+	private final Map<Long, TemplateMatches> matches = new LinkedHashMap<>();
+
+	PatternMatchActivityCollector(Long launchId, int itemDetailsLimit, MessageBus messageBus) {
+		this.launchId = launchId;
+		this.itemDetailsLimit = itemDetailsLimit;
+		this.messageBus = messageBus;
+	}
+
+	synchronized void collect(PatternTemplate patternTemplate, List<PatternTemplateTestItemPojo> patternTemplateTestItems) {
+		if (patternTemplateTestItems.isEmpty()) {
+			return;
+		}
+		TemplateMatches templateMatches = matches.computeIfAbsent(patternTemplate.getId(),
+				id -> new TemplateMatches(PatternTemplateConverter.TO_ACTIVITY_RESOURCE.apply(patternTemplate))
+		);
+		patternTemplateTestItems.stream()
+				.limit(Math.max(0, itemDetailsLimit - templateMatches.count))
+				.forEach(patternItem -> messageBus.publishActivity(new PatternMatchedEvent(patternItem.getPatternTemplateId(),
+						patternItem.getTestItemId(),
+						templateMatches.activityResource
+				)));
+		templateMatches.count += patternTemplateTestItems.size();
+	}
+
+	synchronized void publishSummaries() {
+		matches.forEach((templateId, templateMatches) -> messageBus.publishActivity(new PatternMatchedSummaryEvent(templateId,
+				launchId,
+				templateMatches.count,
+				templateMatches.activityResource
+		)));
+		matches.clear();
+	}
+
+	private static class TemplateMatches {
+
+		private final PatternTemplateActivityResource activityResource;
+
+		private long count;
+
+		private TemplateMatches(PatternTemplateActivityResource activityResource) {
+			this.activityResource = activityResource;
+		}
+	}
+}
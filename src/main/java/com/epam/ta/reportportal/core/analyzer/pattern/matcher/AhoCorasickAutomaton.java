@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Finds all the keywords contained in a text with a single pass over the text,
+ * independently of the amount of the keywords.
+ *
+ * @param <K> Type of the keyword identifier
+ */
+public final class AhoCorasickAutomaton<K> {
+
+	private final List<Node<K>> nodes = new ArrayList<>();
+
+	/**
+	 * Identifiers of the empty keywords, contained in any text
+	 */
+	private final Set<K> emptyKeywords = new HashSet<>();
+
+	/**
+	 * @param keywords Keyword identifier - keyword
+	 */
+	public AhoCorasickAutomaton(Map<K, String> keywords) {
+		nodes.add(new Node<>());
+		keywords.forEach(this::addKeyword);
+		buildFailureLinks();
+	}
+
+	public boolean isEmpty() {
+		return nodes.size() == 1 && emptyKeywords.isEmpty();
+	}
+
+	/**
+	 * @param text Text to search in
+	 * @return Identifiers of all the keywords contained in the text
+	 */
+	public Set<K> findAll(CharSequence text) {
+		Set<K> found = new HashSet<>(emptyKeywords);
+		int state = 0;
+		for (int i = 0; i < text.length(); i++) {
+			state = next(state, text.charAt(i));
+			found.addAll(nodes.get(state).output);
+		}
+		return found;
+	}
+
+	private void addKeyword(K id, String keyword) {
+		if (keyword.isEmpty()) {
+			emptyKeywords.add(id);
+			return;
+		}
+		int state = 0;
+		for (int i = 0; i < keyword.length(); i++) {
+			Integer child = nodes.get(state).transitions.get(keyword.charAt(i));
+			if (child == null) {
+				child = nodes.size();
+				nodes.add(new Node<>());
+				nodes.get(state).transitions.put(keyword.charAt(i), child);
+			}
+			state = child;
+		}
+		nodes.get(state).output.add(id);
+	}
+
+	/**
+	 * Breadth-first traversal, so the failure link of the parent is always resolved before its children.
+	 * Outputs of the failure link are merged into the node, so the matching doesn't follow the output chains.
+	 */
+	private void buildFailureLinks() {
+		Queue<Integer> queue = new ArrayDeque<>();
+		nodes.get(0).transitions.values().forEach(child -> {
+			nodes.get(child).failure = 0;
+			queue.add(child);
+		});
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			Node<K> node = nodes.get(state);
+			node.transitions.forEach((symbol, child) -> {
+				Node<K> childNode = nodes.get(child);
+				childNode.failure = next(node.failure, symbol);
+				childNode.output.addAll(nodes.get(childNode.failure).output);
+				queue.add(child);
+			});
+		}
+	}
+
+	private int next(int state, char symbol) {
+		while (true) {
+			Integer child = nodes.get(state).transitions.get(symbol);
+			if (child != null) {
+				return child;
+			}
+			if (state == 0) {
+				return 0;
+			}
+			state = nodes.get(state).failure;
+		}
+	}
+
+	private static final class Node<K> {
+
+		private final Map<Character, Integer> transitions = new HashMap<>();
+
+		private final Set<K> output = new HashSet<>();
+
+		private int failure;
+	}
+}
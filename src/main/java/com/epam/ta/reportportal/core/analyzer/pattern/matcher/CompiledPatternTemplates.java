@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import com.epam.ta.reportportal.entity.pattern.PatternTemplate;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplateType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Enabled pattern templates of the project prepared for matching of log messages in memory:
+ * all the {@link PatternTemplateType#STRING} templates are combined into a single {@link AhoCorasickAutomaton},
+ * every {@link PatternTemplateType#REGEX} template is precompiled into a {@link Pattern}.
+ * Templates which can't be compiled by java or use syntax which means something else for the PostgreSQL regular expressions
+ * are returned by {@link #getNotCompiled()} to be processed by the database like before.
+ */
+public final class CompiledPatternTemplates {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CompiledPatternTemplates.class);
+
+	/**
+	 * PostgreSQL matches a leading case-insensitive option like java does
+	 */
+	private static final String CASE_INSENSITIVE_PREFIX = "(?i)";
+
+	/**
+	 * Syntax that java compiles but matches differently than the database:
+	 * POSIX bracket classes, equivalence classes and collating elements like [[:digit:]],
+	 * escapes which are character entries or don't exist in PostgreSQL like \b (backspace there),
+	 * named, atomic and flag groups, possessive quantifiers
+	 */
+	private static final List<Pattern> DIALECT_SPECIFIC_SYNTAX = Collections.unmodifiableList(Arrays.asList(
+			Pattern.compile("\\[([:=.])[^\\]]*?\\1\\]"),
+			Pattern.compile("(?<!\\\\)(?:\\\\\\\\)*\\\\[bBQEpPhHRvVXzZGk]"),
+			Pattern.compile("\\(\\?(?:<[A-Za-z]|>|[A-Za-z-]+[:)])"),
+			Pattern.compile("[*+?}]\\+")
+	));
+
+	private final Map<Long, PatternTemplate> templates = new LinkedHashMap<>();
+
+	private final AhoCorasickAutomaton<Long> stringTemplates;
+
+	private final Map<Long, Pattern> regexTemplates = new LinkedHashMap<>();
+
+	private final List<PatternTemplate> notCompiled = new ArrayList<>();
+
+	private CompiledPatternTemplates(List<PatternTemplate> patternTemplates) {
+		Map<Long, String> stringValues = new HashMap<>();
+		for (PatternTemplate template : patternTemplates) {
+			if (PatternTemplateType.STRING == template.getTemplateType()) {
+				stringValues.put(template.getId(), template.getValue());
+				templates.put(template.getId(), template);
+			} else if (PatternTemplateType.REGEX == template.getTemplateType() && compileRegex(template)) {
+				templates.put(template.getId(), template);
+			} else {
+				notCompiled.add(template);
+			}
+		}
+		stringTemplates = new AhoCorasickAutomaton<>(stringValues);
+	}
+
+	public static CompiledPatternTemplates compile(List<PatternTemplate> patternTemplates) {
+		return new CompiledPatternTemplates(patternTemplates);
+	}
+
+	/**
+	 * Dot matches line terminators like it does in the database, so the multiline messages are matched the same way
+	 */
+	private boolean compileRegex(PatternTemplate template) {
+		if (isDialectSpecific(template.getValue())) {
+			LOGGER.debug("Pattern template with id = '{}' uses database specific syntax and will be matched by the database", template.getId());
+			return false;
+		}
+		try {
+			regexTemplates.put(template.getId(), Pattern.compile(template.getValue(), Pattern.DOTALL));
+			return true;
+		} catch (PatternSyntaxException e) {
+			LOGGER.warn("Pattern template with id = '{}' can't be compiled and will be matched by the database: {}",
+					template.getId(),
+					e.getMessage()
+			);
+			return false;
+		}
+	}
+
+	private static boolean isDialectSpecific(String regex) {
+		String body = regex.startsWith(CASE_INSENSITIVE_PREFIX) ? regex.substring(CASE_INSENSITIVE_PREFIX.length()) : regex;
+		return DIALECT_SPECIFIC_SYNTAX.stream().anyMatch(syntax -> syntax.matcher(body).find());
+	}
+
+	public boolean isEmpty() {
+		return templates.isEmpty();
+	}
+
+	public Map<Long, PatternTemplate> getTemplates() {
+		return Collections.unmodifiableMap(templates);
+	}
+
+	public List<PatternTemplate> getNotCompiled() {
+		return Collections.unmodifiableList(notCompiled);
+	}
+
+	/**
+	 * Adds ids of the templates matching the message to the provided set.
+	 * Regex templates those are already in the set are not evaluated.
+	 *
+	 * @param message Log message
+	 * @param matched Ids of the already matched templates
+	 */
+	public void match(String message, Set<Long> matched) {
+		if (message == null) {
+			return;
+		}
+		if (!stringTemplates.isEmpty()) {
+			matched.addAll(stringTemplates.findAll(message));
+		}
+		regexTemplates.forEach((id, pattern) -> {
+			if (!matched.contains(id) && pattern.matcher(message).find()) {
+				matched.add(id);
+			}
+		});
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.log.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.epam.ta.reportportal.core.item.identity.IdentityUtil.findClosestRequestedId;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Matches error logs of the test items against all the {@link CompiledPatternTemplates} in memory.
+ * Error logs of the whole batch of items, including logs of their nested steps, are loaded with a single query.
+ */
+@Service
+public class LogPatternMatcher {
+
+	private static final String SELECT_ATTACHED = "SELECT pattern_id, item_id FROM pattern_template_test_item WHERE item_id IN (%s)";
+
+	private final LogRepository logRepository;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public LogPatternMatcher(LogRepository logRepository, JdbcTemplate jdbcTemplate) {
+		this.logRepository = logRepository;
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param launchId  Launch id
+	 * @param itemIds   Ids of the test items of the launch
+	 * @param templates Compiled pattern templates
+	 * @return Template id - ids of the items matched by the template and not attached to it yet
+	 */
+	public Map<Long, List<Long>> match(Long launchId, List<Long> itemIds, CompiledPatternTemplates templates) {
+		if (itemIds.isEmpty() || templates.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Set<Long> requestedIds = new HashSet<>(itemIds);
+		Map<Long, Set<Long>> attachedByItem = getAttachedTemplates(itemIds, templates.getTemplates().keySet());
+		Map<Long, Set<Long>> matchedByItem = new HashMap<>();
+		attachedByItem.forEach((itemId, templateIds) -> matchedByItem.put(itemId, new HashSet<>(templateIds)));
+
+		List<Log> logs = logRepository.findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(launchId, itemIds, LogLevel.ERROR_INT);
+		for (Log log : logs) {
+			ofNullable(log.getTestItem()).flatMap(logItem -> findClosestRequestedId(logItem, requestedIds)).ifPresent(itemId -> {
+				Set<Long> matched = matchedByItem.computeIfAbsent(itemId, id -> new HashSet<>());
+				if (matched.size() < templates.getTemplates().size()) {
+					templates.match(log.getLogMessage(), matched);
+				}
+			});
+		}
+
+		Map<Long, List<Long>> itemsByTemplate = new HashMap<>();
+		itemIds.forEach(itemId -> {
+			Set<Long> attached = attachedByItem.getOrDefault(itemId, Collections.emptySet());
+			matchedByItem.getOrDefault(itemId, Collections.emptySet())
+					.stream()
+					.filter(templateId -> !attached.contains(templateId))
+					.forEach(templateId -> itemsByTemplate.computeIfAbsent(templateId, id -> new ArrayList<>()).add(itemId));
+		});
+		return itemsByTemplate;
+	}
+
+	/**
+	 * @return Item id - ids of the provided pattern templates already attached to the item
+	 */
+	private Map<Long, Set<Long>> getAttachedTemplates(List<Long> itemIds, Set<Long> templateIds) {
+		Map<Long, Set<Long>> attached = new HashMap<>();
+		jdbcTemplate.query(String.format(SELECT_ATTACHED, String.join(",", Collections.nCopies(itemIds.size(), "?"))),
+				itemIds.toArray(),
+				rs -> {
+					long templateId = rs.getLong("pattern_id");
+					if (templateIds.contains(templateId)) {
+						attached.computeIfAbsent(rs.getLong("item_id"), id -> new HashSet<>()).add(templateId);
+					}
+				}
+		);
+		return attached;
+	}
+}
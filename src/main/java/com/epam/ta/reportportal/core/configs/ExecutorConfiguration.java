@@ -18,6 +18,10 @@ package com.epam.ta.reportportal.core.configs;
 
 import com.epam.ta.reportportal.core.log.impl.SaveLogBinaryDataTask;
 import com.epam.ta.reportportal.core.log.impl.SaveLogBinaryDataTaskAsync;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -31,6 +35,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -83,7 +89,7 @@ public class ExecutorConfiguration {
 	}
 
 	@Bean(name = "autoAnalyzeTaskExecutor")
-	public TaskExecutor autoAnalyzeTaskExecutor(@Value("${rp.environment.variable.executor.pool.auto-analyze.core}") Integer corePoolSize,
+	public ThreadPoolTaskExecutor autoAnalyzeTaskExecutor(@Value("${rp.environment.variable.executor.pool.auto-analyze.core}") Integer corePoolSize,
 			@Value("${rp.environment.variable.executor.pool.auto-analyze.max}") Integer maxPoolSize,
 			@Value("${rp.environment.variable.executor.pool.auto-analyze.queue}") Integer queueCapacity) {
 		final ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
@@ -92,9 +98,38 @@ public class ExecutorConfiguration {
 		threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
 		threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
 		threadPoolTaskExecutor.setThreadNamePrefix("auto-analyze-exec");
+		threadPoolTaskExecutor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
 		return threadPoolTaskExecutor;
 	}
 
+	@Bean(name = "logIndexerTaskExecutor")
+	public ThreadPoolTaskExecutor logIndexerTaskExecutor(@Value("${rp.environment.variable.executor.pool.log-indexer.core}") Integer corePoolSize,
+			@Value("${rp.environment.variable.executor.pool.log-indexer.max}") Integer maxPoolSize,
+			@Value("${rp.environment.variable.executor.pool.log-indexer.queue}") Integer queueCapacity) {
+		ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+		threadPoolTaskExecutor.setCorePoolSize(corePoolSize);
+		threadPoolTaskExecutor.setMaxPoolSize(maxPoolSize);
+		threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
+		threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
+		threadPoolTaskExecutor.setThreadNamePrefix("log-indexer-exec");
+		threadPoolTaskExecutor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+		return threadPoolTaskExecutor;
+	}
+
+	@Bean(name = "analyzerFanOutExecutor")
+	public ThreadPoolTaskExecutor analyzerFanOutExecutor(@Value("${rp.environment.variable.executor.pool.analyzer-fan-out.core}") Integer corePoolSize,
+			@Value("${rp.environment.variable.executor.pool.analyzer-fan-out.max}") Integer maxPoolSize,
+			@Value("${rp.environment.variable.executor.pool.analyzer-fan-out.queue}") Integer queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("analyzer-fan-out-exec");
+		executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+		return executor;
+	}
+
 	@Bean("patternAnalysisTaskExecutor")
 	public TaskExecutor patternAnalysisTaskExecutor(@Value("${rp.environment.variable.executor.pool.pattern-analyze.core}") Integer corePoolSize,
 			@Value("${rp.environment.variable.executor.pool.pattern-analyze.max}") Integer maxPoolSize,
@@ -122,12 +157,23 @@ public class ExecutorConfiguration {
 		return threadPoolTaskExecutor;
 	}
 
+	/**
+	 * Executor of the widget view generations. Its queue is a priority queue, so only {@link Comparable} tasks
+	 * can be submitted, see {@link com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.WidgetViewGenerationService}.
+	 * The queue is unbounded, the number of queued tasks is limited by the number of widgets with materialized views,
+	 * so only core threads are used and the queue capacity is its initial size.
+	 */
 	@Bean(name = "widgetViewExecutor")
 	public TaskExecutor healthCheckTableExecutor(
 			@Value("${rp.environment.variable.executor.pool.widget-view.core}") Integer corePoolSize,
 			@Value("${rp.environment.variable.executor.pool.widget-view.max}") Integer maxPoolSize,
 			@Value("${rp.environment.variable.executor.pool.widget-view.queue}") Integer queueCapacity) {
-		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+			@Override
+			protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+				return new PriorityBlockingQueue<>(Math.max(1, queueCapacity));
+			}
+		};
 		executor.setCorePoolSize(corePoolSize);
 		executor.setMaxPoolSize(maxPoolSize);
 		executor.setQueueCapacity(queueCapacity);
@@ -137,4 +183,33 @@ public class ExecutorConfiguration {
 		return executor;
 	}
 
+	/**
+	 * Single thread without a queue: only one replay of the dead letter queue runs at a time, others are rejected
+	 */
+	@Bean(name = "deadLetterReplayExecutor")
+	public TaskExecutor deadLetterReplayExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(0);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("dlq-replay-exec");
+		return executor;
+	}
+
+	/**
+	 * Exposes pool size, active threads, queued and completed tasks of the analyzer and indexer executors
+	 * as executor.* meters tagged with the executor name
+	 */
+	@Bean
+	public MeterBinder analyzerExecutorsMetrics(@Qualifier("autoAnalyzeTaskExecutor") ThreadPoolTaskExecutor autoAnalyzeTaskExecutor,
+			@Qualifier("analyzerFanOutExecutor") ThreadPoolTaskExecutor analyzerFanOutExecutor,
+			@Qualifier("logIndexerTaskExecutor") ThreadPoolTaskExecutor logIndexerTaskExecutor) {
+		return registry -> {
+			new ExecutorServiceMetrics(autoAnalyzeTaskExecutor.getThreadPoolExecutor(), "auto-analyze", Tags.empty()).bindTo(registry);
+			new ExecutorServiceMetrics(analyzerFanOutExecutor.getThreadPoolExecutor(), "analyzer-fan-out", Tags.empty()).bindTo(registry);
+			new ExecutorServiceMetrics(logIndexerTaskExecutor.getThreadPoolExecutor(), "log-indexer", Tags.empty()).bindTo(registry);
+		};
+	}
+
 }
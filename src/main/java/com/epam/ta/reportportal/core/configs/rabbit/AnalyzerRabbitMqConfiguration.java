@@ -32,6 +32,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
 
 import java.net.URI;
 
@@ -48,7 +49,8 @@ public class AnalyzerRabbitMqConfiguration {
 	private MessageConverter messageConverter;
 
 	@Bean
-	public RabbitMqManagementClient managementTemplate(@Value("${rp.amqp.api-address}") String address) {
+	public RabbitMqManagementClient managementTemplate(@Value("${rp.amqp.api-address}") String address,
+			@Value("${rp.amqp.analyzer-exchanges.refresh-interval:30000}") long refreshInterval, TaskScheduler taskScheduler) {
 		Client rabbitClient;
 		try {
 			rabbitClient = new Client(address);
@@ -58,7 +60,7 @@ public class AnalyzerRabbitMqConfiguration {
 					"Cannot create a HTTP rabbit client instance. Incorrect api address " + address
 			);
 		}
-		return new RabbitMqManagementClientTemplate(rabbitClient);
+		return new RabbitMqManagementClientTemplate(rabbitClient, taskScheduler, refreshInterval);
 	}
 
 	@Bean(name = "analyzerConnectionFactory")
@@ -77,4 +79,18 @@ public class AnalyzerRabbitMqConfiguration {
 		return rabbitTemplate;
 	}
 
+	/**
+	 * Template used by the parallel analyzers fan-out. Replies are awaited not longer than the fan-out deadline,
+	 * so a late analyzer releases its fan-out thread at the deadline instead of the common reply timeout.
+	 */
+	@Bean(name = "analyzerFanOutRabbitTemplate")
+	public RabbitTemplate analyzerFanOutRabbitTemplate(@Autowired @Qualifier("analyzerConnectionFactory") ConnectionFactory connectionFactory,
+			@Value("${rp.amqp.reply-timeout}") long replyTimeout,
+			@Value("${rp.environment.variable.analyzer.fan-out.deadline:60000}") long deadline) {
+		RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+		rabbitTemplate.setMessageConverter(messageConverter);
+		rabbitTemplate.setReplyTimeout(Math.min(deadline, replyTimeout));
+		return rabbitTemplate;
+	}
+
 }
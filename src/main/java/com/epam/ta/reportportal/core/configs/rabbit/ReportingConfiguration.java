@@ -17,6 +17,8 @@
 package com.epam.ta.reportportal.core.configs.rabbit;
 
 import com.epam.ta.reportportal.core.configs.Conditions;
+import com.epam.ta.reportportal.core.log.impl.LogBatchWriter;
+import com.epam.ta.reportportal.ws.rabbit.AsyncReportingBatchListener;
 import com.epam.ta.reportportal.ws.rabbit.AsyncReportingListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,6 +75,50 @@ public class ReportingConfiguration {
 	@Value("${rp.amqp.queuesPerPod:1000000}")
 	private int queuesPerPod;
 
+	/**
+	 * Enables distribution of the reporting queues between alive pods.
+	 * A container is created for every queue then, {@link #queuesPerPod} is ignored
+	 */
+	@Value("${rp.amqp.rebalance.enabled:false}")
+	private boolean rebalanceEnabled;
+
+	/**
+	 * Number of unacknowledged messages the broker sends to a single consumer
+	 */
+	@Value("${rp.amqp.prefetch:250}")
+	private int prefetchCount;
+
+	/**
+	 * Acknowledge mode of reporting consumers, AUTO (or MANUAL when batch of logs mode is enabled)
+	 */
+	@Value("${rp.amqp.ack-mode:AUTO}")
+	private AcknowledgeMode acknowledgeMode;
+
+	/**
+	 * Number of processed messages acknowledged at once in AUTO mode.
+	 * Note: failure of a single message leads to redelivery of the whole not acknowledged batch
+	 */
+	@Value("${rp.amqp.ack-batch-size:1}")
+	private int ackBatchSize;
+
+	/**
+	 * Enables consuming of reporting messages in batches with multi-row insert of the logs
+	 */
+	@Value("${rp.amqp.log-batch.enabled:false}")
+	private boolean logBatchEnabled;
+
+	/**
+	 * Max number of messages in a single batch
+	 */
+	@Value("${rp.amqp.log-batch.size:100}")
+	private int logBatchSize;
+
+	/**
+	 * Time in millis to wait for the next message before the incomplete batch is flushed
+	 */
+	@Value("${rp.amqp.log-batch.flush-timeout:200}")
+	private long logBatchFlushTimeout;
+
 	@Autowired
 	private ApplicationContext applicationContext;
 
@@ -174,13 +220,26 @@ public class ReportingConfiguration {
 		return bindings;
 	}
 
+	@Bean
+	public ReportingContainerSettings reportingContainerSettings() {
+		return new ReportingContainerSettings(prefetchCount,
+				acknowledgeMode,
+				ackBatchSize,
+				logBatchEnabled,
+				logBatchSize,
+				logBatchFlushTimeout
+		).validate();
+	}
+
 	@Bean
 	@Qualifier("reportingListenerContainers")
 	public List<AbstractMessageListenerContainer> listenerContainers(ConnectionFactory connectionFactory,
-			ApplicationEventPublisher applicationEventPublisher, @Qualifier("queues") List<Queue> queues) {
+			ApplicationEventPublisher applicationEventPublisher, @Qualifier("queues") List<Queue> queues, LogBatchWriter logBatchWriter) {
+		ReportingContainerSettings settings = reportingContainerSettings();
 		List<AbstractMessageListenerContainer> containers = new ArrayList<>();
+		int containersAmount = rebalanceEnabled ? queues.size() : Math.min(queuesPerPod, queues.size());
 		int consumersCount = 0;
-		while (consumersCount < queuesPerPod) {
+		while (consumersCount < containersAmount) {
 			SimpleMessageListenerContainer listenerContainer = new SimpleMessageListenerContainer(connectionFactory);
 			containers.add(listenerContainer);
 			listenerContainer.setConnectionFactory(connectionFactory);
@@ -188,7 +247,12 @@ public class ReportingConfiguration {
 			listenerContainer.setExclusive(true);
 			listenerContainer.setMissingQueuesFatal(false);
 			listenerContainer.setApplicationEventPublisher(applicationEventPublisher);
-			listenerContainer.setupMessageListener(reportingListener());
+			settings.applyTo(listenerContainer);
+			if (settings.isLogBatchEnabled()) {
+				listenerContainer.setupMessageListener(reportingBatchListener(logBatchWriter));
+			} else {
+				listenerContainer.setupMessageListener(reportingListener());
+			}
 			listenerContainer.afterPropertiesSet();
 			consumersCount++;
 			logger.info("Consumer is created, current consumers count is {}", consumersCount);
@@ -197,10 +261,15 @@ public class ReportingConfiguration {
 	}
 
 	@Bean
-	public MessageListener reportingListener() {
+	public AsyncReportingListener reportingListener() {
 		return new AsyncReportingListener();
 	}
 
+	@Bean
+	public AsyncReportingBatchListener reportingBatchListener(LogBatchWriter logBatchWriter) {
+		return new AsyncReportingBatchListener(reportingListener(), logBatchWriter);
+	}
+
 	private void registerSingleton(String name, Object bean) {
 		configurableBeanFactory.registerSingleton(name.trim(), bean);
 		applicationContext.getAutowireCapableBeanFactory().autowireBean(bean);
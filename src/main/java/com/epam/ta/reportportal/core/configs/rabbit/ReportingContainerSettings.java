@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.configs.rabbit;
+
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Settings of the reporting queues listener containers, configured with {@code rp.amqp.*} properties
+ */
+public class ReportingContainerSettings {
+
+	private final int prefetchCount;
+
+	private final AcknowledgeMode acknowledgeMode;
+
+	private final int ackBatchSize;
+
+	private final boolean logBatchEnabled;
+
+	private final int logBatchSize;
+
+	private final long logBatchFlushTimeout;
+
+	public ReportingContainerSettings(int prefetchCount, AcknowledgeMode acknowledgeMode, int ackBatchSize, boolean logBatchEnabled,
+			int logBatchSize, long logBatchFlushTimeout) {
+		this.prefetchCount = prefetchCount;
+		this.acknowledgeMode = acknowledgeMode;
+		this.ackBatchSize = ackBatchSize;
+		this.logBatchEnabled = logBatchEnabled;
+		this.logBatchSize = logBatchSize;
+		this.logBatchFlushTimeout = logBatchFlushTimeout;
+	}
+
+	/**
+	 * Verifies that settings are consistent, fails application startup otherwise.
+	 * {@link AcknowledgeMode#NONE} is not allowed: failed messages would be dropped without reaching the retry and dead letter queues.
+	 *
+	 * @return this
+	 */
+	public ReportingContainerSettings validate() {
+		checkState(prefetchCount > 0, "'rp.amqp.prefetch' should be positive, but was %s", prefetchCount);
+		checkState(acknowledgeMode == AcknowledgeMode.AUTO || (logBatchEnabled && acknowledgeMode == AcknowledgeMode.MANUAL),
+				"'rp.amqp.ack-mode' should be AUTO, or MANUAL with 'rp.amqp.log-batch.enabled', but was %s",
+				acknowledgeMode
+		);
+		checkState(ackBatchSize > 0, "'rp.amqp.ack-batch-size' should be positive, but was %s", ackBatchSize);
+		checkState(ackBatchSize <= prefetchCount,
+				"'rp.amqp.ack-batch-size' = %s should not be greater than 'rp.amqp.prefetch' = %s",
+				ackBatchSize,
+				prefetchCount
+		);
+		if (logBatchEnabled) {
+			checkState(logBatchSize > 0, "'rp.amqp.log-batch.size' should be positive, but was %s", logBatchSize);
+			checkState(logBatchFlushTimeout > 0, "'rp.amqp.log-batch.flush-timeout' should be positive, but was %s", logBatchFlushTimeout);
+		}
+		return this;
+	}
+
+	/**
+	 * Applies settings to the container. Batch of logs mode requires manual acknowledgement of each delivery,
+	 * so the configured ack mode is replaced with {@link AcknowledgeMode#MANUAL} then.
+	 *
+	 * @param container {@link SimpleMessageListenerContainer}
+	 */
+	public void applyTo(SimpleMessageListenerContainer container) {
+		if (logBatchEnabled) {
+			container.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+			container.setConsumerBatchEnabled(true);
+			container.setBatchSize(logBatchSize);
+			container.setPrefetchCount(Math.max(prefetchCount, logBatchSize));
+			container.setReceiveTimeout(logBatchFlushTimeout);
+		} else {
+			container.setAcknowledgeMode(acknowledgeMode);
+			container.setBatchSize(ackBatchSize);
+			container.setPrefetchCount(prefetchCount);
+		}
+	}
+
+	public int getPrefetchCount() {
+		return prefetchCount;
+	}
+
+	public AcknowledgeMode getAcknowledgeMode() {
+		return acknowledgeMode;
+	}
+
+	public int getAckBatchSize() {
+		return ackBatchSize;
+	}
+
+	public boolean isLogBatchEnabled() {
+		return logBatchEnabled;
+	}
+
+	public int getLogBatchSize() {
+		return logBatchSize;
+	}
+
+	public long getLogBatchFlushTimeout() {
+		return logBatchFlushTimeout;
+	}
+}
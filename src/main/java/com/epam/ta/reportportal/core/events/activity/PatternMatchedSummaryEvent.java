@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.activity;
+
+import com.epam.ta.reportportal.core.events.ActivityEvent;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.activity.HistoryField;
+import com.epam.ta.reportportal.ws.converter.builders.ActivityBuilder;
+import com.epam.ta.reportportal.ws.model.activity.PatternTemplateActivityResource;
+
+import java.util.Optional;
+
+import static com.epam.ta.reportportal.core.events.activity.util.ActivityDetailsUtil.ITEMS_COUNT;
+import static com.epam.ta.reportportal.core.events.activity.util.ActivityDetailsUtil.PATTERN_ID;
+import static com.epam.ta.reportportal.entity.activity.Activity.ActivityEntityType.LAUNCH;
+import static com.epam.ta.reportportal.entity.activity.ActivityAction.PATTERN_MATCHED;
+
+/**
+ * Single activity for all the items of the launch matched by the pattern template during one analysis.
+ * Unlike {@link PatternMatchedEvent} the object of the activity is the launch, so it never gets to the history of a test item,
+ * the pattern template is stored in the history
+ */
+public class PatternMatchedSummaryEvent implements ActivityEvent {
+
+	private Long patternId;
+
+	private Long launchId;
+
+	private long itemsCount;
+
+	private PatternTemplateActivityResource patternTemplateActivityResource;
+
+	public PatternMatchedSummaryEvent() {
+	}
+
+	public PatternMatchedSummaryEvent(Long patternId, Long launchId, long itemsCount,
+			PatternTemplateActivityResource patternTemplateActivityResource) {
+		this.patternId = patternId;
+		this.launchId = launchId;
+		this.itemsCount = itemsCount;
+		this.patternTemplateActivityResource = patternTemplateActivityResource;
+	}
+
+	public Long getPatternId() {
+		return patternId;
+	}
+
+	public void setPatternId(Long patternId) {
+		this.patternId = patternId;
+	}
+
+	public Long getLaunchId() {
+		return launchId;
+	}
+
+	public void setLaunchId(Long launchId) {
+		this.launchId = launchId;
+	}
+
+	public long getItemsCount() {
+		return itemsCount;
+	}
+
+	public void setItemsCount(long itemsCount) {
+		this.itemsCount = itemsCount;
+	}
+
+	public PatternTemplateActivityResource getPatternTemplateActivityResource() {
+		return patternTemplateActivityResource;
+	}
+
+	public void setPatternTemplateActivityResource(PatternTemplateActivityResource patternTemplateActivityResource) {
+		this.patternTemplateActivityResource = patternTemplateActivityResource;
+	}
+
+	@Override
+	public Activity toActivity() {
+		return new ActivityBuilder().addCreatedNow()
+				.addObjectId(launchId)
+				.addObjectName(patternTemplateActivityResource.getName())
+				.addProjectId(patternTemplateActivityResource.getProjectId())
+				.addActivityEntityType(LAUNCH)
+				.addAction(PATTERN_MATCHED)
+				.addHistoryField(Optional.of(HistoryField.of(PATTERN_ID, null, String.valueOf(patternId))))
+				.addHistoryField(Optional.of(HistoryField.of(ITEMS_COUNT, null, String.valueOf(itemsCount))))
+				.get();
+	}
+}
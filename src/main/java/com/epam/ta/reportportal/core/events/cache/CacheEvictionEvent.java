@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.events.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Broadcast event to invalidate node-local cache entries on every service-api instance.
+ * Empty keys mean that the whole cache should be invalidated.
+ */
+public class CacheEvictionEvent {
+
+	private String cacheName;
+
+	private Set<String> keys;
+
+	public CacheEvictionEvent() {
+	}
+
+	public CacheEvictionEvent(String cacheName, Set<String> keys) {
+		this.cacheName = cacheName;
+		this.keys = keys;
+	}
+
+	public static CacheEvictionEvent evictKeys(String cacheName, Collection<?> keys) {
+		Set<String> stringKeys = new HashSet<>(keys.size());
+		keys.forEach(key -> stringKeys.add(String.valueOf(key)));
+		return new CacheEvictionEvent(cacheName, stringKeys);
+	}
+
+	public static CacheEvictionEvent evictAll(String cacheName) {
+		return new CacheEvictionEvent(cacheName, Collections.emptySet());
+	}
+
+	public String getCacheName() {
+		return cacheName;
+	}
+
+	public void setCacheName(String cacheName) {
+		this.cacheName = cacheName;
+	}
+
+	public Set<String> getKeys() {
+		return keys;
+	}
+
+	public void setKeys(Set<String> keys) {
+		this.keys = keys;
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.events.cache;
+
+import java.util.Set;
+
+/**
+ * Node-local cache that could be invalidated with {@link CacheEvictionEvent} sent over the broadcast exchange
+ */
+public interface EvictableCache {
+
+	/**
+	 * @return Name of the cache the {@link CacheEvictionEvent} is addressed to
+	 */
+	String getName();
+
+	/**
+	 * Invalidates entries with provided keys
+	 *
+	 * @param keys Keys of the entries
+	 */
+	void evict(Set<String> keys);
+
+	/**
+	 * Invalidates all the entries
+	 */
+	void evictAll();
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.cluster;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Requests cancellation of the pattern analysis of the launches on every service-api instance,
+ * sent through the broadcast exchange when the launches are deleted or restarted
+ */
+public class PatternAnalysisCancelEvent {
+
+	private Set<Long> launchIds;
+
+	public PatternAnalysisCancelEvent() {
+	}
+
+	public PatternAnalysisCancelEvent(Collection<Long> launchIds) {
+		this.launchIds = new HashSet<>(launchIds);
+	}
+
+	public Set<Long> getLaunchIds() {
+		return launchIds;
+	}
+
+	public void setLaunchIds(Set<Long> launchIds) {
+		this.launchIds = launchIds;
+	}
+}
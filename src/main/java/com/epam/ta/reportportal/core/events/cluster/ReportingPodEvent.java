@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.events.cluster;
+
+/**
+ * Membership event of a service-api instance consuming reporting queues, sent through the broadcast exchange
+ */
+public class ReportingPodEvent {
+
+	private String podId;
+
+	private boolean alive;
+
+	public ReportingPodEvent() {
+	}
+
+	public ReportingPodEvent(String podId, boolean alive) {
+		this.podId = podId;
+		this.alive = alive;
+	}
+
+	public static ReportingPodEvent alive(String podId) {
+		return new ReportingPodEvent(podId, true);
+	}
+
+	public static ReportingPodEvent left(String podId) {
+		return new ReportingPodEvent(podId, false);
+	}
+
+	public String getPodId() {
+		return podId;
+	}
+
+	public void setPodId(String podId) {
+		this.podId = podId;
+	}
+
+	public boolean isAlive() {
+		return alive;
+	}
+
+	public void setAlive(boolean alive) {
+		this.alive = alive;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.handler;
+
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Sends {@link CacheEvictionEvent} published inside a transaction to the broadcast exchange only after the commit,
+ * so the nodes don't reload cache entries from not yet committed data.
+ */
+@Component
+public class CacheEvictionEventHandler {
+
+	private final MessageBus messageBus;
+
+	@Autowired
+	public CacheEvictionEventHandler(MessageBus messageBus) {
+		this.messageBus = messageBus;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCacheEviction(CacheEvictionEvent event) {
+		messageBus.broadcastEvent(event);
+	}
+}
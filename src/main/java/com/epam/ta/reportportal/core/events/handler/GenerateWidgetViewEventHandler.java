@@ -4,6 +4,7 @@ import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.core.events.widget.GenerateWidgetViewEvent;
 import com.epam.ta.reportportal.core.widget.content.BuildFilterStrategy;
 import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.ViewGenerator;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.WidgetViewGenerationService;
 import com.epam.ta.reportportal.dao.WidgetRepository;
 import com.epam.ta.reportportal.entity.widget.Widget;
 import com.epam.ta.reportportal.entity.widget.WidgetType;
@@ -12,7 +13,6 @@ import com.epam.ta.reportportal.ws.model.ErrorType;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -39,18 +39,18 @@ public class GenerateWidgetViewEventHandler {
 
 	private final WidgetRepository widgetRepository;
 	private final Map<WidgetType, BuildFilterStrategy> buildFilterStrategyMapping;
-	private final TaskExecutor widgetViewExecutor;
 	private final Map<WidgetType, ViewGenerator> viewGeneratorMapping;
+	private final WidgetViewGenerationService widgetViewGenerationService;
 
 	@Autowired
 	public GenerateWidgetViewEventHandler(WidgetRepository widgetRepository,
 			@Qualifier("buildFilterStrategy") Map<WidgetType, BuildFilterStrategy> buildFilterStrategyMapping,
-			@Qualifier("widgetViewExecutor") TaskExecutor widgetViewExecutor,
-			@Qualifier("viewGeneratorMapping") Map<WidgetType, ViewGenerator> viewGeneratorMapping) {
+			@Qualifier("viewGeneratorMapping") Map<WidgetType, ViewGenerator> viewGeneratorMapping,
+			WidgetViewGenerationService widgetViewGenerationService) {
 		this.widgetRepository = widgetRepository;
 		this.buildFilterStrategyMapping = buildFilterStrategyMapping;
-		this.widgetViewExecutor = widgetViewExecutor;
 		this.viewGeneratorMapping = viewGeneratorMapping;
+		this.widgetViewGenerationService = widgetViewGenerationService;
 	}
 
 	@Async
@@ -67,14 +67,14 @@ public class GenerateWidgetViewEventHandler {
 			Filter launchesFilter = GROUP_FILTERS.apply(filterSortMapping.keySet());
 			Sort launchesSort = GROUP_SORTS.apply(filterSortMapping.values());
 
-			ofNullable(viewGeneratorMapping.get(widgetType)).ifPresent(viewGenerator -> widgetViewExecutor.execute(() -> viewGenerator.generate(
+			ofNullable(viewGeneratorMapping.get(widgetType)).ifPresent(viewGenerator -> widgetViewGenerationService.submit(viewGenerator,
 					BooleanUtils.toBoolean(event.getParams().getFirst(REFRESH)),
 					generateViewName(widget),
 					widget,
 					launchesFilter,
 					launchesSort,
 					event.getParams()
-			)));
+			));
 
 		});
 	}
@@ -33,7 +33,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -63,9 +62,7 @@ public class LaunchAutoAnalysisSubscriber implements LaunchFinishedEventSubscrib
 					.collectItems(project.getId(), launch.getId(), launchFinishedEvent.getUser());
 			logIndexer.indexLaunchLogs(project.getId(), launch.getId(), analyzerConfig).join();
 			analyzerServiceAsync.analyze(launch, itemIds, analyzerConfig).join();
-
-			//TODO provide executor
-			CompletableFuture.supplyAsync(() -> logIndexer.indexItemsLogs(project.getId(), launch.getId(), itemIds, analyzerConfig));
+			logIndexer.indexItemsLogsAsync(project.getId(), launch.getId(), itemIds, analyzerConfig);
 		} else {
 			logIndexer.indexLaunchLogs(project.getId(), launch.getId(), analyzerConfig);
 		}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.events.handler.subscriber.impl;
+
+import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.MaterializedViewRefresher;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.Project;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Marks materialized widget views of the project as outdated, so they are refreshed with the finished launch data when read
+ */
+@Service
+public class LaunchWidgetViewSubscriber implements LaunchFinishedEventSubscriber {
+
+	private final MaterializedViewRefresher materializedViewRefresher;
+
+	@Autowired
+	public LaunchWidgetViewSubscriber(MaterializedViewRefresher materializedViewRefresher) {
+		this.materializedViewRefresher = materializedViewRefresher;
+	}
+
+	@Override
+	public void handleEvent(LaunchFinishedEvent launchFinishedEvent, Project project, Launch launch) {
+		materializedViewRefresher.markOutdated(project.getId());
+	}
+
+	@Override
+	public int getOrder() {
+		return 4;
+	}
+}
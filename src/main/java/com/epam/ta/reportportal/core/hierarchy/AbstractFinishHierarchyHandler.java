@@ -30,6 +30,7 @@ import com.epam.ta.reportportal.entity.item.issue.IssueEntity;
 import com.epam.ta.reportportal.entity.item.issue.IssueType;
 import com.epam.ta.reportportal.job.PageUtil;
 import org.apache.commons.lang3.BooleanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
@@ -68,6 +69,8 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
 	private final IssueTypeHandler issueTypeHandler;
 	private final ChangeStatusHandler changeStatusHandler;
 
+	private BulkHierarchyFinisher bulkHierarchyFinisher;
+
 	public AbstractFinishHierarchyHandler(LaunchRepository launchRepository, TestItemRepository testItemRepository,
 			ItemAttributeRepository itemAttributeRepository, IssueEntityRepository issueEntityRepository, IssueTypeHandler issueTypeHandler,
 			ChangeStatusHandler changeStatusHandler) {
@@ -79,8 +82,25 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
 		this.changeStatusHandler = changeStatusHandler;
 	}
 
+	@Autowired
+	public void setBulkHierarchyFinisher(BulkHierarchyFinisher bulkHierarchyFinisher) {
+		this.bulkHierarchyFinisher = bulkHierarchyFinisher;
+	}
+
 	protected abstract boolean isIssueRequired(StatusEnum status, T entity);
 
+	/**
+	 * @return 'true' if descendants should be finished by {@link BulkHierarchyFinisher} instead of page by page processing,
+	 * when it is applicable to the hierarchy
+	 */
+	protected abstract boolean isBulkFinishEnabled();
+
+	/**
+	 * @param entity Parent entity of the hierarchy
+	 * @return {@link HierarchyScope} of all the descendants of the entity
+	 */
+	protected abstract HierarchyScope getHierarchyScope(T entity);
+
 	protected abstract Function<Pageable, List<Long>> getItemIdsFunction(boolean hasChildren, T entity, StatusEnum status);
 
 	protected boolean evaluateSkippedAttributeValue(StatusEnum status, Long launchId) {
@@ -108,11 +128,31 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
 
 		LocalDateTime endTime = TO_LOCAL_DATE_TIME.apply(endDate);
 
+		if (isBulkFinishEnabled() && bulkHierarchyFinisher != null) {
+			testItemRepository.flush();
+			HierarchyScope scope = getHierarchyScope(parentEntity);
+			if (bulkHierarchyFinisher.isApplicable(scope)) {
+				return finishDescendantsInBulk(parentEntity, scope, projectDetails.getProjectId(), status, endTime);
+			}
+		}
+
 		final int withoutChildren = updateDescendantsWithoutChildren(parentEntity, projectDetails.getProjectId(), status, endTime, user);
 		final int withChildren = updateDescendantsWithChildren(parentEntity, endTime);
 		return withoutChildren + withChildren;
 	}
 
+	/**
+	 * Finishes descendants with set-based statements. Pending entity changes are flushed before the hierarchy is checked,
+	 * because the statements are executed bypassing the persistence context.
+	 * Hierarchies the bulk finish isn't applicable to, see {@link BulkHierarchyFinisher#isApplicable(HierarchyScope)},
+	 * are processed page by page.
+	 */
+	private int finishDescendantsInBulk(T entity, HierarchyScope scope, Long projectId, StatusEnum status, LocalDateTime endTime) {
+		Long issueTypeId = getIssueType(isIssueRequired(status, entity), projectId, TO_INVESTIGATE.getLocator()).map(IssueType::getId)
+				.orElse(null);
+		return bulkHierarchyFinisher.finish(scope, status, endTime, issueTypeId);
+	}
+
 	private int updateDescendantsWithoutChildren(T entity, Long projectId, StatusEnum status, LocalDateTime endTime, ReportPortalUser user) {
 		AtomicInteger updatedCount = new AtomicInteger(0);
 		getIssueType(isIssueRequired(status, entity),
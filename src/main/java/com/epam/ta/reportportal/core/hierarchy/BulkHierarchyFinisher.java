@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.hierarchy;
+
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import org.apache.commons.lang3.BooleanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.core.hierarchy.AbstractFinishHierarchyHandler.ATTRIBUTE_KEY_STATUS;
+import static com.epam.ta.reportportal.core.hierarchy.AbstractFinishHierarchyHandler.ATTRIBUTE_VALUE_INTERRUPTED;
+import static com.epam.ta.reportportal.entity.enums.TestItemTypeEnum.SUITE;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Finishes all the in progress items of a hierarchy with a few set-based statements instead of item by item processing.
+ * Items without children are finished with the provided status by a single statement that also adds the 'interrupted'
+ * attribute and the default issue. Items with children are finished level by level from the deepest one,
+ * so the status of every parent is resolved from the already finished children.
+ * <p>
+ * Parent statuses are not updated afterwards like {@link com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler} does,
+ * and the retries are not taken into account, so the result is the same as of the page by page processing only for the hierarchies
+ * checked by {@link #isApplicable(HierarchyScope)}.
+ */
+@Component
+public class BulkHierarchyFinisher {
+
+	private static final String SUITE_LEVEL_TYPES = Arrays.stream(TestItemTypeEnum.values())
+			.filter(SUITE::sameLevel)
+			.map(type -> "'" + type.name() + "'")
+			.collect(Collectors.joining(", "));
+
+	private static final String FINISH_WITHOUT_CHILDREN = "WITH items AS (SELECT ti.item_id, ti.has_stats, ti.type FROM test_item ti "
+			+ "JOIN test_item_results tir ON ti.item_id = tir.result_id WHERE %s AND NOT ti.has_children AND tir.status = 'IN_PROGRESS'), "
+			+ "finished AS (UPDATE test_item_results tir SET status = cast(? AS STATUS_ENUM), end_time = ? FROM items "
+			+ "WHERE tir.result_id = items.item_id RETURNING tir.result_id), "
+			+ "attributes AS (INSERT INTO item_attribute (key, value, item_id, system) SELECT ?, ?, items.item_id, FALSE FROM items)"
+			+ "%s SELECT count(*) FROM finished";
+
+	private static final String ATTACH_ISSUE = ", issues AS (INSERT INTO issue (issue_id, issue_type, auto_analyzed, ignore_analyzer) "
+			+ "SELECT items.item_id, ?, FALSE, FALSE FROM items WHERE items.has_stats AND items.type NOT IN (" + SUITE_LEVEL_TYPES + ") "
+			+ "AND NOT exists(SELECT 1 FROM issue i WHERE i.issue_id = items.item_id))";
+
+	private static final String PARENT_LEVELS = "SELECT DISTINCT nlevel(ti.path) AS level FROM test_item ti "
+			+ "JOIN test_item_results tir ON ti.item_id = tir.result_id WHERE %s AND ti.has_children AND tir.status = 'IN_PROGRESS' "
+			+ "ORDER BY level DESC";
+
+	private static final String FINISH_WITH_CHILDREN = "WITH items AS (SELECT ti.item_id FROM test_item ti "
+			+ "JOIN test_item_results tir ON ti.item_id = tir.result_id "
+			+ "WHERE %s AND ti.has_children AND tir.status = 'IN_PROGRESS' AND nlevel(ti.path) = ?), "
+			+ "finished AS (UPDATE test_item_results tir SET status = CASE WHEN exists(SELECT 1 FROM test_item child "
+			+ "JOIN test_item_results child_results ON child.item_id = child_results.result_id WHERE child.parent_id = tir.result_id "
+			+ "AND child.retry_of IS NULL AND child_results.status NOT IN ('PASSED', 'INFO', 'WARN')) "
+			+ "THEN cast('FAILED' AS STATUS_ENUM) ELSE cast('PASSED' AS STATUS_ENUM) END, end_time = ? FROM items "
+			+ "WHERE tir.result_id = items.item_id RETURNING tir.result_id), "
+			+ "attributes AS (INSERT INTO item_attribute (key, value, item_id, system) SELECT ?, ?, items.item_id, FALSE FROM items) "
+			+ "SELECT count(*) FROM finished";
+
+	/**
+	 * Retries, in progress items under a finished parent and in progress items under a parent with an issue,
+	 * the ancestors of such items are changed by the page by page processing
+	 */
+	private static final String NOT_APPLICABLE_ITEMS = "SELECT exists(SELECT 1 FROM test_item ti "
+			+ "JOIN test_item_results tir ON ti.item_id = tir.result_id WHERE %s AND (ti.has_retries OR ti.retry_of IS NOT NULL "
+			+ "OR NOT ti.has_children AND tir.status = 'IN_PROGRESS' AND exists(SELECT 1 FROM test_item_results parent_results "
+			+ "WHERE parent_results.result_id = ti.parent_id AND (parent_results.status != 'IN_PROGRESS' "
+			+ "OR exists(SELECT 1 FROM issue i WHERE i.issue_id = ti.parent_id)))))";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public BulkHierarchyFinisher(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param scope {@link HierarchyScope} of the items to finish
+	 * @return 'true' if the hierarchy has no retries and all the parents of its in progress items are in progress and have no issue
+	 */
+	public boolean isApplicable(HierarchyScope scope) {
+		return BooleanUtils.isFalse(jdbcTemplate.queryForObject(String.format(NOT_APPLICABLE_ITEMS, scope.getCondition()),
+				scope.getParams(),
+				Boolean.class
+		));
+	}
+
+	/**
+	 * @param scope       {@link HierarchyScope} of the items to finish
+	 * @param status      Status of the items without children
+	 * @param endTime     End time of the finished items
+	 * @param issueTypeId Id of the issue type attached to the finished items without children, if required
+	 * @return Number of the finished items
+	 */
+	public int finish(HierarchyScope scope, StatusEnum status, LocalDateTime endTime, @Nullable Long issueTypeId) {
+		return finishWithoutChildren(scope, status, endTime, issueTypeId) + finishWithChildren(scope, endTime);
+	}
+
+	private int finishWithoutChildren(HierarchyScope scope, StatusEnum status, LocalDateTime endTime, @Nullable Long issueTypeId) {
+		List<Object> params = new ArrayList<>(Arrays.asList(scope.getParams()));
+		params.add(status.name());
+		params.add(Timestamp.valueOf(endTime));
+		params.add(ATTRIBUTE_KEY_STATUS);
+		params.add(ATTRIBUTE_VALUE_INTERRUPTED);
+		ofNullable(issueTypeId).ifPresent(params::add);
+		String query = String.format(FINISH_WITHOUT_CHILDREN, scope.getCondition(), issueTypeId == null ? "" : ATTACH_ISSUE);
+		return ofNullable(jdbcTemplate.queryForObject(query, params.toArray(), Integer.class)).orElse(0);
+	}
+
+	private int finishWithChildren(HierarchyScope scope, LocalDateTime endTime) {
+		List<Integer> levels = jdbcTemplate.queryForList(String.format(PARENT_LEVELS, scope.getCondition()),
+				scope.getParams(),
+				Integer.class
+		);
+		int finished = 0;
+		for (Integer level : levels) {
+			List<Object> params = new ArrayList<>(Arrays.asList(scope.getParams()));
+			params.add(level);
+			params.add(Timestamp.valueOf(endTime));
+			params.add(ATTRIBUTE_KEY_STATUS);
+			params.add(ATTRIBUTE_VALUE_INTERRUPTED);
+			finished += ofNullable(jdbcTemplate.queryForObject(String.format(FINISH_WITH_CHILDREN, scope.getCondition()),
+					params.toArray(),
+					Integer.class
+			)).orElse(0);
+		}
+		return finished;
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.hierarchy;
+
+/**
+ * SQL condition over the {@code test_item ti} alias that selects descendants to be finished
+ */
+public class HierarchyScope {
+
+	private final String condition;
+
+	private final Object[] params;
+
+	public HierarchyScope(String condition, Object... params) {
+		this.condition = condition;
+		this.params = params;
+	}
+
+	public static HierarchyScope ofLaunch(Long launchId) {
+		return new HierarchyScope("ti.launch_id = ?", launchId);
+	}
+
+	public static HierarchyScope ofDescendants(Long itemId, String path) {
+		return new HierarchyScope("ti.path <@ cast(? AS LTREE) AND ti.item_id != ?", path, itemId);
+	}
+
+	public String getCondition() {
+		return condition;
+	}
+
+	public Object[] getParams() {
+		return params;
+	}
+}
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.hierarchy.impl;
 
 import com.epam.ta.reportportal.core.hierarchy.AbstractFinishHierarchyHandler;
+import com.epam.ta.reportportal.core.hierarchy.HierarchyScope;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
 import com.epam.ta.reportportal.dao.IssueEntityRepository;
@@ -26,6 +27,7 @@ import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -40,6 +42,9 @@ import static com.epam.ta.reportportal.entity.enums.StatusEnum.FAILED;
 @Service("finishLaunchHierarchyHandler")
 public class FinishLaunchHierarchyHandler extends AbstractFinishHierarchyHandler<Launch> {
 
+	@Value("${rp.environment.variable.finish-hierarchy.bulk.launch:false}")
+	private boolean bulkFinishEnabled;
+
 	@Autowired
 	public FinishLaunchHierarchyHandler(LaunchRepository launchRepository, TestItemRepository testItemRepository,
 			ItemAttributeRepository itemAttributeRepository, IssueTypeHandler issueTypeHandler, IssueEntityRepository issueEntityRepository,
@@ -67,4 +72,14 @@ public class FinishLaunchHierarchyHandler extends AbstractFinishHierarchyHandler
 				);
 	}
 
+	@Override
+	protected boolean isBulkFinishEnabled() {
+		return bulkFinishEnabled;
+	}
+
+	@Override
+	protected HierarchyScope getHierarchyScope(Launch launch) {
+		return HierarchyScope.ofLaunch(launch.getId());
+	}
+
 }
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.hierarchy.impl;
 
 import com.epam.ta.reportportal.core.hierarchy.AbstractFinishHierarchyHandler;
+import com.epam.ta.reportportal.core.hierarchy.HierarchyScope;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
 import com.epam.ta.reportportal.dao.IssueEntityRepository;
@@ -25,6 +26,7 @@ import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.item.TestItem;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -40,6 +42,9 @@ import static java.util.Optional.ofNullable;
 @Service("finishTestItemHierarchyHandler")
 public class FinishTestItemHierarchyHandler extends AbstractFinishHierarchyHandler<TestItem> {
 
+	@Value("${rp.environment.variable.finish-hierarchy.bulk.item:false}")
+	private boolean bulkFinishEnabled;
+
 	public FinishTestItemHierarchyHandler(LaunchRepository launchRepository, TestItemRepository testItemRepository,
 			ItemAttributeRepository itemAttributeRepository, IssueEntityRepository issueEntityRepository, IssueTypeHandler issueTypeHandler,
 			ChangeStatusHandler changeStatusHandler) {
@@ -67,4 +72,14 @@ public class FinishTestItemHierarchyHandler extends AbstractFinishHierarchyHandl
 				);
 	}
 
+	@Override
+	protected boolean isBulkFinishEnabled() {
+		return bulkFinishEnabled;
+	}
+
+	@Override
+	protected HierarchyScope getHierarchyScope(TestItem testItem) {
+		return HierarchyScope.ofDescendants(testItem.getItemId(), testItem.getPath());
+	}
+
 }
@@ -4,7 +4,9 @@ import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,6 +39,29 @@ public class IdentityUtil {
 		return getIds(testItem.getPath(), true);
 	}
 
+	/**
+	 * Finds the provided {@link TestItem} or its closest ancestor among the requested ids
+	 *
+	 * @param testItem     {@link TestItem}
+	 * @param requestedIds Ids to search among
+	 * @return Id of the item itself or of its closest requested ancestor parsed from {@link TestItem#getPath()}
+	 */
+	public static Optional<Long> findClosestRequestedId(TestItem testItem, Collection<Long> requestedIds) {
+		if (requestedIds.contains(testItem.getItemId())) {
+			return Optional.of(testItem.getItemId());
+		}
+		if (testItem.getPath() == null) {
+			return Optional.empty();
+		}
+		List<Long> treeIds = getItemTreeIds(testItem);
+		for (int i = treeIds.size() - 1; i >= 0; i--) {
+			if (requestedIds.contains(treeIds.get(i))) {
+				return Optional.of(treeIds.get(i));
+			}
+		}
+		return Optional.empty();
+	}
+
 	private static List<Long> getIds(String path, boolean includeLast) {
 		String[] ids = path.split("\\.");
 		return Stream.of(ids).limit(includeLast ? ids.length : ids.length - 1).map(id -> {
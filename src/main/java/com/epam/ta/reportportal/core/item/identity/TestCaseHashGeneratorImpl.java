@@ -16,16 +16,13 @@
 
 package com.epam.ta.reportportal.core.item.identity;
 
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.google.api.client.util.Lists;
 import com.google.common.base.Strings;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -33,10 +30,10 @@ import java.util.stream.Collectors;
 @Service
 public class TestCaseHashGeneratorImpl implements TestCaseHashGenerator {
 
-	private final TestItemRepository testItemRepository;
+	private final TestItemPathNameCache pathNameCache;
 
-	public TestCaseHashGeneratorImpl(TestItemRepository testItemRepository) {
-		this.testItemRepository = testItemRepository;
+	public TestCaseHashGeneratorImpl(TestItemPathNameCache pathNameCache) {
+		this.pathNameCache = pathNameCache;
 	}
 
 	@Override
@@ -48,7 +45,7 @@ public class TestCaseHashGeneratorImpl implements TestCaseHashGenerator {
 		List<CharSequence> elements = Lists.newArrayList();
 
 		elements.add(projectId.toString());
-		getPathNames(parentIds).stream().filter(StringUtils::isNotEmpty).forEach(elements::add);
+		pathNameCache.getPathNames(parentIds).stream().filter(StringUtils::isNotEmpty).forEach(elements::add);
 		elements.add(item.getName());
 		item.getParameters()
 				.stream()
@@ -57,12 +54,4 @@ public class TestCaseHashGeneratorImpl implements TestCaseHashGenerator {
 
 		return String.join(";", elements);
 	}
-
-	private List<String> getPathNames(List<Long> parentIds) {
-		return testItemRepository.findAllById(parentIds)
-				.stream()
-				.sorted(Comparator.comparingLong(TestItem::getItemId))
-				.map(TestItem::getName)
-				.collect(Collectors.toList());
-	}
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.identity;
+
+import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of test item names used to build path names of the item parents for
+ * {@link UniqueIdGenerator} and {@link TestCaseHashGenerator}.
+ * Names are cached when items are started and evicted when their launch is finished,
+ * items of the launches that are never finished expire after {@link #CACHE_ITEM_LIVE} minutes of inactivity.
+ */
+@Service
+public class TestItemPathNameCache {
+
+	private static final int CACHE_ITEM_LIVE = 30;
+	private static final int MAXIMUM_SIZE = 200000;
+
+	private final TestItemRepository testItemRepository;
+
+	/**
+	 * itemId - item name
+	 */
+	private final Cache<Long, String> names;
+
+	/**
+	 * launchId - ids of the cached items of the launch
+	 */
+	private final Cache<Long, Set<Long>> launchItems;
+
+	@Autowired
+	public TestItemPathNameCache(TestItemRepository testItemRepository) {
+		this.testItemRepository = testItemRepository;
+		this.names = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterAccess(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
+		this.launchItems = CacheBuilder.newBuilder().expireAfterAccess(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
+	}
+
+	/**
+	 * Caches name of the started item
+	 *
+	 * @param item Saved {@link TestItem}
+	 */
+	public void put(TestItem item) {
+		if (item.getItemId() == null || item.getName() == null) {
+			return;
+		}
+		names.put(item.getItemId(), item.getName());
+		if (item.getLaunchId() != null) {
+			launchItems.asMap().computeIfAbsent(item.getLaunchId(), id -> ConcurrentHashMap.newKeySet()).add(item.getItemId());
+		}
+	}
+
+	/**
+	 * Returns names of the items ordered by item id, so parents go before their children.
+	 * Only names missing in cache are loaded from the database.
+	 *
+	 * @param parentIds Ids of the item parents
+	 * @return Path names
+	 */
+	public List<String> getPathNames(List<Long> parentIds) {
+		Map<Long, String> pathNames = new HashMap<>(names.getAllPresent(parentIds));
+		if (pathNames.size() < parentIds.size()) {
+			List<Long> missingIds = parentIds.stream().filter(id -> !pathNames.containsKey(id)).distinct().collect(Collectors.toList());
+			testItemRepository.findAllById(missingIds).forEach(item -> {
+				put(item);
+				pathNames.put(item.getItemId(), item.getName());
+			});
+		}
+		return pathNames.entrySet()
+				.stream()
+				.sorted(Map.Entry.comparingByKey())
+				.map(Map.Entry::getValue)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Evicts names of all the cached items of the launch
+	 *
+	 * @param launchId Launch id
+	 */
+	public void evictLaunch(Long launchId) {
+		Optional.ofNullable(launchItems.asMap().remove(launchId)).ifPresent(names::invalidateAll);
+	}
+
+	@EventListener
+	public void onLaunchFinished(LaunchFinishedEvent event) {
+		evictLaunch(event.getLaunchActivityResource().getId());
+	}
+}
@@ -16,7 +16,6 @@
 
 package com.epam.ta.reportportal.core.item.identity;
 
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.Parameter;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -26,7 +25,6 @@ import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.StringJoiner;
@@ -45,11 +43,11 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 
 	private static final String TRAIT = "auto:";
 
-	private TestItemRepository testItemRepository;
+	private TestItemPathNameCache pathNameCache;
 
 	@Autowired
-	public void setTestItemRepository(TestItemRepository testItemRepository) {
-		this.testItemRepository = testItemRepository;
+	public void setPathNameCache(TestItemPathNameCache pathNameCache) {
+		this.pathNameCache = pathNameCache;
 	}
 
 	@Override
@@ -66,7 +64,7 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 	private String prepareForEncoding(TestItem testItem, List<Long> parentIds, Launch launch) {
 		Long projectId = launch.getProjectId();
 		String launchName = launch.getName();
-		List<String> pathNames = getPathNames(parentIds);
+		List<String> pathNames = pathNameCache.getPathNames(parentIds);
 		String itemName = testItem.getName();
 		StringJoiner joiner = new StringJoiner(";");
 		joiner.add(projectId.toString()).add(launchName);
@@ -82,12 +80,4 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 		}
 		return joiner.toString();
 	}
-
-	private List<String> getPathNames(List<Long> parentIds) {
-		return testItemRepository.findAllById(parentIds)
-				.stream()
-				.sorted(Comparator.comparingLong(TestItem::getItemId))
-				.map(TestItem::getName)
-				.collect(Collectors.toList());
-	}
 }
\ No newline at end of file
@@ -60,7 +60,7 @@ public class FinishTestItemHandlerAsyncImpl implements FinishTestItemHandler {
 				reportingQueueService.getReportingQueueKey(ofNullable(request.getLaunchUuid()).filter(StringUtils::isNotEmpty)
 						.orElseThrow(() -> new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
 								"Launch UUID should not be null or empty."
-						))),
+						)), projectDetails.getProjectId()),
 				request,
 				message -> {
 					Map<String, Object> headers = message.getMessageProperties().getHeaders();
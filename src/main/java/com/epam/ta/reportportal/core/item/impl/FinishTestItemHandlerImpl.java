@@ -26,6 +26,8 @@ import com.epam.ta.reportportal.core.item.ExternalTicketHandler;
 import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
 import com.epam.ta.reportportal.core.item.impl.retry.RetriesHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
+import com.epam.ta.reportportal.core.item.impl.status.ChildStatusCounters;
+import com.epam.ta.reportportal.core.item.impl.status.ChildStatusCountersProvider;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
 import com.epam.ta.reportportal.dao.IssueEntityRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
@@ -112,13 +114,15 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 
 	private final ExternalTicketHandler externalTicketHandler;
 
+	private final ChildStatusCountersProvider childStatusCountersProvider;
+
 	@Autowired
 	FinishTestItemHandlerImpl(TestItemRepository testItemRepository, IssueTypeHandler issueTypeHandler,
 			@Qualifier("finishTestItemHierarchyHandler") FinishHierarchyHandler<TestItem> finishHierarchyHandler, LogIndexer logIndexer,
 			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping, IssueEntityRepository issueEntityRepository,
 			LogRepository logRepository, ChangeStatusHandler changeStatusHandler, ApplicationEventPublisher eventPublisher,
 			LaunchRepository launchRepository, @Qualifier("uniqueIdRetriesHandler") RetriesHandler retriesHandler, MessageBus messageBus,
-			ExternalTicketHandler externalTicketHandler) {
+			ExternalTicketHandler externalTicketHandler, ChildStatusCountersProvider childStatusCountersProvider) {
 		this.testItemRepository = testItemRepository;
 		this.issueTypeHandler = issueTypeHandler;
 		this.finishHierarchyHandler = finishHierarchyHandler;
@@ -132,6 +136,7 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 		this.retriesHandler = retriesHandler;
 		this.messageBus = messageBus;
 		this.externalTicketHandler = externalTicketHandler;
+		this.childStatusCountersProvider = childStatusCountersProvider;
 	}
 
 	@Override
@@ -254,16 +259,17 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 		TestItemResults testItemResults = testItem.getItemResults();
 		Optional<StatusEnum> actualStatus = fromValue(finishTestItemRQ.getStatus());
 
-		if (testItemRepository.hasItemsInStatusByParent(testItem.getItemId(), testItem.getPath(), IN_PROGRESS.name())) {
+		ChildStatusCounters childStatusCounters = getChildStatusCounters(testItem);
+		if (childStatusCounters.hasInProgress()) {
 			finishHierarchyHandler.finishDescendants(testItem,
 					actualStatus.orElse(INTERRUPTED),
 					finishTestItemRQ.getEndTime(),
 					user,
 					projectDetails
 			);
-			testItemResults.setStatus(resolveStatus(testItem.getItemId()));
+			testItemResults.setStatus(getChildStatusCounters(testItem).resolveStatus());
 		} else {
-			testItemResults.setStatus(actualStatus.orElseGet(() -> resolveStatus(testItem.getItemId())));
+			testItemResults.setStatus(actualStatus.orElseGet(childStatusCounters::resolveStatus));
 		}
 
 		testItem.getAttributes()
@@ -311,8 +317,8 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 		return testItemResults;
 	}
 
-	private StatusEnum resolveStatus(Long itemId) {
-		return testItemRepository.hasDescendantsNotInStatus(itemId, PASSED.name(), INFO.name(), WARN.name()) ? FAILED : PASSED;
+	private ChildStatusCounters getChildStatusCounters(TestItem testItem) {
+		return childStatusCountersProvider.load(Collections.singletonList(testItem.getItemId())).get(testItem.getItemId());
 	}
 
 	private boolean isIssueRequired(TestItem testItem, StatusEnum status) {
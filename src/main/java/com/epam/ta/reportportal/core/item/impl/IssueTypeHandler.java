@@ -17,22 +17,48 @@
 package com.epam.ta.reportportal.core.item.impl;
 
 import com.epam.ta.reportportal.commons.EntityUtils;
+import com.epam.ta.reportportal.core.events.cache.EvictableCache;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.issue.IssueType;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
 import static com.epam.ta.reportportal.ws.model.ErrorType.FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 
 /**
+ * Issue types of a project are cached by locator on the first request and kept until the project's issue types are changed.
+ * Entries are invalidated with {@link com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent} by project id.
+ *
  * @author Pavel Bortnik
  */
 @Service
-public class IssueTypeHandler {
+public class IssueTypeHandler implements EvictableCache {
+
+	public static final String NAME = "issueTypes";
+
+	private static final int MAX_PROJECTS = 10000;
+
+	/**
+	 * Upper bound of the cached issue types lifetime if an eviction event is lost
+	 */
+	private static final int EXPIRATION_HOURS = 1;
+
+	private final Cache<Long, Map<String, IssueType>> issueTypes = CacheBuilder.newBuilder()
+			.maximumSize(MAX_PROJECTS)
+			.expireAfterWrite(EXPIRATION_HOURS, TimeUnit.HOURS)
+			.build();
 
 	private TestItemRepository testItemRepository;
 
@@ -50,14 +76,50 @@ public class IssueTypeHandler {
 	 * @return verified issue type
 	 */
 	public IssueType defineIssueType(Long projectId, String locator) {
-		return testItemRepository.selectIssueTypeByLocator(
-				projectId,
-				ofNullable(locator).map(EntityUtils::normalizeId).orElseThrow(() -> new ReportPortalException("Locator should not be null"))
-		).orElseThrow(() -> new ReportPortalException(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, formattedSupplier(
-				"Invalid test item issue type definition '{}' is requested. Valid issue types' locators are: {}",
-				locator,
-				testItemRepository.selectIssueLocatorsByProject(projectId).stream().map(IssueType::getLocator).collect(toList())
-		)));
+		String normalizedLocator = ofNullable(locator).map(EntityUtils::normalizeId)
+				.orElseThrow(() -> new ReportPortalException("Locator should not be null"));
+		Map<String, IssueType> projectIssueTypes = getProjectIssueTypes(projectId);
+		IssueType issueType = projectIssueTypes.get(normalizedLocator);
+		if (issueType != null) {
+			return issueType;
+		}
+		/* Issue type could be created after the project was cached and before the eviction event was received */
+		issueType = testItemRepository.selectIssueTypeByLocator(projectId, normalizedLocator)
+				.orElseThrow(() -> new ReportPortalException(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, formattedSupplier(
+						"Invalid test item issue type definition '{}' is requested. Valid issue types' locators are: {}",
+						locator,
+						projectIssueTypes.values().stream().map(IssueType::getLocator).collect(toList())
+				)));
+		projectIssueTypes.put(normalizedLocator, issueType);
+		return issueType;
+	}
+
+	private Map<String, IssueType> getProjectIssueTypes(Long projectId) {
+		try {
+			return issueTypes.get(projectId, () -> {
+				Map<String, IssueType> types = new ConcurrentHashMap<>();
+				testItemRepository.selectIssueLocatorsByProject(projectId)
+						.forEach(issueType -> types.put(EntityUtils.normalizeId(issueType.getLocator()), issueType));
+				return types;
+			});
+		} catch (ExecutionException e) {
+			throw new ReportPortalException(e.getCause().getMessage(), e.getCause());
+		}
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public void evict(Set<String> keys) {
+		keys.forEach(key -> issueTypes.invalidate(Long.valueOf(key)));
+	}
+
+	@Override
+	public void evictAll() {
+		issueTypes.invalidateAll();
 	}
 
 }
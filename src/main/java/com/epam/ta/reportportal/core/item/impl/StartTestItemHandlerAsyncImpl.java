@@ -54,7 +54,7 @@ class StartTestItemHandlerAsyncImpl implements StartTestItemHandler {
 		// todo: may be problem - no access to repository, so no possibility to validateRoles() here
 		request.setUuid(Optional.ofNullable(request.getUuid()).orElse(UUID.randomUUID().toString()));
 		amqpTemplate.convertAndSend(EXCHANGE_REPORTING,
-				reportingQueueService.getReportingQueueKey(request.getLaunchUuid()),
+				reportingQueueService.getReportingQueueKey(request.getLaunchUuid(), projectDetails.getProjectId()),
 				request,
 				message -> {
 					Map<String, Object> headers = message.getMessageProperties().getHeaders();
@@ -79,7 +79,7 @@ class StartTestItemHandlerAsyncImpl implements StartTestItemHandler {
 		request.setUuid(Optional.ofNullable(request.getUuid()).orElse(UUID.randomUUID().toString()));
 		amqpTemplate.convertAndSend(
 				EXCHANGE_REPORTING,
-				reportingQueueService.getReportingQueueKey(request.getLaunchUuid()),
+				reportingQueueService.getReportingQueueKey(request.getLaunchUuid(), projectDetails.getProjectId()),
 				request,
 				message -> {
 					Map<String, Object> headers = message.getMessageProperties().getHeaders();
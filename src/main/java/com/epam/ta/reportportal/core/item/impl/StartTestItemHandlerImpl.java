@@ -22,6 +22,7 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.item.StartTestItemHandler;
 import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
 import com.epam.ta.reportportal.core.item.identity.TestCaseHashGenerator;
+import com.epam.ta.reportportal.core.item.identity.TestItemPathNameCache;
 import com.epam.ta.reportportal.core.item.identity.UniqueIdGenerator;
 import com.epam.ta.reportportal.core.item.impl.retry.RetriesHandler;
 import com.epam.ta.reportportal.core.launch.rerun.RerunHandler;
@@ -80,16 +81,19 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 
 	private final RetriesHandler retriesHandler;
 
+	private final TestItemPathNameCache pathNameCache;
+
 	@Autowired
 	public StartTestItemHandlerImpl(TestItemRepository testItemRepository, LaunchRepository launchRepository,
 			UniqueIdGenerator uniqueIdGenerator, TestCaseHashGenerator testCaseHashGenerator, RerunHandler rerunHandler,
-			@Qualifier("uniqueIdRetriesHandler") RetriesHandler retriesHandler) {
+			@Qualifier("uniqueIdRetriesHandler") RetriesHandler retriesHandler, TestItemPathNameCache pathNameCache) {
 		this.testItemRepository = testItemRepository;
 		this.launchRepository = launchRepository;
 		this.uniqueIdGenerator = uniqueIdGenerator;
 		this.testCaseHashGenerator = testCaseHashGenerator;
 		this.rerunHandler = rerunHandler;
 		this.retriesHandler = retriesHandler;
+		this.pathNameCache = pathNameCache;
 	}
 
 	@Override
@@ -107,6 +111,7 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 
 		TestItem item = new TestItemBuilder().addStartItemRequest(rq).addAttributes(rq.getAttributes()).addLaunchId(launch.getId()).get();
 		testItemRepository.save(item);
+		pathNameCache.put(item);
 		generateUniqueId(launch, item, String.valueOf(item.getItemId()));
 
 		LOGGER.debug("Created new root TestItem {}", item.getUuid());
@@ -167,6 +172,7 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 	private TestItem saveChildItem(Launch launch, TestItem childItem, TestItem parentItem) {
 		childItem.setParentId(parentItem.getItemId());
 		testItemRepository.save(childItem);
+		pathNameCache.put(childItem);
 		generateUniqueId(launch, childItem, parentItem.getPath() + "." + childItem.getItemId());
 		return childItem;
 	}
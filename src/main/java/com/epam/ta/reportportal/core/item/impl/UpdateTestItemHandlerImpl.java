@@ -24,10 +24,12 @@ import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ItemIssueTypeDefinedEvent;
 import com.epam.ta.reportportal.core.events.activity.LinkTicketEvent;
 import com.epam.ta.reportportal.core.events.activity.TestItemStatusChangedEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.item.ExternalTicketHandler;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.item.UpdateTestItemHandler;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.ItemAttribute;
 import com.epam.ta.reportportal.entity.activity.ActivityAction;
@@ -64,6 +66,7 @@ import com.google.common.collect.Lists;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -116,11 +119,13 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 	private final Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public UpdateTestItemHandlerImpl(TestItemService testItemService, ProjectRepository projectRepository, LaunchRepository launchRepository,
 			TestItemRepository testItemRepository, LogRepository logRepository, ExternalTicketHandler externalTicketHandler,
 			IssueTypeHandler issueTypeHandler, MessageBus messageBus, LogIndexer logIndexer, IssueEntityRepository issueEntityRepository,
-			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping) {
+			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping, ApplicationEventPublisher eventPublisher) {
 		this.testItemService = testItemService;
 		this.projectRepository = projectRepository;
 		this.testItemRepository = testItemRepository;
@@ -131,6 +136,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		this.logIndexer = logIndexer;
 		this.issueEntityRepository = issueEntityRepository;
 		this.statusChangingStrategyMapping = statusChangingStrategyMapping;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -212,6 +218,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 			logIndexer.cleanIndex(project.getId(), logIdsToCleanIndex);
 		}
 		events.forEach(messageBus::publishActivity);
+		evictWidgetContent(project.getId());
 		return updated;
 	}
 
@@ -245,6 +252,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 					user.getUserId(),
 					user.getUsername()
 			));
+			evictWidgetContent(projectDetails.getProjectId());
 		}
 		testItem = new TestItemBuilder(testItem).overwriteAttributes(rq.getAttributes()).addDescription(rq.getDescription()).get();
 		testItemRepository.save(testItem);
@@ -294,9 +302,17 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 				user.getUsername(),
 				ActivityAction.LINK_ISSUE
 		)));
+		evictWidgetContent(projectDetails.getProjectId());
 		return testItems.stream().map(TestItem::getItemId).map(COMPOSE_UPDATE_RESPONSE).collect(toList());
 	}
 
+	/**
+	 * Widget content is cached per project, so the cached content of the project is evicted after the issues or statuses are changed
+	 */
+	private void evictWidgetContent(Long projectId) {
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(WidgetContentCache.NAME, Collections.singleton(projectId)));
+	}
+
 	private static final Function<Long, OperationCompletionRS> COMPOSE_UPDATE_RESPONSE = it -> {
 		String message = formattedSupplier("TestItem with ID = '{}' successfully updated.", it).get();
 		return new OperationCompletionRS(message);
@@ -341,6 +357,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 				messageBus.publishActivity(event);
 			}
 		});
+		evictWidgetContent(projectId);
 	}
 
 	@Override
@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.item.impl.status;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.TestItemStatusChangedEvent;
+import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
 import com.epam.ta.reportportal.dao.IssueEntityRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -32,8 +33,12 @@ import com.google.common.collect.Lists;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.entity.enums.StatusEnum.*;
 import static com.epam.ta.reportportal.ws.converter.converters.TestItemConverter.TO_ACTIVITY_RESOURCE;
@@ -50,50 +55,79 @@ public class ChangeStatusHandlerImpl implements ChangeStatusHandler {
 	private final MessageBus messageBus;
 	private final LaunchRepository launchRepository;
 	private final Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping;
+	private final ChildStatusCountersProvider childStatusCountersProvider;
 
 	@Autowired
 	public ChangeStatusHandlerImpl(TestItemRepository testItemRepository, IssueEntityRepository issueEntityRepository,
 			MessageBus messageBus, LaunchRepository launchRepository,
-			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping) {
+			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping, ChildStatusCountersProvider childStatusCountersProvider) {
 		this.testItemRepository = testItemRepository;
 		this.issueEntityRepository = issueEntityRepository;
 		this.messageBus = messageBus;
 		this.launchRepository = launchRepository;
 		this.statusChangingStrategyMapping = statusChangingStrategyMapping;
+		this.childStatusCountersProvider = childStatusCountersProvider;
 	}
 
+	/**
+	 * Resolves statuses of the item ancestors bottom-up, while status of the current ancestor is changed.
+	 * Ancestors and their child status counters are loaded once, the counters are kept up to date in memory
+	 * as the statuses change, and the changed ancestors are saved together.
+	 */
 	@Override
 	public void changeParentStatus(TestItem childItem, Long projectId, ReportPortalUser user) {
-		ofNullable(childItem.getParentId()).flatMap(testItemRepository::findById).ifPresent(parent -> {
+		List<Long> ancestorIds = getAncestorIds(childItem);
+		if (ancestorIds.isEmpty()) {
+			return;
+		}
+		Map<Long, TestItem> ancestors = testItemRepository.findAllById(ancestorIds)
+				.stream()
+				.collect(Collectors.toMap(TestItem::getItemId, Function.identity()));
+		Map<Long, ChildStatusCounters> counters = childStatusCountersProvider.load(ancestors.keySet());
+
+		List<TestItem> changedItems = Lists.newArrayList();
+		for (int i = ancestorIds.size() - 1; i >= 0; i--) {
+			TestItem parent = ancestors.get(ancestorIds.get(i));
+			if (parent == null) {
+				break;
+			}
 			if (parent.isHasChildren()) {
 				ofNullable(parent.getItemResults().getIssue()).map(IssueEntity::getIssueId).ifPresent(issueEntityRepository::deleteById);
 			}
-			if (isParentStatusUpdateRequired(parent)) {
-				StatusEnum resolvedStatus = resolveStatus(parent.getItemId());
-				if (parent.getItemResults().getStatus() != resolvedStatus) {
-					TestItemActivityResource before = TO_ACTIVITY_RESOURCE.apply(parent, projectId);
-					changeStatus(parent, resolvedStatus, user);
-					messageBus.publishActivity(new TestItemStatusChangedEvent(before,
-							TO_ACTIVITY_RESOURCE.apply(parent, projectId),
-							user.getUserId(),
-							user.getUsername()
-					));
-					changeParentStatus(parent, projectId, user);
-				}
-
+			ChildStatusCounters parentCounters = counters.get(parent.getItemId());
+			StatusEnum oldStatus = parent.getItemResults().getStatus();
+			if (oldStatus == StatusEnum.IN_PROGRESS || parentCounters.hasInProgress()) {
+				break;
 			}
-		});
-	}
-
-	private boolean isParentStatusUpdateRequired(TestItem parent) {
-		return parent.getItemResults().getStatus() != StatusEnum.IN_PROGRESS
-				&& !testItemRepository.hasItemsInStatusByParent(parent.getItemId(), parent.getPath(), StatusEnum.IN_PROGRESS.name());
+			StatusEnum resolvedStatus = parentCounters.resolveStatus();
+			if (oldStatus == resolvedStatus) {
+				break;
+			}
+			TestItemActivityResource before = TO_ACTIVITY_RESOURCE.apply(parent, projectId);
+			changeStatus(parent, resolvedStatus, user);
+			messageBus.publishActivity(new TestItemStatusChangedEvent(before,
+					TO_ACTIVITY_RESOURCE.apply(parent, projectId),
+					user.getUserId(),
+					user.getUsername()
+			));
+			changedItems.add(parent);
+			ofNullable(parent.getParentId()).map(counters::get)
+					.ifPresent(grandParentCounters -> grandParentCounters.onChildStatusChanged(parent,
+							oldStatus,
+							parent.getItemResults().getStatus()
+					));
+		}
+		testItemRepository.saveAll(changedItems);
 	}
 
-	private StatusEnum resolveStatus(Long itemId) {
-		return testItemRepository.hasDescendantsNotInStatus(itemId, StatusEnum.PASSED.name(), INFO.name(), WARN.name()) ?
-				FAILED :
-				PASSED;
+	private List<Long> getAncestorIds(TestItem childItem) {
+		if (childItem.getParentId() == null) {
+			return Collections.emptyList();
+		}
+		if (childItem.getPath() != null) {
+			return IdentityUtil.getParentIds(childItem);
+		}
+		return testItemRepository.findById(childItem.getParentId()).map(IdentityUtil::getItemTreeIds).orElse(Collections.emptyList());
 	}
 
 	private void changeStatus(TestItem parent, StatusEnum resolvedStatus, ReportPortalUser user) {
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.status;
+
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.TestItem;
+
+import java.util.Objects;
+
+import static com.epam.ta.reportportal.entity.enums.StatusEnum.*;
+
+/**
+ * Counters of the direct children of a test item by status, used to resolve the item status
+ * without querying the database on every level of the hierarchy
+ */
+public class ChildStatusCounters {
+
+	private int inProgress;
+
+	private int notPassed;
+
+	public ChildStatusCounters() {
+	}
+
+	public ChildStatusCounters(int inProgress, int notPassed) {
+		this.inProgress = inProgress;
+		this.notPassed = notPassed;
+	}
+
+	public boolean hasInProgress() {
+		return inProgress > 0;
+	}
+
+	/**
+	 * @return {@link StatusEnum#FAILED} if there is a child, not a retry, with status other than PASSED, INFO or WARN,
+	 * {@link StatusEnum#PASSED} otherwise
+	 */
+	public StatusEnum resolveStatus() {
+		return notPassed > 0 ? FAILED : PASSED;
+	}
+
+	/**
+	 * Updates counters when status of a direct child is changed
+	 *
+	 * @param child     Direct child {@link TestItem}
+	 * @param oldStatus Status before the change
+	 * @param newStatus Status after the change
+	 */
+	public void onChildStatusChanged(TestItem child, StatusEnum oldStatus, StatusEnum newStatus) {
+		inProgress += (newStatus == IN_PROGRESS ? 1 : 0) - (oldStatus == IN_PROGRESS ? 1 : 0);
+		if (Objects.isNull(child.getRetryOf())) {
+			notPassed += (isNotPassed(newStatus) ? 1 : 0) - (isNotPassed(oldStatus) ? 1 : 0);
+		}
+	}
+
+	static boolean isNotPassed(StatusEnum status) {
+		return status != PASSED && status != INFO && status != WARN;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.status;
+
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Loads {@link ChildStatusCounters} of several test items with a single query
+ */
+@Component
+public class ChildStatusCountersProvider {
+
+	private static final String COUNTERS_QUERY = "SELECT ti.parent_id, "
+			+ "count(*) FILTER (WHERE tir.status = 'IN_PROGRESS') AS in_progress, "
+			+ "count(*) FILTER (WHERE tir.status NOT IN ('PASSED', 'INFO', 'WARN') AND ti.retry_of IS NULL) AS not_passed "
+			+ "FROM test_item ti JOIN test_item_results tir ON ti.item_id = tir.result_id "
+			+ "WHERE ti.parent_id IN (%s) GROUP BY ti.parent_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TestItemRepository testItemRepository;
+
+	@Autowired
+	public ChildStatusCountersProvider(JdbcTemplate jdbcTemplate, TestItemRepository testItemRepository) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.testItemRepository = testItemRepository;
+	}
+
+	/**
+	 * Pending changes of the persistence context are flushed first, otherwise the query doesn't see them.
+	 *
+	 * @param itemIds Ids of the parent items
+	 * @return itemId - counters, items without children get empty counters
+	 */
+	public Map<Long, ChildStatusCounters> load(Collection<Long> itemIds) {
+		if (itemIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		testItemRepository.flush();
+		Map<Long, ChildStatusCounters> counters = new HashMap<>(itemIds.size());
+		String placeholders = itemIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+		jdbcTemplate.query(String.format(COUNTERS_QUERY, placeholders), itemIds.toArray(), rs -> {
+			counters.put(rs.getLong("parent_id"), new ChildStatusCounters(rs.getInt("in_progress"), rs.getInt("not_passed")));
+		});
+		itemIds.forEach(id -> counters.putIfAbsent(id, new ChildStatusCounters()));
+		return counters;
+	}
+}
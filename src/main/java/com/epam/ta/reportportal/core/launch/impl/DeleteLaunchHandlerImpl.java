@@ -20,7 +20,10 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchDeletedEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
+import com.epam.ta.reportportal.core.events.cluster.PatternAnalysisCancelEvent;
 import com.epam.ta.reportportal.core.launch.DeleteLaunchHandler;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
@@ -33,8 +36,10 @@ import com.epam.ta.reportportal.ws.model.*;
 import com.google.common.collect.Lists;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -68,14 +73,17 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 
 	private final AttachmentRepository attachmentRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public DeleteLaunchHandlerImpl(LaunchRepository launchRepository, LogRepository logRepository, MessageBus messageBus,
-			LogIndexer logIndexer, AttachmentRepository attachmentRepository) {
+			LogIndexer logIndexer, AttachmentRepository attachmentRepository, ApplicationEventPublisher eventPublisher) {
 		this.launchRepository = launchRepository;
 		this.logRepository = logRepository;
 		this.messageBus = messageBus;
 		this.logIndexer = logIndexer;
 		this.attachmentRepository = attachmentRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	public OperationCompletionRS deleteLaunch(Long launchId, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
@@ -89,6 +97,8 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 		launchRepository.delete(launch);
 
 		attachmentRepository.moveForDeletionByLaunchId(launchId);
+		messageBus.broadcastEvent(new PatternAnalysisCancelEvent(Collections.singleton(launchId)));
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(WidgetContentCache.NAME, Collections.singleton(projectDetails.getProjectId())));
 
 		messageBus.publishActivity(new LaunchDeletedEvent(TO_ACTIVITY_RESOURCE.apply(launch), user.getUserId(), user.getUsername()));
 		return new OperationCompletionRS("Launch with ID = '" + launchId + "' successfully deleted.");
@@ -121,6 +131,10 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 			);
 			launchRepository.deleteAll(toDelete);
 			attachmentRepository.moveForDeletionByLaunchIds(launchIds);
+			messageBus.broadcastEvent(new PatternAnalysisCancelEvent(launchIds));
+			eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(WidgetContentCache.NAME,
+					toDelete.stream().map(Launch::getProjectId).collect(Collectors.toSet())
+			));
 		}
 
 		toDelete.stream()
@@ -51,7 +51,7 @@ public class FinishLaunchHandlerAsyncImpl implements FinishLaunchHandler {
 			ReportPortalUser user, String baseUrl) {
 
 		// todo: may be problem - no access to repository, so no possibility to validateRoles() here
-		amqpTemplate.convertAndSend(EXCHANGE_REPORTING, reportingQueueService.getReportingQueueKey(launchId), request, message -> {
+		amqpTemplate.convertAndSend(EXCHANGE_REPORTING, reportingQueueService.getReportingQueueKey(launchId, projectDetails.getProjectId()), request, message -> {
 			Map<String, Object> headers = message.getMessageProperties().getHeaders();
 			headers.put(MessageHeaders.REQUEST_TYPE, RequestType.FINISH_LAUNCH);
 			headers.put(MessageHeaders.USERNAME, user.getUsername());
@@ -19,8 +19,10 @@ package com.epam.ta.reportportal.core.launch.impl;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.hierarchy.FinishHierarchyHandler;
 import com.epam.ta.reportportal.core.launch.FinishLaunchHandler;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -35,6 +37,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static com.epam.ta.reportportal.core.launch.util.LaunchValidator.validate;
@@ -110,6 +113,8 @@ public class FinishLaunchHandlerImpl implements FinishLaunchHandler {
 		LaunchFinishedEvent event = new LaunchFinishedEvent(TO_ACTIVITY_RESOURCE.apply(launch), user, baseUrl);
 		messageBus.publishActivity(event);
 		eventPublisher.publishEvent(event);
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(WidgetContentCache.NAME,
+				Collections.singleton(projectDetails.getProjectId())));
 
 		FinishLaunchRS response = new FinishLaunchRS();
 		response.setId(launch.getUuid());
@@ -22,10 +22,12 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.LaunchPreparerService;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.LaunchMergeFactory;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.MergeStrategyType;
 import com.epam.ta.reportportal.core.launch.MergeLaunchHandler;
 import com.epam.ta.reportportal.core.statistics.StatisticsHelper;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -40,8 +42,10 @@ import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
 import com.epam.ta.reportportal.ws.model.launch.MergeLaunchesRQ;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -73,10 +77,12 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 
 	private final LogIndexer logIndexer;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public MergeLaunchHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository,
 			ProjectRepository projectRepository, LaunchMergeFactory launchMergeFactory, LaunchConverter launchConverter,
-			LaunchPreparerService launchPreparerService, LogIndexer logIndexer) {
+			LaunchPreparerService launchPreparerService, LogIndexer logIndexer, ApplicationEventPublisher eventPublisher) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.projectRepository = projectRepository;
@@ -84,6 +90,7 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 		this.launchConverter = launchConverter;
 		this.launchPreparerService = launchPreparerService;
 		this.logIndexer = logIndexer;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -120,6 +127,7 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 		List<TestItem> newItems = testItemRepository.findTestItemsByLaunchId(newLaunch.getId());
 		launchPreparerService.prepare(newLaunch, newItems, AnalyzerUtils.getAnalyzerConfig(project))
 				.ifPresent(it -> logIndexer.indexPreparedLogs(project.getId(), it));
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(WidgetContentCache.NAME, Collections.singleton(project.getId())));
 
 		return launchConverter.TO_RESOURCE.apply(newLaunch);
 	}
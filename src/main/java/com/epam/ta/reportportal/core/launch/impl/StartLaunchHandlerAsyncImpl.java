@@ -54,7 +54,7 @@ public class StartLaunchHandlerAsyncImpl implements StartLaunchHandler {
 		if (request.getUuid() == null) {
 			request.setUuid(UUID.randomUUID().toString());
 		}
-		amqpTemplate.convertAndSend(EXCHANGE_REPORTING, reportingQueueService.getReportingQueueKey(request.getUuid()), request, message -> {
+		amqpTemplate.convertAndSend(EXCHANGE_REPORTING, reportingQueueService.getReportingQueueKey(request.getUuid(), projectDetails.getProjectId()), request, message -> {
 			Map<String, Object> headers = message.getMessageProperties().getHeaders();
 			headers.put(MessageHeaders.REQUEST_TYPE, RequestType.START_LAUNCH);
 			headers.put(MessageHeaders.USERNAME, user.getUsername());
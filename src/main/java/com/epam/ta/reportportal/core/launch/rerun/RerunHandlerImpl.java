@@ -17,6 +17,8 @@
 package com.epam.ta.reportportal.core.launch.rerun;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.cluster.PatternAnalysisCancelEvent;
 import com.epam.ta.reportportal.core.events.item.ItemRetryEvent;
 import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
 import com.epam.ta.reportportal.core.item.identity.TestCaseHashGenerator;
@@ -60,17 +62,19 @@ public class RerunHandlerImpl implements RerunHandler {
 	private final TestCaseHashGenerator testCaseHashGenerator;
 	private final ApplicationEventPublisher eventPublisher;
 	private final RetriesHandler retriesHandler;
+	private final MessageBus messageBus;
 
 	@Autowired
 	public RerunHandlerImpl(TestItemRepository testItemRepository, LaunchRepository launchRepository, UniqueIdGenerator uniqueIdGenerator,
 			TestCaseHashGenerator testCaseHashGenerator, ApplicationEventPublisher eventPublisher,
-			@Qualifier("testCaseHashRetriesHandler") RetriesHandler retriesHandler) {
+			@Qualifier("testCaseHashRetriesHandler") RetriesHandler retriesHandler, MessageBus messageBus) {
 		this.testItemRepository = testItemRepository;
 		this.launchRepository = launchRepository;
 		this.uniqueIdGenerator = uniqueIdGenerator;
 		this.testCaseHashGenerator = testCaseHashGenerator;
 		this.eventPublisher = eventPublisher;
 		this.retriesHandler = retriesHandler;
+		this.messageBus = messageBus;
 	}
 
 	@Override
@@ -90,6 +94,7 @@ public class RerunHandlerImpl implements RerunHandler {
 				.collect(Collectors.toSet())).ifPresent(launch::setAttributes);
 		ofNullable(request.getUuid()).ifPresent(launch::setUuid);
 		launch.setRerun(true);
+		messageBus.broadcastEvent(new PatternAnalysisCancelEvent(Collections.singleton(launch.getId())));
 		return launch;
 	}
 
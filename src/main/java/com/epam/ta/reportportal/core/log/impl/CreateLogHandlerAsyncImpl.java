@@ -95,7 +95,7 @@ public class CreateLogHandlerAsyncImpl implements CreateLogHandler {
 	protected void sendMessage(SaveLogRQ request, BinaryDataMetaInfo metaInfo, Long projectId) {
 		amqpTemplate.convertAndSend(
 				EXCHANGE_REPORTING,
-				reportingQueueService.getReportingQueueKey(request.getLaunchUuid()),
+				reportingQueueService.getReportingQueueKey(request.getLaunchUuid(), projectId),
 				DeserializablePair.of(request, metaInfo),
 				message -> {
 					Map<String, Object> headers = message.getMessageProperties().getHeaders();
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.impl;
+
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.google.common.collect.Lists;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Persists {@link Log} entities with multi-row inserts instead of saving them one by one through the repository
+ */
+@Service
+public class LogBatchWriter {
+
+	/**
+	 * Max rows per single insert statement, keeps the number of bind parameters far below the driver limit
+	 */
+	private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private static final String INSERT_LOG_PREFIX = "INSERT INTO log (uuid, log_time, log_message, item_id, launch_id, last_modified, log_level, project_id) VALUES ";
+	private static final String INSERT_LOG_VALUES = "(?, ?, ?, ?, ?, now(), ?, ?)";
+	private static final String INSERT_LOG_SUFFIX = " RETURNING id, uuid";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public LogBatchWriter(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Inserts provided logs in a single transaction and sets generated ids to the entities
+	 *
+	 * @param logs Not persisted {@link Log} entities
+	 * @return The same list of logs with ids populated
+	 */
+	@Transactional
+	public List<Log> saveInBatch(List<Log> logs) {
+		Lists.partition(logs, MAX_ROWS_PER_STATEMENT).forEach(this::insertChunk);
+		return logs;
+	}
+
+	private void insertChunk(List<Log> chunk) {
+		StringBuilder query = new StringBuilder(INSERT_LOG_PREFIX);
+		List<Object> args = new ArrayList<>(chunk.size() * 7);
+		for (int i = 0; i < chunk.size(); i++) {
+			Log log = chunk.get(i);
+			query.append(i == 0 ? "" : ", ").append(INSERT_LOG_VALUES);
+			args.add(log.getUuid());
+			args.add(Timestamp.valueOf(log.getLogTime()));
+			args.add(log.getLogMessage());
+			args.add(ofNullable(log.getTestItem()).map(TestItem::getItemId).orElse(null));
+			args.add(ofNullable(log.getLaunch()).map(Launch::getId).orElse(null));
+			args.add(log.getLogLevel());
+			args.add(log.getProjectId());
+		}
+		query.append(INSERT_LOG_SUFFIX);
+
+		Map<String, Long> generatedIds = new HashMap<>(chunk.size());
+		jdbcTemplate.query(query.toString(), args.toArray(), rs -> {
+			generatedIds.put(rs.getString("uuid"), rs.getLong("id"));
+		});
+		chunk.forEach(log -> log.setId(generatedIds.get(log.getUuid())));
+	}
+}
@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.project;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.core.analyzer.auto.indexer.ReindexProgress;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.ws.model.project.ProjectResource;
 import com.epam.ta.reportportal.ws.model.user.UserResource;
@@ -94,4 +95,12 @@ public interface GetProjectHandler {
 	void exportProjects(ReportFormat reportFormat, Queryable filter, OutputStream outputStream);
 
 	Map<String, Boolean> getAnalyzerIndexingStatus();
+
+	/**
+	 * Get progress of the project logs reindex
+	 *
+	 * @param projectName Project name
+	 * @return {@link ReindexProgress}
+	 */
+	ReindexProgress getIndexingProgress(String projectName);
 }
\ No newline at end of file
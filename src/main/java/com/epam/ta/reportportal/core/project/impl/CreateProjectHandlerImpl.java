@@ -17,8 +17,10 @@
 package com.epam.ta.reportportal.core.project.impl;
 
 import com.epam.reportportal.extension.event.ProjectEvent;
+import com.epam.ta.reportportal.auth.basic.ReportingUserCache;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.project.CreateProjectHandler;
 import com.epam.ta.reportportal.dao.AttributeRepository;
 import com.epam.ta.reportportal.dao.IssueTypeRepository;
@@ -40,6 +42,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.Optional;
 import java.util.Set;
@@ -121,6 +124,7 @@ public class CreateProjectHandlerImpl implements CreateProjectHandler {
 		projectRepository.save(project);
 
 		applicationEventPublisher.publishEvent(new ProjectEvent(project.getId(), CREATE_KEY));
+		applicationEventPublisher.publishEvent(CacheEvictionEvent.evictKeys(ReportingUserCache.NAME, Collections.singleton(dbUser.getLogin())));
 
 		return new EntryCreatedRS(project.getId());
 	}
@@ -16,12 +16,15 @@
 
 package com.epam.ta.reportportal.core.project.impl;
 
+import com.epam.ta.reportportal.auth.basic.ReportingUserCache;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ProjectIndexEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
+import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.project.DeleteProjectHandler;
 import com.epam.ta.reportportal.core.project.content.remover.ProjectContentRemover;
 import com.epam.ta.reportportal.dao.*;
@@ -34,8 +37,10 @@ import com.epam.ta.reportportal.ws.model.*;
 import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -71,11 +76,13 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 
 	private final LogRepository logRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public DeleteProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository, LogIndexer logIndexer,
 			AnalyzerServiceClient analyzerServiceClient, AnalyzerStatusCache analyzerStatusCache, MessageBus messageBus,
 			AttachmentRepository attachmentRepository, IssueTypeRepository issueTypeRepository, ProjectContentRemover projectContentRemover,
-			LogRepository logRepository) {
+			LogRepository logRepository, ApplicationEventPublisher eventPublisher) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.logIndexer = logIndexer;
@@ -86,6 +93,7 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 		this.issueTypeRepository = issueTypeRepository;
 		this.projectContentRemover = projectContentRemover;
 		this.logRepository = logRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -163,6 +171,8 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 		logIndexer.deleteIndex(project.getId());
 		logRepository.deleteByProjectId(project.getId());
 		attachmentRepository.moveForDeletionByProjectId(project.getId());
+		eventPublisher.publishEvent(CacheEvictionEvent.evictAll(ReportingUserCache.NAME));
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(IssueTypeHandler.NAME, Collections.singleton(project.getId())));
 		return new OperationCompletionRS("Project with id = '" + project.getId() + "' has been successfully deleted.");
 	}
 }
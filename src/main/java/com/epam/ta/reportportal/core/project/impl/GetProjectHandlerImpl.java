@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.core.project.impl;
 
+import com.epam.ta.reportportal.core.analyzer.auto.indexer.ProjectReindexer;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Condition;
@@ -24,6 +25,7 @@ import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.analyzer.auto.indexer.ReindexProgress;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
 import com.epam.ta.reportportal.core.project.GetProjectHandler;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -74,14 +76,17 @@ public class GetProjectHandlerImpl implements GetProjectHandler {
 
 	private final ProjectConverter projectConverter;
 
+	private final ProjectReindexer projectReindexer;
+
 	@Autowired
 	public GetProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository,
 			@Qualifier("projectJasperReportHandler") GetJasperReportHandler<ProjectInfo> jasperReportHandler,
-			ProjectConverter projectConverter) {
+			ProjectConverter projectConverter, ProjectReindexer projectReindexer) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.jasperReportHandler = jasperReportHandler;
 		this.projectConverter = projectConverter;
+		this.projectReindexer = projectReindexer;
 	}
 
 	@Override
@@ -161,4 +166,11 @@ public class GetProjectHandlerImpl implements GetProjectHandler {
 				.collect(Collectors.toMap(Project::getName, it -> getAnalyzerConfig(it).isIndexingRunning()));
 	}
 
+	@Override
+	public ReindexProgress getIndexingProgress(String projectName) {
+		Project project = projectRepository.findByName(projectName)
+				.orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, projectName));
+		return projectReindexer.getProgress(project.getId());
+	}
+
 }
@@ -97,12 +97,14 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 
 	private final TicketRepository ticketRepository;
 
+	private final ProjectInfoStatisticsLoader statisticsLoader;
+
 	private DecimalFormat formatter = new DecimalFormat("###.##");
 
 	@Autowired
 	public GetProjectInfoHandlerImpl(ProjectRepository projectRepository, LaunchRepository launchRepository,
 			ActivityRepository activityRepository, ProjectInfoWidgetDataConverter dataConverter, LaunchConverter launchConverter,
-			UserRepository userRepository, TicketRepository ticketRepository) {
+			UserRepository userRepository, TicketRepository ticketRepository, ProjectInfoStatisticsLoader statisticsLoader) {
 		this.projectRepository = projectRepository;
 		this.launchRepository = launchRepository;
 		this.activityRepository = activityRepository;
@@ -110,6 +112,7 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		this.launchConverter = launchConverter;
 		this.userRepository = userRepository;
 		this.ticketRepository = ticketRepository;
+		this.statisticsLoader = statisticsLoader;
 	}
 
 	/**
@@ -201,25 +204,26 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		ProjectInfoWidget widgetType = ProjectInfoWidget.findByCode(widgetCode)
 				.orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, widgetCode));
 
-		List<Launch> launches = launchRepository.findByProjectIdAndStartTimeGreaterThanAndMode(project.getId(),
-				getStartIntervalDate(infoInterval),
-				LaunchModeEnum.DEFAULT
-		);
+		LocalDateTime startIntervalDate = getStartIntervalDate(infoInterval);
 
 		Map<String, ?> result;
 
 		switch (widgetType) {
 			case INVESTIGATED:
-				result = dataConverter.getInvestigatedProjectInfo(launches, infoInterval);
+				result = dataConverter.getInvestigatedProjectInfo(loadPeriodStatistics(project, startIntervalDate, infoInterval),
+						infoInterval
+				);
 				break;
 			case CASES_STATISTIC:
-				result = dataConverter.getTestCasesStatisticsProjectInfo(launches);
+				result = dataConverter.getTestCasesStatisticsProjectInfo(statisticsLoader.loadNameStatistics(project.getId(),
+						startIntervalDate
+				));
 				break;
 			case LAUNCHES_QUANTITY:
-				result = dataConverter.getLaunchesQuantity(launches, infoInterval);
+				result = dataConverter.getLaunchesQuantity(loadPeriodStatistics(project, startIntervalDate, infoInterval), infoInterval);
 				break;
 			case ISSUES_CHART:
-				result = dataConverter.getLaunchesIssues(launches, infoInterval);
+				result = dataConverter.getLaunchesIssues(loadPeriodStatistics(project, startIntervalDate, infoInterval), infoInterval);
 				break;
 			case ACTIVITIES:
 				result = getActivities(project, infoInterval);
@@ -235,6 +239,10 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		return result;
 	}
 
+	private List<LaunchesPeriodStatistics> loadPeriodStatistics(Project project, LocalDateTime from, InfoInterval infoInterval) {
+		return statisticsLoader.loadPeriodStatistics(project.getId(), from, dataConverter.getGroup(infoInterval));
+	}
+
 	private Map<String, ?> getLastLaunchStatistics(Long projectId) {
 		Optional<Launch> launchOptional = launchRepository.findLastRun(projectId, Mode.DEFAULT.name());
 		return launchOptional.isPresent() ?
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+/**
+ * Executions statistics of the project launches with the same name
+ */
+public class LaunchesNameStatistics {
+
+	private final String launchName;
+
+	private final double min;
+
+	private final double max;
+
+	private final double avg;
+
+	public LaunchesNameStatistics(String launchName, double min, double max, double avg) {
+		this.launchName = launchName;
+		this.min = min;
+		this.max = max;
+		this.avg = avg;
+	}
+
+	public String getLaunchName() {
+		return launchName;
+	}
+
+	public double getMin() {
+		return min;
+	}
+
+	public double getMax() {
+		return max;
+	}
+
+	public double getAvg() {
+		return avg;
+	}
+}
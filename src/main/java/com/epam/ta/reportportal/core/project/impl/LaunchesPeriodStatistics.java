@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+import java.time.LocalDate;
+
+/**
+ * Launches statistics of a project aggregated per day or per week
+ */
+public class LaunchesPeriodStatistics {
+
+	private final LocalDate periodStart;
+
+	private final int launchesCount;
+
+	private final int productBug;
+
+	private final int automationBug;
+
+	private final int systemIssue;
+
+	private final int toInvestigate;
+
+	public LaunchesPeriodStatistics(LocalDate periodStart, int launchesCount, int productBug, int automationBug, int systemIssue,
+			int toInvestigate) {
+		this.periodStart = periodStart;
+		this.launchesCount = launchesCount;
+		this.productBug = productBug;
+		this.automationBug = automationBug;
+		this.systemIssue = systemIssue;
+		this.toInvestigate = toInvestigate;
+	}
+
+	/**
+	 * Creates statistics of the period without launches
+	 *
+	 * @param periodStart First day of the period
+	 * @return {@link LaunchesPeriodStatistics} with all the counters equal to zero
+	 */
+	public static LaunchesPeriodStatistics empty(LocalDate periodStart) {
+		return new LaunchesPeriodStatistics(periodStart, 0, 0, 0, 0, 0);
+	}
+
+	public LocalDate getPeriodStart() {
+		return periodStart;
+	}
+
+	public int getLaunchesCount() {
+		return launchesCount;
+	}
+
+	public int getProductBug() {
+		return productBug;
+	}
+
+	public int getAutomationBug() {
+		return automationBug;
+	}
+
+	public int getSystemIssue() {
+		return systemIssue;
+	}
+
+	public int getToInvestigate() {
+		return toInvestigate;
+	}
+}
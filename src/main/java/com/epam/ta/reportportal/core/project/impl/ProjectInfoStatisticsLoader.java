@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup;
+import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup.BY_DAY;
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+
+/**
+ * Aggregates launches statistics for the project info widgets on the database side,
+ * so only one row per group is transferred instead of every launch of the interval with its statistics
+ */
+@Service
+public class ProjectInfoStatisticsLoader {
+
+	private static final String PERIOD_STATISTICS_QUERY = "SELECT CAST(date_trunc(?, l.start_time) AS DATE) AS period, "
+			+ "count(DISTINCT l.id) AS launches, "
+			+ "coalesce(sum(s.s_counter) FILTER (WHERE sf.name = ?), 0) AS product_bug, "
+			+ "coalesce(sum(s.s_counter) FILTER (WHERE sf.name = ?), 0) AS automation_bug, "
+			+ "coalesce(sum(s.s_counter) FILTER (WHERE sf.name = ?), 0) AS system_issue, "
+			+ "coalesce(sum(s.s_counter) FILTER (WHERE sf.name = ?), 0) AS to_investigate "
+			+ "FROM launch l LEFT JOIN (statistics s JOIN statistics_field sf ON s.statistics_field_id = sf.sf_id AND sf.name IN (?, ?, ?, ?)) "
+			+ "ON s.launch_id = l.id "
+			+ "WHERE l.project_id = ? AND l.start_time > ? AND l.mode = CAST(? AS LAUNCH_MODE_ENUM) "
+			+ "GROUP BY period ORDER BY period";
+
+	private static final String NAME_STATISTICS_QUERY = "SELECT l.name AS name, "
+			+ "min(coalesce(s.s_counter, 0)) AS min, max(coalesce(s.s_counter, 0)) AS max, avg(coalesce(s.s_counter, 0)) AS avg "
+			+ "FROM launch l LEFT JOIN (statistics s JOIN statistics_field sf ON s.statistics_field_id = sf.sf_id AND sf.name = ?) "
+			+ "ON s.launch_id = l.id "
+			+ "WHERE l.project_id = ? AND l.start_time > ? AND l.mode = CAST(? AS LAUNCH_MODE_ENUM) "
+			+ "GROUP BY l.name";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public ProjectInfoStatisticsLoader(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Loads launches count and defects totals of the project {@link LaunchModeEnum#DEFAULT} launches
+	 * grouped by day or by ISO week of their start time
+	 *
+	 * @param projectId Id of the project
+	 * @param from      Launches started after this date are taken into account
+	 * @param group     {@link ProjectInfoGroup#BY_DAY} or {@link ProjectInfoGroup#BY_WEEK}
+	 * @return {@link LaunchesPeriodStatistics} ordered by period, periods without launches are absent
+	 */
+	public List<LaunchesPeriodStatistics> loadPeriodStatistics(Long projectId, LocalDateTime from, ProjectInfoGroup group) {
+		return jdbcTemplate.query(PERIOD_STATISTICS_QUERY,
+				new Object[] { group == BY_DAY ? "day" : "week", DEFECTS_PRODUCT_BUG_TOTAL, DEFECTS_AUTOMATION_BUG_TOTAL,
+						DEFECTS_SYSTEM_ISSUE_TOTAL, DEFECTS_TO_INVESTIGATE_TOTAL, DEFECTS_PRODUCT_BUG_TOTAL, DEFECTS_AUTOMATION_BUG_TOTAL,
+						DEFECTS_SYSTEM_ISSUE_TOTAL, DEFECTS_TO_INVESTIGATE_TOTAL, projectId, Timestamp.valueOf(from),
+						LaunchModeEnum.DEFAULT.name() },
+				(rs, rowNum) -> new LaunchesPeriodStatistics(rs.getObject("period", LocalDate.class),
+						rs.getInt("launches"),
+						rs.getInt("product_bug"),
+						rs.getInt("automation_bug"),
+						rs.getInt("system_issue"),
+						rs.getInt("to_investigate")
+				)
+		);
+	}
+
+	/**
+	 * Loads min, max and average executions total of the project {@link LaunchModeEnum#DEFAULT} launches grouped by launch name
+	 *
+	 * @param projectId Id of the project
+	 * @param from      Launches started after this date are taken into account
+	 * @return {@link LaunchesNameStatistics} per launch name
+	 */
+	public List<LaunchesNameStatistics> loadNameStatistics(Long projectId, LocalDateTime from) {
+		return jdbcTemplate.query(NAME_STATISTICS_QUERY,
+				new Object[] { EXECUTIONS_TOTAL, projectId, Timestamp.valueOf(from), LaunchModeEnum.DEFAULT.name() },
+				(rs, rowNum) -> new LaunchesNameStatistics(rs.getString("name"),
+						rs.getDouble("min"),
+						rs.getDouble("max"),
+						rs.getDouble("avg")
+				)
+		);
+	}
+}
@@ -17,29 +17,21 @@
 package com.epam.ta.reportportal.core.project.impl;
 
 import com.epam.ta.reportportal.entity.enums.InfoInterval;
-import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.statistics.Statistics;
 import com.epam.ta.reportportal.ws.model.widget.ChartObject;
-import com.google.common.collect.Lists;
-import org.joda.time.DateTime;
-import org.joda.time.DateTimeConstants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.text.DecimalFormat;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.IsoFields;
 import java.util.*;
-import java.util.Map.Entry;
 
 import static com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup.BY_DAY;
-import static com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup.BY_NAME;
-import static com.epam.ta.reportportal.core.statistics.StatisticsHelper.extractStatisticsCount;
-import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.WEEKS;
 
@@ -69,14 +61,24 @@ public class ProjectInfoWidgetDataConverter {
 			.appendValue(IsoFields.WEEK_OF_WEEK_BASED_YEAR, 2)
 			.toFormatter();
 
+	/**
+	 * Resolves grouping of the project info widgets content for the provided interval
+	 *
+	 * @param interval {@link InfoInterval}
+	 * @return {@link ProjectInfoGroup#BY_DAY} or {@link ProjectInfoGroup#BY_WEEK}
+	 */
+	public ProjectInfoGroup getGroup(InfoInterval interval) {
+		return grouping.get(interval);
+	}
+
 	/**
 	 * <b>Percentage Of Investigation</b> project info widget content
 	 *
-	 * @param initial
+	 * @param initial  Launches statistics grouped by {@link #getGroup(InfoInterval)} and ordered by period
 	 * @param interval
 	 * @return
 	 */
-	public Map<String, List<ChartObject>> getInvestigatedProjectInfo(List<Launch> initial, InfoInterval interval) {
+	public Map<String, List<ChartObject>> getInvestigatedProjectInfo(List<LaunchesPeriodStatistics> initial, InfoInterval interval) {
 		if (initial.isEmpty()) {
 			return new HashMap<>();
 		}
@@ -84,24 +86,14 @@ public class ProjectInfoWidgetDataConverter {
 		final String INV = "investigated";
 		final String TI = "toInvestigate";
 		Map<String, List<ChartObject>> result = new HashMap<>();
-		Map<String, List<Launch>> grouped = groupBy(initial, grouping.get(interval));
-		Iterator<Entry<String, List<Launch>>> iterator = grouped.entrySet().iterator();
-		while (iterator.hasNext()) {
-			Entry<String, List<Launch>> pair = iterator.next();
-			double investigated = 0;
-			double toInvestigate = 0;
-			List<Launch> group = pair.getValue();
+		ProjectInfoGroup criteria = grouping.get(interval);
+		for (LaunchesPeriodStatistics statistics : fillGaps(initial, criteria)) {
+			String key = formattedDate(criteria, statistics.getPeriodStart());
+			double investigated = statistics.getProductBug() + statistics.getSystemIssue() + statistics.getAutomationBug();
+			double toInvestigate = statistics.getToInvestigate();
 			ChartObject currentGroup = new ChartObject();
-			currentGroup.setName(pair.getKey());
+			currentGroup.setName(key);
 			Map<String, String> values = new HashMap<>();
-			for (Launch one : group) {
-				investigated =
-						investigated + extractStatisticsCount(DEFECTS_PRODUCT_BUG_TOTAL, one.getStatistics()) + extractStatisticsCount(
-								DEFECTS_SYSTEM_ISSUE_TOTAL,
-								one.getStatistics()
-						) + extractStatisticsCount(DEFECTS_AUTOMATION_BUG_TOTAL, one.getStatistics());
-				toInvestigate = toInvestigate + extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, one.getStatistics());
-			}
 			if ((investigated + toInvestigate) > 0) {
 				double investigatedPercent = (investigated / (investigated + toInvestigate)) * 100;
 				double toInvestigatePercent = 100 - investigatedPercent;
@@ -112,8 +104,7 @@ public class ProjectInfoWidgetDataConverter {
 				values.put(TI, "0");
 			}
 			currentGroup.setValues(values);
-			result.put(pair.getKey(), Collections.singletonList(currentGroup));
-			iterator.remove();
+			result.put(key, Collections.singletonList(currentGroup));
 		}
 		return result;
 	}
@@ -122,10 +113,10 @@ public class ProjectInfoWidgetDataConverter {
 	 * <b>Test-cases statistics in unique launches</b> project info widget
 	 * content data-source
 	 *
-	 * @param initial
+	 * @param initial Executions statistics grouped by launch name
 	 * @return
 	 */
-	public Map<String, List<ChartObject>> getTestCasesStatisticsProjectInfo(List<Launch> initial) {
+	public Map<String, List<ChartObject>> getTestCasesStatisticsProjectInfo(List<LaunchesNameStatistics> initial) {
 		DecimalFormat formatter = new DecimalFormat("#####.##");
 		final String MIN = "min";
 		final String MAX = "max";
@@ -137,28 +128,16 @@ public class ProjectInfoWidgetDataConverter {
 		}
 
 		Map<String, List<ChartObject>> result = new HashMap<>();
-		Map<String, List<Launch>> grouped = groupBy(initial, BY_NAME);
-		for (Entry<String, List<Launch>> pair : grouped.entrySet()) {
+		for (LaunchesNameStatistics statistics : initial) {
 			ChartObject singleStat = new ChartObject();
-			singleStat.setName(pair.getKey());
+			singleStat.setName(statistics.getLaunchName());
 			Map<String, String> values = new HashMap<>();
-			List<Launch> group = pair.getValue();
-
-			DoubleSummaryStatistics statistics = group.stream()
-					.mapToDouble(launch -> launch.getStatistics()
-							.stream()
-							.filter(it -> it.getStatisticsField().getName().equalsIgnoreCase(EXECUTIONS_TOTAL))
-							.findFirst()
-							.orElse(new Statistics())
-							.getCounter())
-					.summaryStatistics();
-
 			values.put(MIN, String.valueOf(statistics.getMin()));
 			values.put(MAX, String.valueOf(statistics.getMax()));
-			values.put(AVG, formatter.format(statistics.getAverage()));
+			values.put(AVG, formatter.format(statistics.getAvg()));
 			singleStat.setValues(values);
 
-			result.put(pair.getKey(), Collections.singletonList(singleStat));
+			result.put(statistics.getLaunchName(), Collections.singletonList(singleStat));
 		}
 
 		/*
@@ -172,11 +151,11 @@ public class ProjectInfoWidgetDataConverter {
 	/**
 	 * <b>Quantity of Launches</b> project info widget content
 	 *
-	 * @param initial
+	 * @param initial  Launches statistics grouped by {@link #getGroup(InfoInterval)} and ordered by period
 	 * @param interval
 	 * @return
 	 */
-	public Map<String, List<ChartObject>> getLaunchesQuantity(List<Launch> initial, InfoInterval interval) {
+	public Map<String, List<ChartObject>> getLaunchesQuantity(List<LaunchesPeriodStatistics> initial, InfoInterval interval) {
 		final String START_PERIOD = "start";
 		final String END_PERIOD = "end";
 		final String COUNT = "count";
@@ -186,25 +165,22 @@ public class ProjectInfoWidgetDataConverter {
 			return result;
 		}
 		ProjectInfoGroup criteria = grouping.get(interval);
-		Map<String, List<Launch>> grouped = groupBy(initial, criteria);
-		for (Entry<String, List<Launch>> entry : grouped.entrySet()) {
-			List<Launch> launches = entry.getValue();
-			Integer count = null != launches ? launches.size() : 0;
+		for (LaunchesPeriodStatistics statistics : fillGaps(initial, criteria)) {
+			LocalDate periodStart = statistics.getPeriodStart();
 			ChartObject group = new ChartObject();
 			Map<String, String> values = new HashMap<>();
-			values.put(COUNT, String.valueOf(count));
+			values.put(COUNT, String.valueOf(statistics.getLaunchesCount()));
 			values.put(INTERVAL, interval.getInterval());
 			if (criteria != BY_DAY) {
-				DateTime parse = DateTime.parse(entry.getKey());
-				// TODO remove Yoda time. replace with JDK8
-				values.put(START_PERIOD, parse.withDayOfWeek(DateTimeConstants.MONDAY).toString("yyy-MM-dd"));
-				values.put(END_PERIOD, parse.withDayOfWeek(DateTimeConstants.SUNDAY).toString("yyy-MM-dd"));
+				LocalDate monday = periodStart.with(DayOfWeek.MONDAY);
+				values.put(START_PERIOD, monday.toString());
+				values.put(END_PERIOD, monday.with(DayOfWeek.SUNDAY).toString());
 			} else {
-				values.put(START_PERIOD, entry.getKey());
+				values.put(START_PERIOD, periodStart.toString());
 			}
 			group.setName("Number of launches");
 			group.setValues(values);
-			result.put(entry.getKey(), Collections.singletonList(group));
+			result.put(formattedDate(criteria, periodStart), Collections.singletonList(group));
 		}
 		return result;
 	}
@@ -212,11 +188,11 @@ public class ProjectInfoWidgetDataConverter {
 	/**
 	 * <b>Launch statistics line chart</b> project info widget content
 	 *
-	 * @param initial
+	 * @param initial  Launches statistics grouped by {@link #getGroup(InfoInterval)} and ordered by period
 	 * @param interval
 	 * @return
 	 */
-	public Map<String, List<ChartObject>> getLaunchesIssues(List<Launch> initial, InfoInterval interval) {
+	public Map<String, List<ChartObject>> getLaunchesIssues(List<LaunchesPeriodStatistics> initial, InfoInterval interval) {
 		HashMap<String, List<ChartObject>> result = new HashMap<>();
 		if (initial.isEmpty()) {
 			return result;
@@ -227,69 +203,40 @@ public class ProjectInfoWidgetDataConverter {
 		final String TI = "toInvestigate";
 
 		ProjectInfoGroup criteria = grouping.get(interval);
-		Map<String, List<Launch>> grouped = groupBy(initial, criteria);
-		for (Entry<String, List<Launch>> entry : grouped.entrySet()) {
-			List<Launch> launches = entry.getValue();
-			Integer pbCount = 0;
-			Integer abCount = 0;
-			Integer siCount = 0;
-			Integer tiCount = 0;
-			for (Launch launch : launches) {
-				pbCount += extractStatisticsCount(DEFECTS_PRODUCT_BUG_TOTAL, launch.getStatistics());
-				abCount += extractStatisticsCount(DEFECTS_AUTOMATION_BUG_TOTAL, launch.getStatistics());
-				siCount += extractStatisticsCount(DEFECTS_SYSTEM_ISSUE_TOTAL, launch.getStatistics());
-				tiCount += extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, launch.getStatistics());
-			}
+		for (LaunchesPeriodStatistics statistics : fillGaps(initial, criteria)) {
 			ChartObject object = new ChartObject();
 			Map<String, String> values = new HashMap<>();
-			values.put(PB, String.valueOf(pbCount));
-			values.put(SI, String.valueOf(siCount));
-			values.put(AB, String.valueOf(abCount));
-			values.put(TI, String.valueOf(tiCount));
+			values.put(PB, String.valueOf(statistics.getProductBug()));
+			values.put(SI, String.valueOf(statistics.getSystemIssue()));
+			values.put(AB, String.valueOf(statistics.getAutomationBug()));
+			values.put(TI, String.valueOf(statistics.getToInvestigate()));
 			object.setValues(values);
-			result.put(entry.getKey(), Collections.singletonList(object));
+			result.put(formattedDate(criteria, statistics.getPeriodStart()), Collections.singletonList(object));
 		}
 		return result;
 	}
 
 	/**
-	 * Utility method for grouping input list of {@link Launch} by
-	 * {@link ProjectInfoGroup} criteria
+	 * Utility method that adds empty statistics for the periods without launches
+	 * between the first and the last period of the ordered input list
 	 *
-	 * @param initial
-	 * @param criteria
+	 * @param initial  Launches statistics ordered by period
+	 * @param criteria {@link ProjectInfoGroup} the statistics are grouped by
 	 * @return
 	 */
-	private static Map<String, List<Launch>> groupBy(List<Launch> initial, ProjectInfoGroup criteria) {
-		Map<String, List<Launch>> result = new LinkedHashMap<>();
-		LocalDate prevDate = null;
-		for (Launch launch : initial) {
-			final LocalDate localDate = launch.getStartTime().atZone(ZoneOffset.UTC).toLocalDate();
-
-			String key;
-			switch (criteria) {
-				case BY_NAME:
-					key = launch.getName();
-					break;
-				default:
-					key = formattedDate(criteria, localDate);
-					if (prevDate != null) {
-						while (prevDate.isBefore(localDate)) {
-							if (!result.containsKey(formattedDate(criteria, prevDate))) {
-								result.put(formattedDate(criteria, prevDate), new ArrayList<>());
-							}
-							prevDate = prevDate.plus(1, criteria == BY_DAY ? DAYS : WEEKS);
-						}
-					}
-			}
-			if (!result.containsKey(key)) {
-				result.put(key, Lists.newArrayList(launch));
-			} else {
-				List<Launch> prev = result.get(key);
-				prev.add(launch);
-				result.put(key, prev);
+	private static List<LaunchesPeriodStatistics> fillGaps(List<LaunchesPeriodStatistics> initial, ProjectInfoGroup criteria) {
+		List<LaunchesPeriodStatistics> result = new ArrayList<>(initial.size());
+		ChronoUnit step = criteria == BY_DAY ? DAYS : WEEKS;
+		LocalDate expected = null;
+		for (LaunchesPeriodStatistics statistics : initial) {
+			if (expected != null) {
+				while (expected.isBefore(statistics.getPeriodStart())) {
+					result.add(LaunchesPeriodStatistics.empty(expected));
+					expected = expected.plus(1, step);
+				}
 			}
-			prevDate = localDate;
+			result.add(statistics);
+			expected = statistics.getPeriodStart().plus(1, step);
 		}
 		return result;
 	}
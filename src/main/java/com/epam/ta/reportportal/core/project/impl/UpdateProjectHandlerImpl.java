@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.project.impl;
 
 import com.epam.reportportal.extension.event.ProjectEvent;
 import com.epam.ta.reportportal.auth.acl.ShareableObjectsHandler;
+import com.epam.ta.reportportal.auth.basic.ReportingUserCache;
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
@@ -26,8 +27,10 @@ import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.indexer.IndexerStatusCache;
+import com.epam.ta.reportportal.core.analyzer.auto.indexer.ProjectReindexer;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.NotificationsConfigUpdatedEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.events.activity.ProjectAnalyzerConfigEvent;
 import com.epam.ta.reportportal.core.events.activity.ProjectIndexEvent;
 import com.epam.ta.reportportal.core.events.activity.ProjectUpdatedEvent;
@@ -110,7 +113,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 
 	private final MailServiceFactory mailServiceFactory;
 
-	private final LaunchRepository launchRepository;
+	private final ProjectReindexer projectReindexer;
 
 	private final AnalyzerStatusCache analyzerStatusCache;
 
@@ -127,7 +130,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 	@Autowired
 	public UpdateProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository,
 			UserPreferenceRepository preferenceRepository, MessageBus messageBus, ProjectUserRepository projectUserRepository,
-			ApplicationEventPublisher applicationEventPublisher, MailServiceFactory mailServiceFactory, LaunchRepository launchRepository, AnalyzerStatusCache analyzerStatusCache,
+			ApplicationEventPublisher applicationEventPublisher, MailServiceFactory mailServiceFactory, ProjectReindexer projectReindexer, AnalyzerStatusCache analyzerStatusCache,
 			IndexerStatusCache indexerStatusCache, AnalyzerServiceClient analyzerServiceClient, LogIndexer logIndexer,
 			ShareableObjectsHandler aclHandler, ProjectConverter projectConverter) {
 		this.projectRepository = projectRepository;
@@ -137,7 +140,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 		this.projectUserRepository = projectUserRepository;
 		this.applicationEventPublisher = applicationEventPublisher;
 		this.mailServiceFactory = mailServiceFactory;
-		this.launchRepository = launchRepository;
+		this.projectReindexer = projectReindexer;
 		this.analyzerStatusCache = analyzerStatusCache;
 		this.indexerStatusCache = indexerStatusCache;
 		this.analyzerServiceClient = analyzerServiceClient;
@@ -157,6 +160,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 		ProjectAttributesActivityResource after = TO_ACTIVITY_RESOURCE.apply(project);
 
 		applicationEventPublisher.publishEvent(new ProjectEvent(project.getId(), UPDATE_EVENT));
+		applicationEventPublisher.publishEvent(CacheEvictionEvent.evictAll(ReportingUserCache.NAME));
 		messageBus.publishActivity(new ProjectUpdatedEvent(before, after, user.getUserId(), user.getUsername()));
 		messageBus.publishActivity(new ProjectAnalyzerConfigEvent(before, after, user.getUserId(), user.getUsername()));
 
@@ -206,6 +210,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 		projectUserRepository.deleteAll(unassignedUsers);
 		ProjectUtils.excludeProjectRecipients(unassignedUsers.stream().map(ProjectUser::getUser).collect(Collectors.toSet()), project);
 		unassignedUsers.forEach(it -> preferenceRepository.removeByProjectIdAndUserId(project.getId(), it.getUser().getId()));
+		applicationEventPublisher.publishEvent(CacheEvictionEvent.evictKeys(ReportingUserCache.NAME, unassignUsersRQ.getUsernames()));
 
 		return new OperationCompletionRS(
 				"User(s) with username(s)='" + unassignUsersRQ.getUsernames() + "' was successfully un-assigned from project='"
@@ -243,6 +248,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 				assignUser(name, projectRole, assignedUsernames, project);
 			});
 		}
+		applicationEventPublisher.publishEvent(CacheEvictionEvent.evictKeys(ReportingUserCache.NAME, assignUsersRQ.getUserNames().keySet()));
 
 		return new OperationCompletionRS(
 				"User(s) with username='" + assignUsersRQ.getUserNames().keySet() + "' was successfully assigned to project='"
@@ -269,11 +275,9 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 				"Index can not be removed until auto-analysis proceeds."
 		);
 
-		List<Long> launches = launchRepository.findLaunchIdsByProjectId(project.getId());
-
 		logIndexer.deleteIndex(project.getId());
 
-		logIndexer.indexLaunchesLogs(project.getId(), launches, AnalyzerUtils.getAnalyzerConfig(project))
+		projectReindexer.reindex(project.getId(), AnalyzerUtils.getAnalyzerConfig(project))
 				.thenAcceptAsync(indexedCount -> mailServiceFactory.getDefaultEmailService(true)
 						.sendIndexFinishedEmail("Index generation has been finished", user.getEmail(), indexedCount));
 
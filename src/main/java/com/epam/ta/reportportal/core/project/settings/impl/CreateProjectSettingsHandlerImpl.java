@@ -22,6 +22,8 @@ import com.epam.ta.reportportal.core.analyzer.pattern.CreatePatternTemplateHandl
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.DefectTypeCreatedEvent;
 import com.epam.ta.reportportal.core.events.activity.PatternCreatedEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
+import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.project.settings.CreateProjectSettingsHandler;
 import com.epam.ta.reportportal.dao.IssueGroupRepository;
 import com.epam.ta.reportportal.dao.IssueTypeRepository;
@@ -49,11 +51,13 @@ import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -91,17 +95,20 @@ public class CreateProjectSettingsHandlerImpl implements CreateProjectSettingsHa
 
 	private final MessageBus messageBus;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public CreateProjectSettingsHandlerImpl(ProjectRepository projectRepository, WidgetRepository widgetRepository,
 			IssueGroupRepository issueGroupRepository, IssueTypeRepository issueTypeRepository,
 			@Qualifier("createPatternTemplateMapping") Map<PatternTemplateType, CreatePatternTemplateHandler> createPatternTemplateMapping,
-			MessageBus messageBus) {
+			MessageBus messageBus, ApplicationEventPublisher eventPublisher) {
 		this.projectRepository = projectRepository;
 		this.widgetRepository = widgetRepository;
 		this.issueGroupRepository = issueGroupRepository;
 		this.issueTypeRepository = issueTypeRepository;
 		this.createPatternTemplateMapping = createPatternTemplateMapping;
 		this.messageBus = messageBus;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -144,6 +151,7 @@ public class CreateProjectSettingsHandlerImpl implements CreateProjectSettingsHa
 		projectRepository.save(project);
 
 		updateWidgets(project, subType);
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(IssueTypeHandler.NAME, Collections.singleton(project.getId())));
 
 		messageBus.publishActivity(new DefectTypeCreatedEvent(TO_ACTIVITY_RESOURCE.apply(subType),
 				user.getUserId(),
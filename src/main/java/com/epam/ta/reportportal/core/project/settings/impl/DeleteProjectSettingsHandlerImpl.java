@@ -21,6 +21,8 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.DefectTypeDeletedEvent;
 import com.epam.ta.reportportal.core.events.activity.PatternDeletedEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
+import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.project.settings.DeleteProjectSettingsHandler;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.enums.TestItemIssueGroup;
@@ -42,6 +44,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -130,6 +133,7 @@ public class DeleteProjectSettingsHandlerImpl implements DeleteProjectSettingsHa
 		issueTypeRepository.delete(type.getIssueType());
 
 		updateWidgets(project, type.getIssueType());
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(IssueTypeHandler.NAME, Collections.singleton(project.getId())));
 
 		DefectTypeDeletedEvent defectTypeDeletedEvent = new DefectTypeDeletedEvent(TO_ACTIVITY_RESOURCE.apply(type.getIssueType()),
 				user.getUserId(),
@@ -22,6 +22,8 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.DefectTypeUpdatedEvent;
 import com.epam.ta.reportportal.core.events.activity.PatternUpdatedEvent;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
+import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.project.settings.UpdateProjectSettingsHandler;
 import com.epam.ta.reportportal.dao.PatternTemplateRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -42,9 +44,11 @@ import com.epam.ta.reportportal.ws.model.project.config.pattern.UpdatePatternTem
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -68,12 +72,15 @@ public class UpdateProjectSettingsHandlerImpl implements UpdateProjectSettingsHa
 
 	private final MessageBus messageBus;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public UpdateProjectSettingsHandlerImpl(ProjectRepository projectRepository, PatternTemplateRepository patternTemplateRepository,
-			MessageBus messageBus) {
+			MessageBus messageBus, ApplicationEventPublisher eventPublisher) {
 		this.projectRepository = projectRepository;
 		this.patternTemplateRepository = patternTemplateRepository;
 		this.messageBus = messageBus;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -94,6 +101,7 @@ public class UpdateProjectSettingsHandlerImpl implements UpdateProjectSettingsHa
 				.collect(Collectors.toList());
 
 		projectRepository.save(project);
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(IssueTypeHandler.NAME, Collections.singleton(project.getId())));
 		issueTypeActivityResources.forEach(it -> messageBus.publishActivity(new DefectTypeUpdatedEvent(it,
 				user.getUserId(),
 				user.getUsername(),
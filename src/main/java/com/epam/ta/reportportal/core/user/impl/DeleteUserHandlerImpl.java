@@ -17,10 +17,12 @@
 package com.epam.ta.reportportal.core.user.impl;
 
 import com.epam.ta.reportportal.auth.acl.ShareableObjectsHandler;
+import com.epam.ta.reportportal.auth.basic.ReportingUserCache;
 import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.project.DeleteProjectHandler;
 import com.epam.ta.reportportal.core.user.DeleteUserHandler;
 import com.epam.ta.reportportal.core.user.content.remover.UserContentRemover;
@@ -33,6 +35,7 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.*;
 import com.google.common.collect.Lists;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -63,16 +66,19 @@ public class DeleteUserHandlerImpl implements DeleteUserHandler {
 
 	private final ProjectRepository projectRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public DeleteUserHandlerImpl(UserRepository userRepository, DeleteProjectHandler deleteProjectHandler,
 			ShareableObjectsHandler shareableObjectsHandler, UserBinaryDataService dataStore, UserContentRemover userContentRemover,
-			ProjectRepository projectRepository) {
+			ProjectRepository projectRepository, ApplicationEventPublisher eventPublisher) {
 		this.userRepository = userRepository;
 		this.deleteProjectHandler = deleteProjectHandler;
 		this.shareableObjectsHandler = shareableObjectsHandler;
 		this.dataStore = dataStore;
 		this.userContentRemover = userContentRemover;
 		this.projectRepository = projectRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -95,6 +101,7 @@ public class DeleteUserHandlerImpl implements DeleteUserHandler {
 
 		dataStore.deleteUserPhoto(user);
 		userRepository.delete(user);
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(ReportingUserCache.NAME, Collections.singleton(user.getLogin())));
 		return new OperationCompletionRS("User with ID = '" + userId + "' successfully deleted.");
 	}
 
@@ -16,10 +16,12 @@
 
 package com.epam.ta.reportportal.core.user.impl;
 
+import com.epam.ta.reportportal.auth.basic.ReportingUserCache;
 import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.user.EditUserHandler;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
@@ -39,6 +41,7 @@ import org.apache.tika.metadata.Metadata;
 import org.apache.tika.mime.MediaType;
 import org.apache.tika.parser.AutoDetectParser;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -50,6 +53,7 @@ import javax.imageio.stream.ImageInputStream;
 import java.awt.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -84,15 +88,19 @@ public class EditUserHandlerImpl implements EditUserHandler {
 
 	private final AutoDetectParser autoDetectParser;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public EditUserHandlerImpl(PasswordEncoder passwordEncoder, UserRepository userRepository, ProjectRepository projectRepository,
-			UserBinaryDataService userBinaryDataService, MimetypesFileTypeMap mimetypesFileTypeMap, AutoDetectParser autoDetectParser) {
+			UserBinaryDataService userBinaryDataService, MimetypesFileTypeMap mimetypesFileTypeMap, AutoDetectParser autoDetectParser,
+			ApplicationEventPublisher eventPublisher) {
 		this.passwordEncoder = passwordEncoder;
 		this.userRepository = userRepository;
 		this.projectRepository = projectRepository;
 		this.userBinaryDataService = userBinaryDataService;
 		this.mimetypesFileTypeMap = mimetypesFileTypeMap;
 		this.autoDetectParser = autoDetectParser;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -140,6 +148,7 @@ public class EditUserHandlerImpl implements EditUserHandler {
 		} catch (Exception exp) {
 			throw new ReportPortalException("Error while User editing.", exp);
 		}
+		eventPublisher.publishEvent(CacheEvictionEvent.evictKeys(ReportingUserCache.NAME, Collections.singleton(user.getLogin())));
 
 		return new OperationCompletionRS("User with login = '" + user.getLogin() + "' successfully updated");
 	}
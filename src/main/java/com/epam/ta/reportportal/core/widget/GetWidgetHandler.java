@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.widget;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.ViewGenerationStatusResource;
 import com.epam.ta.reportportal.ws.model.widget.WidgetPreviewRQ;
 import com.epam.ta.reportportal.ws.model.widget.WidgetResource;
 import org.springframework.data.domain.Pageable;
@@ -63,6 +64,16 @@ public interface GetWidgetHandler {
 	 */
 	Map<String, ?> getWidgetPreview(WidgetPreviewRQ previewRQ, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user);
 
+	/**
+	 * Get state of the materialized view generation of the widget
+	 *
+	 * @param widgetId       Widget id
+	 * @param projectDetails Project details
+	 * @param user           User
+	 * @return {@link ViewGenerationStatusResource}
+	 */
+	ViewGenerationStatusResource getViewGenerationStatus(Long widgetId, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user);
+
 	/**
 	 * Get widget names that belong to user
 	 *
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.widget.content;
+
+import com.epam.ta.reportportal.core.events.cache.EvictableCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Node-local cache of the loaded widget content.
+ * Entries are invalidated with {@link com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent} by project id
+ * whenever launches of the project are finished, deleted or merged.
+ * Every eviction moves the project to the next version, so content loaded concurrently with the eviction
+ * is stored under the outdated key and is never returned.
+ */
+@Service
+public class WidgetContentCache implements EvictableCache {
+
+	public static final String NAME = "widgetContent";
+
+	private final Cache<ContentKey, Map<String, ?>> contents;
+
+	private final Map<Long, Long> projectVersions = new ConcurrentHashMap<>();
+
+	private final AtomicLong version = new AtomicLong();
+
+	@Autowired
+	public WidgetContentCache(@Value("${rp.environment.variable.widget-cache.size:5000}") long maximumSize,
+			@Value("${rp.environment.variable.widget-cache.ttl:600}") long ttlSeconds) {
+		this.contents = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build();
+	}
+
+	/**
+	 * Returns cached content or loads it with the provided loader
+	 *
+	 * @param projectId  Id of the widget project
+	 * @param widgetId   Id of the widget
+	 * @param parameters Everything the content depends on besides the project data: filters with sorting, content fields, options
+	 * @param loader     Content loader
+	 * @return Widget content
+	 */
+	public Map<String, ?> getContent(Long projectId, Long widgetId, List<Object> parameters, Supplier<Map<String, ?>> loader) {
+		ContentKey key = new ContentKey(projectId, widgetId, parameters, version.get(), projectVersions.getOrDefault(projectId, 0L));
+		Map<String, ?> content = contents.getIfPresent(key);
+		if (content == null) {
+			content = loader.get();
+			if (content != null) {
+				contents.put(key, content);
+			}
+		}
+		return content;
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public void evict(Set<String> keys) {
+		Set<Long> projectIds = keys.stream().map(Long::valueOf).collect(Collectors.toSet());
+		projectIds.forEach(projectId -> projectVersions.merge(projectId, 1L, Long::sum));
+		contents.asMap().keySet().removeIf(key -> projectIds.contains(key.projectId));
+	}
+
+	@Override
+	public void evictAll() {
+		version.incrementAndGet();
+		contents.invalidateAll();
+	}
+
+	private static class ContentKey {
+
+		private final Long projectId;
+
+		private final Long widgetId;
+
+		private final List<Object> parameters;
+
+		private final long version;
+
+		private final long projectVersion;
+
+		private ContentKey(Long projectId, Long widgetId, List<Object> parameters, long version, long projectVersion) {
+			this.projectId = projectId;
+			this.widgetId = widgetId;
+			this.parameters = parameters;
+			this.version = version;
+			this.projectVersion = projectVersion;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			ContentKey that = (ContentKey) o;
+			return version == that.version && projectVersion == that.projectVersion && Objects.equals(projectId, that.projectId)
+					&& Objects.equals(widgetId, that.widgetId) && Objects.equals(parameters, that.parameters);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectId, widgetId, parameters, version, projectVersion);
+		}
+	}
+}
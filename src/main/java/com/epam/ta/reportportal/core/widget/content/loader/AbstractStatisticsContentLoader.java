@@ -19,6 +19,8 @@ package com.epam.ta.reportportal.core.widget.content.loader;
 import com.epam.ta.reportportal.entity.widget.content.ChartStatisticsContent;
 import org.apache.commons.collections.MapUtils;
 import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
 
 import java.util.*;
 import java.util.function.BinaryOperator;
@@ -92,27 +94,19 @@ public abstract class AbstractStatisticsContentLoader {
 	private void groupStatistics(String groupingPattern, List<ChartStatisticsContent> statisticsContents,
 			Map<String, ChartStatisticsContent> chart) {
 
-		Map<String, List<ChartStatisticsContent>> groupedStatistics = statisticsContents.stream()
-				.collect(Collectors.groupingBy(c -> new DateTime(c.getStartTime()).toString(groupingPattern),
-						LinkedHashMap::new,
-						Collectors.toList()
-				));
-
-		groupedStatistics.forEach((key, contents) -> chart.keySet().stream().filter(k -> k.startsWith(key)).findFirst().ifPresent(k -> {
-			ChartStatisticsContent content = chart.get(k);
-			contents.add(content);
-			Map<String, String> values = contents.stream()
-					.map(v -> v.getValues().entrySet())
-					.flatMap(Collection::stream)
-					.collect(Collectors.toMap(Map.Entry::getKey,
-							entry -> ofNullable(entry.getValue()).orElse("0"),
-							(prev, curr) -> prev = String.valueOf(Double.parseDouble(prev) + Double.parseDouble(curr))
-					));
-
-			content.setValues(values);
-
-			chart.put(k, content);
-		}));
+		final DateTimeFormatter formatter = DateTimeFormat.forPattern(groupingPattern);
+		final Map<String, String> chartKeys = new HashMap<>();
+		chart.keySet().forEach(key -> chartKeys.putIfAbsent(key.substring(0, Math.min(key.length(), groupingPattern.length())), key));
+
+		final ChartStatisticsAggregator aggregator = new ChartStatisticsAggregator();
+		statisticsContents.forEach(content -> ofNullable(chartKeys.get(formatter.print(content.getStartTime().getTime()))).ifPresent(key -> aggregator
+				.add(key, content.getValues())));
+
+		aggregator.getBucketKeys().forEach(key -> {
+			ChartStatisticsContent content = chart.get(key);
+			aggregator.add(key, content.getValues());
+			content.setValues(aggregator.getValues(key));
+		});
 	}
 
 	private void proceedDailyChart(Map<String, ChartStatisticsContent> chart, DateTime intermediate, DateTime end,
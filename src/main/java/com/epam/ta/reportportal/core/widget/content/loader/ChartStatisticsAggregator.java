@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.widget.content.loader;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sums statistics values of chart contents per time bucket.
+ * Field names are mapped to column indexes once per aggregation and values are accumulated into primitive arrays,
+ * the string values of the response are built only when the result is requested.
+ * A field with a single value in the bucket keeps its original representation.
+ */
+final class ChartStatisticsAggregator {
+
+	private static final String DEFAULT_VALUE = "0";
+
+	private final Map<String, Integer> columns = new HashMap<>();
+
+	private final Map<String, Bucket> buckets = new LinkedHashMap<>();
+
+	private String[] fields = new String[0];
+
+	/**
+	 * Adds values to the bucket
+	 *
+	 * @param bucketKey Key of the time bucket
+	 * @param values    Statistics values of a single chart content
+	 */
+	void add(String bucketKey, Map<String, String> values) {
+		if (values == null) {
+			return;
+		}
+		Bucket bucket = buckets.computeIfAbsent(bucketKey, key -> new Bucket());
+		values.forEach((field, value) -> bucket.add(getColumn(field), value == null ? DEFAULT_VALUE : value));
+	}
+
+	Set<String> getBucketKeys() {
+		return buckets.keySet();
+	}
+
+	/**
+	 * @param bucketKey Key of the time bucket
+	 * @return Summed values of the bucket by field name
+	 */
+	Map<String, String> getValues(String bucketKey) {
+		Bucket bucket = buckets.get(bucketKey);
+		Map<String, String> values = new LinkedHashMap<>();
+		if (bucket == null) {
+			return values;
+		}
+		for (int column = 0; column < bucket.counts.length; column++) {
+			if (bucket.counts[column] == 1) {
+				values.put(fields[column], bucket.firstValues[column]);
+			} else if (bucket.counts[column] > 1) {
+				values.put(fields[column], String.valueOf(bucket.sums[column]));
+			}
+		}
+		return values;
+	}
+
+	private int getColumn(String field) {
+		Integer column = columns.get(field);
+		if (column == null) {
+			column = columns.size();
+			columns.put(field, column);
+			if (fields.length == column) {
+				fields = Arrays.copyOf(fields, Math.max(8, column * 2));
+			}
+			fields[column] = field;
+		}
+		return column;
+	}
+
+	private static class Bucket {
+
+		private double[] sums = new double[0];
+
+		private int[] counts = new int[0];
+
+		private String[] firstValues = new String[0];
+
+		private void add(int column, String value) {
+			if (column >= counts.length) {
+				int size = Math.max(column + 1, counts.length * 2);
+				sums = Arrays.copyOf(sums, size);
+				counts = Arrays.copyOf(counts, size);
+				firstValues = Arrays.copyOf(firstValues, size);
+			}
+			if (counts[column] == 0) {
+				firstValues[column] = value;
+			} else if (counts[column] == 1) {
+				sums[column] = Double.parseDouble(firstValues[column]) + Double.parseDouble(value);
+			} else {
+				sums[column] += Double.parseDouble(value);
+			}
+			counts[column]++;
+		}
+	}
+}
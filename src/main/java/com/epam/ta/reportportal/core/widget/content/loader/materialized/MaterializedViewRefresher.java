@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.widget.content.loader.materialized;
+
+import com.epam.ta.reportportal.core.events.handler.GenerateWidgetViewEventHandler;
+import com.epam.ta.reportportal.core.events.widget.GenerateWidgetViewEvent;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.ViewGenerator;
+import com.epam.ta.reportportal.dao.WidgetRepository;
+import com.epam.ta.reportportal.entity.widget.WidgetState;
+import com.epam.ta.reportportal.entity.widget.WidgetType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.core.widget.content.loader.materialized.handler.MaterializedWidgetStateHandler.REFRESH;
+
+/**
+ * Keeps materialized widget views up to date without user interaction.
+ * A finished launch only marks ready views of its project as {@link com.epam.ta.reportportal.core.widget.content.loader.materialized.handler.MaterializedWidgetStateHandler#OUTDATED},
+ * the outdated view is scheduled for the rebuild when it is read, so the views nobody reads are not rebuilt at all.
+ * Scheduled views are rebuilt in the background by schedule, the view is rebuilt not more often than once per the minimal interval,
+ * so all the launches finished meanwhile are merged with a single rebuild. The widget stays in the {@link WidgetState#READY} state
+ * during the rebuild and serves the previous view content until the new one is generated,
+ * see {@link com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.AbstractViewGenerator}.
+ * The outdated flag is cleared before the rebuild, so the launches finished during it mark the view as outdated again.
+ */
+@Service
+public class MaterializedViewRefresher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MaterializedViewRefresher.class);
+
+	private final WidgetRepository widgetRepository;
+
+	private final GenerateWidgetViewEventHandler generateWidgetViewEventHandler;
+
+	private final MaterializedWidgetOptionsUpdater optionsUpdater;
+
+	private final List<String> materializedWidgetTypes;
+
+	/**
+	 * Minimal amount of milliseconds between the background rebuilds of the same view
+	 */
+	private final long minRefreshInterval;
+
+	private final Set<Long> outdatedWidgets = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * widgetId - start time of the last background rebuild of the view by this instance
+	 */
+	private final Map<Long, Long> lastRefreshes = new ConcurrentHashMap<>();
+
+	@Autowired
+	public MaterializedViewRefresher(WidgetRepository widgetRepository, GenerateWidgetViewEventHandler generateWidgetViewEventHandler,
+			MaterializedWidgetOptionsUpdater optionsUpdater,
+			@Qualifier("viewGeneratorMapping") Map<WidgetType, ViewGenerator> viewGeneratorMapping,
+			@Value("${rp.environment.variable.widget-view.min-refresh-interval:300000}") long minRefreshInterval) {
+		this.widgetRepository = widgetRepository;
+		this.generateWidgetViewEventHandler = generateWidgetViewEventHandler;
+		this.optionsUpdater = optionsUpdater;
+		this.materializedWidgetTypes = viewGeneratorMapping.keySet().stream().map(WidgetType::getType).collect(Collectors.toList());
+		this.minRefreshInterval = minRefreshInterval;
+	}
+
+	/**
+	 * Marks ready views of the project widgets as outdated, they are refreshed when read
+	 *
+	 * @param projectId Id of the project the launch was finished in
+	 */
+	public void markOutdated(Long projectId) {
+		widgetRepository.findAllByProjectIdAndWidgetTypeIn(projectId, materializedWidgetTypes)
+				.stream()
+				.filter(MaterializedWidgetOptionsUpdater::isReady)
+				.forEach(widget -> optionsUpdater.markOutdated(widget.getId()));
+	}
+
+	/**
+	 * Schedules refresh of the outdated widget view that is read
+	 *
+	 * @param widgetId Id of the widget
+	 */
+	public void schedule(Long widgetId) {
+		outdatedWidgets.add(widgetId);
+	}
+
+	/**
+	 * The view refreshed less than {@link #minRefreshInterval} ago stays outdated and is scheduled again by the next read
+	 */
+	@Scheduled(fixedDelayString = "${rp.environment.variable.widget-view.refresh-interval:10000}")
+	public void refreshOutdated() {
+		long now = System.currentTimeMillis();
+		lastRefreshes.values().removeIf(lastRefresh -> now - lastRefresh >= minRefreshInterval);
+		Iterator<Long> iterator = outdatedWidgets.iterator();
+		while (iterator.hasNext()) {
+			Long widgetId = iterator.next();
+			iterator.remove();
+			if (lastRefreshes.containsKey(widgetId)) {
+				continue;
+			}
+			try {
+				widgetRepository.findById(widgetId)
+						.filter(MaterializedWidgetOptionsUpdater::isReady)
+						.filter(MaterializedWidgetOptionsUpdater::isOutdated)
+						.filter(widget -> optionsUpdater.clearOutdated(widgetId))
+						.ifPresent(widget -> {
+							MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+							params.put(REFRESH, Collections.singletonList(Boolean.TRUE.toString()));
+							lastRefreshes.put(widgetId, now);
+							generateWidgetViewEventHandler.onApplicationEvent(new GenerateWidgetViewEvent(widgetId, params));
+						});
+			} catch (Exception e) {
+				LOGGER.error("Refresh of the widget with id = {} cannot be started : {}", widgetId, e.getMessage());
+			}
+		}
+	}
+}
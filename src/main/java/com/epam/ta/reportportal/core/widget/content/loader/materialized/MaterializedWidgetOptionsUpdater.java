@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.widget.content.loader.materialized;
+
+import com.epam.ta.reportportal.core.widget.util.WidgetOptionUtil;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetState;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static com.epam.ta.reportportal.core.widget.content.loader.materialized.handler.MaterializedWidgetStateHandler.OUTDATED;
+import static com.epam.ta.reportportal.core.widget.content.updater.MaterializedWidgetStateUpdater.STATE;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Updates separate options of the materialized widget in place instead of saving the whole widget entity,
+ * so the options changed concurrently by the view generation and by the finished launches are not overwritten
+ * with the stale copy of the widget.
+ */
+@Component
+public class MaterializedWidgetOptionsUpdater {
+
+	private static final String MERGE_OPTIONS = "UPDATE widget SET widget_options = jsonb_set(COALESCE(widget_options, '{\"options\": {}}'), '{options}', "
+			+ "COALESCE(widget_options -> 'options', '{}') || CAST(? AS JSONB)) WHERE id = ?";
+	private static final String IS_OUTDATED = "COALESCE(widget_options -> 'options' ->> '" + OUTDATED + "', 'false') = 'true'";
+	private static final String MARK_OUTDATED = MERGE_OPTIONS + " AND widget_options -> 'options' ->> '" + STATE + "' = ? AND NOT " + IS_OUTDATED;
+	private static final String CLEAR_OUTDATED = MERGE_OPTIONS + " AND " + IS_OUTDATED;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	@Autowired
+	public MaterializedWidgetOptionsUpdater(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * @param widgetId Id of the widget
+	 * @param options  Options to add or replace, other options of the widget are kept
+	 */
+	public void update(Long widgetId, Map<String, ?> options) {
+		jdbcTemplate.update(MERGE_OPTIONS, write(options), widgetId);
+	}
+
+	/**
+	 * @param widgetId Id of the widget
+	 * @return true if the widget view was ready and not outdated yet
+	 */
+	public boolean markOutdated(Long widgetId) {
+		return jdbcTemplate.update(MARK_OUTDATED, write(ImmutableMap.of(OUTDATED, true)), widgetId, WidgetState.READY.getValue()) > 0;
+	}
+
+	/**
+	 * Should be called before the view refresh is started, so the launches finished during the refresh
+	 * mark the view as outdated again
+	 *
+	 * @param widgetId Id of the widget
+	 * @return true if the widget view was outdated
+	 */
+	public boolean clearOutdated(Long widgetId) {
+		return jdbcTemplate.update(CLEAR_OUTDATED, write(ImmutableMap.of(OUTDATED, false)), widgetId) > 0;
+	}
+
+	public static boolean isReady(Widget widget) {
+		return ofNullable(WidgetOptionUtil.getValueByKey(STATE, widget.getWidgetOptions())).flatMap(WidgetState::findByName)
+				.filter(WidgetState.READY::equals)
+				.isPresent();
+	}
+
+	public static boolean isOutdated(Widget widget) {
+		return WidgetOptionUtil.getBooleanByKey(OUTDATED, widget.getWidgetOptions());
+	}
+
+	private String write(Map<String, ?> options) {
+		try {
+			return objectMapper.writeValueAsString(options);
+		} catch (JsonProcessingException e) {
+			throw new ReportPortalException("Error during widget options serialization", e);
+		}
+	}
+}
@@ -1,11 +1,13 @@
 package com.epam.ta.reportportal.core.widget.content.loader.materialized.generator;
 
 import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.MaterializedWidgetOptionsUpdater;
 import com.epam.ta.reportportal.core.widget.util.WidgetOptionUtil;
+import com.epam.ta.reportportal.dao.WidgetContentRepository;
 import com.epam.ta.reportportal.dao.WidgetRepository;
 import com.epam.ta.reportportal.entity.widget.Widget;
 import com.epam.ta.reportportal.entity.widget.WidgetState;
-import com.epam.ta.reportportal.ws.converter.builders.WidgetBuilder;
+import com.google.common.collect.ImmutableMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Sort;
@@ -18,6 +20,7 @@ import java.util.Date;
 
 import static com.epam.ta.reportportal.core.widget.content.loader.materialized.handler.MaterializedWidgetStateHandler.VIEW_NAME;
 import static com.epam.ta.reportportal.core.widget.content.updater.MaterializedWidgetStateUpdater.STATE;
+import static java.util.Optional.ofNullable;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -28,38 +31,72 @@ public abstract class AbstractViewGenerator implements ViewGenerator {
 
 	private static final String LAST_REFRESH = "lastRefresh";
 
+	private static final String ALTERNATE_VIEW_SUFFIX = "_alt";
+
 	private final WidgetRepository widgetRepository;
 
-	public AbstractViewGenerator(WidgetRepository widgetRepository) {
+	private final WidgetContentRepository widgetContentRepository;
+
+	private final MaterializedWidgetOptionsUpdater optionsUpdater;
+
+	public AbstractViewGenerator(WidgetRepository widgetRepository, WidgetContentRepository widgetContentRepository,
+			MaterializedWidgetOptionsUpdater optionsUpdater) {
 		this.widgetRepository = widgetRepository;
+		this.widgetContentRepository = widgetContentRepository;
+		this.optionsUpdater = optionsUpdater;
 	}
 
 	protected abstract void generateView(boolean refresh, String viewName, Widget widget, Filter launchesFilter, Sort launchesSort,
 			MultiValueMap<String, String> params);
 
+	/**
+	 * View of the {@link WidgetState#READY} widget is read while it is refreshed, so it isn't rebuilt in place:
+	 * the new view is generated under the alternate name and the widget is switched to it at the end of the generation,
+	 * the previous view is removed after that.
+	 * Only the generation options of the widget are updated, so the widget marked as outdated during the generation stays outdated.
+	 */
 	@Transactional
 	public void generate(boolean refresh, String viewName, Widget widget, Filter launchesFilter, Sort launchesSort,
 			MultiValueMap<String, String> params) {
+		String currentViewName = WidgetOptionUtil.getValueByKey(VIEW_NAME, widget.getWidgetOptions());
+		boolean background = refresh && MaterializedWidgetOptionsUpdater.isReady(widget);
+		String targetViewName = background && viewName.equals(currentViewName) ? viewName + ALTERNATE_VIEW_SUFFIX : viewName;
 		try {
 			LOGGER.debug("Widget {} - {}. Generation started", widget.getWidgetType(), widget.getId());
-			generateView(refresh, viewName, widget, launchesFilter, launchesSort, params);
+			generateView(refresh, targetViewName, widget, launchesFilter, launchesSort, params);
 			LOGGER.debug("Widget {} - {}. Generation finished", widget.getWidgetType(), widget.getId());
-			widgetRepository.save(new WidgetBuilder(widget).addOption(STATE, WidgetState.READY.getValue())
-					.addOption(VIEW_NAME, viewName)
-					.addOption(LAST_REFRESH, Date.from(LocalDateTime.now().atZone(ZoneOffset.UTC).toInstant()))
-					.get());
-			LOGGER.debug("Widget {} - {}. State updated to: {}",
+			if (!widgetRepository.existsById(widget.getId())) {
+				LOGGER.debug("Widget {} - {}. Removed during generation", widget.getWidgetType(), widget.getId());
+				widgetContentRepository.removeWidgetView(targetViewName);
+				return;
+			}
+			optionsUpdater.update(widget.getId(),
+					ImmutableMap.of(STATE,
+							WidgetState.READY.getValue(),
+							VIEW_NAME,
+							targetViewName,
+							LAST_REFRESH,
+							Date.from(LocalDateTime.now().atZone(ZoneOffset.UTC).toInstant())
+					)
+			);
+			ofNullable(currentViewName).filter(name -> !name.equals(targetViewName)).ifPresent(widgetContentRepository::removeWidgetView);
+			LOGGER.debug("Widget {} - {}. State updated to: {}, view: {}",
 					widget.getWidgetType(),
 					widget.getId(),
-					WidgetOptionUtil.getValueByKey(STATE, widget.getWidgetOptions())
+					WidgetState.READY.getValue(),
+					targetViewName
 			);
 		} catch (Exception exc) {
 			LOGGER.error("Error during view creation: " + exc.getMessage());
-			widgetRepository.save(new WidgetBuilder(widget).addOption(STATE, WidgetState.FAILED.getValue()).get());
+			if (background) {
+				LOGGER.error("Refresh failed. Widget {} - {}. Previous view is kept", widget.getWidgetType(), widget.getId());
+				return;
+			}
+			optionsUpdater.update(widget.getId(), ImmutableMap.of(STATE, WidgetState.FAILED.getValue()));
 			LOGGER.error("Generation failed. Widget {} - {}. State updated to: {}",
 					widget.getWidgetType(),
 					widget.getId(),
-					WidgetOptionUtil.getValueByKey(STATE, widget.getWidgetOptions())
+					WidgetState.FAILED.getValue()
 			);
 		}
 
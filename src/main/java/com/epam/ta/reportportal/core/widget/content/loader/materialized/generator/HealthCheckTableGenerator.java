@@ -1,6 +1,7 @@
 package com.epam.ta.reportportal.core.widget.content.loader.materialized.generator;
 
 import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.MaterializedWidgetOptionsUpdater;
 import com.epam.ta.reportportal.core.widget.util.WidgetOptionUtil;
 import com.epam.ta.reportportal.dao.WidgetContentRepository;
 import com.epam.ta.reportportal.dao.WidgetRepository;
@@ -28,8 +29,9 @@ public class HealthCheckTableGenerator extends AbstractViewGenerator {
 	private final WidgetContentRepository widgetContentRepository;
 
 	@Autowired
-	public HealthCheckTableGenerator(WidgetRepository widgetRepository, WidgetContentRepository widgetContentRepository) {
-		super(widgetRepository);
+	public HealthCheckTableGenerator(WidgetRepository widgetRepository, WidgetContentRepository widgetContentRepository,
+			MaterializedWidgetOptionsUpdater optionsUpdater) {
+		super(widgetRepository, widgetContentRepository, optionsUpdater);
 		this.widgetContentRepository = widgetContentRepository;
 	}
 
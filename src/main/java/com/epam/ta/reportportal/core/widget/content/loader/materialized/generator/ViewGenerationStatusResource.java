@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.widget.content.loader.materialized.generator;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Date;
+
+/**
+ * State of the widget view generation with the estimated progress and finish time
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ViewGenerationStatusResource {
+
+	private Long widgetId;
+
+	private State state;
+
+	private Date queuedAt;
+
+	private Date startedAt;
+
+	/**
+	 * Estimated progress in percents
+	 */
+	private Integer progress;
+
+	/**
+	 * Estimated finish time
+	 */
+	private Date eta;
+
+	public Long getWidgetId() {
+		return widgetId;
+	}
+
+	public void setWidgetId(Long widgetId) {
+		this.widgetId = widgetId;
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public void setState(State state) {
+		this.state = state;
+	}
+
+	public Date getQueuedAt() {
+		return queuedAt;
+	}
+
+	public void setQueuedAt(Date queuedAt) {
+		this.queuedAt = queuedAt;
+	}
+
+	public Date getStartedAt() {
+		return startedAt;
+	}
+
+	public void setStartedAt(Date startedAt) {
+		this.startedAt = startedAt;
+	}
+
+	public Integer getProgress() {
+		return progress;
+	}
+
+	public void setProgress(Integer progress) {
+		this.progress = progress;
+	}
+
+	public Date getEta() {
+		return eta;
+	}
+
+	public void setEta(Date eta) {
+		this.eta = eta;
+	}
+
+	public enum State {
+		IDLE,
+		QUEUED,
+		RUNNING
+	}
+}
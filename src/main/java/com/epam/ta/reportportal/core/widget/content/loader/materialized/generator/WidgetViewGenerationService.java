@@ -0,0 +1,328 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.widget.content.loader.materialized.generator;
+
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.dao.WidgetContentRepository;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MultiValueMap;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Runs materialized view generations on the widget view executor.
+ * Only one generation per widget is queued or running at a time: a request for the widget with a queued generation
+ * is merged into it, a request for the widget with a running generation is postponed until the running one is finished.
+ * Queued generations are ordered by the estimated duration, so small views are not blocked by huge ones.
+ * The estimation is the duration of the previous widget generation or the average duration per launch multiplied
+ * by the widget items count.
+ */
+@Service
+public class WidgetViewGenerationService implements MeterBinder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(WidgetViewGenerationService.class);
+
+	private static final String GENERATION_METRIC = "widget.view.generation";
+	private static final String WAIT_METRIC = "widget.view.generation.wait";
+	private static final String QUEUED_METRIC = "widget.view.generation.queued";
+	private static final String TYPE_TAG = "type";
+
+	private static final int MAX_RUNNING_PROGRESS = 99;
+
+	private final TaskExecutor widgetViewExecutor;
+
+	private final WidgetContentRepository widgetContentRepository;
+
+	private final int parallelism;
+
+	private final Map<Long, GenerationTask> tasks = new ConcurrentHashMap<>();
+
+	private final Map<Long, Long> lastDurations = new ConcurrentHashMap<>();
+
+	private final AtomicLong totalDuration = new AtomicLong();
+
+	private final AtomicLong totalItems = new AtomicLong();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private volatile MeterRegistry meterRegistry;
+
+	@Autowired
+	public WidgetViewGenerationService(@Qualifier("widgetViewExecutor") TaskExecutor widgetViewExecutor,
+			WidgetContentRepository widgetContentRepository,
+			@Value("${rp.environment.variable.executor.pool.widget-view.core}") int parallelism) {
+		this.widgetViewExecutor = widgetViewExecutor;
+		this.widgetContentRepository = widgetContentRepository;
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * Queues the view generation of the widget or merges it with the already requested one
+	 *
+	 * @param viewGenerator  {@link ViewGenerator} of the widget type
+	 * @param refresh        Whether existing view should be rebuilt
+	 * @param viewName       Name of the view
+	 * @param widget         {@link Widget}
+	 * @param launchesFilter Launches {@link Filter} of the widget
+	 * @param launchesSort   Launches {@link Sort} of the widget
+	 * @param params         Request params
+	 */
+	public void submit(ViewGenerator viewGenerator, boolean refresh, String viewName, Widget widget, Filter launchesFilter, Sort launchesSort,
+			MultiValueMap<String, String> params) {
+		GenerationRequest request = new GenerationRequest(viewGenerator, refresh, viewName, widget, launchesFilter, launchesSort, params);
+		AtomicReference<GenerationTask> created = new AtomicReference<>();
+		tasks.compute(widget.getId(), (id, task) -> {
+			if (task == null) {
+				created.set(createTask(request));
+				return created.get();
+			}
+			task.merge(request);
+			return task;
+		});
+		ofNullable(created.get()).ifPresent(widgetViewExecutor::execute);
+	}
+
+	/**
+	 * Cancels queued generation of the widget. Running generation can't be interrupted, so its view is removed
+	 * as soon as it's finished.
+	 *
+	 * @param widgetId Id of the widget
+	 */
+	public void cancel(Long widgetId) {
+		ofNullable(tasks.remove(widgetId)).ifPresent(task -> task.canceled = true);
+	}
+
+	/**
+	 * @param widgetId Id of the widget
+	 * @return State of the widget view generation
+	 */
+	public ViewGenerationStatusResource getStatus(Long widgetId) {
+		ViewGenerationStatusResource status = new ViewGenerationStatusResource();
+		status.setWidgetId(widgetId);
+		GenerationTask task = tasks.get(widgetId);
+		if (task == null) {
+			status.setState(ViewGenerationStatusResource.State.IDLE);
+			return status;
+		}
+
+		long now = System.currentTimeMillis();
+		status.setQueuedAt(new Date(task.queuedAt));
+		long startedAt = task.startedAt;
+		if (startedAt > 0) {
+			long elapsed = now - startedAt;
+			status.setState(ViewGenerationStatusResource.State.RUNNING);
+			status.setStartedAt(new Date(startedAt));
+			status.setProgress((int) Math.min(MAX_RUNNING_PROGRESS, elapsed * 100 / Math.max(1, task.estimate)));
+			status.setEta(new Date(now + Math.max(0, task.estimate - elapsed)));
+		} else {
+			long ahead = tasks.values().stream().filter(other -> other != task).mapToLong(other -> {
+				long otherStartedAt = other.startedAt;
+				if (otherStartedAt > 0) {
+					return Math.max(0, other.estimate - (now - otherStartedAt));
+				}
+				return other.compareTo(task) < 0 ? other.estimate : 0;
+			}).sum();
+			status.setState(ViewGenerationStatusResource.State.QUEUED);
+			status.setProgress(0);
+			status.setEta(new Date(now + ahead / parallelism + task.estimate));
+		}
+		return status;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder(QUEUED_METRIC, tasks, it -> it.values().stream().filter(task -> task.startedAt == 0).count())
+				.description("Widget view generations waiting for execution")
+				.register(registry);
+		this.meterRegistry = registry;
+	}
+
+	private GenerationTask createTask(GenerationRequest request) {
+		return new GenerationTask(request.widget.getId(), request, estimate(request.widget), sequence.incrementAndGet());
+	}
+
+	private long estimate(Widget widget) {
+		return ofNullable(lastDurations.get(widget.getId())).orElseGet(() -> {
+			long items = Math.max(1, ofNullable(widget.getItemsCount()).orElse(1));
+			long processedItems = totalItems.get();
+			return processedItems == 0 ? items : items * totalDuration.get() / processedItems;
+		});
+	}
+
+	/**
+	 * Marks the task as running unless it was canceled
+	 *
+	 * @return Request to execute or null if the task was canceled
+	 */
+	private GenerationRequest start(GenerationTask task) {
+		AtomicReference<GenerationRequest> started = new AtomicReference<>();
+		tasks.computeIfPresent(task.widgetId, (id, current) -> {
+			if (current == task) {
+				task.startedAt = System.currentTimeMillis();
+				started.set(task.request);
+			}
+			return current;
+		});
+		return started.get();
+	}
+
+	/**
+	 * Removes the finished task and queues the postponed request of the widget if any
+	 */
+	private void complete(GenerationTask task, GenerationRequest request, long duration) {
+		lastDurations.put(task.widgetId, duration);
+		totalDuration.addAndGet(duration);
+		totalItems.addAndGet(Math.max(1, ofNullable(request.widget.getItemsCount()).orElse(1)));
+
+		AtomicReference<GenerationTask> next = new AtomicReference<>();
+		tasks.computeIfPresent(task.widgetId, (id, current) -> {
+			if (current != task) {
+				return current;
+			}
+			ofNullable(task.next).ifPresent(it -> next.set(createTask(it)));
+			return next.get();
+		});
+
+		if (task.canceled) {
+			LOGGER.debug("Generation of the widget {} view was canceled, view {} is removed", task.widgetId, request.viewName);
+			widgetContentRepository.removeWidgetView(request.viewName);
+		}
+		ofNullable(next.get()).ifPresent(widgetViewExecutor::execute);
+	}
+
+	private void record(String metric, GenerationRequest request, long millis) {
+		ofNullable(meterRegistry).ifPresent(registry -> Timer.builder(metric)
+				.tag(TYPE_TAG, request.widget.getWidgetType())
+				.register(registry)
+				.record(millis, TimeUnit.MILLISECONDS));
+	}
+
+	private static class GenerationRequest {
+
+		private final ViewGenerator viewGenerator;
+		private final boolean refresh;
+		private final String viewName;
+		private final Widget widget;
+		private final Filter launchesFilter;
+		private final Sort launchesSort;
+		private final MultiValueMap<String, String> params;
+
+		private GenerationRequest(ViewGenerator viewGenerator, boolean refresh, String viewName, Widget widget, Filter launchesFilter,
+				Sort launchesSort, MultiValueMap<String, String> params) {
+			this.viewGenerator = viewGenerator;
+			this.refresh = refresh;
+			this.viewName = viewName;
+			this.widget = widget;
+			this.launchesFilter = launchesFilter;
+			this.launchesSort = launchesSort;
+			this.params = params;
+		}
+
+		/**
+		 * @return The latest request that refreshes the view if any of the merged requests does
+		 */
+		private GenerationRequest merge(GenerationRequest latest) {
+			return new GenerationRequest(latest.viewGenerator,
+					refresh || latest.refresh,
+					latest.viewName,
+					latest.widget,
+					latest.launchesFilter,
+					latest.launchesSort,
+					latest.params
+			);
+		}
+
+		private void generate() {
+			viewGenerator.generate(refresh, viewName, widget, launchesFilter, launchesSort, params);
+		}
+	}
+
+	private class GenerationTask implements Runnable, Comparable<GenerationTask> {
+
+		private final Long widgetId;
+		private final long estimate;
+		private final long order;
+		private final long queuedAt = System.currentTimeMillis();
+
+		private volatile GenerationRequest request;
+		private volatile GenerationRequest next;
+		private volatile long startedAt;
+		private volatile boolean canceled;
+
+		private GenerationTask(Long widgetId, GenerationRequest request, long estimate, long order) {
+			this.widgetId = widgetId;
+			this.request = request;
+			this.estimate = estimate;
+			this.order = order;
+		}
+
+		/**
+		 * Called under the lock of the widget entry of the tasks map
+		 */
+		private void merge(GenerationRequest latest) {
+			if (startedAt == 0) {
+				request = request.merge(latest);
+			} else {
+				next = next == null ? latest : next.merge(latest);
+			}
+		}
+
+		@Override
+		public void run() {
+			GenerationRequest started = start(this);
+			if (started == null) {
+				return;
+			}
+			record(WAIT_METRIC, started, startedAt - queuedAt);
+			try {
+				started.generate();
+			} catch (Exception e) {
+				LOGGER.error("Generation of the widget {} view failed: {}", widgetId, e.getMessage());
+			} finally {
+				long duration = System.currentTimeMillis() - startedAt;
+				record(GENERATION_METRIC, started, duration);
+				complete(this, started, duration);
+			}
+		}
+
+		@Override
+		public int compareTo(GenerationTask other) {
+			return Comparator.comparingLong((GenerationTask task) -> task.estimate).thenComparingLong(task -> task.order).compare(this, other);
+		}
+	}
+}
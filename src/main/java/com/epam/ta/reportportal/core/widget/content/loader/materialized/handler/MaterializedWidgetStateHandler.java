@@ -12,6 +12,7 @@ public interface MaterializedWidgetStateHandler {
 
 	String REFRESH = "refresh";
 	String VIEW_NAME = "viewName";
+	String OUTDATED = "outdated";
 
 	Map<String, Object> handleWidgetState(Widget widget, MultiValueMap<String, String> params);
 }
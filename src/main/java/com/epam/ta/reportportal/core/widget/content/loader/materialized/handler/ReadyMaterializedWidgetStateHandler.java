@@ -1,6 +1,8 @@
 package com.epam.ta.reportportal.core.widget.content.loader.materialized.handler;
 
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.MaterializedViewRefresher;
 import com.epam.ta.reportportal.core.widget.content.loader.materialized.MaterializedWidgetContentLoader;
+import com.epam.ta.reportportal.core.widget.util.WidgetOptionUtil;
 import com.epam.ta.reportportal.entity.widget.Widget;
 import com.epam.ta.reportportal.entity.widget.WidgetType;
 import com.epam.ta.reportportal.exception.ReportPortalException;
@@ -24,13 +26,16 @@ public class ReadyMaterializedWidgetStateHandler implements MaterializedWidgetSt
 
 	private final MaterializedWidgetStateHandler refreshWidgetStateHandler;
 	private final Map<WidgetType, MaterializedWidgetContentLoader> materializedWidgetContentLoaderMapping;
+	private final MaterializedViewRefresher materializedViewRefresher;
 
 	public ReadyMaterializedWidgetStateHandler(
 			@Qualifier("createdMaterializedWidgetStateHandler") MaterializedWidgetStateHandler refreshWidgetStateHandler,
 			@Qualifier("materializedWidgetContentLoaderMapping")
-					Map<WidgetType, MaterializedWidgetContentLoader> materializedWidgetContentLoaderMapping) {
+					Map<WidgetType, MaterializedWidgetContentLoader> materializedWidgetContentLoaderMapping,
+			MaterializedViewRefresher materializedViewRefresher) {
 		this.refreshWidgetStateHandler = refreshWidgetStateHandler;
 		this.materializedWidgetContentLoaderMapping = materializedWidgetContentLoaderMapping;
+		this.materializedViewRefresher = materializedViewRefresher;
 	}
 
 	@Override
@@ -40,6 +45,10 @@ public class ReadyMaterializedWidgetStateHandler implements MaterializedWidgetSt
 			return refreshWidgetStateHandler.handleWidgetState(widget, params);
 		}
 
+		if (WidgetOptionUtil.getBooleanByKey(OUTDATED, widget.getWidgetOptions())) {
+			materializedViewRefresher.schedule(widget.getId());
+		}
+
 		WidgetType widgetType = WidgetType.findByName(widget.getWidgetType())
 				.orElseThrow(() -> new ReportPortalException(ErrorType.UNABLE_TO_CREATE_WIDGET,
 						formattedSupplier("Unsupported widget type '{}'", widget.getWidgetType())
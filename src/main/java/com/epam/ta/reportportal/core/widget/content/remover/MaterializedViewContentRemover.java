@@ -1,6 +1,7 @@
 package com.epam.ta.reportportal.core.widget.content.remover;
 
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.WidgetViewGenerationService;
 import com.epam.ta.reportportal.core.widget.util.WidgetOptionUtil;
 import com.epam.ta.reportportal.dao.WidgetContentRepository;
 import com.epam.ta.reportportal.entity.widget.Widget;
@@ -23,15 +24,19 @@ import static java.util.Optional.ofNullable;
 public class MaterializedViewContentRemover implements WidgetContentRemover {
 
 	private final WidgetContentRepository widgetContentRepository;
+	private final WidgetViewGenerationService widgetViewGenerationService;
 
-	public MaterializedViewContentRemover(WidgetContentRepository widgetContentRepository) {
+	public MaterializedViewContentRemover(WidgetContentRepository widgetContentRepository,
+			WidgetViewGenerationService widgetViewGenerationService) {
 		this.widgetContentRepository = widgetContentRepository;
+		this.widgetViewGenerationService = widgetViewGenerationService;
 	}
 
 	@Override
 	public void removeContent(Widget widget) {
 		if (supports(widget)) {
 			validateState(widget.getWidgetOptions());
+			widgetViewGenerationService.cancel(widget.getId());
 			ofNullable(WidgetOptionUtil.getValueByKey(VIEW_NAME,
 					widget.getWidgetOptions()
 			)).ifPresent(widgetContentRepository::removeWidgetView);
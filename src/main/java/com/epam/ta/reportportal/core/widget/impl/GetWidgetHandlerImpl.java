@@ -25,9 +25,13 @@ import com.epam.ta.reportportal.core.widget.content.BuildFilterStrategy;
 import com.epam.ta.reportportal.core.widget.content.LoadContentStrategy;
 import com.epam.ta.reportportal.core.widget.content.MaterializedLoadContentStrategy;
 import com.epam.ta.reportportal.core.widget.content.MultilevelLoadContentStrategy;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.ViewGenerationStatusResource;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.WidgetViewGenerationService;
 import com.epam.ta.reportportal.dao.WidgetRepository;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
 import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetOptions;
 import com.epam.ta.reportportal.entity.widget.WidgetType;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.converter.PagedResourcesAssembler;
@@ -43,11 +47,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_NAME;
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_OWNER;
@@ -62,6 +69,11 @@ import static java.util.Optional.ofNullable;
 @Service
 public class GetWidgetHandlerImpl implements GetWidgetHandler {
 
+	/**
+	 * Content of these widgets isn't changed by launches only, so it's always loaded from the database
+	 */
+	private static final Set<WidgetType> NOT_CACHED_WIDGET_TYPES = EnumSet.of(WidgetType.ACTIVITY);
+
 	private Map<WidgetType, BuildFilterStrategy> buildFilterStrategyMapping;
 
 	private Map<WidgetType, LoadContentStrategy> loadContentStrategy;
@@ -81,6 +93,12 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 	@Autowired
 	private GetUserFilterHandler getUserFilterHandler;
 
+	@Autowired
+	private WidgetContentCache widgetContentCache;
+
+	@Autowired
+	private WidgetViewGenerationService widgetViewGenerationService;
+
 	@Autowired
 	@Qualifier("buildFilterStrategy")
 	public void setBuildFilterStrategy(Map<WidgetType, BuildFilterStrategy> buildFilterStrategyMapping) {
@@ -126,11 +144,16 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		Map<String, ?> content;
 
 		if (unfilteredWidgetTypes.contains(widgetType) || isFilteredContentLoadAllowed(widget.getFilters(), projectDetails, user)) {
-			content = loadContentStrategy.get(widgetType)
-					.loadContent(Lists.newArrayList(widget.getContentFields()),
-							buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
-							widget.getWidgetOptions(),
-							widget.getItemsCount()
+			final Map<Filter, Sort> filterSortMap = buildFilterStrategyMapping.get(widgetType).buildFilter(widget);
+			final List<String> contentFields = Lists.newArrayList(widget.getContentFields());
+			final Supplier<Map<String, ?>> contentLoader = () -> loadContentStrategy.get(widgetType)
+					.loadContent(contentFields, filterSortMap, widget.getWidgetOptions(), widget.getItemsCount());
+			content = NOT_CACHED_WIDGET_TYPES.contains(widgetType) ?
+					contentLoader.get() :
+					widgetContentCache.getContent(projectDetails.getProjectId(),
+							widget.getId(),
+							Lists.newArrayList(filterSortMap, contentFields, getOptions(widget), widget.getItemsCount()),
+							contentLoader
 					);
 		} else {
 			content = Collections.emptyMap();
@@ -158,14 +181,16 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 
 		if (unfilteredWidgetTypes.contains(widgetType) || isFilteredContentLoadAllowed(widget.getFilters(), projectDetails, user)) {
 			params.put(ATTRIBUTES, Lists.newArrayList(attributes));
-			content = ofNullable(multilevelLoadContentStrategy.get(widgetType)).map(strategy -> strategy.loadContent(Lists.newArrayList(
-					widget.getContentFields()),
-					buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
-					widget.getWidgetOptions(),
-					attributes,
-					params,
-					widget.getItemsCount()
-			)).orElseGet(() -> materializedLoadContentStrategy.loadContent(widget, params));
+			/* Materialized content depends on the state of the view generation, so it isn't cached */
+			content = ofNullable(multilevelLoadContentStrategy.get(widgetType)).map(strategy -> {
+				final Map<Filter, Sort> filterSortMap = buildFilterStrategyMapping.get(widgetType).buildFilter(widget);
+				final List<String> contentFields = Lists.newArrayList(widget.getContentFields());
+				return widgetContentCache.getContent(projectDetails.getProjectId(),
+						widget.getId(),
+						Lists.newArrayList(filterSortMap, contentFields, getOptions(widget), widget.getItemsCount(), new LinkedMultiValueMap<>(params)),
+						() -> strategy.loadContent(contentFields, filterSortMap, widget.getWidgetOptions(), attributes, params, widget.getItemsCount())
+				);
+			}).orElseGet(() -> materializedLoadContentStrategy.loadContent(widget, params));
 
 		} else {
 			content = Collections.emptyMap();
@@ -176,6 +201,10 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		return resource;
 	}
 
+	private Map<String, Object> getOptions(Widget widget) {
+		return ofNullable(widget.getWidgetOptions()).map(WidgetOptions::getOptions).orElseGet(Collections::emptyMap);
+	}
+
 	private Boolean isFilteredContentLoadAllowed(Collection<UserFilter> userFilters, ReportPortalUser.ProjectDetails projectDetails,
 			ReportPortalUser user) {
 
@@ -189,6 +218,13 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 
 	}
 
+	@Override
+	public ViewGenerationStatusResource getViewGenerationStatus(Long widgetId, ReportPortalUser.ProjectDetails projectDetails,
+			ReportPortalUser user) {
+		Widget widget = getShareableEntityHandler.getPermitted(widgetId, projectDetails);
+		return widgetViewGenerationService.getStatus(widget.getId());
+	}
+
 	@Override
 	public Map<String, ?> getWidgetPreview(WidgetPreviewRQ previewRQ, ReportPortalUser.ProjectDetails projectDetails,
 			ReportPortalUser user) {
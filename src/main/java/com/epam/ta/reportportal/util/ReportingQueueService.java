@@ -13,24 +13,49 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package com.epam.ta.reportportal.util;
 
+import com.epam.ta.reportportal.util.routing.ConsistentHashQueueRoutingStrategy;
+import com.epam.ta.reportportal.util.routing.LaunchUuidHash;
+import com.epam.ta.reportportal.util.routing.ModuloQueueRoutingStrategy;
+import com.epam.ta.reportportal.util.routing.QueueRoutingStrategy;
+import com.google.common.base.Splitter;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
+ * Maps launch uuid to the key of the reporting queue, so all the requests of a launch are handled in order by a single consumer.
+ * Queues can be dedicated to the hot projects with {@code rp.amqp.routing.dedicated} property in format
+ * {@code <projectId>:<queue>[|<queue>...],...}, e.g. {@code 12:8|9,27:7}. Launches of such projects are distributed among
+ * their dedicated queues only, the rest of the launches never get there.
+ *
  * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
  */
 @Component
 public class ReportingQueueService {
 
-	private static final String UUID_REGEX = "[0-9a-fA-F]{8}\\-[0-9a-fA-F]{4}\\-[0-9a-fA-F]{4}\\-[0-9a-fA-F]{4}\\-[0-9a-fA-F]{12}";
+	public static final String MODULO_STRATEGY = "modulo";
+	public static final String CONSISTENT_HASH_STRATEGY = "consistent-hash";
 
 	private int queueAmount;
 
+	private String strategy = MODULO_STRATEGY;
+
+	private int virtualNodes = 200;
+
+	private String dedicated = StringUtils.EMPTY;
+
+	private volatile QueueRoutingStrategy defaultRouting;
+
+	private volatile Map<Long, QueueRoutingStrategy> dedicatedRouting = Collections.emptyMap();
+
 	public int getQueueAmount() {
 		return queueAmount;
 	}
@@ -38,21 +63,102 @@ public class ReportingQueueService {
 	@Value("${rp.amqp.queues}")
 	public void setQueueAmount(int queueAmount) {
 		this.queueAmount = queueAmount;
+		initRouting();
+	}
+
+	/**
+	 * Routing strategy, one of [modulo, consistent-hash].
+	 * Modulo is kept as default as switching of the strategy remaps launches being reported.
+	 */
+	@Value("${rp.amqp.routing.strategy:modulo}")
+	public void setStrategy(String strategy) {
+		this.strategy = strategy;
+		initRouting();
+	}
+
+	@Value("${rp.amqp.routing.virtual-nodes:200}")
+	public void setVirtualNodes(int virtualNodes) {
+		this.virtualNodes = virtualNodes;
+		initRouting();
+	}
+
+	@Value("${rp.amqp.routing.dedicated:}")
+	public void setDedicated(String dedicated) {
+		this.dedicated = dedicated;
+		initRouting();
 	}
 
 	/**
 	 * Mapping launchId to reporting queue key.
-	 * Not sure if uniform distribution will be produced, intuitively would be uniform with random UUID input.
-	 * As {@link UUID#hashCode} may return negative int,
-	 * take absolute value by trimming high sign bit of complement representation
 	 *
-	 * @param launchUuid
-	 * @return
+	 * @param launchUuid Launch uuid
+	 * @return Routing key of the reporting queue
 	 */
 	public String getReportingQueueKey(String launchUuid) {
-		int value = launchUuid.matches(UUID_REGEX) ? UUID.fromString(launchUuid).hashCode() : launchUuid.hashCode();
-		value = value & 0x7fffffff;
-		return String.valueOf(value % queueAmount);
+		return String.valueOf(defaultRouting.getQueueIndex(LaunchUuidHash.hash(launchUuid)));
+	}
+
+	/**
+	 * Mapping launchId to reporting queue key taking into account queues dedicated to the project.
+	 *
+	 * @param launchUuid Launch uuid
+	 * @param projectId  Id of the launch project
+	 * @return Routing key of the reporting queue
+	 */
+	public String getReportingQueueKey(String launchUuid, Long projectId) {
+		QueueRoutingStrategy routing = Optional.ofNullable(projectId).map(dedicatedRouting::get).orElse(defaultRouting);
+		return String.valueOf(routing.getQueueIndex(LaunchUuidHash.hash(launchUuid)));
 	}
 
+	private void initRouting() {
+		if (queueAmount <= 0) {
+			return;
+		}
+		Map<Long, List<Integer>> dedicatedQueues = parseDedicated(dedicated);
+		Set<Integer> reserved = dedicatedQueues.values().stream().flatMap(List::stream).collect(Collectors.toSet());
+		List<Integer> commonQueues = IntStream.range(0, queueAmount).boxed().filter(q -> !reserved.contains(q)).collect(Collectors.toList());
+		checkArgument(!commonQueues.isEmpty(), "At least one reporting queue should not be dedicated to a project");
+
+		Map<Long, QueueRoutingStrategy> routing = dedicatedQueues.entrySet()
+				.stream()
+				.collect(Collectors.toMap(Map.Entry::getKey, entry -> createRouting(entry.getValue())));
+		defaultRouting = createRouting(commonQueues);
+		dedicatedRouting = routing;
+	}
+
+	private QueueRoutingStrategy createRouting(List<Integer> queues) {
+		switch (strategy) {
+			case MODULO_STRATEGY:
+				return new ModuloQueueRoutingStrategy(queues);
+			case CONSISTENT_HASH_STRATEGY:
+				checkArgument(virtualNodes > 0, "'rp.amqp.routing.virtual-nodes' should be positive, but was %s", virtualNodes);
+				return new ConsistentHashQueueRoutingStrategy(queues, virtualNodes);
+			default:
+				throw new IllegalArgumentException("Unknown reporting queue routing strategy '" + strategy + "'");
+		}
+	}
+
+	private Map<Long, List<Integer>> parseDedicated(String dedicated) {
+		if (StringUtils.isBlank(dedicated)) {
+			return Collections.emptyMap();
+		}
+		return Splitter.on(',').trimResults().omitEmptyStrings().withKeyValueSeparator(':').split(dedicated).entrySet().stream().collect(
+				Collectors.toMap(entry -> Long.valueOf(entry.getKey()), entry -> {
+					List<Integer> queues = Splitter.on('|')
+							.trimResults()
+							.omitEmptyStrings()
+							.splitToList(entry.getValue())
+							.stream()
+							.map(Integer::valueOf)
+							.collect(Collectors.toList());
+					checkArgument(!queues.isEmpty(), "No queues are dedicated to the project %s", entry.getKey());
+					queues.forEach(q -> checkArgument(q >= 0 && q < queueAmount,
+							"Queue %s dedicated to the project %s doesn't exist",
+							q,
+							entry.getKey()
+					));
+					return queues;
+				}, (first, second) -> first, LinkedHashMap::new)
+		);
+	}
 }
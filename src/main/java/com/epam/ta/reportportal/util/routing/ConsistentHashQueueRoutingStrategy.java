@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.util.routing;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Places every queue on a hash ring as a number of virtual nodes and routes a launch to the first node
+ * clockwise from the launch hash. Adding or removing of a queue moves only about 1/N of the launches.
+ */
+public class ConsistentHashQueueRoutingStrategy implements QueueRoutingStrategy {
+
+	private static final HashFunction HASH_FUNCTION = Hashing.murmur3_32();
+
+	/**
+	 * Sorted positions of the virtual nodes
+	 */
+	private final int[] ring;
+
+	/**
+	 * Queue index of the virtual node with the same position in {@link #ring}
+	 */
+	private final int[] owners;
+
+	public ConsistentHashQueueRoutingStrategy(List<Integer> queues, int virtualNodes) {
+		long[] nodes = new long[queues.size() * virtualNodes];
+		int n = 0;
+		for (Integer queue : queues) {
+			for (int i = 0; i < virtualNodes; i++) {
+				int position = HASH_FUNCTION.hashString(queue + "#" + i, StandardCharsets.UTF_8).asInt();
+				/* pack position with the queue index so nodes are sorted by position */
+				nodes[n++] = ((long) position << 32) | queue;
+			}
+		}
+		Arrays.sort(nodes);
+		ring = new int[nodes.length];
+		owners = new int[nodes.length];
+		for (int i = 0; i < nodes.length; i++) {
+			ring[i] = (int) (nodes[i] >> 32);
+			owners[i] = (int) nodes[i];
+		}
+	}
+
+	@Override
+	public int getQueueIndex(int launchHash) {
+		int position = Arrays.binarySearch(ring, LaunchUuidHash.mix(launchHash));
+		if (position < 0) {
+			position = -position - 1;
+		}
+		return owners[position == ring.length ? 0 : position];
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.util.routing;
+
+import java.util.UUID;
+
+/**
+ * Hash of the launch uuid used for the reporting queue routing
+ */
+public final class LaunchUuidHash {
+
+	private static final int UUID_LENGTH = 36;
+
+	private LaunchUuidHash() {
+		//static only
+	}
+
+	/**
+	 * Same as {@link UUID#hashCode()} of the parsed uuid for the canonical uuid representation
+	 * and {@link String#hashCode()} for any other string.
+	 * Canonical form is checked and parsed in a single pass without regex matching and {@link UUID} allocation.
+	 *
+	 * @param launchUuid Launch uuid
+	 * @return Hash
+	 */
+	public static int hash(String launchUuid) {
+		if (launchUuid.length() != UUID_LENGTH) {
+			return launchUuid.hashCode();
+		}
+		long mostSigBits = 0;
+		long leastSigBits = 0;
+		for (int i = 0; i < UUID_LENGTH; i++) {
+			char c = launchUuid.charAt(i);
+			if (i == 8 || i == 13 || i == 18 || i == 23) {
+				if (c != '-') {
+					return launchUuid.hashCode();
+				}
+				continue;
+			}
+			int digit = Character.digit(c, 16);
+			if (digit < 0 || c > 'f') {
+				return launchUuid.hashCode();
+			}
+			if (i < 18) {
+				mostSigBits = (mostSigBits << 4) | digit;
+			} else {
+				leastSigBits = (leastSigBits << 4) | digit;
+			}
+		}
+		long hilo = mostSigBits ^ leastSigBits;
+		return ((int) (hilo >> 32)) ^ (int) hilo;
+	}
+
+	/**
+	 * Spreads bits of the hash, so the close values are placed far from each other on the hash ring
+	 *
+	 * @param hash Hash
+	 * @return Mixed hash
+	 */
+	static int mix(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+}
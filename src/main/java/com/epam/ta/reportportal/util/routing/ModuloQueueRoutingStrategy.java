@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.util.routing;
+
+import java.util.List;
+
+/**
+ * Routes a launch to the queue with index equal to the launch hash modulo the number of queues.
+ * Uniform, but changing of the queues amount remaps almost every launch.
+ */
+public class ModuloQueueRoutingStrategy implements QueueRoutingStrategy {
+
+	private final int[] queues;
+
+	public ModuloQueueRoutingStrategy(List<Integer> queues) {
+		this.queues = queues.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	@Override
+	public int getQueueIndex(int launchHash) {
+		/* hash may be negative, take absolute value by trimming high sign bit of complement representation */
+		return queues[(launchHash & 0x7fffffff) % queues.length];
+	}
+}
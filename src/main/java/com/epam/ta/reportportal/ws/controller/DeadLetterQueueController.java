@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.controller;
+
+import com.epam.ta.reportportal.core.admin.dlq.DeadLetterFilter;
+import com.epam.ta.reportportal.core.admin.dlq.DeadLetterQueueHandler;
+import com.epam.ta.reportportal.core.admin.dlq.DeadLetterResource;
+import com.epam.ta.reportportal.core.admin.dlq.DeadLetterSummaryResource;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.epam.ta.reportportal.auth.permissions.Permissions.ADMIN_ONLY;
+
+/**
+ * Administration of the reporting messages dropped to the dead letter queue
+ */
+@RestController
+@RequestMapping("/v1/dlq")
+@PreAuthorize(ADMIN_ONLY)
+public class DeadLetterQueueController {
+
+	private final DeadLetterQueueHandler deadLetterQueueHandler;
+
+	@Autowired
+	public DeadLetterQueueController(DeadLetterQueueHandler deadLetterQueueHandler) {
+		this.deadLetterQueueHandler = deadLetterQueueHandler;
+	}
+
+	@GetMapping
+	@ResponseStatus(HttpStatus.OK)
+	@ApiOperation(value = "Get messages of the dead letter queue")
+	public List<DeadLetterResource> getDeadLetters(DeadLetterFilter filter) {
+		return deadLetterQueueHandler.getDeadLetters(filter);
+	}
+
+	@GetMapping("/summary")
+	@ResponseStatus(HttpStatus.OK)
+	@ApiOperation(value = "Count messages of the dead letter queue by launch and error type")
+	public DeadLetterSummaryResource getSummary() {
+		return deadLetterQueueHandler.getSummary();
+	}
+
+	@PostMapping("/replay")
+	@ResponseStatus(HttpStatus.OK)
+	@ApiOperation(value = "Start sending messages of the dead letter queue back to the reporting queues")
+	public OperationCompletionRS replay(@RequestBody DeadLetterFilter filter) {
+		return deadLetterQueueHandler.replay(filter);
+	}
+
+	@PostMapping("/purge")
+	@ResponseStatus(HttpStatus.OK)
+	@ApiOperation(value = "Remove messages from the dead letter queue")
+	public OperationCompletionRS purge(@RequestBody DeadLetterFilter filter) {
+		return deadLetterQueueHandler.purge(filter);
+	}
+}
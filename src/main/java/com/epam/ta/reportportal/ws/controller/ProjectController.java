@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.commons.querygen.CompositeFilter;
 import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.core.analyzer.auto.indexer.ReindexProgress;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
 import com.epam.ta.reportportal.core.preference.GetPreferenceHandler;
 import com.epam.ta.reportportal.core.preference.UpdatePreferenceHandler;
@@ -166,6 +167,15 @@ public class ProjectController {
 		return updateProjectHandler.indexProjectData(normalizeId(projectName), user);
 	}
 
+	@Transactional(readOnly = true)
+	@GetMapping("/{projectName}/index/progress")
+	@ResponseStatus(OK)
+	@PreAuthorize(PROJECT_MANAGER_OR_ADMIN)
+	@ApiOperation(value = "Get progress of the project data reindex in ML")
+	public ReindexProgress getIndexingProgress(@PathVariable String projectName, @AuthenticationPrincipal ReportPortalUser user) {
+		return getProjectHandler.getIndexingProgress(normalizeId(projectName));
+	}
+
 	@Transactional(readOnly = true)
 	@GetMapping("/{projectName}/users")
 	@PreAuthorize(NOT_CUSTOMER)
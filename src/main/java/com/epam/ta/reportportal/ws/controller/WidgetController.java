@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.core.widget.CreateWidgetHandler;
 import com.epam.ta.reportportal.core.widget.GetWidgetHandler;
 import com.epam.ta.reportportal.core.widget.UpdateWidgetHandler;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.ViewGenerationStatusResource;
 import com.epam.ta.reportportal.entity.widget.Widget;
 import com.epam.ta.reportportal.ws.model.EntryCreatedRS;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
@@ -95,6 +96,15 @@ public class WidgetController {
 		return getWidgetHandler.getWidget(widgetId, ArrayUtils.nullToEmpty(attributes), params, extractProjectDetails(user, projectName), user);
 	}
 
+	@Transactional(readOnly = true)
+	@GetMapping(value = "/{widgetId}/generation")
+	@ResponseStatus(OK)
+	@ApiOperation("Get state of the widget view generation")
+	public ViewGenerationStatusResource getViewGenerationStatus(@PathVariable String projectName, @PathVariable Long widgetId,
+			@AuthenticationPrincipal ReportPortalUser user) {
+		return getWidgetHandler.getViewGenerationStatus(widgetId, extractProjectDetails(user, projectName), user);
+	}
+
 	@Transactional(readOnly = true)
 	@PostMapping(value = "/preview")
 	@ResponseStatus(OK)
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.configs.rabbit.DeserializablePair;
+import com.epam.ta.reportportal.core.log.impl.LogBatchWriter;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consumes reporting messages in batches delivered by the listener container.
+ * Consecutive LOG messages are persisted with one multi-row insert, all the other request types are delegated
+ * to the {@link AsyncReportingListener} one by one in the order of delivery.
+ * The container is expected to work in {@link org.springframework.amqp.core.AcknowledgeMode#MANUAL} mode:
+ * every delivery is acknowledged only after its changes are committed, so at-least-once delivery is kept.
+ */
+public class AsyncReportingBatchListener implements ChannelAwareBatchMessageListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AsyncReportingBatchListener.class);
+
+	private final AsyncReportingListener reportingListener;
+
+	private final LogBatchWriter logBatchWriter;
+
+	public AsyncReportingBatchListener(AsyncReportingListener reportingListener, LogBatchWriter logBatchWriter) {
+		this.reportingListener = reportingListener;
+		this.logBatchWriter = logBatchWriter;
+	}
+
+	@Override
+	public void onMessageBatch(List<Message> messages, Channel channel) {
+		List<Message> logMessages = new ArrayList<>();
+		for (Message message : messages) {
+			if (RequestType.LOG == reportingListener.getRequestType(message)) {
+				logMessages.add(message);
+			} else {
+				flushLogs(logMessages, channel);
+				onSingleMessage(message, channel);
+			}
+		}
+		flushLogs(logMessages, channel);
+	}
+
+	private void onSingleMessage(Message message, Channel channel) {
+		try {
+			reportingListener.onMessage(message);
+			ack(message, channel);
+		} catch (Exception e) {
+			reject(message, channel);
+		}
+	}
+
+	/**
+	 * Saves logs of the collected messages in a single transaction.
+	 * Messages those couldn't be resolved to a log are rejected separately, the others are acknowledged after commit.
+	 * If the batch insert fails the logs are saved one by one, so only the messages those fail again are rejected.
+	 *
+	 * @param logMessages Collected LOG messages, cleared after processing
+	 * @param channel     {@link Channel} the messages were delivered through
+	 */
+	private void flushLogs(List<Message> logMessages, Channel channel) {
+		if (logMessages.isEmpty()) {
+			return;
+		}
+
+		List<Message> resolvedMessages = new ArrayList<>(logMessages.size());
+		List<Log> logs = new ArrayList<>(logMessages.size());
+		List<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>> payloads = new ArrayList<>(logMessages.size());
+		for (Message message : logMessages) {
+			if (reportingListener.breakRetrying(message)) {
+				ack(message, channel);
+				continue;
+			}
+			try {
+				DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> payload = reportingListener.getLogPayload(message);
+				logs.add(reportingListener.buildLog(payload.getLeft(), getProjectId(message)));
+				payloads.add(payload);
+				resolvedMessages.add(message);
+			} catch (Exception e) {
+				LOGGER.debug("exception : {}, message : {}", e.getClass().getName(), e.getMessage());
+				fail(message, channel, e);
+			}
+		}
+		logMessages.clear();
+
+		if (logs.isEmpty()) {
+			return;
+		}
+
+		try {
+			logBatchWriter.saveInBatch(logs);
+		} catch (Exception e) {
+			LOGGER.error("Batch of {} logs cannot be saved, saving them one by one : {}", logs.size(), e.getMessage());
+			for (int i = 0; i < resolvedMessages.size(); i++) {
+				onSingleLog(resolvedMessages.get(i), payloads.get(i), channel);
+			}
+			return;
+		}
+
+		for (int i = 0; i < logs.size(); i++) {
+			Message message = resolvedMessages.get(i);
+			try {
+				reportingListener.saveLogAttachment(logs.get(i), payloads.get(i).getRight(), getProjectId(message));
+			} catch (Exception e) {
+				LOGGER.error("Attachment of the log with uuid = {} cannot be saved : {}", logs.get(i).getUuid(), e.getMessage());
+			}
+			ack(message, channel);
+		}
+	}
+
+	private void onSingleLog(Message message, DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> payload, Channel channel) {
+		try {
+			reportingListener.onLogCreate(payload, getProjectId(message));
+			ack(message, channel);
+		} catch (Exception e) {
+			LOGGER.error("Log of the message with delivery tag = {} cannot be saved : {}",
+					message.getMessageProperties().getDeliveryTag(),
+					e.getMessage()
+			);
+			fail(message, channel, e);
+		}
+	}
+
+	private Long getProjectId(Message message) {
+		return (Long) message.getMessageProperties().getHeaders().get(MessageHeaders.PROJECT_ID);
+	}
+
+	private void ack(Message message, Channel channel) {
+		try {
+			channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+		} catch (IOException e) {
+			LOGGER.error("Message with delivery tag = {} cannot be acknowledged : {}",
+					message.getMessageProperties().getDeliveryTag(),
+					e.getMessage()
+			);
+		}
+	}
+
+	/**
+	 * The message failed on the last allowed attempt is moved to the DLQ with the cause of the failure the same way
+	 * as by the {@link AsyncReportingListener}, the others are rejected for retry
+	 */
+	private void fail(Message message, Channel channel, Exception e) {
+		if (reportingListener.moveToDeadLetterQueueOnLastAttempt(message, e)) {
+			ack(message, channel);
+		} else {
+			reject(message, channel);
+		}
+	}
+
+	private void reject(Message message, Channel channel) {
+		try {
+			channel.basicReject(message.getMessageProperties().getDeliveryTag(), false);
+		} catch (IOException e) {
+			LOGGER.error("Message with delivery tag = {} cannot be rejected : {}",
+					message.getMessageProperties().getDeliveryTag(),
+					e.getMessage()
+			);
+		}
+	}
+}
@@ -16,7 +16,7 @@
 
 package com.epam.ta.reportportal.ws.rabbit;
 
-import com.epam.ta.reportportal.auth.basic.DatabaseUserDetailsService;
+import com.epam.ta.reportportal.auth.basic.ReportingUserCache;
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
@@ -93,7 +93,7 @@ public class AsyncReportingListener implements MessageListener {
 	private FinishTestItemHandler finishTestItemHandler;
 
 	@Autowired
-	private DatabaseUserDetailsService userDetailsService;
+	private ReportingUserCache reportingUserCache;
 
 	@Autowired
 	private LogRepository logRepository;
@@ -152,11 +152,7 @@ public class AsyncReportingListener implements MessageListener {
 					);
 					break;
 				case LOG:
-					Jackson2JsonMessageConverter converter = (Jackson2JsonMessageConverter) messageConverter;
-					onLogCreate((DeserializablePair) converter.fromMessage(message,
-							new ParameterizedTypeReference<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>>() {
-							}
-					), (Long) headers.get(MessageHeaders.PROJECT_ID));
+					onLogCreate(getLogPayload(message), (Long) headers.get(MessageHeaders.PROJECT_ID));
 					break;
 				default:
 					LOGGER.error("Unknown message type");
@@ -176,23 +172,26 @@ public class AsyncReportingListener implements MessageListener {
 						e.getCause() != null ? e.getCause().getMessage() : ""
 				);
 			}
+			if (moveToDeadLetterQueueOnLastAttempt(message, e)) {
+				return;
+			}
 			throw new AmqpRejectAndDontRequeueException(e);
 		}
 
 	}
 
 	public void onStartLaunch(StartLaunchRQ rq, String username, String projectName) {
-		ReportPortalUser user = (ReportPortalUser) userDetailsService.loadUserByUsername(username);
+		ReportPortalUser user = reportingUserCache.getUser(username);
 		startLaunchHandler.startLaunch(user, ProjectExtractor.extractProjectDetails(user, projectName), rq);
 	}
 
 	public void onFinishLaunch(FinishExecutionRQ rq, String username, String projectName, String launchId, String baseUrl) {
-		ReportPortalUser user = (ReportPortalUser) userDetailsService.loadUserByUsername(username);
+		ReportPortalUser user = reportingUserCache.getUser(username);
 		finishLaunchHandler.finishLaunch(launchId, rq, ProjectExtractor.extractProjectDetails(user, projectName), user, baseUrl);
 	}
 
 	public void onStartItem(StartTestItemRQ rq, String username, String projectName, String parentId) {
-		ReportPortalUser user = (ReportPortalUser) userDetailsService.loadUserByUsername(username);
+		ReportPortalUser user = reportingUserCache.getUser(username);
 		ReportPortalUser.ProjectDetails projectDetails = ProjectExtractor.extractProjectDetails(user, normalizeId(projectName));
 		if (!Strings.isNullOrEmpty(parentId)) {
 			startTestItemHandler.startChildItem(user, projectDetails, rq, parentId);
@@ -202,26 +201,62 @@ public class AsyncReportingListener implements MessageListener {
 	}
 
 	public void onFinishItem(FinishTestItemRQ rq, String username, String projectName, String itemId) {
-		ReportPortalUser user = (ReportPortalUser) userDetailsService.loadUserByUsername(username);
+		ReportPortalUser user = reportingUserCache.getUser(username);
 		finishTestItemHandler.finishTestItem(user, ProjectExtractor.extractProjectDetails(user, normalizeId(projectName)), itemId, rq);
 	}
 
 	public void onLogCreate(DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> payload, Long projectId) {
-		SaveLogRQ request = payload.getLeft();
-		BinaryDataMetaInfo metaInfo = payload.getRight();
+		Log log = buildLog(payload.getLeft(), projectId);
+		logRepository.save(log);
+		saveLogAttachment(log, payload.getRight(), projectId);
+	}
 
+	/**
+	 * Resolves target test item or launch of the log request and builds not persisted {@link Log}
+	 *
+	 * @param request   {@link SaveLogRQ}
+	 * @param projectId Project id
+	 * @return {@link Log}
+	 */
+	public Log buildLog(SaveLogRQ request, Long projectId) {
 		Optional<TestItem> itemOptional = testItemRepository.findByUuid(request.getItemUuid());
 
-		if (StringUtils.isNotEmpty(payload.getLeft().getItemUuid()) && !itemOptional.isPresent()) {
-			throw new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, payload.getLeft().getItemUuid());
+		if (StringUtils.isNotEmpty(request.getItemUuid()) && !itemOptional.isPresent()) {
+			throw new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, request.getItemUuid());
 		}
 
 		if (itemOptional.isPresent()) {
-			createItemLog(request, itemOptional.get(), metaInfo, projectId);
+			return new LogBuilder().addSaveLogRq(request).addTestItem(itemOptional.get()).addProjectId(projectId).get();
+		}
+		Launch launch = launchRepository.findByUuid(request.getLaunchUuid())
+				.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, request.getLaunchUuid()));
+		return new LogBuilder().addSaveLogRq(request).addLaunch(launch).addProjectId(projectId).get();
+	}
+
+	/**
+	 * Attaches binary data to the already persisted {@link Log}
+	 *
+	 * @param log       Persisted {@link Log}
+	 * @param metaInfo  {@link BinaryDataMetaInfo}, nullable
+	 * @param projectId Project id
+	 */
+	public void saveLogAttachment(Log log, BinaryDataMetaInfo metaInfo, Long projectId) {
+		if (Objects.isNull(metaInfo)) {
+			return;
+		}
+		if (log.getTestItem() != null) {
+			Launch effectiveLaunch = testItemService.getEffectiveLaunch(log.getTestItem());
+			saveAttachment(metaInfo,
+					log.getId(),
+					projectId,
+					effectiveLaunch.getId(),
+					log.getTestItem().getItemId(),
+					effectiveLaunch.getUuid(),
+					log.getUuid()
+			);
 		} else {
-			Launch launch = launchRepository.findByUuid(request.getLaunchUuid())
-					.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, request.getLaunchUuid()));
-			createLaunchLog(request, launch, metaInfo, projectId);
+			Launch launch = log.getLaunch();
+			saveAttachment(metaInfo, log.getId(), projectId, launch.getId(), null, launch.getUuid(), log.getUuid());
 		}
 	}
 
@@ -231,27 +266,59 @@ public class AsyncReportingListener implements MessageListener {
 	 * @param message
 	 * @return -
 	 */
-	private boolean breakRetrying(Message message) {
-		List<Map<String, ?>> xdHeader = (List<Map<String, ?>>) message.getMessageProperties().getHeaders().get(MessageHeaders.XD_HEADER);
-
-		if (xdHeader != null) {
-			long count = (Long) xdHeader.get(0).get("count");
-			if (count > DEAD_LETTER_MAX_RETRY) {
-				LOGGER.error("Dropping on maximum retry limit request of type = {}, for target id = {} ",
-						getRequestType(message),
-						getTargetId(message)
-				);
+	public boolean breakRetrying(Message message) {
+		if (getDeathCount(message) > DEAD_LETTER_MAX_RETRY) {
+			LOGGER.error("Dropping on maximum retry limit request of type = {}, for target id = {} ",
+					getRequestType(message),
+					getTargetId(message)
+			);
 
-				// log request : don't cleanup to not loose binary content of dropped DLQ message
-				// cleanup(payload);
+			// log request : don't cleanup to not loose binary content of dropped DLQ message
+			// cleanup(payload);
 
-				amqpTemplate.send(EXCHANGE_REPORTING_RETRY, QUEUE_DLQ, message);
-				return true;
-			}
+			amqpTemplate.send(EXCHANGE_REPORTING_RETRY, QUEUE_DLQ, message);
+			return true;
 		}
 		return false;
 	}
 
+	/**
+	 * The message failed on the last allowed attempt is sent to the DLQ right away with the cause of the failure,
+	 * so the dead letters could be grouped by error later. Used by both the single and the batch listeners.
+	 *
+	 * @param message Failed message
+	 * @param e       Cause of the failure
+	 * @return true if the message was sent to the DLQ and should be acknowledged, false if it should be rejected for retry
+	 */
+	public boolean moveToDeadLetterQueueOnLastAttempt(Message message, Throwable e) {
+		if (!isLastAttempt(message)) {
+			return false;
+		}
+		moveToDeadLetterQueue(message, e);
+		return true;
+	}
+
+	private void moveToDeadLetterQueue(Message message, Throwable e) {
+		LOGGER.error("Dropping on maximum retry limit request of type = {}, for target id = {} ",
+				message.getMessageProperties().getHeaders().get(MessageHeaders.REQUEST_TYPE),
+				getTargetId(message)
+		);
+		message.getMessageProperties()
+				.setHeader(MessageHeaders.DEAD_LETTER_ERROR,
+						e instanceof ReportPortalException ? ((ReportPortalException) e).getErrorType().name() : e.getClass().getSimpleName()
+				);
+		amqpTemplate.send(EXCHANGE_REPORTING_RETRY, QUEUE_DLQ, message);
+	}
+
+	private boolean isLastAttempt(Message message) {
+		return getDeathCount(message) >= DEAD_LETTER_MAX_RETRY;
+	}
+
+	private long getDeathCount(Message message) {
+		List<Map<String, ?>> xdHeader = (List<Map<String, ?>>) message.getMessageProperties().getHeaders().get(MessageHeaders.XD_HEADER);
+		return xdHeader == null ? 0 : (Long) xdHeader.get(0).get("count");
+	}
+
 	private String getTargetId(Message message) {
 		try {
 			switch (getRequestType(message)) {
@@ -264,11 +331,7 @@ public class AsyncReportingListener implements MessageListener {
 				case FINISH_TEST:
 					return (String) message.getMessageProperties().getHeaders().get(MessageHeaders.ITEM_ID);
 				case LOG:
-					Jackson2JsonMessageConverter converter = (Jackson2JsonMessageConverter) messageConverter;
-					return ((SaveLogRQ) ((DeserializablePair) converter.fromMessage(message,
-							new ParameterizedTypeReference<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>>() {
-							}
-					)).getLeft()).getUuid();
+					return getLogPayload(message).getLeft().getUuid();
 				default:
 					return "";
 			}
@@ -277,44 +340,30 @@ public class AsyncReportingListener implements MessageListener {
 		}
 	}
 
-	private void createItemLog(SaveLogRQ request, TestItem item, BinaryDataMetaInfo metaInfo, Long projectId) {
-		Log log = new LogBuilder().addSaveLogRq(request).addTestItem(item).addProjectId(projectId).get();
-		logRepository.save(log);
-		Launch effectiveLaunch = testItemService.getEffectiveLaunch(item);
-		saveAttachment(metaInfo,
-				log.getId(),
-				projectId,
-				effectiveLaunch.getId(),
-				item.getItemId(),
-				effectiveLaunch.getUuid(),
-				log.getUuid()
+	private void saveAttachment(BinaryDataMetaInfo metaInfo, Long logId, Long projectId, Long launchId, Long itemId, String launchUuid,
+			String logUuid) {
+		attachmentBinaryDataService.attachToLog(metaInfo,
+				AttachmentMetaInfo.builder()
+						.withProjectId(projectId)
+						.withLaunchId(launchId)
+						.withItemId(itemId)
+						.withLogId(logId)
+						.withLaunchUuid(launchUuid)
+						.withLogUuid(logUuid)
+						.withCreationDate(LocalDateTime.now(ZoneOffset.UTC))
+						.build()
 		);
 	}
 
-	private void createLaunchLog(SaveLogRQ request, Launch launch, BinaryDataMetaInfo metaInfo, Long projectId) {
-		Log log = new LogBuilder().addSaveLogRq(request).addLaunch(launch).addProjectId(projectId).get();
-		logRepository.save(log);
-		saveAttachment(metaInfo, log.getId(), projectId, launch.getId(), null, launch.getUuid(), log.getUuid());
-	}
-
-	private void saveAttachment(BinaryDataMetaInfo metaInfo, Long logId, Long projectId, Long launchId, Long itemId, String launchUuid,
-			String logUuid) {
-		if (!Objects.isNull(metaInfo)) {
-			attachmentBinaryDataService.attachToLog(metaInfo,
-					AttachmentMetaInfo.builder()
-							.withProjectId(projectId)
-							.withLaunchId(launchId)
-							.withItemId(itemId)
-							.withLogId(logId)
-							.withLaunchUuid(launchUuid)
-							.withLogUuid(logUuid)
-							.withCreationDate(LocalDateTime.now(ZoneOffset.UTC))
-							.build()
-			);
-		}
+	public DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> getLogPayload(Message message) {
+		Jackson2JsonMessageConverter converter = (Jackson2JsonMessageConverter) messageConverter;
+		return (DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>) converter.fromMessage(message,
+				new ParameterizedTypeReference<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>>() {
+				}
+		);
 	}
 
-	private RequestType getRequestType(Message message) {
+	public RequestType getRequestType(Message message) {
 		return RequestType.valueOf((String) message.getMessageProperties().getHeaders().get(MessageHeaders.REQUEST_TYPE));
 	}
 
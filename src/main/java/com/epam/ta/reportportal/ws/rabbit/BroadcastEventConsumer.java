@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.core.analyzer.pattern.PatternAnalyzer;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
+import com.epam.ta.reportportal.core.events.cache.EvictableCache;
+import com.epam.ta.reportportal.core.events.cluster.PatternAnalysisCancelEvent;
+import com.epam.ta.reportportal.core.events.cluster.ReportingPodEvent;
+import org.apache.commons.collections.CollectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Consumes events from the broadcast exchange, so every service-api instance receives its own copy of the event.
+ * Handler is chosen by the type of the event.
+ */
+@Component
+@RabbitListener(queues = "#{ @eventsQueue.name }", containerFactory = "rabbitListenerContainerFactory")
+public class BroadcastEventConsumer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BroadcastEventConsumer.class);
+
+	private final Map<String, EvictableCache> caches;
+
+	private final ReportingQueueRebalancer queueRebalancer;
+
+	private final PatternAnalyzer patternAnalyzer;
+
+	@Autowired
+	public BroadcastEventConsumer(List<EvictableCache> caches, ReportingQueueRebalancer queueRebalancer, PatternAnalyzer patternAnalyzer) {
+		this.caches = caches.stream().collect(Collectors.toMap(EvictableCache::getName, Function.identity()));
+		this.queueRebalancer = queueRebalancer;
+		this.patternAnalyzer = patternAnalyzer;
+	}
+
+	@RabbitHandler
+	public void onCacheEviction(@Payload CacheEvictionEvent event) {
+		Optional<EvictableCache> cache = Optional.ofNullable(caches.get(event.getCacheName()));
+		if (!cache.isPresent()) {
+			LOGGER.warn("Cache with name '{}' is not registered", event.getCacheName());
+			return;
+		}
+		if (CollectionUtils.isEmpty(event.getKeys())) {
+			cache.get().evictAll();
+		} else {
+			cache.get().evict(event.getKeys());
+		}
+	}
+
+	@RabbitHandler
+	public void onReportingPodEvent(@Payload ReportingPodEvent event) {
+		queueRebalancer.onPodEvent(event);
+	}
+
+	@RabbitHandler
+	public void onPatternAnalysisCancel(@Payload PatternAnalysisCancelEvent event) {
+		if (CollectionUtils.isNotEmpty(event.getLaunchIds())) {
+			event.getLaunchIds().forEach(patternAnalyzer::cancel);
+		}
+	}
+}
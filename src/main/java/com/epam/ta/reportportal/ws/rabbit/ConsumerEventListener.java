@@ -56,8 +56,15 @@ public class ConsumerEventListener implements ApplicationListener<ListenerContai
 	@Autowired
 	private ConnectionFactory connectionFactory;
 
+	@Autowired
+	private ReportingQueueRebalancer queueRebalancer;
+
 	@Override
 	public void onApplicationEvent(ListenerContainerConsumerFailedEvent event) {
+		if (queueRebalancer.isEnabled()) {
+			/* queue is still being released by the previous owner, the container retries to consume it by itself */
+			return;
+		}
 		Object source = event.getSource();
 		if (source instanceof AbstractMessageListenerContainer) {
 			AbstractMessageListenerContainer listenerContainer = (AbstractMessageListenerContainer) source;
@@ -30,6 +30,7 @@ public final class MessageHeaders {
 	public static final String PARENT_ITEM_ID = "parentItemId";
 	public static final String XD_HEADER = "x-death";
 	public static final String BASE_URL = "baseUrl";
+	public static final String DEAD_LETTER_ERROR = "deadLetterError";
 
 	public static final String ITEM_REF = "itemRef";
 	public static final String LIMIT = "limit";
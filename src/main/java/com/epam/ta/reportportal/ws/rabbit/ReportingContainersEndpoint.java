@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.core.configs.Conditions;
+import com.epam.ta.reportportal.core.configs.rabbit.ReportingContainerSettings;
+import com.google.common.collect.ImmutableMap;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Actuator endpoint with settings and runtime state of the reporting queues listener containers
+ */
+@Component
+@Endpoint(id = "reporting")
+@Conditional(Conditions.NotTestCondition.class)
+public class ReportingContainersEndpoint {
+
+	private final ReportingContainerSettings settings;
+
+	private final List<AbstractMessageListenerContainer> listenerContainers;
+
+	@Autowired
+	public ReportingContainersEndpoint(ReportingContainerSettings settings,
+			@Qualifier("reportingListenerContainers") List<AbstractMessageListenerContainer> listenerContainers) {
+		this.settings = settings;
+		this.listenerContainers = listenerContainers;
+	}
+
+	@ReadOperation
+	public Map<String, Object> reporting() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("settings",
+				ImmutableMap.<String, Object>builder().put("prefetch", settings.getPrefetchCount())
+						.put("ackMode", settings.getAcknowledgeMode())
+						.put("ackBatchSize", settings.getAckBatchSize())
+						.put("logBatchEnabled", settings.isLogBatchEnabled())
+						.put("logBatchSize", settings.getLogBatchSize())
+						.put("logBatchFlushTimeout", settings.getLogBatchFlushTimeout())
+						.build()
+		);
+		result.put("containers", listenerContainers.stream().map(this::toContainerState).collect(Collectors.toList()));
+		return result;
+	}
+
+	private Map<String, Object> toContainerState(AbstractMessageListenerContainer container) {
+		Map<String, Object> state = new LinkedHashMap<>();
+		state.put("queues", Arrays.asList(container.getQueueNames()));
+		state.put("running", container.isRunning());
+		state.put("active", container.isActive());
+		if (container instanceof SimpleMessageListenerContainer) {
+			state.put("activeConsumers", ((SimpleMessageListenerContainer) container).getActiveConsumerCount());
+		}
+		return state;
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.core.configs.Conditions;
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.cluster.ReportingPodEvent;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distributes reporting queues between alive service-api instances.
+ * Every instance periodically announces itself through the broadcast exchange and tracks the others,
+ * instances not heard of during {@code rp.amqp.rebalance.pod-timeout} are considered dead.
+ * The owner of a queue is chosen with rendezvous hashing, so only the queues of joined or left instance are moved.
+ * A queue is handed off by stopping its container: in-flight message is processed, not acknowledged prefetched messages
+ * are returned to the queue, and the new owner's exclusive consumer gets registered once the queue is released.
+ */
+@Component
+@Conditional(Conditions.NotTestCondition.class)
+public class ReportingQueueRebalancer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportingQueueRebalancer.class);
+
+	private static final HashFunction HASH_FUNCTION = Hashing.murmur3_32();
+
+	private final String podId = UUID.randomUUID().toString();
+
+	private final Map<String, Long> lastSeenPods = new ConcurrentHashMap<>();
+
+	private final MessageBus messageBus;
+
+	private final List<AbstractMessageListenerContainer> listenerContainers;
+
+	private final boolean enabled;
+
+	private final long podTimeout;
+
+	@Autowired
+	public ReportingQueueRebalancer(MessageBus messageBus,
+			@Qualifier("reportingListenerContainers") List<AbstractMessageListenerContainer> listenerContainers,
+			@Value("${rp.amqp.rebalance.enabled:false}") boolean enabled, @Value("${rp.amqp.rebalance.pod-timeout:30000}") long podTimeout) {
+		this.messageBus = messageBus;
+		this.listenerContainers = listenerContainers;
+		this.enabled = enabled;
+		this.podTimeout = podTimeout;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public String getPodId() {
+		return podId;
+	}
+
+	/**
+	 * Announces the instance, queues are taken on the first heartbeat when the other instances are already known
+	 */
+	public void join() {
+		lastSeenPods.put(podId, System.currentTimeMillis());
+		messageBus.broadcastEvent(ReportingPodEvent.alive(podId));
+	}
+
+	@Scheduled(fixedDelayString = "${rp.amqp.rebalance.heartbeat-interval:10000}", initialDelayString = "${rp.amqp.rebalance.heartbeat-interval:10000}")
+	public void heartbeat() {
+		if (!enabled) {
+			return;
+		}
+		messageBus.broadcastEvent(ReportingPodEvent.alive(podId));
+		rebalance();
+	}
+
+	public void onPodEvent(ReportingPodEvent event) {
+		if (!enabled || podId.equals(event.getPodId())) {
+			return;
+		}
+		if (event.isAlive()) {
+			if (lastSeenPods.put(event.getPodId(), System.currentTimeMillis()) == null) {
+				LOGGER.info("Reporting instance {} joined", event.getPodId());
+				/* let the new instance know about this one without waiting for the next heartbeat */
+				messageBus.broadcastEvent(ReportingPodEvent.alive(podId));
+				rebalance();
+			}
+		} else if (lastSeenPods.remove(event.getPodId()) != null) {
+			LOGGER.info("Reporting instance {} left", event.getPodId());
+			rebalance();
+		}
+	}
+
+	/**
+	 * Starts containers of the queues owned by this instance and stops the others
+	 */
+	public synchronized void rebalance() {
+		long now = System.currentTimeMillis();
+		lastSeenPods.put(podId, now);
+		lastSeenPods.entrySet().removeIf(pod -> {
+			boolean expired = now - pod.getValue() > podTimeout;
+			if (expired) {
+				LOGGER.warn("Reporting instance {} is not responding and considered as dead", pod.getKey());
+			}
+			return expired;
+		});
+		Set<String> pods = new TreeSet<>(lastSeenPods.keySet());
+
+		for (AbstractMessageListenerContainer container : listenerContainers) {
+			String queue = container.getQueueNames()[0];
+			boolean owned = podId.equals(getOwner(queue, pods));
+			if (owned && !container.isRunning()) {
+				LOGGER.info("Start consuming queue {}", queue);
+				container.start();
+			} else if (!owned && container.isRunning()) {
+				LOGGER.info("Hand off queue {}", queue);
+				container.stop();
+			}
+		}
+	}
+
+	@PreDestroy
+	public void leave() {
+		if (enabled) {
+			messageBus.broadcastEvent(ReportingPodEvent.left(podId));
+		}
+	}
+
+	static String getOwner(String queue, Collection<String> pods) {
+		String owner = null;
+		int maxWeight = Integer.MIN_VALUE;
+		for (String pod : pods) {
+			int weight = HASH_FUNCTION.hashString(pod + ":" + queue, StandardCharsets.UTF_8).asInt();
+			if (owner == null || weight > maxWeight) {
+				owner = pod;
+				maxWeight = weight;
+			}
+		}
+		return owner;
+	}
+}
@@ -38,8 +38,15 @@ public class ReportingStartupService {
     @Qualifier("reportingListenerContainers")
     private List<AbstractMessageListenerContainer> listenerContainers;
 
+    @Autowired
+    private ReportingQueueRebalancer queueRebalancer;
+
     @PostConstruct
     public void init() {
+        if (queueRebalancer.isEnabled()) {
+            queueRebalancer.join();
+            return;
+        }
         for (AbstractMessageListenerContainer listenerContainer : listenerContainers) {
             listenerContainer.start();
         }
@@ -33,6 +33,7 @@ import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
 import org.springframework.boot.autoconfigure.quartz.QuartzAutoConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.*;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
 import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
 import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticationConverter;
 import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
@@ -56,6 +57,9 @@ public class TestConfig {
 	@MockBean(name = "analyzerRabbitTemplate")
 	protected RabbitTemplate analyzerRabbitTemplate;
 
+	@MockBean(name = "analyzerFanOutRabbitTemplate")
+	protected RabbitTemplate analyzerFanOutRabbitTemplate;
+
 	@MockBean(name = "rabbitTemplate")
 	protected RabbitTemplate rabbitTemplate;
 
@@ -68,7 +72,7 @@ public class TestConfig {
 	@Bean
 	@Profile("unittest")
 	protected RabbitMqManagementClient managementTemplate() {
-		return new RabbitMqManagementClientTemplate(rabbitClient);
+		return new RabbitMqManagementClientTemplate(rabbitClient, new ConcurrentTaskScheduler(), 0);
 	}
 
 	@Bean
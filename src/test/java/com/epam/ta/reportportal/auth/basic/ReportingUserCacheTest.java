@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.auth.basic;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportingUserCacheTest {
+
+	@Mock
+	private DatabaseUserDetailsService userDetailsService;
+
+	private ReportingUserCache reportingUserCache;
+
+	@BeforeEach
+	void setUp() {
+		reportingUserCache = new ReportingUserCache(userDetailsService, 100, 60);
+	}
+
+	@Test
+	void userLoadedOnce() {
+		ReportPortalUser user = getRpUser("user", UserRole.USER, ProjectRole.MEMBER, 1L);
+		when(userDetailsService.loadUserByUsername("user")).thenReturn(user);
+
+		assertSame(user, reportingUserCache.getUser("user"));
+		assertSame(user, reportingUserCache.getUser("User"));
+
+		verify(userDetailsService, times(1)).loadUserByUsername("user");
+	}
+
+	@Test
+	void userReloadedAfterEviction() {
+		ReportPortalUser user = getRpUser("user", UserRole.USER, ProjectRole.MEMBER, 1L);
+		when(userDetailsService.loadUserByUsername("user")).thenReturn(user);
+
+		reportingUserCache.getUser("user");
+		reportingUserCache.evict(Sets.newHashSet("user"));
+		reportingUserCache.getUser("user");
+
+		verify(userDetailsService, times(2)).loadUserByUsername("user");
+	}
+
+	@Test
+	void allUsersReloadedAfterEvictAll() {
+		when(userDetailsService.loadUserByUsername("first")).thenReturn(getRpUser("first", UserRole.USER, ProjectRole.MEMBER, 1L));
+		when(userDetailsService.loadUserByUsername("second")).thenReturn(getRpUser("second", UserRole.USER, ProjectRole.MEMBER, 1L));
+
+		reportingUserCache.getUser("first");
+		reportingUserCache.getUser("second");
+		reportingUserCache.evictAll();
+		reportingUserCache.getUser("first");
+		reportingUserCache.getUser("second");
+
+		verify(userDetailsService, times(2)).loadUserByUsername("first");
+		verify(userDetailsService, times(2)).loadUserByUsername("second");
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.activity.impl;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.core.events.activity.PatternMatchedEvent;
+import com.epam.ta.reportportal.core.events.activity.PatternMatchedSummaryEvent;
+import com.epam.ta.reportportal.dao.ActivityRepository;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.ws.model.activity.PatternTemplateActivityResource;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static com.epam.ta.reportportal.commons.querygen.constant.ActivityCriteriaConstant.*;
+import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActivityHandlerImplTest {
+
+	private static final Long PROJECT_ID = 1L;
+	private static final Long PATTERN_ID = 2L;
+	private static final Long LAUNCH_ID = 10L;
+
+	private final ActivityRepository activityRepository = mock(ActivityRepository.class);
+	private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+	private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+
+	private final ActivityHandlerImpl activityHandler = new ActivityHandlerImpl(activityRepository,
+			testItemRepository,
+			launchRepository,
+			projectRepository
+	);
+
+	@Test
+	void patternMatchedSummaryNotInItemHistory() {
+		Activity summary = new PatternMatchedSummaryEvent(PATTERN_ID, LAUNCH_ID, 50L, patternTemplate()).toActivity();
+
+		for (Long itemId : Arrays.asList(PATTERN_ID, LAUNCH_ID)) {
+			assertFalse(matches(itemHistoryFilter(itemId), summary));
+			assertFalse(matches(ActivityHandlerImpl.buildPatternMatchedActivityFilter(itemHistoryFilter(itemId).getTarget(), itemId), summary));
+		}
+	}
+
+	@Test
+	void patternMatchedItemInItemHistory() {
+		Activity matched = new PatternMatchedEvent(PATTERN_ID, LAUNCH_ID, patternTemplate()).toActivity();
+
+		assertTrue(matches(ActivityHandlerImpl.buildPatternMatchedActivityFilter(itemHistoryFilter(LAUNCH_ID).getTarget(), LAUNCH_ID),
+				matched
+		));
+	}
+
+	/**
+	 * Item history conditions of the activities of other entities, applied by {@link ActivityHandlerImpl#getItemActivities}
+	 */
+	private Filter itemHistoryFilter(Long itemId) {
+		TestItem testItem = new TestItem();
+		testItem.setItemId(itemId);
+		testItem.setLaunchId(LAUNCH_ID);
+		Launch launch = new Launch();
+		launch.setId(LAUNCH_ID);
+		launch.setProjectId(PROJECT_ID);
+		when(testItemRepository.findById(itemId)).thenReturn(Optional.of(testItem));
+		when(launchRepository.findById(LAUNCH_ID)).thenReturn(Optional.of(launch));
+		Pageable pageable = PageRequest.of(0, 10);
+		when(activityRepository.findByFilter(any(), any(Pageable.class))).thenReturn(Page.empty(pageable));
+
+		ReportPortalUser user = getRpUser("user", UserRole.USER, ProjectRole.MEMBER, PROJECT_ID);
+		Filter filter = new Filter(Activity.class, Lists.newArrayList());
+		activityHandler.getItemActivities(extractProjectDetails(user, "test_project"), itemId, filter, pageable);
+		return filter;
+	}
+
+	/**
+	 * Evaluates object, entity and action conditions of the filter in the same way as the activity query does
+	 */
+	private static boolean matches(Filter filter, Activity activity) {
+		return filter.getFilterConditions().stream().flatMap(it -> it.getAllConditions().stream()).allMatch(condition -> {
+			if (CRITERIA_OBJECT_ID.equals(condition.getSearchCriteria())) {
+				return matches(condition, String.valueOf(activity.getObjectId()));
+			}
+			if (CRITERIA_ENTITY.equals(condition.getSearchCriteria())) {
+				return matches(condition, activity.getActivityEntityType());
+			}
+			if (CRITERIA_ACTION.equals(condition.getSearchCriteria())) {
+				return matches(condition, activity.getAction());
+			}
+			return true;
+		});
+	}
+
+	private static boolean matches(FilterCondition condition, String value) {
+		boolean matched = Condition.IN.equals(condition.getCondition()) ?
+				Arrays.asList(condition.getValue().split(",")).contains(value) :
+				condition.getValue().equals(value);
+		return matched != condition.isNegative();
+	}
+
+	private static PatternTemplateActivityResource patternTemplate() {
+		PatternTemplateActivityResource resource = new PatternTemplateActivityResource();
+		resource.setId(PATTERN_ID);
+		resource.setProjectId(PROJECT_ID);
+		resource.setName("pattern");
+		return resource;
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.admin.dlq;
+
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.util.ReportingQueueService;
+import com.epam.ta.reportportal.ws.rabbit.MessageHeaders;
+import com.epam.ta.reportportal.ws.rabbit.RequestType;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.EXCHANGE_REPORTING;
+import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.QUEUE_DLQ;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DeadLetterQueueHandlerImplTest {
+
+	private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+
+	private final InMemoryQueue deadLetterQueue = new InMemoryQueue();
+
+	private final DeadLetterQueueHandlerImpl handler = new DeadLetterQueueHandlerImpl(rabbitTemplate,
+			mock(MessageConverter.class),
+			mock(ReportingQueueService.class),
+			new SyncTaskExecutor(),
+			100,
+			2,
+			0
+	);
+
+	@BeforeEach
+	void setUp() {
+		when(rabbitTemplate.execute(any())).thenAnswer(invocation -> ((ChannelCallback<?>) invocation.getArgument(0)).doInRabbit(
+				deadLetterQueue.channel));
+	}
+
+	@Test
+	void deadLettersAreReadWithoutRemoval() {
+		deadLetterQueue.add(finishLaunch("first", "BAD_REQUEST_ERROR", 3));
+		deadLetterQueue.add(finishLaunch("second", null, 5));
+		deadLetterQueue.add(finishLaunch("first", "BAD_REQUEST_ERROR", 3));
+
+		DeadLetterFilter filter = new DeadLetterFilter();
+		filter.setLaunchUuids(Sets.newHashSet("first"));
+		List<DeadLetterResource> deadLetters = handler.getDeadLetters(filter);
+
+		assertEquals(2, deadLetters.size());
+		DeadLetterResource deadLetter = deadLetters.get(0);
+		assertEquals("first", deadLetter.getLaunchUuid());
+		assertEquals(RequestType.FINISH_LAUNCH.name(), deadLetter.getRequestType());
+		assertEquals("BAD_REQUEST_ERROR", deadLetter.getErrorType());
+		assertEquals("reporting.3", deadLetter.getTargetQueue());
+		assertEquals(11L, deadLetter.getRetries());
+		assertEquals(Lists.newArrayList("first", "second", "first"), deadLetterQueue.launches());
+	}
+
+	@Test
+	void summaryGroupsByLaunchAndError() {
+		deadLetterQueue.add(finishLaunch("first", "BAD_REQUEST_ERROR", 3));
+		deadLetterQueue.add(finishLaunch("second", null, 5));
+		deadLetterQueue.add(finishLaunch("first", "BAD_REQUEST_ERROR", 3));
+
+		DeadLetterSummaryResource summary = handler.getSummary();
+
+		assertEquals(3, summary.getTotal());
+		assertFalse(summary.isTruncated());
+		assertEquals(ImmutableMap.of("first", 2L, "second", 1L), summary.getLaunches());
+		assertEquals(ImmutableMap.of("BAD_REQUEST_ERROR", 2L, "UNKNOWN", 1L), summary.getErrorTypes());
+		assertEquals(3, deadLetterQueue.launches().size());
+	}
+
+	@Test
+	void replayKeepsLaunchOrder() {
+		deadLetterQueue.add(finishLaunch("first", "BAD_REQUEST_ERROR", 3));
+		deadLetterQueue.add(finishLaunch("second", "LAUNCH_NOT_FOUND", 5));
+		deadLetterQueue.add(finishLaunch("first", "LAUNCH_NOT_FOUND", 3));
+		deadLetterQueue.add(finishLaunch("second", "LAUNCH_NOT_FOUND", 5));
+		deadLetterQueue.add(finishLaunch("second", "LAUNCH_NOT_FOUND", 5));
+
+		DeadLetterFilter filter = new DeadLetterFilter();
+		filter.setErrorTypes(Sets.newHashSet("LAUNCH_NOT_FOUND"));
+		handler.replay(filter);
+
+		assertEquals(3, deadLetterQueue.published.size());
+		deadLetterQueue.published.forEach(message -> {
+			assertEquals("5", message.getMessageProperties().getReceivedRoutingKey());
+			assertEquals("second", message.getMessageProperties().getHeaders().get(MessageHeaders.LAUNCH_ID));
+			assertNull(message.getMessageProperties().getHeaders().get(MessageHeaders.XD_HEADER));
+			assertNull(message.getMessageProperties().getHeaders().get(MessageHeaders.DEAD_LETTER_ERROR));
+		});
+		assertEquals(Lists.newArrayList("first", "first"), deadLetterQueue.launches());
+	}
+
+	@Test
+	void replayInProgressRejected() {
+		DeadLetterQueueHandlerImpl busyHandler = new DeadLetterQueueHandlerImpl(rabbitTemplate,
+				mock(MessageConverter.class),
+				mock(ReportingQueueService.class),
+				task -> {
+					throw new TaskRejectedException("busy");
+				},
+				100,
+				2,
+				0
+		);
+		deadLetterQueue.add(finishLaunch("first", "LAUNCH_NOT_FOUND", 3));
+
+		assertThrows(ReportPortalException.class, () -> busyHandler.replay(new DeadLetterFilter()));
+		assertTrue(deadLetterQueue.published.isEmpty());
+		assertEquals(Lists.newArrayList("first"), deadLetterQueue.launches());
+	}
+
+	@Test
+	void readsNotBlockedByRunningReplay() {
+		List<Runnable> submitted = new ArrayList<>();
+		DeadLetterQueueHandlerImpl asyncHandler = new DeadLetterQueueHandlerImpl(rabbitTemplate,
+				mock(MessageConverter.class),
+				mock(ReportingQueueService.class),
+				submitted::add,
+				100,
+				2,
+				0
+		);
+		deadLetterQueue.add(finishLaunch("first", "LAUNCH_NOT_FOUND", 3));
+
+		asyncHandler.replay(new DeadLetterFilter());
+
+		assertEquals(1, asyncHandler.getSummary().getTotal());
+		assertThrows(ReportPortalException.class, () -> asyncHandler.replay(new DeadLetterFilter()));
+		assertThrows(ReportPortalException.class, () -> asyncHandler.purge(new DeadLetterFilter()));
+
+		submitted.get(0).run();
+
+		assertEquals(1, deadLetterQueue.published.size());
+		assertEquals(0, asyncHandler.getSummary().getTotal());
+		asyncHandler.purge(new DeadLetterFilter());
+	}
+
+	@Test
+	void purgeRemovesMatchedOnly() {
+		deadLetterQueue.add(finishLaunch("first", "BAD_REQUEST_ERROR", 3));
+		deadLetterQueue.add(finishLaunch("second", null, 5));
+		deadLetterQueue.add(finishLaunch("first", "BAD_REQUEST_ERROR", 3));
+
+		DeadLetterFilter filter = new DeadLetterFilter();
+		filter.setLaunchUuids(Sets.newHashSet("first"));
+		handler.purge(filter);
+
+		assertEquals(Lists.newArrayList("second"), deadLetterQueue.launches());
+		assertTrue(deadLetterQueue.published.isEmpty());
+	}
+
+	private Message finishLaunch(String launchUuid, String errorType, int queueIndex) {
+		MessageProperties properties = new MessageProperties();
+		properties.setHeader(MessageHeaders.REQUEST_TYPE, RequestType.FINISH_LAUNCH.name());
+		properties.setHeader(MessageHeaders.LAUNCH_ID, launchUuid);
+		properties.setHeader(MessageHeaders.PROJECT_NAME, "default_personal");
+		properties.setHeader(MessageHeaders.XD_HEADER,
+				Lists.newArrayList(ImmutableMap.of("queue", "reporting.retry." + queueIndex, "count", 11L),
+						ImmutableMap.of("queue", "reporting." + queueIndex, "count", 11L)
+				)
+		);
+		if (errorType != null) {
+			properties.setHeader(MessageHeaders.DEAD_LETTER_ERROR, errorType);
+		}
+		return new Message("{}".getBytes(StandardCharsets.UTF_8), properties);
+	}
+
+	/**
+	 * Broker stand-in: a single queue with not acknowledged deliveries returned to the head of the queue on nack
+	 */
+	private static class InMemoryQueue {
+
+		private final DefaultMessagePropertiesConverter converter = new DefaultMessagePropertiesConverter();
+
+		private final Deque<Message> messages = new ArrayDeque<>();
+
+		private final TreeMap<Long, Message> unacknowledged = new TreeMap<>();
+
+		private final List<Message> published = new ArrayList<>();
+
+		private final Channel channel = mock(Channel.class);
+
+		private long deliveryTag;
+
+		private InMemoryQueue() {
+			try {
+				lenient().when(channel.basicGet(eq(QUEUE_DLQ), eq(false))).thenAnswer(invocation -> {
+					Message message = messages.poll();
+					if (message == null) {
+						return null;
+					}
+					unacknowledged.put(++deliveryTag, message);
+					return new GetResponse(new Envelope(deliveryTag, false, "", QUEUE_DLQ),
+							converter.fromMessageProperties(message.getMessageProperties(), StandardCharsets.UTF_8.name()),
+							message.getBody(),
+							messages.size()
+					);
+				});
+				lenient().doAnswer(invocation -> unacknowledged.remove(invocation.<Long>getArgument(0)))
+						.when(channel)
+						.basicAck(anyLong(), eq(false));
+				lenient().doAnswer(invocation -> {
+					NavigableMap<Long, Message> returned = unacknowledged.headMap(invocation.getArgument(0), true);
+					Lists.newArrayList(returned.descendingMap().values()).forEach(messages::addFirst);
+					returned.clear();
+					return null;
+				}).when(channel).basicNack(anyLong(), eq(true), eq(true));
+				lenient().doAnswer(invocation -> {
+					MessageProperties properties = converter.toMessageProperties(invocation.getArgument(2),
+							new Envelope(0, false, invocation.getArgument(0), invocation.getArgument(1)),
+							StandardCharsets.UTF_8.name()
+					);
+					published.add(new Message(invocation.getArgument(3), properties));
+					return null;
+				}).when(channel).basicPublish(eq(EXCHANGE_REPORTING), anyString(), any(AMQP.BasicProperties.class), any(byte[].class));
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private void add(Message message) {
+			messages.add(message);
+		}
+
+		private List<String> launches() {
+			return messages.stream()
+					.map(message -> (String) message.getMessageProperties().getHeaders().get(MessageHeaders.LAUNCH_ID))
+					.collect(Collectors.toList());
+		}
+	}
+}
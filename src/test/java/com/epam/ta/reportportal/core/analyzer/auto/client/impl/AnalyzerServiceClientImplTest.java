@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.client.impl;
+
+import com.epam.ta.reportportal.core.analyzer.auto.client.RabbitMqManagementClient;
+import com.epam.ta.reportportal.ws.model.analyzer.AnalyzedItemRs;
+import com.epam.ta.reportportal.ws.model.analyzer.IndexLaunch;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.rabbitmq.http.client.domain.ExchangeInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.ANALYZER_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AnalyzerServiceClientImplTest {
+
+	private final RabbitMqManagementClient managementClient = mock(RabbitMqManagementClient.class);
+
+	private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+
+	@Test
+	void resultsMergedInPriorityOrder() {
+		when(managementClient.getAnalyzerExchangesInfo()).thenReturn(Lists.newArrayList(exchange("first"), exchange("second")));
+		doReturn(analyzed(1L)).when(rabbitTemplate).convertSendAndReceiveAsType(eq("first"), eq("analyze"), any(List.class), any());
+		doReturn(analyzed(1L, 2L)).when(rabbitTemplate).convertSendAndReceiveAsType(eq("second"), eq("analyze"), any(List.class), any());
+
+		Map<String, List<AnalyzedItemRs>> result = client(new SyncTaskExecutor(), 1000).analyze(new IndexLaunch());
+
+		assertEquals(Lists.newArrayList(1L), itemIds(result.get("first")));
+		assertEquals(Lists.newArrayList(2L), itemIds(result.get("second")));
+	}
+
+	@Test
+	void slowAnalyzerSkippedAfterDeadline() {
+		when(managementClient.getAnalyzerExchangesInfo()).thenReturn(Lists.newArrayList(exchange("slow"), exchange("fast")));
+		CountDownLatch slowAnalyzerReply = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			slowAnalyzerReply.await();
+			return analyzed(1L);
+		}).when(rabbitTemplate).convertSendAndReceiveAsType(eq("slow"), eq("analyze"), any(List.class), any());
+		doReturn(analyzed(1L, 2L)).when(rabbitTemplate).convertSendAndReceiveAsType(eq("fast"), eq("analyze"), any(List.class), any());
+
+		try {
+			Map<String, List<AnalyzedItemRs>> result = client(new SimpleAsyncTaskExecutor(), 50).analyze(new IndexLaunch());
+
+			assertFalse(result.containsKey("slow"));
+			assertEquals(Lists.newArrayList(1L, 2L), itemIds(result.get("fast")));
+		} finally {
+			slowAnalyzerReply.countDown();
+		}
+	}
+
+	private AnalyzerServiceClientImpl client(TaskExecutor executor, long deadline) {
+		return new AnalyzerServiceClientImpl(managementClient, mock(RabbitTemplate.class), rabbitTemplate, executor, true, deadline);
+	}
+
+	private ExchangeInfo exchange(String name) {
+		ExchangeInfo exchangeInfo = new ExchangeInfo();
+		exchangeInfo.setName(name);
+		exchangeInfo.setArguments(ImmutableMap.of(ANALYZER_KEY, name));
+		return exchangeInfo;
+	}
+
+	private List<AnalyzedItemRs> analyzed(Long... itemIds) {
+		return Arrays.stream(itemIds).map(id -> {
+			AnalyzedItemRs item = new AnalyzedItemRs();
+			item.setItemId(id);
+			return item;
+		}).collect(Collectors.toList());
+	}
+
+	private List<Long> itemIds(List<AnalyzedItemRs> items) {
+		return items.stream().map(AnalyzedItemRs::getItemId).collect(Collectors.toList());
+	}
+}
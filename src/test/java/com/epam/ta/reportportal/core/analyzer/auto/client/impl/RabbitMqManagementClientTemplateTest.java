@@ -17,16 +17,24 @@
 package com.epam.ta.reportportal.core.analyzer.auto.client.impl;
 
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.google.common.collect.ImmutableMap;
 import com.rabbitmq.http.client.Client;
+import com.rabbitmq.http.client.domain.ExchangeInfo;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 
 import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.ANALYZER_KEY;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RabbitMqManagementClientTemplateTest {
@@ -34,13 +42,64 @@ public class RabbitMqManagementClientTemplateTest {
     @Mock
     private Client rabbitClient;
 
-    @InjectMocks
+    @Mock
+    private TaskScheduler taskScheduler;
+
     private RabbitMqManagementClientTemplate template;
 
+    @Before
+    public void setUp() {
+        template = new RabbitMqManagementClientTemplate(rabbitClient, taskScheduler, 30000);
+    }
+
     @Test
     public void testReportPortalExceptionOnGetExchanges() {
         when(rabbitClient.getExchanges(ANALYZER_KEY)).thenReturn(null);
 
         assertThatThrownBy(() -> template.getAnalyzerExchangesInfo()).isInstanceOf(ReportPortalException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void exchangesLoadedOnce() {
+        when(rabbitClient.getExchanges(ANALYZER_KEY)).thenReturn(Collections.singletonList(analyzerExchange()));
+
+        template.getAnalyzerExchangesInfo();
+        List<ExchangeInfo> exchanges = template.getAnalyzerExchangesInfo();
+
+        assertThat(exchanges.size()).isEqualTo(1);
+        verify(rabbitClient, times(1)).getExchanges(ANALYZER_KEY);
+    }
+
+    @Test
+    public void previousExchangesKeptWhenRefreshFails() {
+        ExchangeInfo exchange = analyzerExchange();
+        when(rabbitClient.getExchanges(ANALYZER_KEY)).thenReturn(Collections.singletonList(exchange)).thenReturn(null);
+
+        template.getAnalyzerExchangesInfo();
+        template.scheduledRefresh();
+
+        assertThat(template.getAnalyzerExchangesInfo().get(0)).isEqualTo(exchange);
+        verify(rabbitClient, times(2)).getExchanges(ANALYZER_KEY);
+    }
+
+    @Test
+    public void refreshScheduledWithConfiguredInterval() {
+        verify(taskScheduler, times(1)).scheduleWithFixedDelay(any(Runnable.class), any(Date.class), eq(30000L));
+    }
+
+    @Test
+    public void refreshNotScheduledWhenCachingDisabled() {
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+
+        new RabbitMqManagementClientTemplate(rabbitClient, scheduler, 0);
+
+        verifyZeroInteractions(scheduler);
+    }
+
+    private ExchangeInfo analyzerExchange() {
+        ExchangeInfo exchangeInfo = new ExchangeInfo();
+        exchangeInfo.setName("analyzer");
+        exchangeInfo.setArguments(ImmutableMap.of(ANALYZER_KEY, "analyzer"));
+        return exchangeInfo;
+    }
+}
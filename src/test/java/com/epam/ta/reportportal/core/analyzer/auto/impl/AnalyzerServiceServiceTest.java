@@ -18,7 +18,9 @@ package com.epam.ta.reportportal.core.analyzer.auto.impl;
 
 import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.LogLevel;
@@ -31,8 +33,12 @@ import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.ws.model.analyzer.AnalyzedItemRs;
+import com.epam.ta.reportportal.ws.model.analyzer.IndexLaunch;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -41,6 +47,7 @@ import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCac
 import static com.epam.ta.reportportal.entity.AnalyzeMode.ALL_LAUNCHES;
 import static com.epam.ta.reportportal.entity.enums.TestItemIssueGroup.PRODUCT_BUG;
 import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
@@ -62,14 +69,23 @@ class AnalyzerServiceServiceTest {
 
 	private AnalyzerStatusCache analyzerStatusCache = mock(AnalyzerStatusCache.class);
 
+	private ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
 	private AnalyzerServiceImpl issuesAnalyzer = new AnalyzerServiceImpl(analyzerStatusCache,
 			analyzerServiceClient,
 			logRepository,
 			issueTypeHandler,
 			testItemRepository,
-			messageBus
+			messageBus,
+			eventPublisher,
+			100
 	);
 
+	@BeforeEach
+	void setUp() {
+		when(analyzerStatusCache.analyzeStarted(eq(AUTO_ANALYZER_KEY), any(), any())).thenReturn(true);
+	}
+
 	@Test
 	void hasAnalyzers() {
 		when(analyzerServiceClient.hasClients()).thenReturn(true);
@@ -117,7 +133,7 @@ class AnalyzerServiceServiceTest {
 		when(logRepository.findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(eq(launch.getId()),
 				anyList(),
 				eq(LogLevel.ERROR.toInt())
-		)).thenReturn(errorLogs(2));
+		)).thenReturn(errorLogs(items));
 
 		when(testItemRepository.findAllById(anyList())).thenReturn(items);
 
@@ -129,13 +145,64 @@ class AnalyzerServiceServiceTest {
 
 		issuesAnalyzer.runAnalyzers(launch, items.stream().map(TestItem::getItemId).collect(Collectors.toList()), analyzerConfig);
 
-		verify(logRepository, times(itemsCount)).findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(eq((launch.getId())),
+		verify(logRepository, times(1)).findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(eq((launch.getId())),
 				anyList(),
 				eq(LogLevel.ERROR.toInt())
 		);
 		verify(analyzerServiceClient, times(1)).analyze(any());
 		verify(testItemRepository, times(itemsCount)).save(any());
 		verify(messageBus, times(4)).publishActivity(any());
+		verify(eventPublisher, times(1)).publishEvent(argThat((CacheEvictionEvent event) -> WidgetContentCache.NAME.equals(event.getCacheName())
+				&& event.getKeys().contains(String.valueOf(launch.getProjectId()))));
+	}
+
+	@Test
+	void analyzeInChunks() {
+		AnalyzerServiceImpl issuesAnalyzer = new AnalyzerServiceImpl(analyzerStatusCache,
+				analyzerServiceClient,
+				logRepository,
+				issueTypeHandler,
+				testItemRepository,
+				messageBus,
+				eventPublisher,
+				1
+		);
+		Launch launch = launch();
+
+		List<TestItem> items = testItemsTI(2);
+		items.forEach(item -> item.setLaunchId(launch.getId()));
+		TestItem nestedStep = new TestItem();
+		nestedStep.setItemId(10L);
+		nestedStep.setPath("1.10");
+
+		when(testItemRepository.findAllById(singletonList(1L))).thenReturn(singletonList(items.get(0)));
+		when(testItemRepository.findAllById(singletonList(2L))).thenReturn(singletonList(items.get(1)));
+		when(logRepository.findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(launch.getId(),
+				singletonList(1L),
+				LogLevel.ERROR.toInt()
+		)).thenReturn(errorLogs(singletonList(nestedStep)));
+		when(logRepository.findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(launch.getId(),
+				singletonList(2L),
+				LogLevel.ERROR.toInt()
+		)).thenReturn(errorLogs(singletonList(items.get(1))));
+
+		issuesAnalyzer.runAnalyzers(launch, Arrays.asList(1L, 2L), analyzerConfig());
+
+		ArgumentCaptor<IndexLaunch> rqCaptor = ArgumentCaptor.forClass(IndexLaunch.class);
+		verify(analyzerServiceClient, times(2)).analyze(rqCaptor.capture());
+		assertEquals(Long.valueOf(1L), rqCaptor.getAllValues().get(0).getTestItems().iterator().next().getTestItemId());
+		assertEquals(Long.valueOf(2L), rqCaptor.getAllValues().get(1).getTestItems().iterator().next().getTestItemId());
+	}
+
+	@Test
+	void launchAlreadyAnalyzed() {
+		Launch launch = launch();
+		when(analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, launch.getId(), launch.getProjectId())).thenReturn(false);
+
+		issuesAnalyzer.runAnalyzers(launch, Arrays.asList(1L, 2L), analyzerConfig());
+
+		verifyNoInteractions(testItemRepository, analyzerServiceClient);
+		verify(analyzerStatusCache, never()).analyzeFinished(any(), any());
 	}
 
 	private AnalyzerConfig analyzerConfig() {
@@ -189,12 +256,13 @@ class AnalyzerServiceServiceTest {
 		return issueEntity;
 	}
 
-	private List<Log> errorLogs(int count) {
-		List<Log> list = new ArrayList<>(count);
-		for (int i = 1; i <= count; i++) {
+	private List<Log> errorLogs(List<TestItem> items) {
+		List<Log> list = new ArrayList<>(items.size());
+		for (int i = 0; i < items.size(); i++) {
 			Log log = new Log();
-			log.setLogMessage("Error message " + i);
+			log.setLogMessage("Error message " + (i + 1));
 			log.setLogLevel(LogLevel.ERROR.toInt());
+			log.setTestItem(items.get(i));
 			list.add(log);
 		}
 		return list;
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.impl;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AnalyzerStatusCacheTest {
+
+	private final AnalyzerStatusStore analyzerStatusStore = mock(AnalyzerStatusStore.class);
+
+	private final AnalyzerStatusCache analyzerStatusCache = new AnalyzerStatusCache();
+
+	@BeforeEach
+	void setUp() {
+		analyzerStatusCache.setAnalyzerStatusStore(analyzerStatusStore);
+		analyzerStatusCache.setDistributed(true);
+	}
+
+	@Test
+	void launchAnalyzedOnlyOnce() {
+		when(analyzerStatusStore.tryStart(eq(AUTO_ANALYZER_KEY), eq(1L), eq(2L), anyLong())).thenReturn(true);
+
+		assertTrue(analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, 1L, 2L));
+		assertFalse(analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, 1L, 2L));
+
+		verify(analyzerStatusStore, times(1)).tryStart(eq(AUTO_ANALYZER_KEY), eq(1L), eq(2L), anyLong());
+	}
+
+	@Test
+	void launchClaimedByAnotherInstanceNotStarted() {
+		when(analyzerStatusStore.tryStart(eq(AUTO_ANALYZER_KEY), eq(1L), eq(2L), anyLong())).thenReturn(false);
+
+		assertFalse(analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, 1L, 2L));
+		assertTrue(analyzerStatusCache.getStartedAnalyzers(1L).isEmpty());
+	}
+
+	@Test
+	void finishedAnalysisReleased() {
+		when(analyzerStatusStore.tryStart(eq(AUTO_ANALYZER_KEY), eq(1L), eq(2L), anyLong())).thenReturn(true);
+		analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, 1L, 2L);
+
+		analyzerStatusCache.analyzeFinished(AUTO_ANALYZER_KEY, 1L);
+
+		verify(analyzerStatusStore, times(1)).finish(AUTO_ANALYZER_KEY, 1L);
+		assertTrue(analyzerStatusCache.getStartedAnalyzers(1L).isEmpty());
+	}
+
+	@Test
+	void refreshKeepsLocalAndReplacesRemoteStatuses() {
+		when(analyzerStatusStore.tryStart(eq(AUTO_ANALYZER_KEY), eq(1L), eq(2L), anyLong())).thenReturn(true);
+		analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, 1L, 2L);
+		when(analyzerStatusStore.findActive()).thenReturn(ImmutableMap.of(AUTO_ANALYZER_KEY, ImmutableMap.of(3L, 2L)));
+
+		analyzerStatusCache.refresh();
+
+		assertEquals(Collections.singleton(AUTO_ANALYZER_KEY), analyzerStatusCache.getStartedAnalyzers(1L));
+		assertEquals(Collections.singleton(AUTO_ANALYZER_KEY), analyzerStatusCache.getStartedAnalyzers(3L));
+		assertFalse(analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, 3L, 2L));
+
+		when(analyzerStatusStore.findActive()).thenReturn(Collections.emptyMap());
+		analyzerStatusCache.refresh();
+
+		assertTrue(analyzerStatusCache.getStartedAnalyzers(3L).isEmpty());
+		assertEquals(Collections.singleton(AUTO_ANALYZER_KEY), analyzerStatusCache.getStartedAnalyzers(1L));
+	}
+
+	@Test
+	void storeNotUsedInLocalMode() {
+		analyzerStatusCache.setDistributed(false);
+
+		assertTrue(analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, 1L, 2L));
+		analyzerStatusCache.refresh();
+		analyzerStatusCache.analyzeFinished(AUTO_ANALYZER_KEY, 1L);
+
+		verifyNoInteractions(analyzerStatusStore);
+	}
+}
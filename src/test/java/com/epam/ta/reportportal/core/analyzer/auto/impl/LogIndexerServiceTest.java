@@ -35,6 +35,9 @@ import com.epam.ta.reportportal.ws.model.analyzer.IndexRsIndex;
 import com.epam.ta.reportportal.ws.model.analyzer.IndexRsItem;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -43,6 +46,7 @@ import java.util.Optional;
 
 import static com.epam.ta.reportportal.entity.AnalyzeMode.ALL_LAUNCHES;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 /**
@@ -64,13 +68,32 @@ class LogIndexerServiceTest {
 
 	private LaunchPreparerService launchPreparerService = mock(LaunchPreparerService.class);
 
+	private PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
 	private LogIndexerService logIndexerService = new LogIndexerService(launchRepository,
 			testItemRepository,
 			indexerServiceClient,
 			launchPreparerService,
-			indexerStatusCache
+			indexerStatusCache,
+			new SyncTaskExecutor(),
+			transactionManager
 	);
 
+	@Test
+	void asyncItemsIndexingRunsInReadOnlyTransaction() {
+		Launch launch = new Launch();
+		launch.setId(2L);
+		when(launchRepository.findById(2L)).thenReturn(Optional.of(launch));
+		when(testItemRepository.findAllById(Collections.singletonList(3L))).thenReturn(Collections.emptyList());
+		when(launchPreparerService.prepare(eq(launch), anyList(), any())).thenReturn(Optional.empty());
+
+		Long indexed = logIndexerService.indexItemsLogsAsync(1L, 2L, Collections.singletonList(3L), analyzerConfig()).join();
+
+		assertEquals(0L, indexed.longValue());
+		verify(transactionManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+		verify(transactionManager, times(1)).commit(any());
+	}
+
 	@Test
 	void testIndexLogsWithNonExistentLaunchId() {
 		Long launchId = 1L;
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ItemIndexingBufferTest {
+
+	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+
+	private final LogIndexer logIndexer = mock(LogIndexer.class);
+
+	private final List<Runnable> submitted = new ArrayList<>();
+
+	private final ItemIndexingBuffer buffer = new ItemIndexingBuffer(projectRepository, logIndexer, submitted::add, 3, 5);
+
+	@BeforeEach
+	void setUp() {
+		Project project = new Project();
+		project.setId(1L);
+		project.setProjectAttributes(Sets.newHashSet());
+		when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+	}
+
+	@Test
+	void launchBatchFlushedOnSize() {
+		buffer.add(1L, 10L, 100L);
+		buffer.add(1L, 10L, 101L);
+		verifyNoInteractions(logIndexer);
+
+		buffer.add(1L, 10L, 102L);
+
+		verify(logIndexer, times(1)).indexItemsLogs(eq(1L), eq(ImmutableMap.of(10L, Lists.newArrayList(100L, 101L, 102L))), any());
+		assertEquals(0, buffer.getPendingItems());
+	}
+
+	@Test
+	void launchesOfProjectIndexedWithSingleRequest() {
+		buffer.add(1L, 10L, 100L);
+		buffer.add(1L, 11L, 200L);
+		buffer.add(1L, 11L, 200L);
+
+		buffer.flushAll();
+
+		verify(logIndexer, times(1)).indexItemsLogs(eq(1L),
+				eq(ImmutableMap.of(10L, Lists.newArrayList(100L), 11L, Lists.newArrayList(200L))),
+				any()
+		);
+		verify(projectRepository, times(1)).findById(1L);
+	}
+
+	@Test
+	void allBatchesFlushedWhenPendingLimitExceeded() {
+		buffer.add(1L, 10L, 100L);
+		buffer.add(1L, 10L, 101L);
+		buffer.add(1L, 11L, 200L);
+		buffer.add(1L, 11L, 201L);
+		buffer.add(1L, 12L, 300L);
+		verifyNoInteractions(logIndexer);
+
+		buffer.add(1L, 12L, 301L);
+
+		verify(logIndexer, times(1)).indexItemsLogs(anyLong(), anyMap(), any());
+		assertEquals(0, buffer.getPendingItems());
+	}
+
+	@Test
+	void scheduledFlushIndexesByExecutor() {
+		buffer.add(1L, 10L, 100L);
+		buffer.add(1L, 11L, 200L);
+		buffer.add(2L, 20L, 300L);
+
+		buffer.flushBySchedule();
+
+		assertEquals(0, buffer.getPendingItems());
+		assertEquals(2, submitted.size());
+		verifyNoInteractions(logIndexer, projectRepository);
+
+		submitted.forEach(Runnable::run);
+
+		verify(logIndexer, times(1)).indexItemsLogs(eq(1L),
+				eq(ImmutableMap.of(10L, Lists.newArrayList(100L), 11L, Lists.newArrayList(200L))),
+				any()
+		);
+		verify(projectRepository, times(1)).findById(2L);
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
+import com.epam.ta.reportportal.core.analyzer.auto.client.IndexerServiceClient;
+import com.epam.ta.reportportal.core.analyzer.auto.impl.LaunchPreparerService;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.analyzer.IndexLaunch;
+import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProjectReindexerTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+
+	private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+
+	private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+	private final LaunchPreparerService launchPreparerService = mock(LaunchPreparerService.class);
+
+	private final IndexerServiceClient indexerServiceClient = mock(IndexerServiceClient.class);
+
+	private final AnalyzerServiceClient analyzerServiceClient = mock(AnalyzerServiceClient.class);
+
+	private final IndexerStatusCache indexerStatusCache = mock(IndexerStatusCache.class);
+
+	private final ReindexCheckpointStore checkpointStore = mock(ReindexCheckpointStore.class);
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	@BeforeEach
+	void setUp() {
+		when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(1L))).thenReturn(3L);
+		when(launchRepository.findAllById(anyList())).thenAnswer(invocation -> ((List<Long>) invocation.getArgument(0)).stream()
+				.map(id -> {
+					Launch launch = new Launch();
+					launch.setId(id);
+					return launch;
+				})
+				.collect(Collectors.toList()));
+		when(testItemRepository.hasItemsWithIssueByLaunch(anyLong())).thenReturn(true);
+		when(launchPreparerService.prepare(any(), any(), any())).thenReturn(Optional.of(new IndexLaunch()));
+	}
+
+	@Test
+	void launchesIndexedInBatchesWithCheckpoints() {
+		mockLaunches(0L, 10L, 11L);
+		mockLaunches(11L, 12L);
+		when(indexerServiceClient.index(anyList())).thenReturn(5L);
+		when(checkpointStore.claim(any(), anyLong())).thenReturn(true);
+
+		Long indexed = reindexer(new SyncTaskExecutor(), 2).reindex(1L, new AnalyzerConfig()).join();
+
+		assertEquals(Long.valueOf(10L), indexed);
+		verify(indexerServiceClient, times(1)).index(argThat(it -> it.size() == 2));
+		verify(indexerServiceClient, times(1)).index(argThat(it -> it.size() == 1));
+		verify(checkpointStore, times(1)).save(any());
+		verify(checkpointStore, times(2)).claim(any(), anyLong());
+		verify(checkpointStore, times(1)).delete(1L);
+		verify(indexerStatusCache, times(1)).indexingFinished(1L);
+	}
+
+	@Test
+	void launchesPreparedInReadOnlyTransactionPerBatch() {
+		mockLaunches(0L, 10L, 11L);
+		mockLaunches(11L, 12L);
+		when(indexerServiceClient.index(anyList())).thenReturn(5L);
+		when(checkpointStore.claim(any(), anyLong())).thenReturn(true);
+
+		reindexer(new SyncTaskExecutor(), 2).reindex(1L, new AnalyzerConfig()).join();
+
+		verify(transactionManager, times(2)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+		verify(transactionManager, times(2)).commit(any());
+	}
+
+	@Test
+	void processingStoppedWhenCheckpointTakenOver() {
+		mockLaunches(0L, 10L, 11L);
+		mockLaunches(11L, 12L);
+		when(indexerServiceClient.index(anyList())).thenReturn(5L);
+		when(checkpointStore.claim(any(), anyLong())).thenReturn(false);
+
+		Long indexed = reindexer(new SyncTaskExecutor(), 2).reindex(1L, new AnalyzerConfig()).join();
+
+		assertEquals(Long.valueOf(5L), indexed);
+		verify(indexerServiceClient, times(1)).index(anyList());
+		verify(checkpointStore, never()).delete(any());
+		verify(indexerStatusCache, times(1)).indexingFinished(1L);
+	}
+
+	@Test
+	void checkpointKeptWhenAnalyzerFails() {
+		mockLaunches(0L, 10L, 11L);
+		when(indexerServiceClient.index(anyList())).thenThrow(new RuntimeException("analyzer is unavailable"));
+		ProjectReindexer reindexer = reindexer(new SyncTaskExecutor(), 2, 1);
+
+		assertThrows(CompletionException.class, () -> reindexer.reindex(1L, new AnalyzerConfig()).join());
+
+		verify(checkpointStore, never()).delete(any());
+		verify(indexerStatusCache, times(1)).indexingFinished(1L);
+		reindexer.reindex(1L, new AnalyzerConfig());
+	}
+
+	@Test
+	void reindexRejectedOverConcurrencyLimit() {
+		ProjectReindexer reindexer = reindexer(task -> {
+		}, 2, 1);
+
+		reindexer.reindex(1L, new AnalyzerConfig());
+
+		assertThrows(ReportPortalException.class, () -> reindexer.reindex(2L, new AnalyzerConfig()));
+	}
+
+	@Test
+	void staleCheckpointResumedFromLastLaunch() {
+		ReindexCheckpoint checkpoint = new ReindexCheckpoint(1L, 3L);
+		checkpoint.advance(11L, 2, 10L);
+		checkpoint.setUpdatedAt(System.currentTimeMillis() - 1200000);
+		when(checkpointStore.findAll()).thenReturn(Collections.singletonList(checkpoint));
+		when(checkpointStore.claim(eq(checkpoint), anyLong())).thenReturn(true);
+		when(analyzerServiceClient.hasClients()).thenReturn(true);
+		Project project = new Project();
+		project.setId(1L);
+		project.setProjectAttributes(Sets.newHashSet());
+		when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+		mockLaunches(11L, 12L);
+		when(indexerServiceClient.index(anyList())).thenReturn(5L);
+
+		reindexer(new SyncTaskExecutor(), 2).resumeAbandoned();
+
+		verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), eq(1L), eq(0L), eq(2));
+		verify(indexerServiceClient, times(1)).index(argThat(it -> it.size() == 1));
+		verify(checkpointStore, times(1)).delete(1L);
+		assertEquals(15L, checkpoint.getIndexedLogs());
+		assertEquals(3L, checkpoint.getProcessedLaunches());
+	}
+
+	@Test
+	void freshCheckpointNotResumed() {
+		when(checkpointStore.findAll()).thenReturn(Collections.singletonList(new ReindexCheckpoint(1L, 3L)));
+
+		reindexer(new SyncTaskExecutor(), 2).resumeAbandoned();
+
+		verify(checkpointStore, never()).claim(any(), anyLong());
+		verifyNoInteractions(indexerServiceClient);
+	}
+
+	private void mockLaunches(Long afterId, Long... ids) {
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L), eq(afterId), eq(2))).thenReturn(Lists.newArrayList(ids));
+	}
+
+	private ProjectReindexer reindexer(TaskExecutor executor, int batchSize) {
+		return reindexer(executor, batchSize, 2);
+	}
+
+	private ProjectReindexer reindexer(TaskExecutor executor, int batchSize, int maxConcurrent) {
+		return new ProjectReindexer(jdbcTemplate,
+				projectRepository,
+				launchRepository,
+				testItemRepository,
+				launchPreparerService,
+				indexerServiceClient,
+				analyzerServiceClient,
+				indexerStatusCache,
+				checkpointStore,
+				executor,
+				transactionManager,
+				batchSize,
+				900000,
+				maxConcurrent
+		);
+	}
+}
@@ -16,16 +16,20 @@
 
 package com.epam.ta.reportportal.core.analyzer.pattern;
 
+import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.ConvertibleCondition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.analyzer.pattern.impl.PatternAnalyzerImpl;
+import com.epam.ta.reportportal.core.analyzer.pattern.matcher.LogPatternMatcher;
 import com.epam.ta.reportportal.core.analyzer.pattern.selector.PatternAnalysisSelector;
 import com.epam.ta.reportportal.core.analyzer.pattern.selector.condition.PatternConditionProviderChain;
 import com.epam.ta.reportportal.core.analyzer.pattern.selector.impl.RegexPatternAnalysisSelector;
 import com.epam.ta.reportportal.core.analyzer.pattern.selector.impl.StringPartPatternAnalysisSelector;
 import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.dao.IssueGroupRepository;
 import com.epam.ta.reportportal.dao.PatternTemplateRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -40,6 +44,7 @@ import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -60,12 +65,14 @@ class PatternAnalyzerTest {
 	private final PatternAnalysisSelector stringSelector = mock(StringPartPatternAnalysisSelector.class);
 	private final PatternAnalysisSelector regexSelector = mock(RegexPatternAnalysisSelector.class);
 	private final MessageBus messageBus = mock(MessageBus.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
 
 	private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
 	private final IssueGroupRepository issueGroupRepository = mock(IssueGroupRepository.class);
 	private final PatternTemplateRepository patternTemplateRepository = mock(PatternTemplateRepository.class);
 	private final AnalyzerStatusCache analyzerStatusCache = mock(AnalyzerStatusCache.class);
 	private final PatternConditionProviderChain patternConditionProviderChain = mock(PatternConditionProviderChain.class);
+	private final LogPatternMatcher logPatternMatcher = mock(LogPatternMatcher.class);
 
 	private final TaskExecutor taskExecutor = new ThreadPoolTaskExecutor() {
 		@Override
@@ -88,7 +95,12 @@ class PatternAnalyzerTest {
 			taskExecutor,
 			patternConditionProviderChain,
 			analyzerStatusCache,
-			messageBus
+			messageBus,
+			eventPublisher,
+			logPatternMatcher,
+			false,
+			100,
+			4
 	);
 
 	@Test
@@ -97,11 +109,12 @@ class PatternAnalyzerTest {
 		when(patternTemplateRepository.findAllByProjectIdAndEnabled(launch.getProjectId(), true)).thenReturn(getPatternTemplates());
 
 		when(launch.getId()).thenReturn(1L);
+		when(analyzerStatusCache.analyzeStarted(eq(AnalyzerStatusCache.PATTERN_ANALYZER_KEY), eq(1L), any())).thenReturn(true);
 
 		final List<Long> itemIds = List.of(10L, 11L, 12L);
 
 		when(patternConditionProviderChain.provideCondition(anySet())).thenReturn(Optional.of(getConvertibleCondition()));
-		when(testItemRepository.selectIdsByFilter(eq(launch.getId()), any(Queryable.class), eq(batchSize), eq(0))).thenReturn(itemIds);
+		when(testItemRepository.selectIdsByFilter(eq(launch.getId()), afterItem(0L), eq(batchSize), eq(0))).thenReturn(itemIds);
 		when(analysisSelectorMapping.get(PatternTemplateType.STRING)).thenReturn(stringSelector);
 		when(analysisSelectorMapping.get(PatternTemplateType.REGEX)).thenReturn(regexSelector);
 
@@ -126,6 +139,58 @@ class PatternAnalyzerTest {
 		);
 	}
 
+	@Test
+	void nextBatchStartsAfterLastItem() {
+		when(patternTemplateRepository.findAllByProjectIdAndEnabled(launch.getProjectId(), true)).thenReturn(Lists.newArrayList(
+				getPatternTemplate(1L, "name", "value", PatternTemplateType.STRING)));
+
+		when(launch.getId()).thenReturn(1L);
+		when(analyzerStatusCache.analyzeStarted(eq(AnalyzerStatusCache.PATTERN_ANALYZER_KEY), eq(1L), any())).thenReturn(true);
+		when(patternConditionProviderChain.provideCondition(anySet())).thenReturn(Optional.of(getConvertibleCondition()));
+		when(testItemRepository.selectIdsByFilter(eq(1L), afterItem(0L), eq(batchSize), eq(0))).thenReturn(List.of(10L, 11L));
+		when(testItemRepository.selectIdsByFilter(eq(1L), afterItem(11L), eq(batchSize), eq(0))).thenReturn(List.of(12L));
+		when(analysisSelectorMapping.get(PatternTemplateType.STRING)).thenReturn(stringSelector);
+		when(stringSelector.selectItemsByPattern(eq(1L), anyList(), anyString())).thenReturn(List.of(11L));
+
+		patternAnalyzer.analyzeTestItems(launch, Sets.newHashSet());
+
+		verify(stringSelector, times(1)).selectItemsByPattern(1L, List.of(10L, 11L), "value");
+		verify(stringSelector, times(1)).selectItemsByPattern(1L, List.of(12L), "value");
+		verify(testItemRepository, times(1)).selectIdsByFilter(eq(1L), afterItem(12L), eq(batchSize), eq(0));
+		verify(analyzerStatusCache, times(1)).analyzeFinished(AnalyzerStatusCache.PATTERN_ANALYZER_KEY, 1L);
+		verify(eventPublisher, times(1)).publishEvent(any(CacheEvictionEvent.class));
+	}
+
+	@Test
+	void canceledAnalysisStopsProcessing() {
+		when(patternTemplateRepository.findAllByProjectIdAndEnabled(launch.getProjectId(), true)).thenReturn(getPatternTemplates());
+
+		when(launch.getId()).thenReturn(1L);
+		when(analyzerStatusCache.analyzeStarted(eq(AnalyzerStatusCache.PATTERN_ANALYZER_KEY), eq(1L), any())).thenReturn(true);
+		when(patternConditionProviderChain.provideCondition(anySet())).thenReturn(Optional.of(getConvertibleCondition()));
+		when(testItemRepository.selectIdsByFilter(eq(1L), any(Queryable.class), eq(batchSize), eq(0))).thenReturn(List.of(10L));
+		when(analysisSelectorMapping.get(PatternTemplateType.STRING)).thenReturn(stringSelector);
+		when(stringSelector.selectItemsByPattern(eq(1L), anyList(), anyString())).thenAnswer(invocation -> {
+			patternAnalyzer.cancel(1L);
+			return List.of(10L);
+		});
+
+		patternAnalyzer.analyzeTestItems(launch, Sets.newHashSet());
+
+		verify(patternTemplateRepository, times(1)).saveInBatch(anyList());
+		verify(testItemRepository, times(1)).selectIdsByFilter(eq(1L), any(Queryable.class), eq(batchSize), eq(0));
+		verifyNoInteractions(regexSelector);
+		verify(analyzerStatusCache, times(1)).analyzeFinished(AnalyzerStatusCache.PATTERN_ANALYZER_KEY, 1L);
+	}
+
+	private Queryable afterItem(Long lastItemId) {
+		return argThat(filter -> ((Filter) filter).getFilterConditions()
+				.stream()
+				.filter(FilterCondition.class::isInstance)
+				.map(FilterCondition.class::cast)
+				.anyMatch(it -> Condition.GREATER_THAN == it.getCondition() && String.valueOf(lastItemId).equals(it.getValue())));
+	}
+
 	private ConvertibleCondition getConvertibleCondition() {
 		return FilterCondition.builder().eq(CRITERIA_ID, String.valueOf(1L)).build();
 	}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.impl;
+
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.activity.PatternMatchedEvent;
+import com.epam.ta.reportportal.core.events.activity.PatternMatchedSummaryEvent;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplate;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplateTestItemPojo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class PatternMatchActivityCollectorTest {
+
+	private final MessageBus messageBus = mock(MessageBus.class);
+
+	@Test
+	void itemActivitiesLimitedAndSummaryPublishedOnce() {
+		PatternMatchActivityCollector collector = new PatternMatchActivityCollector(10L, 3, messageBus);
+		PatternTemplate template = template(1L);
+
+		collector.collect(template, matches(template, 0, 2));
+		collector.collect(template, matches(template, 2, 50));
+		collector.publishSummaries();
+
+		verify(messageBus, times(3)).publishActivity(any(PatternMatchedEvent.class));
+		verify(messageBus, times(1)).publishActivity(argThat(event -> event instanceof PatternMatchedSummaryEvent
+				&& ((PatternMatchedSummaryEvent) event).getItemsCount() == 50 && ((PatternMatchedSummaryEvent) event).getLaunchId() == 10L));
+	}
+
+	@Test
+	void summaryPublishedPerMatchedTemplate() {
+		PatternMatchActivityCollector collector = new PatternMatchActivityCollector(10L, 0, messageBus);
+		PatternTemplate first = template(1L);
+		PatternTemplate second = template(2L);
+
+		collector.collect(first, matches(first, 0, 5));
+		collector.collect(second, matches(second, 0, 0));
+		collector.publishSummaries();
+
+		verify(messageBus, never()).publishActivity(any(PatternMatchedEvent.class));
+		verify(messageBus, times(1)).publishActivity(any(PatternMatchedSummaryEvent.class));
+	}
+
+	private PatternTemplate template(Long id) {
+		PatternTemplate template = new PatternTemplate();
+		template.setId(id);
+		template.setName("template" + id);
+		template.setProjectId(1L);
+		return template;
+	}
+
+	private List<PatternTemplateTestItemPojo> matches(PatternTemplate template, long from, long to) {
+		return LongStream.range(from, to).mapToObj(itemId -> new PatternTemplateTestItemPojo(template.getId(), itemId)).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AhoCorasickAutomatonTest {
+
+	@Test
+	void allOverlappingKeywordsFound() {
+		AhoCorasickAutomaton<Integer> automaton = new AhoCorasickAutomaton<>(ImmutableMap.of(1, "he", 2, "she", 3, "his", 4, "hers"));
+
+		assertEquals(Sets.newHashSet(1, 2, 4), automaton.findAll("ushers"));
+		assertEquals(Sets.newHashSet(3), automaton.findAll("this"));
+		assertTrue(automaton.findAll("nothing to see").isEmpty());
+	}
+
+	@Test
+	void keywordFoundThroughFailureLink() {
+		AhoCorasickAutomaton<Integer> automaton = new AhoCorasickAutomaton<>(ImmutableMap.of(1, "abcd", 2, "bce"));
+
+		assertEquals(Collections.singleton(2), automaton.findAll("abce"));
+	}
+
+	@Test
+	void emptyKeywordContainedInAnyText() {
+		AhoCorasickAutomaton<Integer> automaton = new AhoCorasickAutomaton<>(ImmutableMap.of(1, "", 2, "NullPointerException"));
+
+		assertEquals(Collections.singleton(1), automaton.findAll(""));
+		assertEquals(Sets.newHashSet(1, 2), automaton.findAll("java.lang.NullPointerException: null"));
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplate;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplateType;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LogPatternMatcherTest {
+
+	private final LogRepository logRepository = mock(LogRepository.class);
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final LogPatternMatcher matcher = new LogPatternMatcher(logRepository, jdbcTemplate);
+
+	@Test
+	void allTemplatesMatchedWithSingleLogQuery() {
+		List<Long> itemIds = Lists.newArrayList(1L, 2L);
+		when(logRepository.findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(10L, itemIds, LogLevel.ERROR_INT)).thenReturn(
+				Lists.newArrayList(log(1L, "1", "java.lang.NullPointerException at line 10"),
+						log(3L, "2.3", "Connection timed out after 3000 ms"),
+						log(2L, "2", "AssertionError: expected 1")
+				));
+
+		Map<Long, List<Long>> matched = matcher.match(10L, itemIds, templates());
+
+		assertEquals(Collections.singletonList(1L), matched.get(100L));
+		assertEquals(Collections.singletonList(2L), matched.get(200L));
+		assertEquals(Collections.singletonList(1L), matched.get(300L));
+		verify(logRepository, times(1)).findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(any(), any(), anyInt());
+	}
+
+	@Test
+	void alreadyAttachedTemplatesSkipped() throws Exception {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getLong("item_id")).thenReturn(1L);
+		when(resultSet.getLong("pattern_id")).thenReturn(100L);
+		doAnswer(invocation -> {
+			((RowCallbackHandler) invocation.getArgument(2)).processRow(resultSet);
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(Object[].class), any(RowCallbackHandler.class));
+		List<Long> itemIds = Lists.newArrayList(1L);
+		when(logRepository.findAllUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(10L, itemIds, LogLevel.ERROR_INT)).thenReturn(
+				Lists.newArrayList(log(1L, "1", "java.lang.NullPointerException at line 10")));
+
+		Map<Long, List<Long>> matched = matcher.match(10L, itemIds, templates());
+
+		assertFalse(matched.containsKey(100L));
+		assertEquals(Collections.singletonList(1L), matched.get(300L));
+	}
+
+	@Test
+	void invalidRegexLeftForDatabase() {
+		PatternTemplate invalid = template(400L, PatternTemplateType.REGEX, "[unclosed");
+
+		CompiledPatternTemplates compiled = CompiledPatternTemplates.compile(Lists.newArrayList(invalid));
+
+		assertTrue(compiled.isEmpty());
+		assertEquals(Collections.singletonList(invalid), compiled.getNotCompiled());
+		assertTrue(matcher.match(10L, Lists.newArrayList(1L), compiled).isEmpty());
+		verifyNoInteractions(logRepository);
+	}
+
+	@Test
+	void dialectSpecificRegexLeftForDatabase() {
+		PatternTemplate posixClass = template(400L, PatternTemplateType.REGEX, "line [[:digit:]]+");
+		PatternTemplate wordBoundary = template(500L, PatternTemplateType.REGEX, "\\bline\\b");
+		PatternTemplate portable = template(600L, PatternTemplateType.REGEX, "(?i)exception.*line [0-9]+");
+
+		CompiledPatternTemplates compiled = CompiledPatternTemplates.compile(Lists.newArrayList(posixClass, wordBoundary, portable));
+
+		assertEquals(Lists.newArrayList(posixClass, wordBoundary), compiled.getNotCompiled());
+		assertEquals(Collections.singleton(600L), compiled.getTemplates().keySet());
+
+		Set<Long> matched = new HashSet<>();
+		compiled.match("java.lang.NullPointerException\n\tat line 10", matched);
+		assertEquals(Collections.singleton(600L), matched);
+	}
+
+	private CompiledPatternTemplates templates() {
+		return CompiledPatternTemplates.compile(Lists.newArrayList(template(100L, PatternTemplateType.STRING, "NullPointerException"),
+				template(200L, PatternTemplateType.STRING, "timed out"),
+				template(300L, PatternTemplateType.REGEX, "line \\d+")
+		));
+	}
+
+	private PatternTemplate template(Long id, PatternTemplateType type, String value) {
+		PatternTemplate template = new PatternTemplate();
+		template.setId(id);
+		template.setName("template" + id);
+		template.setTemplateType(type);
+		template.setValue(value);
+		return template;
+	}
+
+	private Log log(Long itemId, String path, String message) {
+		TestItem testItem = new TestItem();
+		testItem.setItemId(itemId);
+		testItem.setPath(path);
+		Log log = new Log();
+		log.setTestItem(testItem);
+		log.setLogMessage(message);
+		return log;
+	}
+}
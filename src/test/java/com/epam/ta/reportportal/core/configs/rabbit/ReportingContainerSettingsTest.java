@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.configs.rabbit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReportingContainerSettingsTest {
+
+	@Test
+	void validSettings() {
+		assertDoesNotThrow(() -> new ReportingContainerSettings(250, AcknowledgeMode.AUTO, 10, true, 100, 200).validate());
+	}
+
+	@Test
+	void nonPositivePrefetchRejected() {
+		assertThrows(IllegalStateException.class, () -> new ReportingContainerSettings(0, AcknowledgeMode.AUTO, 1, false, 100, 200).validate());
+	}
+
+	@Test
+	void manualAckModeRejected() {
+		assertThrows(IllegalStateException.class,
+				() -> new ReportingContainerSettings(250, AcknowledgeMode.MANUAL, 1, false, 100, 200).validate()
+		);
+	}
+
+	@Test
+	void noneAckModeRejected() {
+		assertThrows(IllegalStateException.class, () -> new ReportingContainerSettings(250, AcknowledgeMode.NONE, 1, false, 100, 200).validate());
+	}
+
+	@Test
+	void manualAckModeAllowedWithLogBatch() {
+		assertDoesNotThrow(() -> new ReportingContainerSettings(250, AcknowledgeMode.MANUAL, 1, true, 100, 200).validate());
+	}
+
+	@Test
+	void ackBatchGreaterThanPrefetchRejected() {
+		assertThrows(IllegalStateException.class, () -> new ReportingContainerSettings(10, AcknowledgeMode.AUTO, 20, false, 100, 200).validate());
+	}
+
+	@Test
+	void logBatchRequiresAutoAckMode() {
+		assertThrows(IllegalStateException.class, () -> new ReportingContainerSettings(250, AcknowledgeMode.NONE, 1, true, 100, 200).validate());
+	}
+
+	@Test
+	void logBatchSwitchesContainerToManualAck() {
+		SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(mock(ConnectionFactory.class));
+		new ReportingContainerSettings(50, AcknowledgeMode.AUTO, 1, true, 100, 200).validate().applyTo(container);
+		assertEquals(AcknowledgeMode.MANUAL, container.getAcknowledgeMode());
+	}
+}
@@ -29,8 +29,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.epam.ta.reportportal.core.events.activity.ActivityTestHelper.checkActivity;
-import static com.epam.ta.reportportal.core.events.activity.util.ActivityDetailsUtil.ENABLED;
-import static com.epam.ta.reportportal.core.events.activity.util.ActivityDetailsUtil.NAME;
+import static com.epam.ta.reportportal.core.events.activity.util.ActivityDetailsUtil.*;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -100,4 +99,19 @@ public class PatternTemplateEventsTest {
 		expected.getDetails().setHistory(getExpectedHistory(Pair.of(oldName, newName), Pair.of(oldEnabled, newEnabled)));
 		checkActivity(actual, expected);
 	}
+
+	@Test
+	void matchedSummary() {
+		final String name = "name";
+
+		final Activity actual = new PatternMatchedSummaryEvent(2L, 10L, 50L, getTestPatternTemplate(name, true)).toActivity();
+		final Activity expected = getExpectedPatternTemplateActivity(ActivityAction.PATTERN_MATCHED, name);
+		expected.setUserId(null);
+		expected.setUsername(null);
+		expected.setActivityEntityType(Activity.ActivityEntityType.LAUNCH.getValue());
+		expected.setObjectId(10L);
+		expected.getDetails()
+				.setHistory(Lists.newArrayList(HistoryField.of(PATTERN_ID, null, "2"), HistoryField.of(ITEMS_COUNT, null, "50")));
+		checkActivity(actual, expected);
+	}
 }
@@ -6,6 +6,8 @@ import com.epam.ta.reportportal.core.events.widget.GenerateWidgetViewEvent;
 import com.epam.ta.reportportal.core.widget.content.BuildFilterStrategy;
 import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.HealthCheckTableGenerator;
 import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.ViewGenerator;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.WidgetViewGenerationService;
+import com.epam.ta.reportportal.dao.WidgetContentRepository;
 import com.epam.ta.reportportal.dao.WidgetRepository;
 import com.epam.ta.reportportal.entity.widget.Widget;
 import com.epam.ta.reportportal.entity.widget.WidgetType;
@@ -54,8 +56,8 @@ class ComponentHealthCheckTableEventHandlerTest {
 		healthCheckTableExecutor.setAwaitTerminationSeconds(2);
 		generateWidgetViewEventHandler = new GenerateWidgetViewEventHandler(widgetRepository,
 				buildFilterStrategyMapping,
-				healthCheckTableExecutor,
-				viewGeneratorMapping
+				viewGeneratorMapping,
+				new WidgetViewGenerationService(healthCheckTableExecutor, mock(WidgetContentRepository.class), 1)
 		);
 
 	}
@@ -89,6 +89,7 @@ class LaunchAutoAnalysisSubscriberTest {
 
 		verify(logIndexer, times(1)).indexLaunchLogs(any(), any(), any());
 		verify(analyzerServiceAsync, times(1)).analyze(any(), any(), any());
+		verify(logIndexer, times(1)).indexItemsLogsAsync(any(), any(), any(), any());
 		verify(eventPublisher, times(1)).publishEvent(any());
 
 	}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.hierarchy;
+
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BulkHierarchyFinisherTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final BulkHierarchyFinisher finisher = new BulkHierarchyFinisher(jdbcTemplate);
+
+	@Test
+	void parentsFinishedFromDeepestLevel() {
+		when(jdbcTemplate.queryForObject(contains("NOT ti.has_children"), any(Object[].class), eq(Integer.class))).thenReturn(5);
+		when(jdbcTemplate.queryForList(anyString(), any(Object[].class), eq(Integer.class))).thenReturn(Lists.newArrayList(3, 2));
+		when(jdbcTemplate.queryForObject(contains("nlevel(ti.path) = ?"), any(Object[].class), eq(Integer.class))).thenReturn(2, 1);
+
+		int finished = finisher.finish(HierarchyScope.ofLaunch(1L), StatusEnum.FAILED, LocalDateTime.now(), null);
+
+		Assertions.assertEquals(8, finished);
+		ArgumentCaptor<Object[]> paramsCaptor = ArgumentCaptor.forClass(Object[].class);
+		InOrder inOrder = inOrder(jdbcTemplate);
+		inOrder.verify(jdbcTemplate).queryForObject(contains("NOT ti.has_children"), any(Object[].class), eq(Integer.class));
+		inOrder.verify(jdbcTemplate, times(2)).queryForObject(contains("nlevel(ti.path) = ?"), paramsCaptor.capture(), eq(Integer.class));
+		Assertions.assertEquals(3, paramsCaptor.getAllValues().get(0)[1]);
+		Assertions.assertEquals(2, paramsCaptor.getAllValues().get(1)[1]);
+	}
+
+	@Test
+	void issueAttachedOnlyWhenIssueTypeProvided() {
+		when(jdbcTemplate.queryForList(anyString(), any(Object[].class), eq(Integer.class))).thenReturn(Lists.newArrayList());
+
+		finisher.finish(HierarchyScope.ofDescendants(1L, "1"), StatusEnum.FAILED, LocalDateTime.now(), 10L);
+		finisher.finish(HierarchyScope.ofDescendants(1L, "1"), StatusEnum.PASSED, LocalDateTime.now(), null);
+
+		ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<Object[]> paramsCaptor = ArgumentCaptor.forClass(Object[].class);
+		verify(jdbcTemplate, times(2)).queryForObject(queryCaptor.capture(), paramsCaptor.capture(), eq(Integer.class));
+
+		Assertions.assertTrue(queryCaptor.getAllValues().get(0).contains("INSERT INTO issue"));
+		Assertions.assertEquals(10L, paramsCaptor.getAllValues().get(0)[6]);
+		Assertions.assertFalse(queryCaptor.getAllValues().get(1).contains("INSERT INTO issue"));
+		Assertions.assertEquals(6, paramsCaptor.getAllValues().get(1).length);
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.hierarchy.impl;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.hierarchy.BulkHierarchyFinisher;
+import com.epam.ta.reportportal.core.hierarchy.HierarchyScope;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.TEST_PROJECT_NAME;
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the items finished by the {@link BulkHierarchyFinisher} with the items of the same hierarchy finished page by page
+ */
+@Sql("/db/hierarchy/finish-hierarchy-fill.sql")
+class FinishLaunchHierarchyBulkTest extends BaseMvcTest {
+
+	private static final String FINISHED_ITEMS = "SELECT ti.name, cast(ti.type AS VARCHAR) AS type, cast(tir.status AS VARCHAR) AS status, "
+			+ "tir.end_time, i.issue_type, i.auto_analyzed, i.ignore_analyzer, (SELECT count(*) FROM item_attribute ia "
+			+ "WHERE ia.item_id = ti.item_id AND ia.key = 'status' AND ia.value = 'interrupted' AND NOT ia.system) AS interrupted "
+			+ "FROM test_item ti JOIN test_item_results tir ON ti.item_id = tir.result_id LEFT JOIN issue i ON ti.item_id = i.issue_id "
+			+ "WHERE ti.launch_id = ? ORDER BY ti.item_id";
+
+	@Autowired
+	private FinishLaunchHierarchyHandler finishLaunchHierarchyHandler;
+
+	@Autowired
+	private BulkHierarchyFinisher bulkHierarchyFinisher;
+
+	@Autowired
+	private LaunchRepository launchRepository;
+
+	@Autowired
+	private TestItemRepository testItemRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void bulkFinishedItemsSameAsFinishedPageByPage() {
+		assertTrue(bulkHierarchyFinisher.isApplicable(HierarchyScope.ofLaunch(200L)));
+
+		int finishedPageByPage = finish(100L, false);
+		int finishedInBulk = finish(200L, true);
+
+		List<Map<String, Object>> pageByPageItems = jdbcTemplate.queryForList(FINISHED_ITEMS, 100L);
+		List<Map<String, Object>> bulkItems = jdbcTemplate.queryForList(FINISHED_ITEMS, 200L);
+
+		assertEquals(finishedPageByPage, finishedInBulk);
+		assertEquals(pageByPageItems, bulkItems);
+		assertEquals(StatusEnum.FAILED.name(), bulkItems.get(0).get("status"));
+		assertEquals(StatusEnum.FAILED.name(), bulkItems.get(3).get("status"));
+		assertEquals(1L, ((Number) bulkItems.get(3).get("interrupted")).longValue());
+		assertEquals(StatusEnum.PASSED.name(), bulkItems.get(5).get("status"));
+		assertEquals(0L, ((Number) bulkItems.get(6).get("interrupted")).longValue());
+	}
+
+	@Test
+	void bulkFinishNotApplicableToRetries() {
+		assertFalse(bulkHierarchyFinisher.isApplicable(HierarchyScope.ofLaunch(300L)));
+	}
+
+	@Test
+	void bulkFinishNotApplicableUnderFinishedParent() {
+		assertFalse(bulkHierarchyFinisher.isApplicable(HierarchyScope.ofLaunch(400L)));
+	}
+
+	private int finish(Long launchId, boolean bulk) {
+		FinishLaunchHierarchyHandler handler = AopTestUtils.getTargetObject(finishLaunchHierarchyHandler);
+		ReflectionTestUtils.setField(handler, "bulkFinishEnabled", bulk);
+		try {
+			Launch launch = launchRepository.findById(launchId).orElseThrow();
+			ReportPortalUser user = getRpUser("default", UserRole.ADMINISTRATOR, ProjectRole.PROJECT_MANAGER, 2L);
+			Date endTime = Date.from(LocalDate.of(2020, Month.OCTOBER, 30).atStartOfDay(ZoneId.systemDefault()).toInstant());
+			int finished = handler.finishDescendants(launch, StatusEnum.FAILED, endTime, user, user.getProjectDetails().get(TEST_PROJECT_NAME));
+			testItemRepository.flush();
+			return finished;
+		} finally {
+			ReflectionTestUtils.setField(handler, "bulkFinishEnabled", false);
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package com.epam.ta.reportportal.core.hierarchy.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.hierarchy.BulkHierarchyFinisher;
+import com.epam.ta.reportportal.core.hierarchy.HierarchyScope;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
 import com.epam.ta.reportportal.dao.IssueEntityRepository;
@@ -20,6 +22,7 @@ import com.epam.ta.reportportal.entity.project.ProjectRole;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.Month;
@@ -31,6 +34,7 @@ import java.util.Optional;
 import static com.epam.ta.reportportal.ReportPortalUserUtil.TEST_PROJECT_NAME;
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
 import static com.epam.ta.reportportal.core.item.impl.status.ToSkippedStatusChangingStrategy.SKIPPED_ISSUE_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -136,6 +140,43 @@ class FinishLaunchHierarchyHandlerTest {
 
 	}
 
+	@Test
+	void bulkFinishUsedOnlyWhenApplicable() {
+		Launch launch = getLaunch();
+		BulkHierarchyFinisher bulkHierarchyFinisher = mock(BulkHierarchyFinisher.class);
+		finishLaunchHierarchyHandler.setBulkHierarchyFinisher(bulkHierarchyFinisher);
+		ReflectionTestUtils.setField(finishLaunchHierarchyHandler, "bulkFinishEnabled", true);
+		when(bulkHierarchyFinisher.isApplicable(any(HierarchyScope.class))).thenReturn(true, false);
+		when(bulkHierarchyFinisher.finish(any(HierarchyScope.class), eq(StatusEnum.PASSED), any(), isNull())).thenReturn(4);
+
+		Date endTime = Date.from(LocalDate.of(2020, Month.OCTOBER, 30).atStartOfDay(ZoneId.systemDefault()).toInstant());
+		ReportPortalUser rpUser = getRpUser("test", UserRole.USER, ProjectRole.MEMBER, 1L);
+
+		assertEquals(4,
+				finishLaunchHierarchyHandler.finishDescendants(launch,
+						StatusEnum.PASSED,
+						endTime,
+						rpUser,
+						rpUser.getProjectDetails().get(TEST_PROJECT_NAME)
+				)
+		);
+		verifyNoInteractions(changeStatusHandler);
+
+		finishLaunchHierarchyHandler.finishDescendants(launch,
+				StatusEnum.PASSED,
+				endTime,
+				rpUser,
+				rpUser.getProjectDetails().get(TEST_PROJECT_NAME)
+		);
+
+		verify(bulkHierarchyFinisher, times(1)).finish(any(), any(), any(), any());
+		verify(testItemRepository, times(1)).findIdsByNotHasChildrenAndLaunchIdAndStatus(eq(launch.getId()),
+				eq(StatusEnum.IN_PROGRESS),
+				anyInt(),
+				anyLong()
+		);
+	}
+
 	private Launch getLaunch() {
 		Launch launch = new Launch();
 		launch.setId(1L);
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.item.identity;
+
+import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.ws.model.activity.LaunchActivityResource;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class TestItemPathNameCacheTest {
+
+	private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+	private final TestItemPathNameCache pathNameCache = new TestItemPathNameCache(testItemRepository);
+
+	@Test
+	void startedItemsNotLoaded() {
+		pathNameCache.put(item(1L, "suite"));
+		pathNameCache.put(item(2L, "test"));
+
+		List<String> pathNames = pathNameCache.getPathNames(Lists.newArrayList(1L, 2L));
+
+		assertEquals(Lists.newArrayList("suite", "test"), pathNames);
+		verify(testItemRepository, never()).findAllById(anyList());
+	}
+
+	@Test
+	void onlyMissingItemsLoaded() {
+		pathNameCache.put(item(2L, "test"));
+		when(testItemRepository.findAllById(Lists.newArrayList(1L))).thenReturn(Lists.newArrayList(item(1L, "suite")));
+
+		assertEquals(Lists.newArrayList("suite", "test"), pathNameCache.getPathNames(Lists.newArrayList(1L, 2L)));
+		assertEquals(Lists.newArrayList("suite", "test"), pathNameCache.getPathNames(Lists.newArrayList(1L, 2L)));
+
+		verify(testItemRepository, times(1)).findAllById(anyList());
+	}
+
+	@Test
+	void itemsEvictedOnLaunchFinish() {
+		pathNameCache.put(item(1L, "suite"));
+		when(testItemRepository.findAllById(Lists.newArrayList(1L))).thenReturn(Lists.newArrayList(item(1L, "suite")));
+
+		LaunchActivityResource launch = new LaunchActivityResource();
+		launch.setId(10L);
+		pathNameCache.onLaunchFinished(new LaunchFinishedEvent(launch, 1L, "user"));
+		pathNameCache.getPathNames(Lists.newArrayList(1L));
+
+		verify(testItemRepository, times(1)).findAllById(Lists.newArrayList(1L));
+	}
+
+	private TestItem item(Long id, String name) {
+		TestItem item = new TestItem();
+		item.setItemId(id);
+		item.setName(name);
+		item.setLaunchId(10L);
+		return item;
+	}
+}
@@ -61,7 +61,7 @@ class FinishTestItemHandlerAsyncImplTest {
 
 		finishTestItemHandlerAsync.finishTestItem(user, user.getProjectDetails().get("test_project"), "123", request);
 		verify(amqpTemplate).convertAndSend(any(), any(), any(), any());
-		verify(reportingQueueService).getReportingQueueKey(any());
+		verify(reportingQueueService).getReportingQueueKey(any(), any());
 	}
 
 	@Test
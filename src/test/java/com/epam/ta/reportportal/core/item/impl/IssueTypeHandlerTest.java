@@ -29,8 +29,11 @@ import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -65,4 +68,43 @@ class IssueTypeHandlerTest {
 				exception.getMessage()
 		);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void issueTypesLoadedOncePerProject() {
+		IssueType issueType = new IssueType();
+		issueType.setLocator("ti001");
+		when(testItemRepository.selectIssueLocatorsByProject(3L)).thenReturn(Collections.singletonList(issueType));
+
+		assertSame(issueType, issueTypeHandler.defineIssueType(3L, "TI001"));
+		assertSame(issueType, issueTypeHandler.defineIssueType(3L, "ti001"));
+
+		verify(testItemRepository, times(1)).selectIssueLocatorsByProject(3L);
+		verify(testItemRepository, never()).selectIssueTypeByLocator(anyLong(), anyString());
+	}
+
+	@Test
+	void issueTypesReloadedAfterEviction() {
+		IssueType issueType = new IssueType();
+		issueType.setLocator("ti001");
+		when(testItemRepository.selectIssueLocatorsByProject(4L)).thenReturn(Collections.singletonList(issueType));
+
+		issueTypeHandler.defineIssueType(4L, "ti001");
+		issueTypeHandler.evict(Collections.singleton("4"));
+		issueTypeHandler.defineIssueType(4L, "ti001");
+
+		verify(testItemRepository, times(2)).selectIssueLocatorsByProject(4L);
+	}
+
+	@Test
+	void createdIssueTypeResolvedWithoutReload() {
+		IssueType created = new IssueType();
+		created.setLocator("ab_new");
+		when(testItemRepository.selectIssueLocatorsByProject(5L)).thenReturn(Collections.emptyList());
+		when(testItemRepository.selectIssueTypeByLocator(5L, "ab_new")).thenReturn(Optional.of(created));
+
+		assertSame(created, issueTypeHandler.defineIssueType(5L, "ab_new"));
+		assertSame(created, issueTypeHandler.defineIssueType(5L, "ab_new"));
+
+		verify(testItemRepository, times(1)).selectIssueTypeByLocator(5L, "ab_new");
+	}
+}
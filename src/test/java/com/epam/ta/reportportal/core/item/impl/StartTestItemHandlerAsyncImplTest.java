@@ -55,7 +55,7 @@ class StartTestItemHandlerAsyncImplTest {
 
         startTestItemHandlerAsync.startRootItem(user, user.getProjectDetails().get("test_project"), request);
         verify(amqpTemplate).convertAndSend(any(), any(), any(), any());
-        verify(reportingQueueService).getReportingQueueKey(any());
+        verify(reportingQueueService).getReportingQueueKey(any(), any());
     }
 
     @Test
@@ -65,6 +65,6 @@ class StartTestItemHandlerAsyncImplTest {
 
         startTestItemHandlerAsync.startChildItem(user, user.getProjectDetails().get("test_project"), request, "123");
         verify(amqpTemplate).convertAndSend(any(), any(), any(), any());
-        verify(reportingQueueService).getReportingQueueKey(any());
+        verify(reportingQueueService).getReportingQueueKey(any(), any());
     }
 }
\ No newline at end of file
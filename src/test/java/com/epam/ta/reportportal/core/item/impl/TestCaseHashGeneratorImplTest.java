@@ -17,10 +17,11 @@
 package com.epam.ta.reportportal.core.item.impl;
 
 import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
+import com.epam.ta.reportportal.core.item.identity.TestItemPathNameCache;
 import com.epam.ta.reportportal.core.item.identity.TestCaseHashGeneratorImpl;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.Parameter;
 import com.epam.ta.reportportal.entity.item.TestItem;
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -31,7 +32,6 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -44,7 +44,7 @@ import static org.mockito.Mockito.when;
 class TestCaseHashGeneratorImplTest {
 
 	@Mock
-	private TestItemRepository testItemRepository;
+	private TestItemPathNameCache pathNameCache;
 
 	@InjectMocks
 	private TestCaseHashGeneratorImpl testCaseHashGenerator;
@@ -59,16 +59,9 @@ class TestCaseHashGeneratorImplTest {
 		pathNames.put(1L, "suite");
 		pathNames.put(2L, "test");
 
-		List<TestItem> parents = pathNames.entrySet().stream().map(entry -> {
-			TestItem parent = new TestItem();
-			parent.setItemId(entry.getKey());
-			parent.setName(entry.getValue());
-			return parent;
-		}).collect(Collectors.toList());
-
 		final List<Long> parentIds = IdentityUtil.getParentIds(item);
 
-		when(testItemRepository.findAllById(parentIds)).thenReturn(parents);
+		when(pathNameCache.getPathNames(parentIds)).thenReturn(Lists.newArrayList(pathNames.values()));
 
 		Integer first = testCaseHashGenerator.generate(item, parentIds, 100L);
 		Integer second = testCaseHashGenerator.generate(item, parentIds, 100L);
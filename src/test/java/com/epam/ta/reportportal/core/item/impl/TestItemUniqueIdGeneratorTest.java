@@ -17,11 +17,12 @@
 package com.epam.ta.reportportal.core.item.impl;
 
 import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
+import com.epam.ta.reportportal.core.item.identity.TestItemPathNameCache;
 import com.epam.ta.reportportal.core.item.identity.TestItemUniqueIdGenerator;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.Parameter;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,7 +34,6 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -45,7 +45,7 @@ import static org.mockito.Mockito.when;
 class TestItemUniqueIdGeneratorTest {
 
 	@Mock
-	private TestItemRepository testItemRepository;
+	private TestItemPathNameCache pathNameCache;
 
 	@InjectMocks
 	private TestItemUniqueIdGenerator uniqueIdGenerator;
@@ -88,16 +88,9 @@ class TestItemUniqueIdGeneratorTest {
 		pathNames.put(1L, "suite");
 		pathNames.put(2L, "test");
 
-		List<TestItem> parents = pathNames.entrySet().stream().map(entry -> {
-			TestItem parent = new TestItem();
-			parent.setItemId(entry.getKey());
-			parent.setName(entry.getValue());
-			return parent;
-		}).collect(Collectors.toList());
-
 		final List<Long> parentIds = IdentityUtil.getParentIds(testItem);
 
-		when(testItemRepository.findAllById(parentIds)).thenReturn(parents);
+		when(pathNameCache.getPathNames(parentIds)).thenReturn(Lists.newArrayList(pathNames.values()));
 		String generated = uniqueIdGenerator.generate(testItem, parentIds, launch);
 
 		assertNotNull(generated);
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.item.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.cache.CacheEvictionEvent;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -42,6 +43,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Map;
 import java.util.Optional;
@@ -76,6 +78,9 @@ class UpdateTestItemHandlerImplTest {
 	@Mock
 	private MessageBus messageBus;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private UpdateTestItemHandlerImpl handler;
 
@@ -218,6 +223,7 @@ class UpdateTestItemHandlerImplTest {
 				.stream()
 				.anyMatch(attribute -> INITIAL_STATUS_ATTRIBUTE_KEY.equalsIgnoreCase(attribute.getKey())
 						&& StatusEnum.FAILED.getExecutionCounterField().equalsIgnoreCase("failed")));
+		verify(eventPublisher, times(1)).publishEvent(any(CacheEvictionEvent.class));
 	}
 
 	@Test
@@ -280,5 +286,6 @@ class UpdateTestItemHandlerImplTest {
 
 		assertEquals("TestItem with ID = '1' successfully updated.", response.getResultMessage());
 		assertEquals(rq.getDescription(), item.getDescription());
+		verifyNoInteractions(eventPublisher);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.item.impl.status;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.dao.IssueEntityRepository;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.item.TestItemResults;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class ChangeStatusHandlerImplTest {
+
+	private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+	private final MessageBus messageBus = mock(MessageBus.class);
+
+	private final ChildStatusCountersProvider countersProvider = mock(ChildStatusCountersProvider.class);
+
+	private final ChangeStatusHandlerImpl handler = new ChangeStatusHandlerImpl(testItemRepository,
+			mock(IssueEntityRepository.class),
+			messageBus,
+			mock(LaunchRepository.class),
+			Collections.emptyMap(),
+			countersProvider
+	);
+
+	private final ReportPortalUser user = getRpUser("test", UserRole.USER, ProjectRole.PROJECT_MANAGER, 1L);
+
+	@Test
+	void failedStatusPropagatedWithSingleCountersQuery() {
+		TestItem suite = item(1L, null, "1", StatusEnum.PASSED);
+		TestItem test = item(2L, 1L, "1.2", StatusEnum.PASSED);
+		TestItem step = item(3L, 2L, "1.2.3", StatusEnum.FAILED);
+		when(testItemRepository.findAllById(Lists.newArrayList(1L, 2L))).thenReturn(Lists.newArrayList(suite, test));
+		when(countersProvider.load(anyCollection())).thenReturn(ImmutableMap.of(1L,
+				new ChildStatusCounters(0, 0),
+				2L,
+				new ChildStatusCounters(0, 1)
+		));
+
+		handler.changeParentStatus(step, 1L, user);
+
+		assertEquals(StatusEnum.FAILED, test.getItemResults().getStatus());
+		assertEquals(StatusEnum.FAILED, suite.getItemResults().getStatus());
+		verify(countersProvider, times(1)).load(anyCollection());
+		verify(testItemRepository, times(1)).saveAll(Lists.newArrayList(test, suite));
+		verify(messageBus, times(2)).publishActivity(any());
+	}
+
+	@Test
+	void propagationStoppedWhenStatusNotChanged() {
+		TestItem suite = item(1L, null, "1", StatusEnum.PASSED);
+		TestItem test = item(2L, 1L, "1.2", StatusEnum.FAILED);
+		TestItem step = item(3L, 2L, "1.2.3", StatusEnum.FAILED);
+		when(testItemRepository.findAllById(Lists.newArrayList(1L, 2L))).thenReturn(Lists.newArrayList(suite, test));
+		when(countersProvider.load(anyCollection())).thenReturn(ImmutableMap.of(1L,
+				new ChildStatusCounters(0, 0),
+				2L,
+				new ChildStatusCounters(0, 1)
+		));
+
+		handler.changeParentStatus(step, 1L, user);
+
+		assertEquals(StatusEnum.PASSED, suite.getItemResults().getStatus());
+		verify(testItemRepository, times(1)).saveAll(Collections.emptyList());
+		verify(messageBus, never()).publishActivity(any());
+	}
+
+	@Test
+	void parentWithItemsInProgressNotChanged() {
+		TestItem suite = item(1L, null, "1", StatusEnum.PASSED);
+		TestItem step = item(3L, 1L, "1.3", StatusEnum.FAILED);
+		when(testItemRepository.findAllById(Lists.newArrayList(1L))).thenReturn(Lists.newArrayList(suite));
+		when(countersProvider.load(anyCollection())).thenReturn(ImmutableMap.of(1L, new ChildStatusCounters(1, 1)));
+
+		handler.changeParentStatus(step, 1L, user);
+
+		assertEquals(StatusEnum.PASSED, suite.getItemResults().getStatus());
+	}
+
+	private TestItem item(Long id, Long parentId, String path, StatusEnum status) {
+		TestItem item = new TestItem();
+		item.setItemId(id);
+		item.setParentId(parentId);
+		item.setPath(path);
+		item.setHasChildren(true);
+		item.setHasStats(true);
+		item.setLaunchId(1L);
+		TestItemResults results = new TestItemResults();
+		results.setStatus(status);
+		item.setItemResults(results);
+		return item;
+	}
+}
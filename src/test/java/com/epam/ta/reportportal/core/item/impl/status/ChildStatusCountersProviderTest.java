@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.status;
+
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChildStatusCountersProviderTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+	private final ChildStatusCountersProvider provider = new ChildStatusCountersProvider(jdbcTemplate, testItemRepository);
+
+	@Test
+	void pendingChangesFlushedBeforeCountersQuery() {
+		Map<Long, ChildStatusCounters> counters = provider.load(Arrays.asList(1L, 2L));
+
+		InOrder inOrder = inOrder(testItemRepository, jdbcTemplate);
+		inOrder.verify(testItemRepository).flush();
+		inOrder.verify(jdbcTemplate).query(anyString(), any(Object[].class), any(RowCallbackHandler.class));
+		assertFalse(counters.get(1L).hasInProgress());
+		assertTrue(counters.containsKey(2L));
+	}
+
+	@Test
+	void emptyIdsNotQueried() {
+		assertTrue(provider.load(Collections.emptyList()).isEmpty());
+
+		verifyZeroInteractions(testItemRepository, jdbcTemplate);
+	}
+}
@@ -55,6 +55,6 @@ class FinishLaunchHandlerAsyncImplTest {
 
         finishLaunchHandlerAsync.finishLaunch("0", request, user.getProjectDetails().get("test_project"), user, "http://base");
         verify(amqpTemplate).convertAndSend(any(), any(), any(), any());
-        verify(reportingQueueService).getReportingQueueKey(any());
+        verify(reportingQueueService).getReportingQueueKey(any(), any());
     }
 }
\ No newline at end of file
@@ -55,6 +55,6 @@ class StartLaunchHandlerAsyncImplTest {
 
         startLaunchHandlerAsync.startLaunch(user, user.getProjectDetails().get("test_project"), request);
         verify(amqpTemplate).convertAndSend(any(), any(), any(), any());
-        verify(reportingQueueService).getReportingQueueKey(any());
+        verify(reportingQueueService).getReportingQueueKey(any(), any());
     }
 }
\ No newline at end of file
@@ -17,6 +17,8 @@
 package com.epam.ta.reportportal.core.launch.rerun;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.cluster.PatternAnalysisCancelEvent;
 import com.epam.ta.reportportal.core.item.identity.TestCaseHashGenerator;
 import com.epam.ta.reportportal.core.item.identity.UniqueIdGenerator;
 import com.epam.ta.reportportal.core.item.impl.retry.RetriesHandler;
@@ -73,6 +75,9 @@ class RerunHandlerImplTest {
 	@Mock
 	private RetriesHandler retriesHandler;
 
+	@Mock
+	private MessageBus messageBus;
+
 	@InjectMocks
 	private RerunHandlerImpl rerunHandler;
 
@@ -130,6 +135,7 @@ class RerunHandlerImplTest {
 
 		assertNotNull(launch.getNumber());
 		assertNotNull(launch.getId());
+		verify(messageBus, times(1)).broadcastEvent(any(PatternAnalysisCancelEvent.class));
 
 	}
 
@@ -93,7 +93,7 @@ class CreateLogHandlerAsyncImplTest {
 
         createLogHandlerAsync.sendMessage(request, binaryDataMetaInfo, 0L);
         verify(amqpTemplate).convertAndSend(any(), any(), any(), any());
-        verify(reportingQueueService).getReportingQueueKey(any());
+        verify(reportingQueueService).getReportingQueueKey(any(), any());
     }
 
 }
\ No newline at end of file
@@ -17,16 +17,14 @@
 package com.epam.ta.reportportal.core.project.impl;
 
 import com.epam.ta.reportportal.entity.enums.InfoInterval;
-import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.statistics.Statistics;
-import com.epam.ta.reportportal.entity.statistics.StatisticsField;
 import com.epam.ta.reportportal.ws.model.widget.ChartObject;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Sets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.time.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.IsoFields;
@@ -35,7 +33,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -79,7 +76,7 @@ class ProjectInfoWidgetDataConverterTest {
 
 	@Test
 	void getInvestigatedProjectInfo() {
-		Map<String, List<ChartObject>> investigatedProjectInfo = converter.getInvestigatedProjectInfo(getTestData(),
+		Map<String, List<ChartObject>> investigatedProjectInfo = converter.getInvestigatedProjectInfo(getDailyTestData(),
 				InfoInterval.ONE_MONTH
 		);
 
@@ -92,14 +89,15 @@ class ProjectInfoWidgetDataConverterTest {
 
 	@Test
 	void getInvestigatedProjectInfoWithoutDefectsStatistics() {
-		Launch launch = new Launch();
-		launch.setName("test_launch");
-		launch.setId(1L);
-		launch.setNumber(1L);
-		launch.setStartTime(LocalDateTime.now(ZoneOffset.UTC));
-		launch.setStatistics(Sets.newHashSet(getStatistics(EXECUTIONS_TOTAL, 5), getStatistics(EXECUTIONS_PASSED, 5)));
-
-		Map<String, List<ChartObject>> investigatedProjectInfo = converter.getInvestigatedProjectInfo(Collections.singletonList(launch),
+		LocalDate thisWeek = LocalDate.now(ZoneOffset.UTC).with(DayOfWeek.MONDAY);
+
+		Map<String, List<ChartObject>> investigatedProjectInfo = converter.getInvestigatedProjectInfo(Collections.singletonList(new LaunchesPeriodStatistics(thisWeek,
+						1,
+						0,
+						0,
+						0,
+						0
+				)),
 				InfoInterval.THREE_MONTHS
 		);
 
@@ -109,7 +107,12 @@ class ProjectInfoWidgetDataConverterTest {
 
 	@Test
 	void getTestCasesStatisticsProjectInfo() {
-		Map<String, List<ChartObject>> testCasesStatisticsProjectInfo = converter.getTestCasesStatisticsProjectInfo(getTestData());
+		Map<String, List<ChartObject>> testCasesStatisticsProjectInfo = converter.getTestCasesStatisticsProjectInfo(Collections.singletonList(new LaunchesNameStatistics(
+				"test_launch",
+				18,
+				21,
+				19.5
+		)));
 
 		assertEquals("18.0", testCasesStatisticsProjectInfo.get("test_launch").get(0).getValues().get("min"));
 		assertEquals("19.5", testCasesStatisticsProjectInfo.get("test_launch").get(0).getValues().get("avg"));
@@ -118,7 +121,7 @@ class ProjectInfoWidgetDataConverterTest {
 
 	@Test
 	void getLaunchesQuantity() {
-		Map<String, List<ChartObject>> launchesQuantity = converter.getLaunchesQuantity(getTestData(), InfoInterval.ONE_MONTH);
+		Map<String, List<ChartObject>> launchesQuantity = converter.getLaunchesQuantity(getDailyTestData(), InfoInterval.ONE_MONTH);
 
 		assertEquals("1", launchesQuantity.get(yesterdayString).get(0).getValues().get("count"));
 		assertEquals("1", launchesQuantity.get(todayString).get(0).getValues().get("count"));
@@ -126,14 +129,14 @@ class ProjectInfoWidgetDataConverterTest {
 
 	@Test
 	void getLaunchesQuantityByWeek() {
-		Map<String, List<ChartObject>> launchesQuantity = converter.getLaunchesQuantity(getTestData(), InfoInterval.THREE_MONTHS);
+		Map<String, List<ChartObject>> launchesQuantity = converter.getLaunchesQuantity(getWeeklyTestData(), InfoInterval.THREE_MONTHS);
 
 		assertEquals("2", launchesQuantity.get(thisWeekFormattedDate).get(0).getValues().get("count"));
 	}
 
 	@Test
 	void getLaunchesIssues() {
-		Map<String, List<ChartObject>> launchesIssues = converter.getLaunchesIssues(getTestData(), InfoInterval.ONE_MONTH);
+		Map<String, List<ChartObject>> launchesIssues = converter.getLaunchesIssues(getDailyTestData(), InfoInterval.ONE_MONTH);
 
 		assertEquals("3", launchesIssues.get(yesterdayString).get(0).getValues().get("systemIssue"));
 		assertEquals("4", launchesIssues.get(yesterdayString).get(0).getValues().get("toInvestigate"));
@@ -148,7 +151,7 @@ class ProjectInfoWidgetDataConverterTest {
 
 	@Test
 	void getLaunchesIssuesByWeek() {
-		Map<String, List<ChartObject>> launchesIssues = converter.getLaunchesIssues(getTestData(), InfoInterval.THREE_MONTHS);
+		Map<String, List<ChartObject>> launchesIssues = converter.getLaunchesIssues(getWeeklyTestData(), InfoInterval.THREE_MONTHS);
 
 		assertEquals("6", launchesIssues.get(thisWeekFormattedDate).get(0).getValues().get("systemIssue"));
 		assertEquals("9", launchesIssues.get(thisWeekFormattedDate).get(0).getValues().get("toInvestigate"));
@@ -156,42 +159,23 @@ class ProjectInfoWidgetDataConverterTest {
 		assertEquals("7", launchesIssues.get(thisWeekFormattedDate).get(0).getValues().get("automationBug"));
 	}
 
-	private List<Launch> getTestData() {
-		Launch launch1 = new Launch();
-		launch1.setName("test_launch");
-		launch1.setId(1L);
-		launch1.setNumber(1L);
-		launch1.setStartTime(LocalDateTime.of(yesterday, LocalTime.now(ZoneOffset.UTC)));
-		launch1.setStatistics(Sets.newHashSet(getStatistics(EXECUTIONS_TOTAL, 18),
-				getStatistics(EXECUTIONS_PASSED, 5),
-				getStatistics(EXECUTIONS_SKIPPED, 1),
-				getStatistics(EXECUTIONS_FAILED, 12),
-				getStatistics(DEFECTS_AUTOMATION_BUG_TOTAL, 3),
-				getStatistics(DEFECTS_PRODUCT_BUG_TOTAL, 2),
-				getStatistics(DEFECTS_SYSTEM_ISSUE_TOTAL, 3),
-				getStatistics(DEFECTS_TO_INVESTIGATE_TOTAL, 4)
-		));
-		Launch launch2 = new Launch();
-		launch2.setName("test_launch");
-		launch2.setId(2L);
-		launch2.setNumber(2L);
-		launch2.setStartTime(LocalDateTime.of(today, LocalTime.now(ZoneOffset.UTC)));
-		launch2.setStatistics(Sets.newHashSet(getStatistics(EXECUTIONS_TOTAL, 21),
-				getStatistics(EXECUTIONS_PASSED, 6),
-				getStatistics(EXECUTIONS_SKIPPED, 2),
-				getStatistics(EXECUTIONS_FAILED, 13),
-				getStatistics(DEFECTS_AUTOMATION_BUG_TOTAL, 4),
-				getStatistics(DEFECTS_PRODUCT_BUG_TOTAL, 1),
-				getStatistics(DEFECTS_SYSTEM_ISSUE_TOTAL, 3),
-				getStatistics(DEFECTS_TO_INVESTIGATE_TOTAL, 5)
-		));
-		return Arrays.asList(launch1, launch2);
+	@Test
+	void launchesQuantityFilledForDaysWithoutLaunches() {
+		List<LaunchesPeriodStatistics> statistics = Arrays.asList(new LaunchesPeriodStatistics(yesterday.minusDays(2), 3, 0, 0, 0, 0),
+				new LaunchesPeriodStatistics(yesterday, 1, 0, 0, 0, 0)
+		);
+
+		Map<String, List<ChartObject>> launchesQuantity = converter.getLaunchesQuantity(statistics, InfoInterval.ONE_MONTH);
+
+		assertEquals(3, launchesQuantity.size());
+		assertEquals("0", launchesQuantity.get(yesterday.minusDays(1).toString()).get(0).getValues().get("count"));
+	}
+
+	private List<LaunchesPeriodStatistics> getDailyTestData() {
+		return Arrays.asList(new LaunchesPeriodStatistics(yesterday, 1, 2, 3, 3, 4), new LaunchesPeriodStatistics(today, 1, 1, 4, 3, 5));
 	}
 
-	private Statistics getStatistics(String statisticsFieldName, int counter) {
-		Statistics statistics = new Statistics();
-		statistics.setStatisticsField(new StatisticsField(statisticsFieldName));
-		statistics.setCounter(counter);
-		return statistics;
+	private List<LaunchesPeriodStatistics> getWeeklyTestData() {
+		return Collections.singletonList(new LaunchesPeriodStatistics(today.with(DayOfWeek.MONDAY), 2, 3, 7, 6, 9));
 	}
 }
\ No newline at end of file
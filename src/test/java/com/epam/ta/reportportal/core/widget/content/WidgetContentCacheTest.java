@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.widget.content;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WidgetContentCacheTest {
+
+	private static final Long PROJECT_ID = 1L;
+	private static final Long OTHER_PROJECT_ID = 2L;
+	private static final Long WIDGET_ID = 10L;
+	private static final List<Object> PARAMETERS = Lists.newArrayList("filter", Lists.newArrayList("statistics$executions$total"));
+
+	private final WidgetContentCache cache = new WidgetContentCache(100, 600);
+
+	@Test
+	void contentLoadedOnce() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getContent(PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet()));
+		Map<String, ?> content = cache.getContent(PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet()));
+
+		assertEquals(1, loads.get());
+		assertEquals(content(1), content);
+	}
+
+	@Test
+	void differentParametersLoadedSeparately() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getContent(PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet()));
+		cache.getContent(PROJECT_ID, WIDGET_ID, Lists.newArrayList("other"), () -> content(loads.incrementAndGet()));
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void projectEvictionReloadsOnlyProjectContent() {
+		AtomicInteger loads = new AtomicInteger();
+		cache.getContent(PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet()));
+		cache.getContent(OTHER_PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet()));
+
+		cache.evict(Collections.singleton(String.valueOf(PROJECT_ID)));
+
+		assertEquals(content(3), cache.getContent(PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet())));
+		assertEquals(content(2), cache.getContent(OTHER_PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet())));
+	}
+
+	@Test
+	void contentLoadedDuringEvictionIsNotReturned() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getContent(PROJECT_ID, WIDGET_ID, PARAMETERS, () -> {
+			cache.evict(Sets.newHashSet(String.valueOf(PROJECT_ID)));
+			return content(loads.incrementAndGet());
+		});
+
+		assertEquals(content(2), cache.getContent(PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet())));
+	}
+
+	@Test
+	void evictAllReloadsContent() {
+		AtomicInteger loads = new AtomicInteger();
+		cache.getContent(PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet()));
+		cache.getContent(OTHER_PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet()));
+
+		cache.evictAll();
+
+		cache.getContent(PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet()));
+		cache.getContent(OTHER_PROJECT_ID, WIDGET_ID, PARAMETERS, () -> content(loads.incrementAndGet()));
+		assertEquals(4, loads.get());
+	}
+
+	private static Map<String, ?> content(int value) {
+		return ImmutableMap.of("result", value);
+	}
+}
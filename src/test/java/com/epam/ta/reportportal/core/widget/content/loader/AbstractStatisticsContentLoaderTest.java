@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.widget.content.loader;
+
+import com.epam.ta.reportportal.entity.widget.content.ChartStatisticsContent;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AbstractStatisticsContentLoaderTest {
+
+	private static final String TOTAL = "statistics$executions$total";
+	private static final String FAILED = "statistics$executions$failed";
+
+	private final AbstractStatisticsContentLoader loader = new AbstractStatisticsContentLoader() {
+	};
+
+	@Test
+	void statisticsSummedByDay() {
+		Map<String, ChartStatisticsContent> chart = loader.groupByDate(Lists.newArrayList(content(LocalDateTime.of(2019, 5, 1, 10, 0), "3", "1"),
+				content(LocalDateTime.of(2019, 5, 1, 12, 0), "4", "2"),
+				content(LocalDateTime.of(2019, 5, 3, 12, 0), "5", "0")
+		), AbstractStatisticsContentLoader.Period.DAY);
+
+		assertEquals(Lists.newArrayList("2019-05-01", "2019-05-02", "2019-05-03"), Lists.newArrayList(chart.keySet()));
+		assertEquals(ImmutableMap.of(TOTAL, "7.0", FAILED, "3.0"), chart.get("2019-05-01").getValues());
+		assertEquals(ImmutableMap.of(TOTAL, "0", FAILED, "0"), chart.get("2019-05-02").getValues());
+		assertEquals(ImmutableMap.of(TOTAL, "5.0", FAILED, "0.0"), chart.get("2019-05-03").getValues());
+	}
+
+	@Test
+	void statisticsSummedByMonth() {
+		Map<String, ChartStatisticsContent> chart = loader.groupByDate(Lists.newArrayList(content(LocalDateTime.of(2019, 5, 10, 10, 0), "3", "1"),
+				content(LocalDateTime.of(2019, 5, 20, 12, 0), "4", "2"),
+				content(LocalDateTime.of(2019, 6, 15, 12, 0), "5", "0")
+		), AbstractStatisticsContentLoader.Period.MONTH);
+
+		assertEquals(Lists.newArrayList("2019-05-10", "2019-06-15"), Lists.newArrayList(chart.keySet()));
+		assertEquals(ImmutableMap.of(TOTAL, "7.0", FAILED, "3.0"), chart.get("2019-05-10").getValues());
+		assertEquals(ImmutableMap.of(TOTAL, "5.0", FAILED, "0.0"), chart.get("2019-06-15").getValues());
+	}
+
+	@Test
+	void singleValueKeepsRepresentation() {
+		ChartStatisticsAggregator aggregator = new ChartStatisticsAggregator();
+		aggregator.add("2019-05-01", ImmutableMap.of(TOTAL, "3"));
+		aggregator.add("2019-05-01", ImmutableMap.of(FAILED, "1"));
+		aggregator.add("2019-05-01", ImmutableMap.of(TOTAL, "2.5"));
+
+		assertEquals(ImmutableMap.of(TOTAL, "5.5", FAILED, "1"), aggregator.getValues("2019-05-01"));
+	}
+
+	private static ChartStatisticsContent content(LocalDateTime startTime, String total, String failed) {
+		ChartStatisticsContent content = new ChartStatisticsContent();
+		content.setStartTime(Timestamp.valueOf(startTime));
+		content.setValues(ImmutableMap.of(TOTAL, total, FAILED, failed));
+		return content;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.widget.content.loader.materialized;
+
+import com.epam.ta.reportportal.core.events.handler.GenerateWidgetViewEventHandler;
+import com.epam.ta.reportportal.core.events.widget.GenerateWidgetViewEvent;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.ViewGenerator;
+import com.epam.ta.reportportal.dao.WidgetRepository;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetState;
+import com.epam.ta.reportportal.entity.widget.WidgetType;
+import com.epam.ta.reportportal.ws.converter.builders.WidgetBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.epam.ta.reportportal.core.widget.content.loader.materialized.handler.MaterializedWidgetStateHandler.OUTDATED;
+import static com.epam.ta.reportportal.core.widget.content.loader.materialized.handler.MaterializedWidgetStateHandler.REFRESH;
+import static com.epam.ta.reportportal.core.widget.content.updater.MaterializedWidgetStateUpdater.STATE;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MaterializedViewRefresherTest {
+
+	private static final Long PROJECT_ID = 1L;
+
+	private final WidgetRepository widgetRepository = mock(WidgetRepository.class);
+	private final GenerateWidgetViewEventHandler generateWidgetViewEventHandler = mock(GenerateWidgetViewEventHandler.class);
+	private final MaterializedWidgetOptionsUpdater optionsUpdater = mock(MaterializedWidgetOptionsUpdater.class);
+
+	private final MaterializedViewRefresher refresher = refresher(300000);
+
+	@Test
+	void readyViewsMarkedOutdatedAndRefreshedOnceWhenRead() {
+		Widget ready = widget(1L, WidgetState.READY);
+		Widget rendering = widget(2L, WidgetState.RENDERING);
+		when(widgetRepository.findAllByProjectIdAndWidgetTypeIn(PROJECT_ID, Lists.newArrayList(WidgetType.CUMULATIVE.getType()))).thenReturn(
+				Lists.newArrayList(ready, rendering));
+		when(widgetRepository.findById(1L)).thenReturn(Optional.of(new WidgetBuilder(ready).addOption(OUTDATED, true).get()));
+		when(optionsUpdater.clearOutdated(1L)).thenReturn(true);
+
+		refresher.markOutdated(PROJECT_ID);
+		refresher.markOutdated(PROJECT_ID);
+
+		verify(optionsUpdater, times(2)).markOutdated(1L);
+		verify(optionsUpdater, never()).markOutdated(2L);
+		verify(widgetRepository, never()).save(any());
+
+		refresher.refreshOutdated();
+		verify(generateWidgetViewEventHandler, never()).onApplicationEvent(any());
+
+		refresher.schedule(1L);
+		refresher.schedule(1L);
+		refresher.refreshOutdated();
+		refresher.refreshOutdated();
+
+		verify(optionsUpdater, times(1)).clearOutdated(1L);
+		verify(generateWidgetViewEventHandler, times(1)).onApplicationEvent(argThat((GenerateWidgetViewEvent event) ->
+				event.getWidgetId().equals(1L) && Boolean.TRUE.toString().equals(event.getParams().getFirst(REFRESH))));
+	}
+
+	@Test
+	void viewClearedByAnotherInstanceIsNotRefreshed() {
+		Widget outdated = new WidgetBuilder(widget(1L, WidgetState.READY)).addOption(OUTDATED, true).get();
+		when(widgetRepository.findById(1L)).thenReturn(Optional.of(outdated));
+		when(optionsUpdater.clearOutdated(1L)).thenReturn(false);
+
+		refresher.schedule(1L);
+		refresher.refreshOutdated();
+
+		verify(generateWidgetViewEventHandler, never()).onApplicationEvent(any());
+	}
+
+	@Test
+	void notOutdatedViewIsNotRefreshed() {
+		Widget ready = widget(1L, WidgetState.READY);
+		when(widgetRepository.findById(1L)).thenReturn(Optional.of(ready));
+
+		refresher.schedule(1L);
+		refresher.refreshOutdated();
+
+		verify(generateWidgetViewEventHandler, never()).onApplicationEvent(any());
+	}
+
+	@Test
+	void viewRefreshedByUserIsNotRefreshedAgain() {
+		Widget rendering = new WidgetBuilder(widget(1L, WidgetState.RENDERING)).addOption(OUTDATED, true).get();
+		when(widgetRepository.findById(1L)).thenReturn(Optional.of(rendering));
+
+		refresher.schedule(1L);
+		refresher.refreshOutdated();
+
+		verify(generateWidgetViewEventHandler, never()).onApplicationEvent(any());
+	}
+
+	@Test
+	void viewNotRefreshedMoreOftenThanMinInterval() {
+		Widget outdated = new WidgetBuilder(widget(1L, WidgetState.READY)).addOption(OUTDATED, true).get();
+		when(widgetRepository.findById(1L)).thenReturn(Optional.of(outdated));
+		when(optionsUpdater.clearOutdated(1L)).thenReturn(true);
+
+		refresher.schedule(1L);
+		refresher.refreshOutdated();
+		refresher.schedule(1L);
+		refresher.refreshOutdated();
+
+		verify(optionsUpdater, times(1)).clearOutdated(1L);
+		verify(generateWidgetViewEventHandler, times(1)).onApplicationEvent(any());
+
+		MaterializedViewRefresher noIntervalRefresher = refresher(0);
+		noIntervalRefresher.schedule(1L);
+		noIntervalRefresher.refreshOutdated();
+		noIntervalRefresher.schedule(1L);
+		noIntervalRefresher.refreshOutdated();
+
+		verify(generateWidgetViewEventHandler, times(3)).onApplicationEvent(any());
+	}
+
+	private MaterializedViewRefresher refresher(long minRefreshInterval) {
+		return new MaterializedViewRefresher(widgetRepository,
+				generateWidgetViewEventHandler,
+				optionsUpdater,
+				ImmutableMap.of(WidgetType.CUMULATIVE, mock(ViewGenerator.class)),
+				minRefreshInterval
+		);
+	}
+
+	private Widget widget(Long id, WidgetState state) {
+		Widget widget = new Widget();
+		widget.setId(id);
+		widget.setWidgetType(WidgetType.CUMULATIVE.getType());
+		return new WidgetBuilder(widget).addOption(STATE, state.getValue()).get();
+	}
+}
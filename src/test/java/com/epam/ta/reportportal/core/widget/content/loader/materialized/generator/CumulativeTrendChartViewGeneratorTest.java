@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.widget.content.loader.materialized.generator;
+
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.MaterializedWidgetOptionsUpdater;
+import com.epam.ta.reportportal.dao.WidgetContentRepository;
+import com.epam.ta.reportportal.dao.WidgetRepository;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetState;
+import com.epam.ta.reportportal.entity.widget.WidgetType;
+import com.epam.ta.reportportal.ws.converter.builders.WidgetBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.LinkedMultiValueMap;
+
+import static com.epam.ta.reportportal.core.widget.content.loader.materialized.handler.MaterializedWidgetStateHandler.OUTDATED;
+import static com.epam.ta.reportportal.core.widget.content.loader.materialized.handler.MaterializedWidgetStateHandler.VIEW_NAME;
+import static com.epam.ta.reportportal.core.widget.content.updater.MaterializedWidgetStateUpdater.STATE;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CumulativeTrendChartViewGeneratorTest {
+
+	private static final String BASE_VIEW_NAME = "widget_1_2";
+	private static final String ALTERNATE_VIEW_NAME = "widget_1_2_alt";
+
+	private final WidgetRepository widgetRepository = mock(WidgetRepository.class);
+	private final WidgetContentRepository widgetContentRepository = mock(WidgetContentRepository.class);
+	private final MaterializedWidgetOptionsUpdater optionsUpdater = mock(MaterializedWidgetOptionsUpdater.class);
+
+	private final CumulativeTrendChartViewGenerator generator = new CumulativeTrendChartViewGenerator(widgetRepository,
+			widgetContentRepository,
+			optionsUpdater
+	);
+
+	@Test
+	void readyViewRefreshedUnderAlternateName() {
+		Widget widget = widget(WidgetState.READY, BASE_VIEW_NAME);
+		when(widgetRepository.existsById(2L)).thenReturn(true);
+
+		generate(true, widget);
+
+		verify(widgetContentRepository, times(1)).generateCumulativeTrendChartView(eq(true),
+				eq(ALTERNATE_VIEW_NAME),
+				any(),
+				any(),
+				any(),
+				anyInt()
+		);
+		verify(optionsUpdater, times(1)).update(eq(2L),
+				argThat(options -> ALTERNATE_VIEW_NAME.equals(options.get(VIEW_NAME)) && !options.containsKey(OUTDATED))
+		);
+		verify(widgetContentRepository, times(1)).removeWidgetView(BASE_VIEW_NAME);
+		verify(widgetContentRepository, never()).removeWidgetView(ALTERNATE_VIEW_NAME);
+		verify(widgetRepository, never()).save(any());
+	}
+
+	@Test
+	void alternateViewRefreshedUnderBaseName() {
+		Widget widget = widget(WidgetState.READY, ALTERNATE_VIEW_NAME);
+		when(widgetRepository.existsById(2L)).thenReturn(true);
+
+		generate(true, widget);
+
+		verify(widgetContentRepository, times(1)).generateCumulativeTrendChartView(eq(true), eq(BASE_VIEW_NAME), any(), any(), any(), anyInt());
+		verify(widgetContentRepository, times(1)).removeWidgetView(ALTERNATE_VIEW_NAME);
+	}
+
+	@Test
+	void renderingViewGeneratedInPlace() {
+		Widget widget = widget(WidgetState.RENDERING, BASE_VIEW_NAME);
+		when(widgetRepository.existsById(2L)).thenReturn(true);
+
+		generate(true, widget);
+
+		verify(widgetContentRepository, times(1)).generateCumulativeTrendChartView(eq(true), eq(BASE_VIEW_NAME), any(), any(), any(), anyInt());
+		verify(widgetContentRepository, never()).removeWidgetView(anyString());
+	}
+
+	@Test
+	void failedRefreshKeepsReadyView() {
+		Widget widget = widget(WidgetState.READY, BASE_VIEW_NAME);
+		doThrow(new RuntimeException("view generation failed")).when(widgetContentRepository)
+				.generateCumulativeTrendChartView(anyBoolean(), anyString(), any(), any(), any(), anyInt());
+
+		generate(true, widget);
+
+		verifyNoInteractions(optionsUpdater);
+		verify(widgetContentRepository, never()).removeWidgetView(anyString());
+	}
+
+	private void generate(boolean refresh, Widget widget) {
+		generator.generate(refresh, BASE_VIEW_NAME, widget, mock(Filter.class), Sort.unsorted(), new LinkedMultiValueMap<>());
+	}
+
+	private Widget widget(WidgetState state, String viewName) {
+		Widget widget = new Widget();
+		widget.setId(2L);
+		widget.setItemsCount(10);
+		widget.setWidgetType(WidgetType.CUMULATIVE.getType());
+		return new WidgetBuilder(widget).addOption(STATE, state.getValue()).addOption(VIEW_NAME, viewName).get();
+	}
+}
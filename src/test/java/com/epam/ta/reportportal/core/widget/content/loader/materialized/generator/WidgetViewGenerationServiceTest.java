@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.widget.content.loader.materialized.generator;
+
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.dao.WidgetContentRepository;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetType;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class WidgetViewGenerationServiceTest {
+
+	private static final String VIEW_NAME = "widget_1_1";
+
+	private final List<Runnable> submitted = new ArrayList<>();
+	private final TaskExecutor executor = submitted::add;
+	private final WidgetContentRepository widgetContentRepository = mock(WidgetContentRepository.class);
+	private final ViewGenerator viewGenerator = mock(ViewGenerator.class);
+
+	private final WidgetViewGenerationService service = new WidgetViewGenerationService(executor, widgetContentRepository, 2);
+
+	@Test
+	void queuedRequestsMerged() {
+		Widget widget = widget(1L, 10);
+
+		submit(widget, false);
+		submit(widget, true);
+
+		assertEquals(1, submitted.size());
+		assertEquals(ViewGenerationStatusResource.State.QUEUED, service.getStatus(1L).getState());
+
+		submitted.get(0).run();
+
+		verify(viewGenerator, times(1)).generate(eq(true), eq(VIEW_NAME), eq(widget), any(), any(), any());
+		assertEquals(ViewGenerationStatusResource.State.IDLE, service.getStatus(1L).getState());
+	}
+
+	@Test
+	void requestForRunningGenerationPostponed() {
+		Widget widget = widget(1L, 10);
+		doAnswer(invocation -> {
+			submit(widget, true);
+			assertEquals(ViewGenerationStatusResource.State.RUNNING, service.getStatus(1L).getState());
+			return null;
+		}).doNothing().when(viewGenerator).generate(anyBoolean(), anyString(), any(), any(), any(), any());
+
+		submit(widget, false);
+		submitted.get(0).run();
+
+		assertEquals(2, submitted.size());
+		submitted.get(1).run();
+
+		verify(viewGenerator, times(1)).generate(eq(false), eq(VIEW_NAME), eq(widget), any(), any(), any());
+		verify(viewGenerator, times(1)).generate(eq(true), eq(VIEW_NAME), eq(widget), any(), any(), any());
+	}
+
+	@Test
+	void canceledGenerationNotStarted() {
+		Widget widget = widget(1L, 10);
+
+		submit(widget, false);
+		service.cancel(1L);
+		submitted.get(0).run();
+
+		verify(viewGenerator, never()).generate(anyBoolean(), anyString(), any(), any(), any(), any());
+		assertEquals(ViewGenerationStatusResource.State.IDLE, service.getStatus(1L).getState());
+	}
+
+	@Test
+	void viewOfCanceledRunningGenerationRemoved() {
+		Widget widget = widget(1L, 10);
+		doAnswer(invocation -> {
+			service.cancel(1L);
+			return null;
+		}).when(viewGenerator).generate(anyBoolean(), anyString(), any(), any(), any(), any());
+
+		submit(widget, false);
+		submitted.get(0).run();
+
+		verify(widgetContentRepository, times(1)).removeWidgetView(VIEW_NAME);
+	}
+
+	@Test
+	void smallViewsGoFirst() {
+		submit(widget(1L, 600), false);
+		submit(widget(2L, 10), false);
+
+		List<Runnable> ordered = new ArrayList<>(submitted);
+		Collections.sort(ordered, (first, second) -> ((Comparable) first).compareTo(second));
+
+		assertEquals(submitted.get(1), ordered.get(0));
+		assertEquals(Integer.valueOf(0), service.getStatus(1L).getProgress());
+	}
+
+	private void submit(Widget widget, boolean refresh) {
+		service.submit(viewGenerator, refresh, VIEW_NAME, widget, mock(Filter.class), Sort.unsorted(), new LinkedMultiValueMap<>());
+	}
+
+	private static Widget widget(Long id, int itemsCount) {
+		Widget widget = new Widget();
+		widget.setId(id);
+		widget.setItemsCount(itemsCount);
+		widget.setWidgetType(WidgetType.CUMULATIVE.getType());
+		return widget;
+	}
+}
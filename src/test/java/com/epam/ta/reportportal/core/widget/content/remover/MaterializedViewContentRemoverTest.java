@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.core.widget.content.remover;
 
+import com.epam.ta.reportportal.core.widget.content.loader.materialized.generator.WidgetViewGenerationService;
 import com.epam.ta.reportportal.dao.WidgetContentRepository;
 import com.epam.ta.reportportal.entity.widget.Widget;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,13 +33,14 @@ import static org.mockito.Mockito.mock;
 class MaterializedViewContentRemoverTest {
 
 	private final WidgetContentRepository widgetContentRepository = mock(WidgetContentRepository.class);
+	private final WidgetViewGenerationService widgetViewGenerationService = mock(WidgetViewGenerationService.class);
 
 	private MaterializedViewContentRemover materializedViewContentRemover;
 
 
 	@BeforeEach
 	public void setUp() {
-		materializedViewContentRemover = new MaterializedViewContentRemover(widgetContentRepository);
+		materializedViewContentRemover = new MaterializedViewContentRemover(widgetContentRepository, widgetViewGenerationService);
 	}
 
 	@Test
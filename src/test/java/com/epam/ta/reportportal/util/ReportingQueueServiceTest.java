@@ -20,8 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 class ReportingQueueServiceTest {
 
@@ -50,4 +49,34 @@ class ReportingQueueServiceTest {
 		int integerKey = Integer.parseInt(reportingQueueKey);
 		assertTrue(integerKey <= queueAmount);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void moduloRoutingKeepsLegacyMapping() {
+		reportingQueueService.setQueueAmount(10);
+		for (int i = 0; i < 1000; i++) {
+			String uuid = UUID.randomUUID().toString();
+			int legacyKey = (UUID.fromString(uuid).hashCode() & 0x7fffffff) % 10;
+			assertEquals(String.valueOf(legacyKey), reportingQueueService.getReportingQueueKey(uuid));
+		}
+	}
+
+	@Test
+	void dedicatedQueuesUsedOnlyByProject() {
+		reportingQueueService.setQueueAmount(10);
+		reportingQueueService.setStrategy(ReportingQueueService.CONSISTENT_HASH_STRATEGY);
+		reportingQueueService.setDedicated("12:8|9");
+		for (int i = 0; i < 1000; i++) {
+			String uuid = UUID.randomUUID().toString();
+			int projectKey = Integer.parseInt(reportingQueueService.getReportingQueueKey(uuid, 12L));
+			int otherKey = Integer.parseInt(reportingQueueService.getReportingQueueKey(uuid, 13L));
+			assertTrue(projectKey == 8 || projectKey == 9);
+			assertTrue(otherKey < 8);
+		}
+	}
+
+	@Test
+	void nonExistingDedicatedQueue() {
+		reportingQueueService.setQueueAmount(5);
+		assertThrows(IllegalArgumentException.class, () -> reportingQueueService.setDedicated("12:7"));
+	}
+}
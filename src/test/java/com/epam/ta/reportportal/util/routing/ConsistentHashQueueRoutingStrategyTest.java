@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.util.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashQueueRoutingStrategyTest {
+
+	private static final int LAUNCHES = 100_000;
+
+	private final Random random = new Random(42);
+
+	@Test
+	void launchesDistributedUniformly() {
+		for (int queueAmount : new int[] { 2, 5, 10, 32 }) {
+			ConsistentHashQueueRoutingStrategy strategy = new ConsistentHashQueueRoutingStrategy(queues(queueAmount), 200);
+			int[] counts = new int[queueAmount];
+			for (int i = 0; i < LAUNCHES; i++) {
+				counts[strategy.getQueueIndex(LaunchUuidHash.hash(randomUuid()))]++;
+			}
+			double expected = (double) LAUNCHES / queueAmount;
+			for (int count : counts) {
+				assertTrue(Math.abs(count - expected) / expected < 0.3,
+						"Queue load " + count + " deviates from expected " + expected + " for " + queueAmount + " queues"
+				);
+			}
+		}
+	}
+
+	@Test
+	void addingQueueMovesOnlyFractionOfLaunches() {
+		for (int queueAmount : new int[] { 4, 10, 20 }) {
+			ConsistentHashQueueRoutingStrategy before = new ConsistentHashQueueRoutingStrategy(queues(queueAmount), 200);
+			ConsistentHashQueueRoutingStrategy after = new ConsistentHashQueueRoutingStrategy(queues(queueAmount + 1), 200);
+			int moved = 0;
+			for (int i = 0; i < LAUNCHES; i++) {
+				int hash = LaunchUuidHash.hash(randomUuid());
+				int newQueue = after.getQueueIndex(hash);
+				if (before.getQueueIndex(hash) != newQueue) {
+					moved++;
+					assertEquals(queueAmount, newQueue, "Launches should be moved to the new queue only");
+				}
+			}
+			double movedShare = (double) moved / LAUNCHES;
+			assertTrue(movedShare < 1.5 / (queueAmount + 1), "Too many launches moved: " + movedShare);
+		}
+	}
+
+	@Test
+	void sameLaunchAlwaysRoutedToSameQueue() {
+		ConsistentHashQueueRoutingStrategy first = new ConsistentHashQueueRoutingStrategy(queues(10), 200);
+		ConsistentHashQueueRoutingStrategy second = new ConsistentHashQueueRoutingStrategy(queues(10), 200);
+		IntStream.range(0, 1000).mapToObj(i -> randomUuid()).map(LaunchUuidHash::hash).forEach(hash -> {
+			assertEquals(first.getQueueIndex(hash), first.getQueueIndex(hash));
+			assertEquals(first.getQueueIndex(hash), second.getQueueIndex(hash));
+		});
+	}
+
+	@Test
+	void uuidHashEqualsParsedUuidHash() {
+		IntStream.range(0, 10_000).mapToObj(i -> randomUuid()).forEach(uuid -> {
+			assertEquals(UUID.fromString(uuid).hashCode(), LaunchUuidHash.hash(uuid));
+			assertEquals(UUID.fromString(uuid).hashCode(), LaunchUuidHash.hash(uuid.toUpperCase()));
+		});
+	}
+
+	@Test
+	void nonUuidHashEqualsStringHash() {
+		for (String launchUuid : new String[] { "custom-uuid", "", "123e4567-e89b-12d3-a456-42661417400g",
+				"123e4567-e89b-12d3-a456_426614174000", "123e4567-e89b-12d3-a456-4266141740000" }) {
+			assertEquals(launchUuid.hashCode(), LaunchUuidHash.hash(launchUuid));
+		}
+	}
+
+	private String randomUuid() {
+		return new UUID(random.nextLong(), random.nextLong()).toString();
+	}
+
+	private static List<Integer> queues(int amount) {
+		return IntStream.range(0, amount).boxed().collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.configs.rabbit.DeserializablePair;
+import com.epam.ta.reportportal.core.log.impl.LogBatchWriter;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.google.common.collect.Lists;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.io.IOException;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncReportingBatchListenerTest {
+
+	@Mock
+	private AsyncReportingListener reportingListener;
+
+	@Mock
+	private LogBatchWriter logBatchWriter;
+
+	@Mock
+	private Channel channel;
+
+	@InjectMocks
+	private AsyncReportingBatchListener batchListener;
+
+	@Test
+	void logsSavedInSingleBatchAndAcknowledgedAfterCommit() throws IOException {
+		Message first = logMessage(1L);
+		Message second = logMessage(2L);
+
+		batchListener.onMessageBatch(Lists.newArrayList(first, second), channel);
+
+		verify(logBatchWriter, times(1)).saveInBatch(anyList());
+		verify(reportingListener, never()).onMessage(any());
+		verify(channel, times(1)).basicAck(1L, false);
+		verify(channel, times(1)).basicAck(2L, false);
+		verify(channel, never()).basicReject(anyLong(), anyBoolean());
+	}
+
+	@Test
+	void logsSavedOneByOneWhenBatchInsertFails() throws IOException {
+		Message first = logMessage(1L);
+		Message second = logMessage(2L);
+		DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> poisonPayload = reportingListener.getLogPayload(second);
+		when(logBatchWriter.saveInBatch(anyList())).thenThrow(new RuntimeException("value too long"));
+		doThrow(new RuntimeException("value too long")).when(reportingListener).onLogCreate(same(poisonPayload), any());
+
+		batchListener.onMessageBatch(Lists.newArrayList(first, second), channel);
+
+		verify(reportingListener, times(2)).onLogCreate(any(), eq(1L));
+		verify(channel, times(1)).basicAck(1L, false);
+		verify(channel, never()).basicReject(1L, false);
+		verify(channel, times(1)).basicReject(2L, false);
+	}
+
+	@Test
+	void unresolvedLogRejectedSeparately() throws IOException {
+		Message first = logMessage(1L);
+		Message second = logMessage(2L);
+		when(reportingListener.buildLog(any(), any())).thenReturn(new Log())
+				.thenThrow(new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, "uuid"));
+
+		batchListener.onMessageBatch(Lists.newArrayList(first, second), channel);
+
+		verify(logBatchWriter, times(1)).saveInBatch(argThat(logs -> logs.size() == 1));
+		verify(channel, times(1)).basicAck(1L, false);
+		verify(channel, times(1)).basicReject(2L, false);
+	}
+
+	@Test
+	void logFailedOnLastAttemptMovedToDeadLetterQueue() throws IOException {
+		Message first = logMessage(1L);
+		ReportPortalException error = new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, "uuid");
+		when(reportingListener.buildLog(any(), any())).thenThrow(error);
+		when(reportingListener.moveToDeadLetterQueueOnLastAttempt(first, error)).thenReturn(true);
+
+		batchListener.onMessageBatch(Lists.newArrayList(first), channel);
+
+		verify(channel, times(1)).basicAck(1L, false);
+		verify(channel, never()).basicReject(anyLong(), anyBoolean());
+		verifyNoInteractions(logBatchWriter);
+	}
+
+	@Test
+	void logsFlushedBeforeOtherRequestTypes() throws IOException {
+		Message log = logMessage(1L);
+		Message finish = message(RequestType.FINISH_TEST, 2L);
+		doThrow(new AmqpRejectAndDontRequeueException("error")).when(reportingListener).onMessage(finish);
+
+		batchListener.onMessageBatch(Lists.newArrayList(log, finish), channel);
+
+		verify(logBatchWriter, times(1)).saveInBatch(anyList());
+		verify(channel, times(1)).basicAck(1L, false);
+		verify(channel, times(1)).basicReject(2L, false);
+	}
+
+	private Message logMessage(long deliveryTag) {
+		Message message = message(RequestType.LOG, deliveryTag);
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid("item-uuid");
+		DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> payload = DeserializablePair.of(rq, null);
+		lenient().when(reportingListener.getLogPayload(message)).thenReturn(payload);
+		lenient().when(reportingListener.buildLog(eq(rq), any())).thenReturn(new Log());
+		return message;
+	}
+
+	private Message message(RequestType requestType, long deliveryTag) {
+		MessageProperties properties = new MessageProperties();
+		properties.setDeliveryTag(deliveryTag);
+		properties.setHeader(MessageHeaders.REQUEST_TYPE, requestType.name());
+		properties.setHeader(MessageHeaders.PROJECT_ID, 1L);
+		Message message = new Message(new byte[0], properties);
+		when(reportingListener.getRequestType(message)).thenReturn(requestType);
+		return message;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.cluster.ReportingPodEvent;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class ReportingQueueRebalancerTest {
+
+	private final MessageBus messageBus = mock(MessageBus.class);
+
+	@Test
+	void singlePodOwnsAllQueues() {
+		List<AbstractMessageListenerContainer> containers = containers(5);
+		ReportingQueueRebalancer rebalancer = new ReportingQueueRebalancer(messageBus, containers, true, 30_000L);
+
+		rebalancer.join();
+		rebalancer.rebalance();
+
+		containers.forEach(container -> verify(container, times(1)).start());
+	}
+
+	@Test
+	void queuesOfJoinedPodAreHandedOff() {
+		List<AbstractMessageListenerContainer> containers = containers(20);
+		containers.forEach(container -> when(container.isRunning()).thenReturn(true));
+		ReportingQueueRebalancer rebalancer = new ReportingQueueRebalancer(messageBus, containers, true, 30_000L);
+		rebalancer.join();
+
+		rebalancer.onPodEvent(ReportingPodEvent.alive("another-pod"));
+
+		List<String> pods = Lists.newArrayList(rebalancer.getPodId(), "another-pod");
+		containers.forEach(container -> {
+			String owner = ReportingQueueRebalancer.getOwner(container.getQueueNames()[0], pods);
+			verify(container, times(owner.equals(rebalancer.getPodId()) ? 0 : 1)).stop();
+		});
+		verify(messageBus, times(2)).broadcastEvent(any(ReportingPodEvent.class));
+	}
+
+	@Test
+	void onlyQueuesOfLeftPodAreMoved() {
+		List<String> queues = IntStream.range(0, 100).mapToObj(i -> "reporting." + i).collect(Collectors.toList());
+		List<String> pods = Lists.newArrayList("pod-1", "pod-2", "pod-3");
+		List<String> remainingPods = Lists.newArrayList("pod-1", "pod-2");
+
+		queues.forEach(queue -> {
+			String owner = ReportingQueueRebalancer.getOwner(queue, pods);
+			if (!"pod-3".equals(owner)) {
+				assertEquals(owner, ReportingQueueRebalancer.getOwner(queue, remainingPods));
+			}
+		});
+		assertTrue(queues.stream().map(queue -> ReportingQueueRebalancer.getOwner(queue, pods)).distinct().count() == pods.size());
+	}
+
+	private List<AbstractMessageListenerContainer> containers(int amount) {
+		return IntStream.range(0, amount).mapToObj(i -> {
+			AbstractMessageListenerContainer container = mock(AbstractMessageListenerContainer.class);
+			when(container.getQueueNames()).thenReturn(new String[] { "reporting." + i });
+			return container;
+		}).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,72 @@
+-- Launch finished page by page, both launches have the same hierarchy
+insert into launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+values (100, 'hierarchy-launch-100', 2, 2, 'hierarchy launch 100', 'desc', now(), null, 1, now(), 'DEFAULT', 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (101, 101, 'hierarchy-101', 'suite', 'SUITE', now(), 'desc', now(), '101', 'hierarchy-unique-101', true, false, null, null, 100);
+insert into test_item_results(result_id, status) values (101, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (102, 102, 'hierarchy-102', 'test', 'TEST', now(), 'desc', now(), '101.102', 'hierarchy-unique-102', true, false, 101, null, 100);
+insert into test_item_results(result_id, status) values (102, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (103, 103, 'hierarchy-103', 'passed step', 'STEP', now(), 'desc', now(), '101.102.103', 'hierarchy-unique-103', false, false, 102, null, 100);
+insert into test_item_results(result_id, status) values (103, 'PASSED');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (104, 104, 'hierarchy-104', 'in progress step', 'STEP', now(), 'desc', now(), '101.102.104', 'hierarchy-unique-104', false, false, 102, null, 100);
+insert into test_item_results(result_id, status) values (104, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (105, 105, 'hierarchy-105', 'in progress before method', 'BEFORE_METHOD', now(), 'desc', now(), '101.105', 'hierarchy-unique-105', false, false, 101, null, 100);
+insert into test_item_results(result_id, status) values (105, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (106, 106, 'hierarchy-106', 'passed suite', 'SUITE', now(), 'desc', now(), '106', 'hierarchy-unique-106', true, false, null, null, 100);
+insert into test_item_results(result_id, status) values (106, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (107, 107, 'hierarchy-107', 'step of passed suite', 'STEP', now(), 'desc', now(), '106.107', 'hierarchy-unique-107', false, false, 106, null, 100);
+insert into test_item_results(result_id, status) values (107, 'PASSED');
+
+-- Launch finished in bulk, both launches have the same hierarchy
+insert into launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+values (200, 'hierarchy-launch-200', 2, 2, 'hierarchy launch 200', 'desc', now(), null, 1, now(), 'DEFAULT', 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (201, 201, 'hierarchy-201', 'suite', 'SUITE', now(), 'desc', now(), '201', 'hierarchy-unique-201', true, false, null, null, 200);
+insert into test_item_results(result_id, status) values (201, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (202, 202, 'hierarchy-202', 'test', 'TEST', now(), 'desc', now(), '201.202', 'hierarchy-unique-202', true, false, 201, null, 200);
+insert into test_item_results(result_id, status) values (202, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (203, 203, 'hierarchy-203', 'passed step', 'STEP', now(), 'desc', now(), '201.202.203', 'hierarchy-unique-203', false, false, 202, null, 200);
+insert into test_item_results(result_id, status) values (203, 'PASSED');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (204, 204, 'hierarchy-204', 'in progress step', 'STEP', now(), 'desc', now(), '201.202.204', 'hierarchy-unique-204', false, false, 202, null, 200);
+insert into test_item_results(result_id, status) values (204, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (205, 205, 'hierarchy-205', 'in progress before method', 'BEFORE_METHOD', now(), 'desc', now(), '201.205', 'hierarchy-unique-205', false, false, 201, null, 200);
+insert into test_item_results(result_id, status) values (205, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (206, 206, 'hierarchy-206', 'passed suite', 'SUITE', now(), 'desc', now(), '206', 'hierarchy-unique-206', true, false, null, null, 200);
+insert into test_item_results(result_id, status) values (206, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (207, 207, 'hierarchy-207', 'step of passed suite', 'STEP', now(), 'desc', now(), '206.207', 'hierarchy-unique-207', false, false, 206, null, 200);
+insert into test_item_results(result_id, status) values (207, 'PASSED');
+
+-- Launch with a retried step
+insert into launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+values (300, 'hierarchy-launch-300', 2, 2, 'hierarchy launch 300', 'desc', now(), null, 1, now(), 'DEFAULT', 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (301, 301, 'hierarchy-301', 'suite', 'SUITE', now(), 'desc', now(), '301', 'hierarchy-unique-301', true, false, null, null, 300);
+insert into test_item_results(result_id, status) values (301, 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (302, 302, 'hierarchy-302', 'retried step', 'STEP', now(), 'desc', now(), '301.302', 'hierarchy-unique-302', false, true, 301, null, 300);
+insert into test_item_results(result_id, status) values (302, 'FAILED');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (303, 303, 'hierarchy-303', 'in progress step', 'STEP', now(), 'desc', now(), '301.303', 'hierarchy-unique-303', false, false, 301, null, 300);
+insert into test_item_results(result_id, status) values (303, 'IN_PROGRESS');
+
+-- Launch with an in progress step under the finished suite
+insert into launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+values (400, 'hierarchy-launch-400', 2, 2, 'hierarchy launch 400', 'desc', now(), null, 1, now(), 'DEFAULT', 'IN_PROGRESS');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (401, 401, 'hierarchy-401', 'suite', 'SUITE', now(), 'desc', now(), '401', 'hierarchy-unique-401', true, false, null, null, 400);
+insert into test_item_results(result_id, status) values (401, 'PASSED');
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (402, 402, 'hierarchy-402', 'in progress step', 'STEP', now(), 'desc', now(), '401.402', 'hierarchy-unique-402', false, false, 401, null, 400);
+insert into test_item_results(result_id, status) values (402, 'IN_PROGRESS');